@@ -38,13 +38,13 @@ public class AdminReportEmailController {
             value = "/send-email",
             consumes = MediaType.MULTIPART_FORM_DATA_VALUE
     )
-    public ResponseEntity<ApiResponse<Void>> sendReportEmail(
+    public ResponseEntity<ApiResponse<String>> sendReportEmail(
             @Valid @RequestPart("request") SendReportEmailRequest request,
             @RequestPart("pdfFile") MultipartFile pdfFile
     ) {
-        adminReportEmailService.sendReport(request, pdfFile);
+        String messageId = adminReportEmailService.sendReport(request, pdfFile);
         return ResponseEntity.ok(
-                ApiResponse.success("Report email sent successfully to " + request.getToEmail())
+                ApiResponse.success("Report email queued for " + request.getToEmail(), messageId)
         );
     }
 }
\ No newline at end of file
@@ -0,0 +1,36 @@
+package com.tbcpl.workforce.admin.controller;
+
+import com.tbcpl.workforce.common.cache.CacheStats;
+import com.tbcpl.workforce.common.cache.CacheStatsProvider;
+import com.tbcpl.workforce.common.constants.ApiEndpoints;
+import com.tbcpl.workforce.common.response.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Exposes hit/miss/eviction counters of in-memory caches for sizing
+ * ADMIN only (covered by /api/v1/admin/** rule)
+ */
+@RestController
+@RequestMapping(ApiEndpoints.ADMIN_BASE)
+@RequiredArgsConstructor
+@Slf4j
+public class CacheStatsController {
+
+    private final List<CacheStatsProvider> cacheStatsProviders;
+
+    @GetMapping(ApiEndpoints.ADMIN_CACHE_STATS)
+    public ResponseEntity<ApiResponse<List<CacheStats>>> getCacheStats() {
+        log.info("GET /api/v1/admin/cache-stats");
+        List<CacheStats> stats = cacheStatsProviders.stream()
+                .map(CacheStatsProvider::stats)
+                .toList();
+        return ResponseEntity.ok(ApiResponse.success("Cache stats retrieved successfully", stats));
+    }
+}
@@ -2,12 +2,15 @@ package com.tbcpl.workforce.admin.controller;
 
 import com.tbcpl.workforce.admin.dto.ClientRequestDTO;
 import com.tbcpl.workforce.admin.dto.ClientResponseDTO;
+import com.tbcpl.workforce.admin.service.ClientLogoStore;
 import com.tbcpl.workforce.admin.service.ClientService;
 import com.tbcpl.workforce.common.constants.ApiEndpoints;
 import com.tbcpl.workforce.common.response.ApiResponse;
+import com.tbcpl.workforce.common.util.HttpCacheUtils;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -17,6 +20,7 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping({
@@ -48,16 +52,37 @@ public class ClientController {
     }
 
     @GetMapping(ApiEndpoints.CLIENT_LOGO)
-    public ResponseEntity<byte[]> getClientLogo(@PathVariable Long id) {
+    public ResponseEntity<byte[]> getClientLogo(
+            @PathVariable Long id,
+            @RequestParam(value = "v", required = false) String version,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         log.info("GET /api/v1/admin/clients/{}/logo - Download logo", id);
-        byte[] logo = clientService.getClientLogo(id);
+        ClientLogoStore.LogoContent logo = clientService.getClientLogo(id);
+
+        // A URL carrying the content hash never changes meaning; the bare URL must revalidate
+        CacheControl cacheControl = logo.hash().equals(version)
+                ? CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable()
+                : CacheControl.noCache();
+
+        if (HttpCacheUtils.etagMatches(ifNoneMatch, logo.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(logo.etag())
+                    .cacheControl(cacheControl)
+                    .build();
+        }
 
         HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.IMAGE_JPEG);
-        headers.setContentLength(logo.length);
+        headers.setContentType(logo.contentType() != null
+                ? MediaType.parseMediaType(logo.contentType())
+                : MediaType.IMAGE_JPEG);
+        headers.setContentLength(logo.bytes().length);
         headers.setContentDispositionFormData("attachment", "client-logo-" + id + ".jpg");
 
-        return ResponseEntity.ok().headers(headers).body(logo);
+        return ResponseEntity.ok()
+                .headers(headers)
+                .eTag(logo.etag())
+                .cacheControl(cacheControl)
+                .body(logo.bytes());
     }
 
     @GetMapping(ApiEndpoints.CLIENTS)
@@ -15,6 +15,7 @@ public class ClientResponseDTO {
     private String logoFileName;
     private String logoUrl;
     private boolean hasLogo;
+    private String logoVersion;     // content hash; pass as ?v= on the logo endpoint for long-lived caching
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private String createdBy;
@@ -29,9 +29,9 @@ public class Client {
     @Column(name = "client_name", nullable = false)
     private String clientName;
 
-    @Lob
-    @Column(name = "client_logo", columnDefinition = "LONGBLOB")
-    private byte[] clientLogo;
+    // SHA-256 of the logo bytes held in client_logo; null when no logo
+    @Column(name = "logo_hash", length = 64)
+    private String logoHash;
 
     @Column(name = "logo_file_name")
     private String logoFileName;
@@ -0,0 +1,39 @@
+package com.tbcpl.workforce.admin.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Client logo bytes, content-addressed by SHA-256 so identical uploads share one row.
+ * Kept out of the client table so client lists and dropdowns never read image data.
+ */
+@Entity
+@Table(name = "client_logo")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClientLogo {
+
+    @Id
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    @Lob
+    @Column(name = "content", nullable = false, columnDefinition = "LONGBLOB")
+    private byte[] content;
+
+    @Column(name = "content_type", length = 100)
+    private String contentType;
+
+    @Column(name = "size_bytes", nullable = false)
+    private Long sizeBytes;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,19 @@
+package com.tbcpl.workforce.admin.proposal.repository;
+
+import java.util.List;
+
+/**
+ * Bulk display-order updates for proposal sections and subsections
+ */
+public interface ProposalReorderRepository {
+
+    /**
+     * Set display_order 1..n following orderedSectionIds with a single CASE-based UPDATE
+     */
+    int reorderSections(Long proposalId, List<Long> orderedSectionIds);
+
+    /**
+     * Set display_order 1..n following orderedSubSectionIds with a single CASE-based UPDATE
+     */
+    int reorderSubSections(Long sectionId, List<Long> orderedSubSectionIds);
+}
@@ -0,0 +1,51 @@
+package com.tbcpl.workforce.admin.proposal.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One UPDATE ... SET displayOrder = CASE WHEN id = ? THEN 1 ... END per reorder instead of
+ * one statement per row. Like @Modifying(clearAutomatically = true), the persistence context
+ * is cleared afterwards so later reads see the new order.
+ */
+@RequiredArgsConstructor
+public class ProposalReorderRepositoryImpl implements ProposalReorderRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public int reorderSections(Long proposalId, List<Long> orderedSectionIds) {
+        return reorder("ProposalSection", "proposal", proposalId, orderedSectionIds);
+    }
+
+    @Override
+    public int reorderSubSections(Long sectionId, List<Long> orderedSubSectionIds) {
+        return reorder("ProposalSubSection", "section", sectionId, orderedSubSectionIds);
+    }
+
+    private int reorder(String entity, String parent, Long parentId, List<Long> orderedIds) {
+        if (orderedIds.isEmpty()) {
+            return 0;
+        }
+
+        StringBuilder jpql = new StringBuilder("UPDATE ").append(entity)
+                .append(" e SET e.displayOrder = CASE");
+        for (int i = 0; i < orderedIds.size(); i++) {
+            jpql.append(" WHEN e.id = :id").append(i).append(" THEN ").append(i + 1);
+        }
+        jpql.append(" ELSE e.displayOrder END WHERE e.").append(parent).append(".id = :parentId");
+
+        Query update = entityManager.createQuery(jpql.toString());
+        for (int i = 0; i < orderedIds.size(); i++) {
+            update.setParameter("id" + i, orderedIds.get(i));
+        }
+        update.setParameter("parentId", parentId);
+
+        int updated = update.executeUpdate();
+        entityManager.clear();
+        return updated;
+    }
+}
@@ -18,6 +18,12 @@ public interface ProposalRepository extends JpaRepository<Proposal, Long> {
     @Query("SELECT p FROM Proposal p WHERE p.id = :id AND p.deleted = false")
     Optional<Proposal> findActiveById(@Param("id") Long id);
 
+    /**
+     * First query of the proposal tree load: the proposal with its ordered sections
+     */
+    @Query("SELECT DISTINCT p FROM Proposal p LEFT JOIN FETCH p.sections WHERE p.id = :id AND p.deleted = false")
+    Optional<Proposal> findActiveWithSections(@Param("id") Long id);
+
     @Query("SELECT p FROM Proposal p WHERE p.clientId = :clientId AND p.deleted = false ORDER BY p.createdAt DESC")
     Page<Proposal> findAllActiveByClientId(@Param("clientId") Long clientId, Pageable pageable);
 
@@ -25,6 +31,4 @@ public interface ProposalRepository extends JpaRepository<Proposal, Long> {
     Page<Proposal> findAllActiveByStatus(@Param("status") ProposalStatus status, Pageable pageable);
 
     boolean existsByProposalCodeAndDeletedFalse(String proposalCode);
-
-    long countByDeletedFalse();
 }
\ No newline at end of file
@@ -2,14 +2,14 @@ package com.tbcpl.workforce.admin.proposal.repository;
 
 import com.tbcpl.workforce.admin.proposal.entity.ProposalSection;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
 
-public interface ProposalSectionRepository extends JpaRepository<ProposalSection, Long> {
+public interface ProposalSectionRepository extends JpaRepository<ProposalSection, Long>,
+                                                   ProposalReorderRepository {
 
     @Query("""
             SELECT s FROM ProposalSection s
@@ -18,6 +18,17 @@ public interface ProposalSectionRepository extends JpaRepository<ProposalSection
             """)
     List<ProposalSection> findAllByProposalId(@Param("proposalId") Long proposalId);
 
+    /**
+     * Second query of the proposal tree load: initialises subSections of every section
+     * already loaded by ProposalRepository.findActiveWithSections
+     */
+    @Query("""
+            SELECT DISTINCT s FROM ProposalSection s
+            LEFT JOIN FETCH s.subSections
+            WHERE s.proposal.id = :proposalId
+            """)
+    List<ProposalSection> fetchSubSectionsByProposalId(@Param("proposalId") Long proposalId);
+
     @Query("""
             SELECT s FROM ProposalSection s
             WHERE s.id = :sectionId
@@ -34,15 +45,4 @@ public interface ProposalSectionRepository extends JpaRepository<ProposalSection
             WHERE s.proposal.id = :proposalId
             """)
     int findMaxDisplayOrder(@Param("proposalId") Long proposalId);
-
-    @Modifying
-    @Query("""
-            UPDATE ProposalSection s
-            SET s.displayOrder = :displayOrder
-            WHERE s.id = :sectionId
-            """)
-    void updateDisplayOrder(
-            @Param("sectionId")    Long sectionId,
-            @Param("displayOrder") int  displayOrder
-    );
 }
\ No newline at end of file
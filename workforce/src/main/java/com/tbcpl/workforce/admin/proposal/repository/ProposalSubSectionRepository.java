@@ -2,7 +2,6 @@ package com.tbcpl.workforce.admin.proposal.repository;
 
 import com.tbcpl.workforce.admin.proposal.entity.ProposalSubSection;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -34,15 +33,4 @@ public interface ProposalSubSectionRepository extends JpaRepository<ProposalSubS
             WHERE ss.section.id = :sectionId
             """)
     int findMaxDisplayOrder(@Param("sectionId") Long sectionId);
-
-    @Modifying
-    @Query("""
-            UPDATE ProposalSubSection ss
-            SET ss.displayOrder = :displayOrder
-            WHERE ss.id = :subSectionId
-            """)
-    void updateDisplayOrder(
-            @Param("subSectionId")  Long subSectionId,
-            @Param("displayOrder")  int  displayOrder
-    );
 }
\ No newline at end of file
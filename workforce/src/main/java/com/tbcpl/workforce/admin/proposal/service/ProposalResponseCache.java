@@ -0,0 +1,82 @@
+package com.tbcpl.workforce.admin.proposal.service;
+
+import com.tbcpl.workforce.admin.proposal.dto.response.ProposalResponse;
+import com.tbcpl.workforce.common.cache.CacheStats;
+import com.tbcpl.workforce.common.cache.CacheStatsProvider;
+import com.tbcpl.workforce.common.cache.LruCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Read-through cache of rendered proposal documents (sections and subsections) keyed by
+ * proposal id + version. Every proposal, section or subsection mutation bumps the version.
+ * Versions are per instance, so entries also expire after a short TTL to bound how long
+ * an edit made on another instance can go unseen here.
+ */
+@Component
+@Slf4j
+public class ProposalResponseCache implements CacheStatsProvider {
+
+    private static final int MAX_ENTRIES = 200;
+    private static final Duration TTL = Duration.ofSeconds(30);
+
+    private final LruCache<Long, Versioned> cache = new LruCache<>("proposal-document", MAX_ENTRIES, TTL);
+    private final ConcurrentHashMap<Long, Long> versions = new ConcurrentHashMap<>();
+
+    /**
+     * Current document for the proposal, loading and caching it on miss or stale version
+     */
+    public ProposalResponse get(Long proposalId, Function<Long, ProposalResponse> loader) {
+        long version = currentVersion(proposalId);
+        Versioned cached = cache.get(proposalId);
+        if (cached != null && cached.version() == version) {
+            return cached.response();
+        }
+
+        ProposalResponse loaded = loader.apply(proposalId);
+        // A mutation that raced with the load has bumped the version — don't cache the older document
+        if (currentVersion(proposalId) == version) {
+            cache.put(proposalId, new Versioned(version, loaded));
+        }
+        return loaded;
+    }
+
+    /**
+     * Bump the version now and again after the surrounding transaction commits,
+     * so a read that ran against uncommitted state is never served as current
+     */
+    public void invalidate(Long proposalId) {
+        bump(proposalId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bump(proposalId);
+                }
+            });
+        }
+    }
+
+    @Override
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    private void bump(Long proposalId) {
+        versions.merge(proposalId, 1L, Long::sum);
+        cache.remove(proposalId);
+        log.debug("Proposal document cache invalidated for proposalId={}", proposalId);
+    }
+
+    private long currentVersion(Long proposalId) {
+        return versions.getOrDefault(proposalId, 0L);
+    }
+
+    private record Versioned(long version, ProposalResponse response) {}
+}
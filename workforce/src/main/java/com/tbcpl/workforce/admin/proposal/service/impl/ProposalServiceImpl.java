@@ -18,7 +18,9 @@ import com.tbcpl.workforce.admin.proposal.entity.enums.ProposalStatus;
 import com.tbcpl.workforce.admin.proposal.repository.ProposalRepository;
 import com.tbcpl.workforce.admin.proposal.repository.ProposalSectionRepository;
 import com.tbcpl.workforce.admin.proposal.repository.ProposalSubSectionRepository;
+import com.tbcpl.workforce.admin.proposal.service.ProposalResponseCache;
 import com.tbcpl.workforce.admin.proposal.service.ProposalService;
+import com.tbcpl.workforce.common.util.DocumentNumberAllocator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -58,6 +60,8 @@ public class ProposalServiceImpl implements ProposalService {
     private final ProposalRepository proposalRepository;
     private final ProposalSectionRepository sectionRepository;
     private final ProposalSubSectionRepository subSectionRepository;
+    private final DocumentNumberAllocator documentNumberAllocator;
+    private final ProposalResponseCache responseCache;
 
     @Override
     @Transactional
@@ -85,7 +89,7 @@ public class ProposalServiceImpl implements ProposalService {
     @Override
     @Transactional(readOnly = true)
     public ProposalResponse getById(Long id) {
-        return toResponse(findActive(id));
+        return responseCache.get(id, proposalId -> toResponse(findActiveTree(proposalId)));
     }
 
     @Override
@@ -123,7 +127,7 @@ public class ProposalServiceImpl implements ProposalService {
     @Override
     @Transactional
     public ProposalResponse update(Long id, UpdateProposalRequest request, String updatedBy) {
-        Proposal proposal = findActive(id);
+        Proposal proposal = findActiveTree(id);
 
         if (request.getClientId() != null) {
             proposal.setClientId(request.getClientId());
@@ -145,6 +149,7 @@ public class ProposalServiceImpl implements ProposalService {
         }
 
         proposal = proposalRepository.save(proposal);
+        responseCache.invalidate(id);
         log.info("Proposal updated: {} by {}", proposal.getProposalCode(), updatedBy);
         return toResponse(proposal);
     }
@@ -152,7 +157,7 @@ public class ProposalServiceImpl implements ProposalService {
     @Override
     @Transactional
     public ProposalResponse updateStatus(Long id, ProposalStatusRequest request, String updatedBy) {
-        Proposal proposal = findActive(id);
+        Proposal proposal = findActiveTree(id);
         ProposalStatus current = proposal.getStatus();
         ProposalStatus next = request.getStatus();
 
@@ -171,6 +176,7 @@ public class ProposalServiceImpl implements ProposalService {
         proposal.setStatus(next);
         proposal.setUpdatedBy(updatedBy);
         proposal = proposalRepository.save(proposal);
+        responseCache.invalidate(id);
 
         log.info("Proposal {} status: {} → {} by {}",
                 proposal.getProposalCode(), current, next, updatedBy);
@@ -184,6 +190,7 @@ public class ProposalServiceImpl implements ProposalService {
         proposal.setDeleted(true);
         proposal.setDeletedBy(deletedBy);
         proposalRepository.save(proposal);
+        responseCache.invalidate(id);
         log.info("Proposal {} soft-deleted by {}", proposal.getProposalCode(), deletedBy);
     }
 
@@ -216,6 +223,7 @@ public class ProposalServiceImpl implements ProposalService {
         }
 
         section = sectionRepository.save(section);
+        responseCache.invalidate(proposalId);
         log.info("Section '{}' added to proposal {} by {}",
                 section.getSectionKey(), proposalId, createdBy);
         return toSectionResponse(section);
@@ -246,6 +254,7 @@ public class ProposalServiceImpl implements ProposalService {
         }
 
         section = sectionRepository.save(section);
+        responseCache.invalidate(proposalId);
         log.info("Section {} updated in proposal {}", sectionId, proposalId);
         return toSectionResponse(section);
     }
@@ -255,6 +264,7 @@ public class ProposalServiceImpl implements ProposalService {
     public void deleteSection(Long proposalId, Long sectionId) {
         ProposalSection section = findSection(proposalId, sectionId);
         sectionRepository.delete(section);
+        responseCache.invalidate(proposalId);
         log.info("Section {} deleted from proposal {}", sectionId, proposalId);
     }
 
@@ -277,13 +287,11 @@ public class ProposalServiceImpl implements ProposalService {
             );
         }
 
-        AtomicInteger order = new AtomicInteger(1);
-        request.getSectionIds().forEach(id ->
-                sectionRepository.updateDisplayOrder(id, order.getAndIncrement())
-        );
+        sectionRepository.reorderSections(proposalId, request.getSectionIds());
+        responseCache.invalidate(proposalId);
 
         log.info("Sections reordered for proposal {}", proposalId);
-        return toResponse(findActive(proposalId));
+        return toResponse(findActiveTree(proposalId));
     }
 
     @Override
@@ -292,6 +300,7 @@ public class ProposalServiceImpl implements ProposalService {
         ProposalSection section = findSection(proposalId, sectionId);
         section.setVisible(!section.isVisible());
         section = sectionRepository.save(section);
+        responseCache.invalidate(proposalId);
         log.info("Section {} visibility toggled to {} in proposal {}",
                 sectionId, section.isVisible(), proposalId);
         return toSectionResponse(section);
@@ -322,6 +331,7 @@ public class ProposalServiceImpl implements ProposalService {
                 .build();
 
         subSection = subSectionRepository.save(subSection);
+        responseCache.invalidate(proposalId);
         log.info("SubSection '{}' added to section {} in proposal {} by {}",
                 subSection.getSubSectionKey(), sectionId, proposalId, createdBy);
         return toSubSectionResponse(subSection);
@@ -348,6 +358,7 @@ public class ProposalServiceImpl implements ProposalService {
         }
 
         subSection = subSectionRepository.save(subSection);
+        responseCache.invalidate(proposalId);
         log.info("SubSection {} updated in section {} of proposal {}",
                 subSectionId, sectionId, proposalId);
         return toSubSectionResponse(subSection);
@@ -360,6 +371,7 @@ public class ProposalServiceImpl implements ProposalService {
         findSection(proposalId, sectionId);
         ProposalSubSection subSection = findSubSection(sectionId, subSectionId);
         subSectionRepository.delete(subSection);
+        responseCache.invalidate(proposalId);
         log.info("SubSection {} deleted from section {} of proposal {}",
                 subSectionId, sectionId, proposalId);
     }
@@ -386,10 +398,8 @@ public class ProposalServiceImpl implements ProposalService {
             );
         }
 
-        AtomicInteger order = new AtomicInteger(1);
-        request.getSubSectionIds().forEach(subId ->
-                subSectionRepository.updateDisplayOrder(subId, order.getAndIncrement())
-        );
+        sectionRepository.reorderSubSections(sectionId, request.getSubSectionIds());
+        responseCache.invalidate(proposalId);
 
         log.info("SubSections reordered for section {} in proposal {}", sectionId, proposalId);
         return toSectionResponse(findSection(proposalId, sectionId));
@@ -405,6 +415,7 @@ public class ProposalServiceImpl implements ProposalService {
         ProposalSubSection subSection = findSubSection(sectionId, subSectionId);
         subSection.setVisible(!subSection.isVisible());
         subSection = subSectionRepository.save(subSection);
+        responseCache.invalidate(proposalId);
         log.info("SubSection {} visibility toggled to {} in section {} of proposal {}",
                 subSectionId, subSection.isVisible(), sectionId, proposalId);
         return toSubSectionResponse(subSection);
@@ -416,6 +427,20 @@ public class ProposalServiceImpl implements ProposalService {
                         HttpStatus.NOT_FOUND, "Proposal not found with id: " + id));
     }
 
+    /**
+     * Proposal with sections and subsections initialised in two queries,
+     * instead of one lazy load per section
+     */
+    private Proposal findActiveTree(Long id) {
+        Proposal proposal = proposalRepository.findActiveWithSections(id)
+                .orElseThrow(() -> new ResponseStatusException(
+                        HttpStatus.NOT_FOUND, "Proposal not found with id: " + id));
+        if (!proposal.getSections().isEmpty()) {
+            sectionRepository.fetchSubSectionsByProposalId(id);
+        }
+        return proposal;
+    }
+
     private ProposalSection findSection(Long proposalId, Long sectionId) {
         return sectionRepository.findByIdAndProposalId(sectionId, proposalId)
                 .orElseThrow(() -> new ResponseStatusException(
@@ -431,7 +456,8 @@ public class ProposalServiceImpl implements ProposalService {
     }
 
     private String generateCode() {
-        long seq = proposalRepository.countByDeletedFalse() + 1;
+        // Seed from all rows: earlier codes were never above the total row count
+        long seq = documentNumberAllocator.next("PROP", proposalRepository::count);
         return String.format("PROP-%05d", seq);
     }
 
@@ -0,0 +1,9 @@
+package com.tbcpl.workforce.admin.repository;
+
+import com.tbcpl.workforce.admin.entity.ClientLogo;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ClientLogoRepository extends JpaRepository<ClientLogo, String> {
+}
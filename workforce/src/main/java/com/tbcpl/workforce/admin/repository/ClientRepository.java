@@ -2,9 +2,11 @@ package com.tbcpl.workforce.admin.repository;
 
 import com.tbcpl.workforce.admin.entity.Client;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -22,4 +24,24 @@ public interface ClientRepository extends JpaRepository<Client, Long> {
     List<Client> findAllByDeletedFalseOrderByClientNameAsc();
 
     boolean existsByClientNameAndDeletedFalse(String clientName);
+
+    boolean existsByLogoHash(String logoHash);
+
+    @Query("SELECT c.logoHash FROM Client c WHERE c.clientId = :id AND c.deleted = false")
+    Optional<String> findActiveLogoHash(@Param("id") Long id);
+
+    // ── Legacy inline logo column (client.client_logo), no longer mapped ──
+
+    @Query(value = "SELECT client_id FROM client WHERE client_logo IS NOT NULL AND logo_hash IS NULL",
+           nativeQuery = true)
+    List<Long> findIdsWithLegacyLogo();
+
+    @Query(value = "SELECT client_logo FROM client WHERE client_id = :id", nativeQuery = true)
+    byte[] findLegacyLogo(@Param("id") Long id);
+
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE client SET logo_hash = :hash, client_logo = NULL WHERE client_id = :id",
+           nativeQuery = true)
+    int moveLegacyLogo(@Param("id") Long id, @Param("hash") String hash);
 }
@@ -5,5 +5,5 @@ import com.tbcpl.workforce.admin.dto.request.SendReportEmailRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 public interface AdminReportEmailService {
-    void sendReport(SendReportEmailRequest request, MultipartFile pdfFile);
+    String sendReport(SendReportEmailRequest request, MultipartFile pdfFile);   // returns outbox message id
 }
\ No newline at end of file
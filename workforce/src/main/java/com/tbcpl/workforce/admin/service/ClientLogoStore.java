@@ -0,0 +1,120 @@
+package com.tbcpl.workforce.admin.service;
+
+import com.tbcpl.workforce.admin.entity.Client;
+import com.tbcpl.workforce.admin.entity.ClientLogo;
+import com.tbcpl.workforce.admin.repository.ClientLogoRepository;
+import com.tbcpl.workforce.admin.repository.ClientRepository;
+import com.tbcpl.workforce.common.cache.CacheStats;
+import com.tbcpl.workforce.common.cache.CacheStatsProvider;
+import com.tbcpl.workforce.common.cache.LruCache;
+import com.tbcpl.workforce.common.util.HashUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Content-addressed store for client logo bytes with an in-memory LRU in front.
+ * Entries are immutable (the key is the SHA-256 of the bytes), so cached logos never go stale.
+ */
+@Component
+@Slf4j
+public class ClientLogoStore implements CacheStatsProvider {
+
+    private final ClientLogoRepository logoRepository;
+    private final ClientRepository clientRepository;
+    private final LruCache<String, LogoContent> cache;
+
+    public ClientLogoStore(ClientLogoRepository logoRepository,
+                           ClientRepository clientRepository,
+                           @Value("${app.client-logo-cache.max-bytes:16777216}") long maxBytes) {
+        this.logoRepository = logoRepository;
+        this.clientRepository = clientRepository;
+        this.cache = new LruCache<>("client-logo", maxBytes, logo -> logo.bytes().length);
+    }
+
+    /**
+     * Persist the bytes if not already stored; returns their content hash
+     */
+    @Transactional
+    public String store(byte[] bytes, String contentType) {
+        String hash = HashUtils.sha256Hex(bytes);
+        if (!logoRepository.existsById(hash)) {
+            logoRepository.save(new ClientLogo(hash, bytes, contentType, (long) bytes.length, null));
+        }
+        return hash;
+    }
+
+    /**
+     * Logo bytes for a content hash, or null when the hash is unknown
+     */
+    @Transactional(readOnly = true)
+    public LogoContent load(String hash) {
+        LogoContent cached = cache.get(hash);
+        if (cached != null) {
+            return cached;
+        }
+        LogoContent loaded = logoRepository.findById(hash)
+                .map(logo -> new LogoContent(hash, logo.getContentType(), logo.getContent()))
+                .orElse(null);
+        if (loaded != null) {
+            cache.put(hash, loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * Remove the stored bytes once no client references the hash any more
+     */
+    @Transactional
+    public void releaseIfUnused(String hash) {
+        if (hash != null && !clientRepository.existsByLogoHash(hash)) {
+            logoRepository.deleteById(hash);
+            cache.remove(hash);
+        }
+    }
+
+    @Override
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    // ── One-time move of logos stored inline on the client row ──
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateLegacyLogos() {
+        List<Long> clientIds;
+        try {
+            clientIds = clientRepository.findIdsWithLegacyLogo();
+        } catch (DataAccessException e) {
+            log.debug("No legacy client_logo column to migrate: {}", e.getMessage());
+            return;
+        }
+        for (Long clientId : clientIds) {
+            byte[] bytes = clientRepository.findLegacyLogo(clientId);
+            String contentType = clientRepository.findById(clientId)
+                    .map(Client::getLogoContentType)
+                    .orElse(null);
+            String hash = store(bytes, contentType);
+            clientRepository.moveLegacyLogo(clientId, hash);
+        }
+        if (!clientIds.isEmpty()) {
+            log.info("Moved {} client logos from client.client_logo to client_logo", clientIds.size());
+        }
+    }
+
+    /**
+     * Logo bytes with their content hash (used as the strong ETag)
+     */
+    public record LogoContent(String hash, String contentType, byte[] bytes) {
+
+        public String etag() {
+            return "\"" + hash + "\"";
+        }
+    }
+}
@@ -28,6 +28,7 @@ public class ClientService {
 
     private final ClientRepository clientRepository;
     private final S3Service s3Service;
+    private final ClientLogoStore clientLogoStore;
 
 
     public ClientResponseDTO createClient(ClientRequestDTO requestDTO) {
@@ -72,8 +73,9 @@ public class ClientService {
                 file, "clients/logos"
         );
 
-        // ── Keep binary for backward compatibility (existing logo endpoint) ─
-        client.setClientLogo(file.getBytes());
+        // ── Keep binary for the logo endpoint, content-addressed in client_logo ─
+        String previousHash = client.getLogoHash();
+        client.setLogoHash(clientLogoStore.store(file.getBytes(), contentType));
         client.setLogoFileName(file.getOriginalFilename());
         client.setLogoContentType(file.getContentType());
 
@@ -81,6 +83,9 @@ public class ClientService {
         client.setLogoUrl(uploaded.get("url"));             // ✅ ADD
 
         Client updatedClient = clientRepository.save(client);
+        if (previousHash != null && !previousHash.equals(updatedClient.getLogoHash())) {
+            clientLogoStore.releaseIfUnused(previousHash);
+        }
         log.info("Logo uploaded successfully for client ID: {}", clientId);
 
         return mapToResponseDTO(updatedClient);
@@ -104,16 +109,19 @@ public class ClientService {
     }
 
     @Transactional(readOnly = true)
-    public byte[] getClientLogo(Long id) {
+    public ClientLogoStore.LogoContent getClientLogo(Long id) {
         log.info("Fetching logo for client ID: {}", id);
         Client client = clientRepository.findActiveClientById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Client", "id", id));
 
-        if (client.getClientLogo() == null) {
+        ClientLogoStore.LogoContent logo = client.getLogoHash() != null
+                ? clientLogoStore.load(client.getLogoHash())
+                : null;
+        if (logo == null) {
             throw new ResourceNotFoundException("Client logo not found for client with id: " + id);
         }
 
-        return client.getClientLogo();
+        return logo;
     }
 
     @Transactional
@@ -124,12 +132,14 @@ public class ClientService {
                 .orElseThrow(() -> new ResourceNotFoundException("Client not found with id: " + id));
 
         // Clear all logo fields
-        client.setClientLogo(null);
+        String previousHash = client.getLogoHash();
+        client.setLogoHash(null);
         client.setLogoFileName(null);
         client.setLogoContentType(null);
         client.setLogoUrl(null);
 
         Client saved = clientRepository.save(client);
+        clientLogoStore.releaseIfUnused(previousHash);
         log.info("Logo deleted for client ID: {}", id);
 
         return mapToResponseDTO(saved);
@@ -170,7 +180,8 @@ public class ClientService {
         dto.setClientId(client.getClientId());
         dto.setClientName(client.getClientName());
         dto.setLogoFileName(client.getLogoFileName());
-        dto.setHasLogo(client.getClientLogo() != null);
+        dto.setHasLogo(client.getLogoHash() != null);
+        dto.setLogoVersion(client.getLogoHash());
         dto.setLogoUrl(client.getLogoUrl());
         dto.setCreatedAt(client.getCreatedAt());
         dto.setUpdatedAt(client.getUpdatedAt());
@@ -27,7 +27,7 @@ public class AdminReportEmailServiceImpl implements AdminReportEmailService {
     }
 
     @Override
-    public void sendReport(SendReportEmailRequest request, MultipartFile pdfFile) {
+    public String sendReport(SendReportEmailRequest request, MultipartFile pdfFile) {
 
         validatePdfFile(pdfFile);
 
@@ -58,7 +58,7 @@ public class AdminReportEmailServiceImpl implements AdminReportEmailService {
         log.info("Admin dispatching [{}] report email | Case: {} | To: {}",
                 request.getReportType(), request.getCaseReference(), request.getToEmail());
 
-        reportEmailService.sendReport(emailRequestDto);
+        return reportEmailService.sendReport(emailRequestDto);
     }
 
     // ─── Private Helpers ──────────────────────────────────────────────────────
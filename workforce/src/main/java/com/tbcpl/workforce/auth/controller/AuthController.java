@@ -19,6 +19,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import com.tbcpl.workforce.common.exception.ResourceNotFoundException;
 import org.springframework.beans.factory.annotation.Value;
@@ -43,10 +44,17 @@ public class AuthController {
      */
     @PostMapping(ApiEndpoints.AUTH_LOGIN)
     public ResponseEntity<ApiResponse<LoginResponse>> login(
-            @Valid @RequestBody LoginRequest request
+            @Valid @RequestBody LoginRequest request,
+            HttpServletRequest httpRequest
     ) {
         log.info("Login request for: {}", request.getEmail());
-        LoginResponse response = authService.login(request);
+        String clientIp = httpRequest.getRemoteAddr();
+        if (request.getIpAddress() == null || request.getIpAddress().isBlank()) {
+            request.setIpAddress(clientIp);
+        }
+        // Rejected before any DB lookup or BCrypt work
+        authService.checkLoginAllowed(request, clientIp);
+        LoginResponse response = authService.login(request, clientIp);
         return ResponseEntity.ok(ApiResponse.success("Login successful", response));
     }
 
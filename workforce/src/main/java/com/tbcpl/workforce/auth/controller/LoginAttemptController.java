@@ -1,6 +1,7 @@
 package com.tbcpl.workforce.auth.controller;
 
 import com.tbcpl.workforce.auth.dto.response.LoginAttemptResponse;
+import com.tbcpl.workforce.auth.dto.response.LoginAuditQueueStatsResponse;
 import com.tbcpl.workforce.auth.service.LoginAttemptService;
 import com.tbcpl.workforce.common.constants.ApiEndpoints;
 import com.tbcpl.workforce.common.response.ApiResponse;
@@ -96,4 +97,19 @@ public class LoginAttemptController {
                 ApiResponse.success("Blocked attempts count retrieved successfully", count)
         );
     }
+
+    /**
+     * Get depth and write counters of the asynchronous login audit queue
+     * HR and ADMIN can access
+     */
+    @GetMapping(ApiEndpoints.LOGIN_ATTEMPTS_AUDIT_QUEUE)
+    public ResponseEntity<ApiResponse<LoginAuditQueueStatsResponse>> getAuditQueueStats() {
+        log.info("Get login audit queue stats");
+
+        LoginAuditQueueStatsResponse stats = loginAttemptService.getAuditQueueStats();
+
+        return ResponseEntity.ok(
+                ApiResponse.success("Login audit queue stats retrieved successfully", stats)
+        );
+    }
 }
@@ -0,0 +1,26 @@
+package com.tbcpl.workforce.auth.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Counters of the asynchronous login audit writer
+ * queueDepth close to queueCapacity or a growing writtenByCaller means the writer is falling behind
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LoginAuditQueueStatsResponse {
+
+    private int queueDepth;
+    private int queueCapacity;
+
+    private long enqueued;
+    private long written;
+    private long writtenByCaller;
+    private long failed;
+    private long batches;
+}
@@ -114,11 +114,19 @@ public class Employee {
     }
 
     public boolean isPasswordExpired() {
+        return isPasswordExpired(lastPasswordChangeDate);
+    }
+
+    public long getDaysUntilPasswordExpiry() {
+        return daysUntilPasswordExpiry(lastPasswordChangeDate);
+    }
+
+    public static boolean isPasswordExpired(LocalDate lastPasswordChangeDate) {
         if (lastPasswordChangeDate == null) return false;
         return LocalDate.now().isAfter(lastPasswordChangeDate.plusMonths(2));
     }
 
-    public long getDaysUntilPasswordExpiry() {
+    public static long daysUntilPasswordExpiry(LocalDate lastPasswordChangeDate) {
         if (lastPasswordChangeDate == null) return Long.MAX_VALUE;
         LocalDate expiry = lastPasswordChangeDate.plusMonths(2);
         return java.time.temporal.ChronoUnit.DAYS.between(LocalDate.now(), expiry);
@@ -37,27 +37,6 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
 
     Page<Employee> findByIsActiveTrue(Pageable pageable);
 
-    @Query("SELECT e FROM Employee e WHERE e.department.id = :departmentId AND e.isActive = true")
-    Page<Employee> findByDepartmentId(@Param("departmentId") Long departmentId, Pageable pageable);
-
-    @Query("SELECT e FROM Employee e WHERE e.role.id = :roleId AND e.isActive = true")
-    Page<Employee> findByRoleId(@Param("roleId") Long roleId, Pageable pageable);
-
-    @Query("SELECT e FROM Employee e WHERE e.department.id = :departmentId " +
-            "AND e.role.id = :roleId AND e.isActive = true")
-    Page<Employee> findByDepartmentIdAndRoleId(
-            @Param("departmentId") Long departmentId,
-            @Param("roleId") Long roleId,
-            Pageable pageable
-    );
-
-    @Query("SELECT e FROM Employee e WHERE " +
-            "(LOWER(e.firstName) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
-            "LOWER(e.middleName) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
-            "LOWER(e.lastName) LIKE LOWER(CONCAT('%', :searchTerm, '%'))) AND " +
-            "e.isActive = true")
-    Page<Employee> searchByName(@Param("searchTerm") String searchTerm, Pageable pageable);
-
     // ── NEW: Name-only search ─────────────────────────────────────────────────
     @Query("SELECT e FROM Employee e WHERE e.isActive = true AND (" +
             "LOWER(e.firstName) LIKE :name OR " +
@@ -69,46 +48,6 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
             Pageable pageable
     );
 
-    // ── NEW: Name + Department search ────────────────────────────────────────
-    @Query("SELECT e FROM Employee e WHERE e.isActive = true AND " +
-            "e.department.id = :deptId AND (" +
-            "LOWER(e.firstName) LIKE :name OR " +
-            "LOWER(e.lastName)  LIKE :name OR " +
-            "LOWER(e.empId)     LIKE :name OR " +
-            "LOWER(CONCAT(e.firstName, ' ', e.lastName)) LIKE :name)")
-    Page<Employee> findByNameAndDepartment(
-            @Param("name") String name,
-            @Param("deptId") Long deptId,
-            Pageable pageable
-    );
-
-    // ── NEW: Name + Role search ───────────────────────────────────────────────
-    @Query("SELECT e FROM Employee e WHERE e.isActive = true AND " +
-            "e.role.id = :roleId AND (" +
-            "LOWER(e.firstName) LIKE :name OR " +
-            "LOWER(e.lastName)  LIKE :name OR " +
-            "LOWER(e.empId)     LIKE :name OR " +
-            "LOWER(CONCAT(e.firstName, ' ', e.lastName)) LIKE :name)")
-    Page<Employee> findByNameAndRole(
-            @Param("name") String name,
-            @Param("roleId") Long roleId,
-            Pageable pageable
-    );
-
-    // ── NEW: Name + Department + Role search ─────────────────────────────────
-    @Query("SELECT e FROM Employee e WHERE e.isActive = true AND " +
-            "e.department.id = :deptId AND e.role.id = :roleId AND (" +
-            "LOWER(e.firstName) LIKE :name OR " +
-            "LOWER(e.lastName)  LIKE :name OR " +
-            "LOWER(e.empId)     LIKE :name OR " +
-            "LOWER(CONCAT(e.firstName, ' ', e.lastName)) LIKE :name)")
-    Page<Employee> findByNameAndDepartmentAndRole(
-            @Param("name") String name,
-            @Param("deptId") Long deptId,
-            @Param("roleId") Long roleId,
-            Pageable pageable
-    );
-
     @Query("SELECT MAX(CAST(SUBSTRING(e.empId, 6, 3) AS int)) FROM Employee e " +
             "WHERE e.empId LIKE :yearPrefix")
     Integer findMaxEmployeeNumberByYear(@Param("yearPrefix") String yearPrefix);
@@ -134,27 +73,34 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
             @Param("departmentName") String departmentName
     );
 
+    // ── Employee directory snapshot ──────────────────────────────────────────
+
     @Query("SELECT e FROM Employee e " +
-            "JOIN FETCH e.role r " +
-            "JOIN FETCH e.department d " +
-            "WHERE UPPER(r.roleName) IN :roleNames AND e.isActive = true " +
-            "ORDER BY e.firstName ASC")
-    List<Employee> findActiveEmployeesByRoleNames(
-            @Param("roleNames") List<String> roleNames
-    );
+            "JOIN FETCH e.department " +
+            "JOIN FETCH e.role " +
+            "LEFT JOIN FETCH e.reportingManager " +
+            "WHERE e.isActive = true")
+    List<Employee> findAllActiveForDirectory();
 
     /**
-     * Fetch all active employees by role name (case-insensitive).
-     * Used by grnd_operation LOA module to populate FIELD_ASSOCIATE dropdown.
+     * The employee plus everyone reporting to them — the entries affected when that employee changes
      */
-    @Query("SELECT e FROM Employee e JOIN FETCH e.department JOIN FETCH e.role " +
-            "WHERE UPPER(e.role.roleName) = UPPER(:roleName) AND e.isActive = true " +
-            "ORDER BY e.firstName ASC")
-    List<Employee> findActiveEmployeesByRoleName(@Param("roleName") String roleName);
+    @Query("SELECT e FROM Employee e " +
+            "JOIN FETCH e.department " +
+            "JOIN FETCH e.role " +
+            "LEFT JOIN FETCH e.reportingManager m " +
+            "WHERE e.id = :id OR m.id = :id")
+    List<Employee> findSelfAndReportsForDirectory(@Param("id") Long id);
 
     List<Employee> findByEmailIgnoreCaseIn(Collection<String> emails);
     List<Employee> findAllByEmpIdIn(List<String> empIds);
 
+    /**
+     * Which of the given empIds exist (active or not) — set-based existence check for bulk operations
+     */
+    @Query("SELECT e.empId FROM Employee e WHERE e.empId IN :empIds")
+    List<String> findExistingEmpIds(@Param("empIds") Collection<String> empIds);
+
     long countByIsActiveTrue();
 
     long countByDepartmentIdAndIsActiveTrue(Long departmentId);
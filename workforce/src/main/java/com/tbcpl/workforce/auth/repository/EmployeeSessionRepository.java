@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -25,6 +26,18 @@ public interface EmployeeSessionRepository extends JpaRepository<EmployeeSession
     @Query("SELECT s FROM EmployeeSession s WHERE s.employee.id = :employeeId AND s.isActive = true")
     Optional<EmployeeSession> findActiveSessionByEmployeeId(@Param("employeeId") Long employeeId);
 
+    /**
+     * Find all active sessions with employee (used to rebuild the session registry)
+     */
+    @Query("SELECT s FROM EmployeeSession s JOIN FETCH s.employee WHERE s.isActive = true")
+    List<EmployeeSession> findAllActiveSessions();
+
+    /**
+     * Of the given session ids, return those still active (used to drop sessions revoked elsewhere)
+     */
+    @Query("SELECT s.id FROM EmployeeSession s WHERE s.id IN :sessionIds AND s.isActive = true")
+    List<Long> findActiveSessionIds(@Param("sessionIds") List<Long> sessionIds);
+
     /**
      * Find session by token
      */
@@ -68,6 +81,7 @@ public interface EmployeeSessionRepository extends JpaRepository<EmployeeSession
     /**
      * Deactivate specific session
      */
+    @Transactional
     @Modifying
     @Query("UPDATE EmployeeSession s SET s.isActive = false, s.status = :status, s.logoutTime = :logoutTime " +
             "WHERE s.id = :sessionId")
@@ -77,6 +91,18 @@ public interface EmployeeSessionRepository extends JpaRepository<EmployeeSession
             @Param("logoutTime") LocalDateTime logoutTime
     );
 
+    /**
+     * Batched write-behind of last activity time for active sessions
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE EmployeeSession s SET s.lastActivityTime = :activityTime " +
+            "WHERE s.id IN :sessionIds AND s.isActive = true")
+    int updateLastActivityTime(
+            @Param("sessionIds") List<Long> sessionIds,
+            @Param("activityTime") LocalDateTime activityTime
+    );
+
     /**
      * Find expired sessions (last activity > X hours ago)
      */
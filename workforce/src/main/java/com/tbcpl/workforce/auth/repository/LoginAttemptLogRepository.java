@@ -77,16 +77,6 @@ public interface LoginAttemptLogRepository extends JpaRepository<LoginAttemptLog
             @Param("sinceTime") LocalDateTime sinceTime
     );
 
-    /**
-     * Count failed attempts by email in time window (for rate limiting)
-     */
-    @Query("SELECT COUNT(l) FROM LoginAttemptLog l WHERE l.email = :email " +
-            "AND l.status = 'FAILED' AND l.attemptTime > :sinceTime")
-    long countFailedAttemptsByEmailSince(
-            @Param("email") String email,
-            @Param("sinceTime") LocalDateTime sinceTime
-    );
-
     /**
      * Count blocked attempts by employee
      */
@@ -21,22 +21,33 @@ public class CustomUserDetails implements UserDetails {
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        String roleName = employee.getRole().getRoleName().toUpperCase();
+        return resolveAuthorities(
+                employee.getRole().getRoleName(),
+                employee.getDepartment().getDepartmentName()
+        );
+    }
+
+    /**
+     * Map role and department names to granted authorities
+     * Shared with PrincipalCache so cached and uncached paths grant the same authorities
+     */
+    public static List<GrantedAuthority> resolveAuthorities(String roleName, String departmentName) {
+        String upperRoleName = roleName.toUpperCase();
 
         // ── FIX: For admin roles, always grant DEPARTMENT_ADMIN authority ────────
         // regardless of which department they are assigned to in the DB.
         // Previously this relied on departmentName which could be wrong for ADMIN role.
-        String departmentAuthority = switch (roleName) {
+        String departmentAuthority = switch (upperRoleName) {
             case "SUPER_ADMIN", "ADMIN" -> "DEPARTMENT_ADMIN";
             case "HR_MANAGER"           -> "DEPARTMENT_HR";
             case "FIELD_ASSOCIATE",
                  "ASSOCIATE"            -> "DEPARTMENT_OPERATION";
             case "ACCOUNTS"             -> "DEPARTMENT_ACCOUNTS";
             // Fallback: derive from department name as before
-            default -> "DEPARTMENT_" + employee.getDepartment().getDepartmentName().toUpperCase();
+            default -> "DEPARTMENT_" + departmentName.toUpperCase();
         };
 
-        String roleAuthority = "ROLE_" + roleName;
+        String roleAuthority = "ROLE_" + upperRoleName;
 
         return List.of(
                 new SimpleGrantedAuthority(departmentAuthority),
@@ -1,6 +1,5 @@
 package com.tbcpl.workforce.auth.security;
 
-import com.tbcpl.workforce.auth.entity.Employee;
 import com.tbcpl.workforce.auth.service.EmployeeService;
 import com.tbcpl.workforce.auth.service.EmployeeSessionService;
 import com.tbcpl.workforce.common.constants.SecurityConstants;
@@ -32,6 +31,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtUtil jwtUtil;
     private final EmployeeService employeeService;
     private final EmployeeSessionService sessionService;
+    private final PrincipalCache principalCache;
 
     @Override
     protected void doFilterInternal(
@@ -52,18 +52,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             // Extract JWT token (remove "Bearer " prefix)
             final String jwt = authHeader.substring(7);
-            final String username = jwtUtil.extractUsername(jwt);
-            final String empId = jwtUtil.extractEmpId(jwt); // ✅ Extract empId from JWT
 
-            // Validate token and authenticate
-            if (username != null && empId != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            // Verify signature + expiry once; claims are cached per token
+            final JwtClaims claims = jwtUtil.verify(jwt);
+            if (claims == null) {
+                log.warn("Invalid JWT token");
+                filterChain.doFilter(request, response);
+                return;
+            }
 
-                // Validate token
-                if (!jwtUtil.validateToken(jwt, username)) {
-                    log.warn("Invalid JWT token for user: {}", username);
-                    filterChain.doFilter(request, response);
-                    return;
-                }
+            final String username = claims.subject();
+            final String empId = claims.empId(); // ✅ Extract empId from JWT
+
+            // Authenticate
+            if (username != null && empId != null && SecurityContextHolder.getContext().getAuthentication() == null) {
 
                 // Check if session is still valid
                 if (!sessionService.isSessionValid(jwt)) {
@@ -72,17 +74,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                     return;
                 }
 
-                // Load employee details
-                Employee employee = employeeService.getEmployeeEntityByEmail(username);
+                // Resolve authorities from cached snapshot (loads employee on miss)
+                PrincipalSnapshot principal = principalCache.get(empId,
+                        id -> PrincipalSnapshot.from(employeeService.getEmployeeEntityByEmail(username)));
 
-                // Create CustomUserDetails with empId as principal
-                CustomUserDetails userDetails = new CustomUserDetails(employee);
+                if (!principal.active() || !empId.equals(principal.empId())) {
+                    log.warn("Inactive or mismatched principal for user: {}", username);
+                    filterChain.doFilter(request, response);
+                    return;
+                }
 
                 // ✅ CHANGED: Use empId as principal instead of userDetails
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                         empId, // Use empId as principal (authentication.getName() will return this)
                         null,
-                        userDetails.getAuthorities()
+                        principal.authorities()
                 );
 
                 authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -93,7 +99,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 // Update session activity
                 sessionService.updateSessionActivity(jwt);
 
-                log.debug("✅ User authenticated: {} (empId: {}) with authorities: {}", username, empId, userDetails.getAuthorities());
+                log.debug("✅ User authenticated: {} (empId: {}) with authorities: {}", username, empId, principal.authorities());
             }
 
         } catch (Exception e) {
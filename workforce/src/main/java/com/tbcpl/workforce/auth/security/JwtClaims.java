@@ -0,0 +1,30 @@
+package com.tbcpl.workforce.auth.security;
+
+import java.time.Instant;
+
+/**
+ * Immutable view of a verified JWT.
+ * Produced once per token by {@link JwtUtil#verify(String)} so callers never re-parse the token.
+ */
+public record JwtClaims(
+        String subject,
+        String empId,
+        String role,
+        String department,
+        Instant expiresAt
+) {
+
+    /**
+     * Check if token is expired at the given instant
+     */
+    public boolean isExpiredAt(Instant now) {
+        return expiresAt == null || !now.isBefore(expiresAt);
+    }
+
+    /**
+     * Check if token is expired now
+     */
+    public boolean isExpired() {
+        return isExpiredAt(Instant.now());
+    }
+}
@@ -3,6 +3,7 @@ package com.tbcpl.workforce.auth.security;
 import com.tbcpl.workforce.auth.entity.Employee;
 import com.tbcpl.workforce.common.constants.SecurityConstants;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
@@ -23,12 +24,19 @@ import java.util.function.Function;
 public class JwtUtil {
 
     private final SecretKey secretKey;
+    private final JwtParser jwtParser;
+    private final VerifiedTokenCache tokenCache;
 
-    public JwtUtil() {
+    public JwtUtil(VerifiedTokenCache tokenCache) {
         // Create secret key from constant
         this.secretKey = Keys.hmacShaKeyFor(
                 SecurityConstants.JWT_SECRET.getBytes(StandardCharsets.UTF_8)
         );
+        // Parser is immutable and thread-safe — build it once
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+        this.tokenCache = tokenCache;
     }
 
     /**
@@ -61,6 +69,45 @@ public class JwtUtil {
                 .compact();
     }
 
+    /**
+     * Verify token signature and expiry once and return its claims.
+     * Results are cached by token digest, so repeated requests with the same token skip HMAC verification.
+     *
+     * @return verified claims, or null if the token is invalid or expired
+     */
+    public JwtClaims verify(String token) {
+        JwtClaims cached = tokenCache.get(token);
+        if (cached != null) {
+            return cached.isExpired() ? null : cached;
+        }
+
+        try {
+            Claims claims = extractAllClaims(token);
+            JwtClaims verified = new JwtClaims(
+                    claims.getSubject(),
+                    claims.get(SecurityConstants.CLAIM_EMP_ID, String.class),
+                    claims.get(SecurityConstants.CLAIM_ROLE, String.class),
+                    claims.get(SecurityConstants.CLAIM_DEPARTMENT, String.class),
+                    claims.getExpiration() != null ? claims.getExpiration().toInstant() : null
+            );
+            if (verified.isExpired()) {
+                return null;
+            }
+            tokenCache.put(token, verified);
+            return verified;
+        } catch (Exception e) {
+            log.warn("JWT verification failed: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Remove token from the verified token cache (e.g. on logout)
+     */
+    public void evictToken(String token) {
+        tokenCache.invalidate(token);
+    }
+
     /**
      * Extract username (email) from token
      */
@@ -108,9 +155,7 @@ public class JwtUtil {
      * Extract all claims from token
      */
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
+        return jwtParser
                 .parseSignedClaims(token)
                 .getPayload();
     }
@@ -131,24 +176,14 @@ public class JwtUtil {
      * Validate token
      */
     public Boolean validateToken(String token, String username) {
-        try {
-            final String extractedUsername = extractUsername(token);
-            return (extractedUsername.equals(username) && !isTokenExpired(token));
-        } catch (Exception e) {
-            log.error("Error validating token", e);
-            return false;
-        }
+        JwtClaims claims = verify(token);
+        return claims != null && claims.subject() != null && claims.subject().equals(username);
     }
 
     /**
      * Validate token (without username check)
      */
     public Boolean validateToken(String token) {
-        try {
-            return !isTokenExpired(token);
-        } catch (Exception e) {
-            log.error("Error validating token", e);
-            return false;
-        }
+        return verify(token) != null;
     }
 }
@@ -0,0 +1,176 @@
+package com.tbcpl.workforce.auth.security;
+
+import com.tbcpl.workforce.common.exception.TooManyLoginAttemptsException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * In-memory sliding-window counter of failed logins, keyed by email and by client IP.
+ * Once a key reaches its threshold inside the window it is locked out for a while and further
+ * attempts are rejected before the employee lookup and BCrypt check. Each window is a ring of
+ * per-bucket atomic counters (no locks); the maps are bounded and swept of idle keys.
+ * Counts are per instance — behind N pods the effective limit is at most N times the threshold.
+ */
+@Component
+@Slf4j
+public class LoginThrottle {
+
+    private static final int BUCKETS = 15;
+    private static final int MAX_TRACKED_KEYS = 100_000;
+    private static final long SWEEP_INTERVAL_MS = 5 * 60 * 1000L;
+
+    private final boolean enabled;
+    private final long    windowMs;
+    private final long    bucketMs;
+    private final int     maxFailuresPerEmail;
+    private final int     maxFailuresPerIp;
+    private final long    lockoutMs;
+
+    private final ConcurrentHashMap<String, Window> byEmail = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Window> byIp    = new ConcurrentHashMap<>();
+
+    public LoginThrottle(@Value("${app.login-throttle.enabled:true}") boolean enabled,
+                         @Value("${app.login-throttle.window-minutes:15}") long windowMinutes,
+                         @Value("${app.login-throttle.max-failures-per-email:5}") int maxFailuresPerEmail,
+                         @Value("${app.login-throttle.max-failures-per-ip:30}") int maxFailuresPerIp,
+                         @Value("${app.login-throttle.lockout-minutes:15}") long lockoutMinutes) {
+        this.enabled             = enabled;
+        this.windowMs            = TimeUnit.MINUTES.toMillis(Math.max(1, windowMinutes));
+        this.bucketMs            = Math.max(1, windowMs / BUCKETS);
+        this.maxFailuresPerEmail = maxFailuresPerEmail;
+        this.maxFailuresPerIp    = maxFailuresPerIp;
+        this.lockoutMs           = TimeUnit.MINUTES.toMillis(lockoutMinutes);
+    }
+
+    /**
+     * Reject the attempt if its email or IP is currently locked out
+     */
+    public void checkAllowed(String email, String ipAddress) {
+        if (!enabled) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long lockedUntil = Math.max(lockedUntil(byEmail, emailKey(email), now), lockedUntil(byIp, ipAddress, now));
+        if (lockedUntil > now) {
+            long retryAfterSeconds = Math.max(1, TimeUnit.MILLISECONDS.toSeconds(lockedUntil - now));
+            throw new TooManyLoginAttemptsException(
+                    "Too many failed login attempts. Please try again in " + toMinutes(retryAfterSeconds) + " minute(s).",
+                    retryAfterSeconds);
+        }
+    }
+
+    /**
+     * Count a failed attempt (wrong password or unknown email) against both keys
+     */
+    public void recordFailure(String email, String ipAddress) {
+        if (!enabled) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        record(byEmail, emailKey(email), maxFailuresPerEmail, now);
+        record(byIp, ipAddress, maxFailuresPerIp, now);
+    }
+
+    /**
+     * A successful login clears the email's failures; the IP window is left alone
+     * so one valid account cannot be used to reset a stuffing source
+     */
+    public void recordSuccess(String email) {
+        if (enabled) {
+            byEmail.remove(emailKey(email));
+        }
+    }
+
+    @Scheduled(fixedDelay = SWEEP_INTERVAL_MS)
+    public void sweep() {
+        long now = System.currentTimeMillis();
+        int before = byEmail.size() + byIp.size();
+        byEmail.values().removeIf(w -> w.isIdle(now));
+        byIp.values().removeIf(w -> w.isIdle(now));
+        int removed = before - byEmail.size() - byIp.size();
+        if (removed > 0) {
+            log.debug("Login throttle swept {} idle keys", removed);
+        }
+    }
+
+    // ── Internals ──
+
+    private void record(ConcurrentHashMap<String, Window> windows, String key, int threshold, long now) {
+        if (key == null || threshold <= 0) {
+            return;
+        }
+        Window window = windows.get(key);
+        if (window == null) {
+            if (windows.size() >= MAX_TRACKED_KEYS) {
+                return; // table full under attack — keep tracking existing keys only
+            }
+            window = windows.computeIfAbsent(key, k -> new Window());
+        }
+        long failures = window.add(now);
+        if (failures >= threshold && window.lockedUntil <= now) {
+            window.lockedUntil = now + lockoutMs;
+            log.warn("Login throttle: {} locked out for {} ms after {} failures", key, lockoutMs, failures);
+        }
+    }
+
+    private long lockedUntil(ConcurrentHashMap<String, Window> windows, String key, long now) {
+        if (key == null) {
+            return 0;
+        }
+        Window window = windows.get(key);
+        return window != null ? window.lockedUntil : 0;
+    }
+
+    private static String emailKey(String email) {
+        return email != null ? email.trim().toLowerCase(Locale.ROOT) : null;
+    }
+
+    private static long toMinutes(long seconds) {
+        return (seconds + 59) / 60;
+    }
+
+    /**
+     * Ring of BUCKETS counters, each tagged with the bucket epoch it belongs to.
+     * A slot is reset when it is reused for a newer epoch; a concurrent increment racing
+     * that reset may be lost, which only makes the limit slightly more lenient.
+     */
+    private final class Window {
+        private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+        private final AtomicLongArray epochs = new AtomicLongArray(BUCKETS);
+        private volatile long lockedUntil;
+        private volatile long lastFailureAt;
+
+        long add(long now) {
+            long epoch = now / bucketMs;
+            int slot = (int) (epoch % BUCKETS);
+            long seen = epochs.get(slot);
+            if (seen != epoch && epochs.compareAndSet(slot, seen, epoch)) {
+                counts.set(slot, 0);
+            }
+            counts.incrementAndGet(slot);
+            lastFailureAt = now;
+            return sum(epoch);
+        }
+
+        private long sum(long currentEpoch) {
+            long total = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                if (currentEpoch - epochs.get(i) < BUCKETS) {
+                    total += counts.get(i);
+                }
+            }
+            return total;
+        }
+
+        boolean isIdle(long now) {
+            return lockedUntil <= now && now - lastFailureAt > windowMs;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.tbcpl.workforce.auth.security;
+
+import com.tbcpl.workforce.common.cache.CacheStats;
+import com.tbcpl.workforce.common.cache.CacheStatsProvider;
+import com.tbcpl.workforce.common.cache.LruCache;
+import com.tbcpl.workforce.common.constants.SecurityConstants;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Cache of empId → authority snapshot used by JwtAuthenticationFilter
+ * Avoids loading Employee + Department + Role on every authenticated request.
+ * Invalidated by EmployeeService, RoleService and DepartmentService on mutation.
+ * Those evictions are local to this instance, so entries also expire after PRINCIPAL_CACHE_TTL_MS.
+ */
+@Component
+@Slf4j
+public class PrincipalCache implements CacheStatsProvider {
+
+    private final LruCache<String, PrincipalSnapshot> cache =
+            new LruCache<>("principal", SecurityConstants.PRINCIPAL_CACHE_MAX_ENTRIES,
+                    Duration.ofMillis(SecurityConstants.PRINCIPAL_CACHE_TTL_MS));
+
+    /**
+     * Get snapshot for empId, loading it on miss.
+     * A load that overlaps an eviction is not cached, so a deactivation is never undone by an in-flight load.
+     */
+    public PrincipalSnapshot get(String empId, Function<String, PrincipalSnapshot> loader) {
+        return cache.get(empId, loader);
+    }
+
+    /**
+     * Invalidate a single employee
+     */
+    public void evict(String empId) {
+        if (empId != null && cache.remove(empId) != null) {
+            log.debug("Principal cache evicted empId: {}", empId);
+        }
+    }
+
+    /**
+     * Invalidate all employees holding the given role
+     */
+    public void evictByRoleId(Long roleId) {
+        int removed = cache.removeIf((empId, snapshot) -> roleId.equals(snapshot.roleId()));
+        log.debug("Principal cache evicted {} entries for role ID: {}", removed, roleId);
+    }
+
+    /**
+     * Invalidate all employees in the given department
+     */
+    public void evictByDepartmentId(Long departmentId) {
+        int removed = cache.removeIf((empId, snapshot) -> departmentId.equals(snapshot.departmentId()));
+        log.debug("Principal cache evicted {} entries for department ID: {}", removed, departmentId);
+    }
+
+    @Override
+    public CacheStats stats() {
+        return cache.stats();
+    }
+}
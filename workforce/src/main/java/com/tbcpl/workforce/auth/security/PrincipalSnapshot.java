@@ -0,0 +1,37 @@
+package com.tbcpl.workforce.auth.security;
+
+import com.tbcpl.workforce.auth.entity.Employee;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.List;
+
+/**
+ * Immutable authority snapshot of an employee, cached by {@link PrincipalCache}
+ */
+public record PrincipalSnapshot(
+        String empId,
+        String email,
+        Long departmentId,
+        String departmentName,
+        Long roleId,
+        String roleName,
+        boolean active,
+        List<GrantedAuthority> authorities
+) {
+
+    public static PrincipalSnapshot from(Employee employee) {
+        return new PrincipalSnapshot(
+                employee.getEmpId(),
+                employee.getEmail(),
+                employee.getDepartment().getId(),
+                employee.getDepartment().getDepartmentName(),
+                employee.getRole().getId(),
+                employee.getRole().getRoleName(),
+                Boolean.TRUE.equals(employee.getIsActive()),
+                CustomUserDetails.resolveAuthorities(
+                        employee.getRole().getRoleName(),
+                        employee.getDepartment().getDepartmentName()
+                )
+        );
+    }
+}
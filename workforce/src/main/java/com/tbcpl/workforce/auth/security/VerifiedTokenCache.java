@@ -0,0 +1,90 @@
+package com.tbcpl.workforce.auth.security;
+
+import com.tbcpl.workforce.common.constants.SecurityConstants;
+import com.tbcpl.workforce.common.util.HashUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded, expiry-aware cache of already verified JWTs.
+ * Keyed by SHA-256 digest of the token so raw tokens are never held as map keys.
+ * An entry lives until the earlier of the token expiry and the cache TTL.
+ */
+@Component
+@Slf4j
+public class VerifiedTokenCache {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private record Entry(JwtClaims claims, Instant validUntil) {
+    }
+
+    /**
+     * Get cached claims for token, or null if absent or stale
+     */
+    public JwtClaims get(String token) {
+        String key = HashUtils.sha256Hex(token);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (!Instant.now().isBefore(entry.validUntil())) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.claims();
+    }
+
+    /**
+     * Cache claims for a token that has just passed signature verification
+     */
+    public void put(String token, JwtClaims claims) {
+        Instant now = Instant.now();
+        Instant ttlLimit = now.plusMillis(SecurityConstants.JWT_CACHE_TTL_MS);
+        Instant validUntil = claims.expiresAt() != null && claims.expiresAt().isBefore(ttlLimit)
+                ? claims.expiresAt()
+                : ttlLimit;
+        if (!now.isBefore(validUntil)) {
+            return;
+        }
+
+        if (entries.size() >= SecurityConstants.JWT_CACHE_MAX_ENTRIES) {
+            evict(now);
+        }
+        entries.put(HashUtils.sha256Hex(token), new Entry(claims, validUntil));
+    }
+
+    /**
+     * Drop a single token (e.g. on logout)
+     */
+    public void invalidate(String token) {
+        entries.remove(HashUtils.sha256Hex(token));
+    }
+
+    /**
+     * Drop all cached tokens
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Remove stale entries first; if still full, clear the cache.
+     * Tokens are cheap to re-verify, so a rare full reset is preferable to LRU bookkeeping on every hit.
+     */
+    private void evict(Instant now) {
+        entries.entrySet().removeIf(e -> !now.isBefore(e.getValue().validUntil()));
+        if (entries.size() >= SecurityConstants.JWT_CACHE_MAX_ENTRIES) {
+            log.debug("Verified token cache full ({} entries), clearing", entries.size());
+            entries.clear();
+        }
+    }
+}
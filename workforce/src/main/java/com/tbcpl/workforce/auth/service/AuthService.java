@@ -8,12 +8,15 @@ import com.tbcpl.workforce.auth.dto.response.PasswordChangeResponse;
 import com.tbcpl.workforce.auth.entity.Employee;
 import com.tbcpl.workforce.auth.entity.EmployeeSession;
 import com.tbcpl.workforce.auth.security.JwtUtil;
+import com.tbcpl.workforce.auth.security.LoginThrottle;
 import com.tbcpl.workforce.common.constants.SecurityConstants;
 import com.tbcpl.workforce.common.constants.ValidationMessages;
 import com.tbcpl.workforce.common.exception.DuplicateSessionException;
 import com.tbcpl.workforce.common.exception.EmailNotVerifiedException;
 import com.tbcpl.workforce.common.exception.InvalidCredentialsException;
 import com.tbcpl.workforce.common.exception.PasswordExpiredException;
+import com.tbcpl.workforce.common.exception.ResourceNotFoundException;
+import com.tbcpl.workforce.common.exception.TooManyLoginAttemptsException;
 import com.tbcpl.workforce.common.util.PasswordValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -39,20 +42,57 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final PasswordValidator passwordValidator;
     private final JwtUtil jwtUtil;
+    private final LoginThrottle loginThrottle;
+
+    /**
+     * Throttle gate, run before {@link #login} and outside its transaction:
+     * a locked-out email or IP is rejected without a DB lookup or BCrypt check
+     */
+    public void checkLoginAllowed(LoginRequest request, String clientIp) {
+        try {
+            loginThrottle.checkAllowed(request.getEmail(), clientIp);
+        } catch (TooManyLoginAttemptsException ex) {
+            loginAttemptService.logFailedLogin(
+                    request.getEmail(),
+                    request.getDeviceId(),
+                    request.getIpAddress(),
+                    request.getUserAgent(),
+                    "Too many failed attempts"
+            );
+            throw ex;
+        }
+    }
 
     /**
      * Login - authenticate employee and create session
+     * Failures and successes are reported to the login throttle
+     *
+     * @param clientIp remote address seen by the server, used as the throttle's per-IP key
      */
     @Transactional
-    public LoginResponse login(LoginRequest request) {
+    public LoginResponse login(LoginRequest request, String clientIp) {
         log.info("Processing login request for email: {}", request.getEmail());
 
         // Find employee by email
-        Employee employee = employeeService.getEmployeeEntityByEmail(request.getEmail());
+        Employee employee;
+        try {
+            employee = employeeService.getEmployeeEntityByEmail(request.getEmail());
+        } catch (ResourceNotFoundException ex) {
+            loginThrottle.recordFailure(request.getEmail(), clientIp);
+            loginAttemptService.logFailedLogin(
+                    request.getEmail(),
+                    request.getDeviceId(),
+                    request.getIpAddress(),
+                    request.getUserAgent(),
+                    "Unknown email"
+            );
+            throw ex;
+        }
 
         // Verify password
         if (!passwordEncoder.matches(request.getPassword(), employee.getPassword())) {
             log.warn("Invalid password for email: {}", request.getEmail());
+            loginThrottle.recordFailure(request.getEmail(), clientIp);
             loginAttemptService.logFailedLogin(
                     request.getEmail(),
                     request.getDeviceId(),
@@ -121,10 +161,9 @@ public class AuthService {
                 request.getIpAddress()
         );
 
-        // Update last login date
-        employeeService.updateLastLoginDate(employee.getId());
+        loginThrottle.recordSuccess(request.getEmail());
 
-        // Log successful login
+        // Log successful login (the audit writer also stamps last login date)
         loginAttemptService.logSuccessfulLogin(
                 employee,
                 request.getDeviceId(),
@@ -179,6 +218,7 @@ public class AuthService {
     public void logout(String token) {
         log.info("Processing logout request");
         sessionService.logout(token);
+        jwtUtil.evictToken(token);
         log.info("Logout successful");
     }
 
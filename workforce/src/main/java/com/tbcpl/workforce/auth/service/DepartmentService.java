@@ -4,6 +4,7 @@ import com.tbcpl.workforce.auth.dto.request.DepartmentRequest;
 import com.tbcpl.workforce.auth.dto.response.DepartmentResponse;
 import com.tbcpl.workforce.auth.entity.Department;
 import com.tbcpl.workforce.auth.repository.DepartmentRepository;
+import com.tbcpl.workforce.auth.security.PrincipalCache;
 import com.tbcpl.workforce.common.exception.DuplicateResourceException;
 import com.tbcpl.workforce.common.exception.ResourceNotFoundException;
 import com.tbcpl.workforce.common.constants.ValidationMessages;
@@ -30,6 +31,8 @@ public class DepartmentService {
 
     private final DepartmentRepository departmentRepository;
     private final EmployeeNameResolverService nameResolver;
+    private final PrincipalCache principalCache;
+    private final EmployeeDirectory employeeDirectory;
 
     /**
      * Create new department
@@ -158,6 +161,8 @@ public class DepartmentService {
         department.setCreatedBy(updatedBy); // Using createdBy field for last updated by
 
         Department updatedDepartment = departmentRepository.save(department);
+        principalCache.evictByDepartmentId(id);
+        employeeDirectory.invalidateAll();
         log.info("Department updated successfully: {}", updatedDepartment.getId());
 
         return mapToResponse(updatedDepartment);
@@ -191,6 +196,7 @@ public class DepartmentService {
         // Soft delete
         department.setIsActive(false);
         departmentRepository.save(department);
+        principalCache.evictByDepartmentId(id);
         log.info("Department soft deleted successfully: {}", id);
     }
 
@@ -0,0 +1,322 @@
+package com.tbcpl.workforce.auth.service;
+
+import com.tbcpl.workforce.auth.entity.Employee;
+import com.tbcpl.workforce.auth.repository.EmployeeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory snapshot of active employees for listing, search and dropdowns.
+ * Loaded once with department, role and manager fetched, then patched per employee after
+ * each committed mutation (the employee and their direct reports are re-read). Name search
+ * uses a trigram index so substring matches do not scan every entry.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EmployeeDirectory {
+
+    private static final long FULL_RELOAD_INTERVAL_MS = 10 * 60 * 1000L;
+
+    private static final Comparator<Entry> BY_FIRST_NAME = Comparator
+            .comparing(Entry::firstName, String.CASE_INSENSITIVE_ORDER)
+            .thenComparing(Entry::id);
+
+    private final EmployeeRepository employeeRepository;
+
+    private volatile Snapshot snapshot;
+
+    // Bumped by invalidateAll; a load or patch started under an older generation is not published
+    private final AtomicLong generation = new AtomicLong();
+    private final Object publishLock = new Object();
+
+    // ── Reads ──
+
+    /**
+     * All active employees ordered by first name
+     */
+    public List<Entry> all() {
+        return snapshot().entries();
+    }
+
+    /**
+     * Active employees whose first name, last name, "first last" or empId contains the term
+     * (case-insensitive), optionally restricted to a department and/or role. Ordered by first name.
+     */
+    public List<Entry> search(String term, Long departmentId, Long roleId) {
+        Predicate<Entry> filter = e -> (departmentId == null || departmentId.equals(e.departmentId()))
+                && (roleId == null || roleId.equals(e.roleId()));
+
+        Snapshot current = snapshot();
+        if (term == null || term.isBlank()) {
+            return current.entries().stream().filter(filter).toList();
+        }
+        String needle = term.trim().toLowerCase(Locale.ROOT);
+        return current.candidates(needle).stream()
+                .filter(e -> e.searchText().contains(needle))
+                .filter(filter)
+                .toList();
+    }
+
+    public List<Entry> byDepartmentName(String departmentName) {
+        return all().stream()
+                .filter(e -> e.departmentName().equalsIgnoreCase(departmentName))
+                .toList();
+    }
+
+    /**
+     * Active employees whose role name matches any of the given names (case-insensitive)
+     */
+    public List<Entry> byRoleNames(Collection<String> roleNames) {
+        Set<String> wanted = roleNames.stream()
+                .map(r -> r.toUpperCase(Locale.ROOT))
+                .collect(Collectors.toSet());
+        return all().stream()
+                .filter(e -> e.roleName() != null && wanted.contains(e.roleName().toUpperCase(Locale.ROOT)))
+                .toList();
+    }
+
+    // ── Refresh ──
+
+    /**
+     * Re-read one employee (and their direct reports) once the current transaction commits
+     */
+    public void refresh(Long employeeId) {
+        afterCommit(() -> reload(employeeId));
+    }
+
+    /**
+     * Drop the snapshot once the current transaction commits (department / role renames)
+     */
+    public void invalidateAll() {
+        afterCommit(() -> {
+            synchronized (publishLock) {
+                generation.incrementAndGet();
+                snapshot = null;
+            }
+        });
+    }
+
+    /**
+     * Safety net for changes made outside this instance
+     */
+    @Scheduled(fixedDelay = FULL_RELOAD_INTERVAL_MS, initialDelay = FULL_RELOAD_INTERVAL_MS)
+    public synchronized void reloadAll() {
+        if (snapshot != null) {
+            long loadedAt = generation.get();
+            publish(loadAll(), loadedAt);
+        }
+    }
+
+    private synchronized void reload(Long employeeId) {
+        long loadedAt = generation.get();
+        Snapshot current = snapshot;
+        if (current == null) {
+            return; // next read loads everything
+        }
+        Map<Long, Entry> byId = new HashMap<>(current.byId());
+        byId.remove(employeeId);
+        for (Employee e : employeeRepository.findSelfAndReportsForDirectory(employeeId)) {
+            if (Boolean.TRUE.equals(e.getIsActive())) {
+                byId.put(e.getId(), toEntry(e));
+            } else {
+                byId.remove(e.getId());
+            }
+        }
+        publish(Snapshot.of(byId.values()), loadedAt);
+        log.debug("Employee directory refreshed for employee id={}", employeeId);
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                current = snapshot;
+                if (current == null) {
+                    long loadedAt = generation.get();
+                    current = loadAll();
+                    publish(current, loadedAt);
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Publish a snapshot built under the given generation, unless invalidateAll ran meanwhile
+     * (the snapshot may predate the rename it was invalidated for; the next read loads again)
+     */
+    private void publish(Snapshot built, long builtAt) {
+        synchronized (publishLock) {
+            if (generation.get() == builtAt) {
+                snapshot = built;
+            }
+        }
+    }
+
+    private Snapshot loadAll() {
+        Snapshot loaded = Snapshot.of(employeeRepository.findAllActiveForDirectory().stream()
+                .map(EmployeeDirectory::toEntry)
+                .toList());
+        log.info("Employee directory loaded: {} active employees", loaded.entries().size());
+        return loaded;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static Entry toEntry(Employee e) {
+        Employee manager = e.getReportingManager();
+        return new Entry(
+                e.getId(),
+                e.getEmpId(),
+                e.getEmail(),
+                e.getFirstName(),
+                e.getMiddleName(),
+                e.getLastName(),
+                e.getFullName(),
+                e.getDepartment().getId(),
+                e.getDepartment().getDepartmentName(),
+                e.getRole().getId(),
+                e.getRole().getRoleName(),
+                manager != null ? manager.getEmpId() : null,
+                manager != null ? manager.getFullName() : null,
+                e.getProfilePhotoUrl(),
+                e.getEmailVerified(),
+                e.getLastPasswordChangeDate(),
+                e.getCreatedAt(),
+                e.getCreatedBy());
+    }
+
+    // ── Snapshot ──
+
+    /**
+     * Immutable view: entries sorted by first name plus a trigram → entry positions index
+     */
+    private record Snapshot(List<Entry> entries, Map<Long, Entry> byId, Map<String, int[]> trigrams) {
+
+        static Snapshot of(Collection<Entry> source) {
+            List<Entry> sorted = source.stream().sorted(BY_FIRST_NAME).toList();
+            Map<Long, Entry> byId = new LinkedHashMap<>();
+            Map<String, List<Integer>> postings = new HashMap<>();
+            for (int i = 0; i < sorted.size(); i++) {
+                Entry entry = sorted.get(i);
+                byId.put(entry.id(), entry);
+                for (String gram : trigramsOf(entry.searchText())) {
+                    postings.computeIfAbsent(gram, g -> new ArrayList<>()).add(i);
+                }
+            }
+            Map<String, int[]> trigrams = new HashMap<>(postings.size() * 2);
+            postings.forEach((gram, ids) -> trigrams.put(gram, ids.stream().mapToInt(Integer::intValue).toArray()));
+            return new Snapshot(sorted, Map.copyOf(byId), trigrams);
+        }
+
+        /**
+         * Entries that can contain the needle: the shortest posting list among its trigrams,
+         * or every entry for needles shorter than a trigram
+         */
+        List<Entry> candidates(String needle) {
+            if (needle.length() < 3) {
+                return entries;
+            }
+            int[] best = null;
+            for (String gram : trigramsOf(needle)) {
+                int[] posting = trigrams.get(gram);
+                if (posting == null) {
+                    return List.of();
+                }
+                if (best == null || posting.length < best.length) {
+                    best = posting;
+                }
+            }
+            List<Entry> result = new ArrayList<>(best.length);
+            for (int position : best) {
+                result.add(entries.get(position));
+            }
+            return result;
+        }
+
+        private static Set<String> trigramsOf(String text) {
+            Set<String> grams = new HashSet<>();
+            for (int i = 0; i + 3 <= text.length(); i++) {
+                grams.add(text.substring(i, i + 3));
+            }
+            return grams;
+        }
+    }
+
+    /**
+     * Compact directory row; enough to render list, search and dropdown responses
+     */
+    public record Entry(
+            Long id,
+            String empId,
+            String email,
+            String firstName,
+            String middleName,
+            String lastName,
+            String fullName,
+            Long departmentId,
+            String departmentName,
+            Long roleId,
+            String roleName,
+            String reportingManagerEmpId,
+            String reportingManagerName,
+            String profilePhotoUrl,
+            Boolean emailVerified,
+            LocalDate lastPasswordChangeDate,
+            LocalDateTime createdAt,
+            String createdBy) {
+
+        public boolean passwordExpired() {
+            return Employee.isPasswordExpired(lastPasswordChangeDate);
+        }
+
+        public long daysUntilPasswordExpiry() {
+            return Employee.daysUntilPasswordExpiry(lastPasswordChangeDate);
+        }
+
+        /**
+         * Lower-cased first name, last name, "first last" and empId, newline separated
+         */
+        String searchText() {
+            StringBuilder text = new StringBuilder(firstName.toLowerCase(Locale.ROOT));
+            if (lastName != null) {
+                String last = lastName.toLowerCase(Locale.ROOT);
+                text.append('\n').append(last)
+                        .append('\n').append(firstName.toLowerCase(Locale.ROOT)).append(' ').append(last);
+            }
+            return text.append('\n').append(empId.toLowerCase(Locale.ROOT)).toString();
+        }
+    }
+}
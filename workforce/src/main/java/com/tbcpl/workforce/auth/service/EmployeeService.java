@@ -6,6 +6,7 @@ import com.tbcpl.workforce.auth.entity.Department;
 import com.tbcpl.workforce.auth.entity.Employee;
 import com.tbcpl.workforce.auth.entity.Role;
 import com.tbcpl.workforce.auth.repository.EmployeeRepository;
+import com.tbcpl.workforce.auth.security.PrincipalCache;
 import com.tbcpl.workforce.common.constants.ValidationMessages;
 import com.tbcpl.workforce.common.enums.RoleType;
 import com.tbcpl.workforce.common.exception.DuplicateResourceException;
@@ -19,9 +20,9 @@ import com.tbcpl.workforce.common.util.PasswordValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -52,6 +53,8 @@ public class EmployeeService {
     private final EmpIdGenerator           empIdGenerator;
     private final S3Service s3Service;
     private final EmailVerificationService emailVerificationService;
+    private final PrincipalCache           principalCache;
+    private final EmployeeDirectory        employeeDirectory;
 
     // ─────────────────────────────────────────────────────────────────────────
     // CREATE
@@ -119,6 +122,7 @@ public class EmployeeService {
                 .build();
 
         Employee saved = employeeRepository.save(employee);
+        employeeDirectory.refresh(saved.getId());
         log.info("Employee created: empId={}, email={}", saved.getEmpId(), saved.getEmail());
 
         emailVerificationService.sendVerificationEmail(saved);
@@ -131,53 +135,25 @@ public class EmployeeService {
     // READ
     // ─────────────────────────────────────────────────────────────────────────
 
-    @Transactional(readOnly = true)
+    /**
+     * Paged active employees ordered by first name, served from the in-memory directory.
+     * The name term matches first name, last name, "first last" or empId (case-insensitive substring).
+     */
     public Page<EmployeeResponse> getAllEmployees(int page, int size,
                                                   String departmentId, String roleId,
-                                                  String name) {   // ← ADD name param
-        Pageable pageable = PageRequest.of(page, size, Sort.by("firstName").ascending());
-
-        // If name search is provided — use name filter + optional dept/role
-        if (name != null && !name.isBlank()) {
-            String searchTerm = "%" + name.trim().toLowerCase() + "%";
-            if (departmentId != null && roleId != null) {
-                return employeeRepository
-                        .findByNameAndDepartmentAndRole(searchTerm,
-                                Long.parseLong(departmentId),
-                                Long.parseLong(roleId), pageable)
-                        .map(this::mapToResponse);
-            } else if (departmentId != null) {
-                return employeeRepository
-                        .findByNameAndDepartment(searchTerm,
-                                Long.parseLong(departmentId), pageable)
-                        .map(this::mapToResponse);
-            } else if (roleId != null) {
-                return employeeRepository
-                        .findByNameAndRole(searchTerm,
-                                Long.parseLong(roleId), pageable)
-                        .map(this::mapToResponse);
-            }
-            return employeeRepository
-                    .findByName(searchTerm, pageable)
-                    .map(this::mapToResponse);
-        }
-
-        // No name search — existing logic unchanged
-        if (departmentId != null && roleId != null) {
-            return employeeRepository
-                    .findByDepartmentIdAndRoleId(Long.parseLong(departmentId),
-                            Long.parseLong(roleId), pageable)
-                    .map(this::mapToResponse);
-        } else if (departmentId != null) {
-            return employeeRepository
-                    .findByDepartmentId(Long.parseLong(departmentId), pageable)
-                    .map(this::mapToResponse);
-        } else if (roleId != null) {
-            return employeeRepository
-                    .findByRoleId(Long.parseLong(roleId), pageable)
-                    .map(this::mapToResponse);
-        }
-        return employeeRepository.findByIsActiveTrue(pageable).map(this::mapToResponse);
+                                                  String name) {
+        Pageable pageable = PageRequest.of(page, size);
+        List<EmployeeDirectory.Entry> matches = employeeDirectory.search(
+                name,
+                departmentId != null ? Long.parseLong(departmentId) : null,
+                roleId != null ? Long.parseLong(roleId) : null);
+
+        int from = (int) Math.min(pageable.getOffset(), matches.size());
+        int to = Math.min(from + pageable.getPageSize(), matches.size());
+        List<EmployeeResponse> content = matches.subList(from, to).stream()
+                .map(this::mapToResponse)
+                .toList();
+        return new PageImpl<>(content, pageable, matches.size());
     }
 
 
@@ -210,14 +186,13 @@ public class EmployeeService {
                         "Employee not found with empId: " + empId));
     }
 
-    @Transactional(readOnly = true)
     public List<EmployeeResponse> getReportingManagerCandidates() {
         log.info("Fetching reporting manager candidates");
         List<String> managerRoleNames = RoleType.getManagerRoles()
                 .stream()
                 .map(RoleType::getDbValue)
                 .toList();
-        return employeeRepository.findActiveEmployeesByRoleNames(managerRoleNames)
+        return employeeDirectory.byRoleNames(managerRoleNames)
                 .stream()
                 .map(this::mapToResponse)
                 .toList();
@@ -227,19 +202,14 @@ public class EmployeeService {
     // UPDATE
     // ─────────────────────────────────────────────────────────────────────────
 
-    @Transactional
-    public void updateLastLoginDate(Long employeeId) {
-        Employee employee = findById(employeeId);
-        employee.setLastLoginDate(java.time.LocalDateTime.now());
-        employeeRepository.save(employee);
-    }
-
     @Transactional
     public void updateEmployeePassword(Long employeeId, String encodedPassword) {
         Employee employee = findById(employeeId);
         employee.setPassword(encodedPassword);
         employee.setLastPasswordChangeDate(LocalDate.now());
         employeeRepository.save(employee);
+        principalCache.evict(employee.getEmpId());
+        employeeDirectory.refresh(employeeId);
         log.info("Password updated for employee ID: {}", employeeId);
     }
 
@@ -297,6 +267,8 @@ public class EmployeeService {
         }
 
         Employee saved = employeeRepository.save(employee);
+        principalCache.evict(saved.getEmpId());
+        employeeDirectory.refresh(id);
         log.info("Employee ID: {} updated successfully by: {}", id, updatedBy);
         return mapToResponse(saved);
     }
@@ -307,6 +279,7 @@ public class EmployeeService {
         Employee employee = findById(employeeId);
         employee.setEmailVerified(true);
         employeeRepository.save(employee);
+        employeeDirectory.refresh(employeeId);
         log.info("Email marked as verified for employee ID: {}", employeeId);
     }
 
@@ -330,6 +303,7 @@ public class EmployeeService {
         employee.setProfilePhotoPublicId(result.get("key"));
 
         Employee saved = employeeRepository.save(employee);
+        employeeDirectory.refresh(employeeId);
         log.info("Profile photo uploaded for employee: {}", employee.getEmpId());
         return mapToResponse(saved);
     }
@@ -347,6 +321,8 @@ public class EmployeeService {
         Employee employee = findById(id);
         employee.setIsActive(false);
         employeeRepository.save(employee);
+        principalCache.evict(employee.getEmpId());
+        employeeDirectory.refresh(id);
     }
 
     // ─────────────────────────────────────────────────────────────────────────
@@ -443,4 +419,29 @@ public class EmployeeService {
 
         return builder.build();
     }
+
+    public EmployeeResponse mapToResponse(EmployeeDirectory.Entry entry) {
+        return EmployeeResponse.builder()
+                .id(entry.id())
+                .empId(entry.empId())
+                .email(entry.email())
+                .firstName(entry.firstName())
+                .lastName(entry.lastName())
+                .middleName(entry.middleName())
+                .fullName(entry.fullName())
+                .departmentId(entry.departmentId())
+                .departmentName(entry.departmentName())
+                .roleId(entry.roleId())
+                .roleName(entry.roleName())
+                .reportingManagerEmpId(entry.reportingManagerEmpId())
+                .reportingManagerName(entry.reportingManagerName())
+                .profilePhotoUrl(entry.profilePhotoUrl())
+                .emailVerified(entry.emailVerified())
+                .passwordExpired(entry.passwordExpired())
+                .daysUntilPasswordExpiry(entry.daysUntilPasswordExpiry())
+                .isActive(true)
+                .createdAt(entry.createdAt())
+                .createdBy(entry.createdBy())
+                .build();
+    }
 }
@@ -19,6 +19,7 @@ import java.util.Optional;
 /**
  * Service class for Employee Session management
  * Enforces single device login per employee
+ * Per-request checks are answered by {@link SessionRegistry}; DB is written on state changes only
  */
 @Service
 @RequiredArgsConstructor
@@ -26,10 +27,12 @@ import java.util.Optional;
 public class EmployeeSessionService {
 
     private final EmployeeSessionRepository sessionRepository;
+    private final SessionRegistry sessionRegistry;
 
     /**
      * Check if employee has active session
-     * Used during login to enforce single device policy
+     * Used during login to enforce single device policy; answered by the DB so sessions
+     * created on other instances are seen
      */
     @Transactional(readOnly = true)
     public boolean hasActiveSession(Long employeeId) {
@@ -71,6 +74,7 @@ public class EmployeeSessionService {
                 .build();
 
         EmployeeSession savedSession = sessionRepository.save(session);
+        sessionRegistry.register(savedSession);
         log.info("Session created successfully for employee: {}", employee.getEmpId());
 
         return savedSession;
@@ -78,14 +82,10 @@ public class EmployeeSessionService {
 
     /**
      * Update session activity time
+     * Recorded in memory; written back in batches by SessionRegistry
      */
-    @Transactional
     public void updateSessionActivity(String token) {
-        sessionRepository.findActiveSessionByToken(token)
-                .ifPresent(session -> {
-                    session.setLastActivityTime(LocalDateTime.now());
-                    sessionRepository.save(session);
-                });
+        sessionRegistry.touch(token);
     }
 
     /**
@@ -94,6 +94,7 @@ public class EmployeeSessionService {
     @Transactional
     public void logout(String token) {
         log.info("Logging out session");
+        sessionRegistry.remove(token);
         sessionRepository.findActiveSessionByToken(token)
                 .ifPresent(session -> {
                     session.markAsLoggedOut();
@@ -108,6 +109,7 @@ public class EmployeeSessionService {
     @Transactional
     public void logoutByEmployeeId(Long employeeId) {
         log.info("Logging out all sessions for employee ID: {}", employeeId);
+        sessionRegistry.removeByEmployeeId(employeeId);
         int count = sessionRepository.deactivateAllSessionsByEmployeeId(
                 employeeId,
                 SessionStatus.LOGGED_OUT,
@@ -122,6 +124,7 @@ public class EmployeeSessionService {
     @Transactional
     public void forceLogout(Long employeeId) {
         log.info("Force logging out sessions for employee ID: {}", employeeId);
+        sessionRegistry.removeByEmployeeId(employeeId);
         sessionRepository.findActiveSessionByEmployeeId(employeeId)
                 .ifPresent(session -> {
                     session.markAsForceLogout();
@@ -132,38 +135,46 @@ public class EmployeeSessionService {
 
     /**
      * Validate if session is active and not expired
+     * Answered from the in-memory registry; DB is only hit for sessions unknown to this instance.
+     * Sessions ended on other instances are dropped by {@link SessionRegistry#revalidate()}.
      */
-    @Transactional(readOnly = true)
     public boolean isSessionValid(String token) {
-        Optional<EmployeeSession> sessionOpt = sessionRepository.findActiveSessionByToken(token);
-
-        if (sessionOpt.isEmpty()) {
-            return false;
+        Optional<SessionRegistry.ActiveSession> activeOpt = sessionRegistry.findByToken(token);
+
+        if (activeOpt.isEmpty()) {
+            Optional<EmployeeSession> sessionOpt = sessionRepository.findActiveSessionByToken(token);
+            if (sessionOpt.isEmpty()) {
+                return false;
+            }
+            activeOpt = Optional.of(sessionRegistry.register(sessionOpt.get()));
         }
 
-        EmployeeSession session = sessionOpt.get();
+        SessionRegistry.ActiveSession active = activeOpt.get();
 
         // Check if session is expired (8 hours timeout)
-        if (session.isExpired()) {
+        if (active.isExpired()) {
             log.warn("Session expired for token");
             // ✅ Mark as expired immediately
-            session.markAsExpired();
-            sessionRepository.save(session);
+            expireSession(token, active);
             return false;
         }
 
         // ✅ Check if date has changed (auto-logout feature)
-        if (session.isDateChanged()) {
+        if (active.isDateChanged()) {
             log.warn("Session date changed for token");
             // ✅ Mark as expired immediately
-            session.markAsExpired();
-            sessionRepository.save(session);
+            expireSession(token, active);
             return false;
         }
 
         return true;
     }
 
+    private void expireSession(String token, SessionRegistry.ActiveSession active) {
+        sessionRegistry.remove(token);
+        sessionRepository.deactivateSession(active.getSessionId(), SessionStatus.EXPIRED, LocalDateTime.now());
+    }
+
     /**
      * Get session by token
      */
@@ -181,11 +192,15 @@ public class EmployeeSessionService {
     public void cleanupExpiredSessions() {
         log.info("Starting cleanup of expired sessions");
 
+        // Persist pending activity first so live sessions are not expired on stale timestamps
+        sessionRegistry.flushActivity();
+
         // Find sessions expired by timeout (8 hours)
         LocalDateTime expiryTime = LocalDateTime.now().minusHours(SecurityConstants.SESSION_TIMEOUT_HOURS);
         List<EmployeeSession> expiredSessions = sessionRepository.findExpiredSessions(expiryTime);
 
         expiredSessions.forEach(session -> {
+            sessionRegistry.remove(session.getSessionToken());
             session.markAsExpired();
             sessionRepository.save(session);
         });
@@ -196,6 +211,7 @@ public class EmployeeSessionService {
         List<EmployeeSession> dateChangedSessions = sessionRepository.findSessionsWithChangedDate();
 
         dateChangedSessions.forEach(session -> {
+            sessionRegistry.remove(session.getSessionToken());
             session.markAsExpired();
             sessionRepository.save(session);
         });
@@ -221,6 +237,9 @@ public class EmployeeSessionService {
 
     @Transactional
     public EmployeeSession saveSession(EmployeeSession session) {
+        if (!Boolean.TRUE.equals(session.getIsActive())) {
+            sessionRegistry.remove(session.getSessionToken());
+        }
         return sessionRepository.save(session);
     }
 
@@ -1,6 +1,7 @@
 package com.tbcpl.workforce.auth.service;
 
 import com.tbcpl.workforce.auth.dto.response.LoginAttemptResponse;
+import com.tbcpl.workforce.auth.dto.response.LoginAuditQueueStatsResponse;
 import com.tbcpl.workforce.auth.entity.Employee;
 import com.tbcpl.workforce.auth.entity.LoginAttemptLog;
 import com.tbcpl.workforce.auth.repository.LoginAttemptLogRepository;
@@ -19,6 +20,7 @@ import java.util.List;
 /**
  * Service class for Login Attempt logging and monitoring
  * HR can view login attempts for security monitoring
+ * Attempts are written asynchronously by LoginAuditQueue, outside the login transaction
  */
 @Service
 @RequiredArgsConstructor
@@ -26,64 +28,41 @@ import java.util.List;
 public class LoginAttemptService {
 
     private final LoginAttemptLogRepository loginAttemptRepository;
+    private final LoginAuditQueue loginAuditQueue;
 
     /**
-     * Log successful login attempt
+     * Log successful login attempt (also records last login date)
      */
-    @Transactional
     public void logSuccessfulLogin(Employee employee, String deviceId, String ipAddress, String userAgent) {
         log.info("Logging successful login for employee: {}", employee.getEmpId());
-
-        LoginAttemptLog attemptLog = LoginAttemptLog.builder()
-                .employee(employee)
-                .email(employee.getEmail())
-                .deviceIdentifier(deviceId)
-                .ipAddress(ipAddress)
-                .userAgent(userAgent)
-                .status(LoginAttemptStatus.SUCCESS)
-                .build();
-
-        loginAttemptRepository.save(attemptLog);
+        loginAuditQueue.submit(LoginAuditQueue.Event.of(employee.getId(), employee.getEmail(),
+                deviceId, ipAddress, userAgent, LoginAttemptStatus.SUCCESS, null));
     }
 
     /**
      * Log blocked login attempt (multi-device)
      */
-    @Transactional
     public void logBlockedLogin(Employee employee, String deviceId, String ipAddress, String userAgent, String reason) {
         log.warn("Logging blocked login attempt for employee: {}", employee.getEmpId());
-
-        LoginAttemptLog attemptLog = LoginAttemptLog.builder()
-                .employee(employee)
-                .email(employee.getEmail())
-                .deviceIdentifier(deviceId)
-                .ipAddress(ipAddress)
-                .userAgent(userAgent)
-                .status(LoginAttemptStatus.BLOCKED)
-                .failureReason(reason)
-                .build();
-
-        loginAttemptRepository.save(attemptLog);
+        loginAuditQueue.submit(LoginAuditQueue.Event.of(employee.getId(), employee.getEmail(),
+                deviceId, ipAddress, userAgent, LoginAttemptStatus.BLOCKED, reason));
     }
 
     /**
      * Log failed login attempt (invalid credentials)
      */
-    @Transactional
     public void logFailedLogin(String email, String deviceId, String ipAddress, String userAgent, String reason) {
         log.warn("Logging failed login attempt for email: {}", email);
+        // Employee might not exist
+        loginAuditQueue.submit(LoginAuditQueue.Event.of(null, email,
+                deviceId, ipAddress, userAgent, LoginAttemptStatus.FAILED, reason));
+    }
 
-        LoginAttemptLog attemptLog = LoginAttemptLog.builder()
-                .employee(null) // Employee might not exist
-                .email(email)
-                .deviceIdentifier(deviceId)
-                .ipAddress(ipAddress)
-                .userAgent(userAgent)
-                .status(LoginAttemptStatus.FAILED)
-                .failureReason(reason)
-                .build();
-
-        loginAttemptRepository.save(attemptLog);
+    /**
+     * Queue depth and write counters of the audit writer
+     */
+    public LoginAuditQueueStatsResponse getAuditQueueStats() {
+        return loginAuditQueue.stats();
     }
 
     /**
@@ -138,15 +117,6 @@ public class LoginAttemptService {
         return loginAttemptRepository.findRecentBlockedAttemptsByEmployee(employeeId, since);
     }
 
-    /**
-     * Count failed attempts by email in last X minutes (for rate limiting)
-     */
-    @Transactional(readOnly = true)
-    public long countRecentFailedAttempts(String email, int minutes) {
-        LocalDateTime since = LocalDateTime.now().minusMinutes(minutes);
-        return loginAttemptRepository.countFailedAttemptsByEmailSince(email, since);
-    }
-
     /**
      * Scheduled task to clean up old login attempt logs
      * Runs daily at 3 AM
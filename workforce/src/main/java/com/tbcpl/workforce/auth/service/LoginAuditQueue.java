@@ -0,0 +1,225 @@
+package com.tbcpl.workforce.auth.service;
+
+import com.tbcpl.workforce.auth.dto.response.LoginAuditQueueStatsResponse;
+import com.tbcpl.workforce.common.constants.SecurityConstants;
+import com.tbcpl.workforce.common.enums.LoginAttemptStatus;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded in-memory queue of login audit events, drained by one background writer that stores
+ * login_attempt_logs rows with multi-row INSERTs and last_login_date with one batched UPDATE.
+ * When the queue stays full the caller writes its own event (backpressure instead of loss);
+ * events still queued at shutdown are flushed before the datasource closes.
+ */
+@Component
+@Slf4j
+public class LoginAuditQueue {
+
+    private static final String INSERT_PREFIX = "INSERT INTO login_attempt_logs " +
+            "(employee_id, email, attempt_time, device_identifier, ip_address, status, failure_reason, user_agent) VALUES ";
+    private static final String INSERT_ROW = "(?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE_LAST_LOGIN = "UPDATE employees SET last_login_date = ? WHERE id = ?";
+
+    private final JdbcTemplate        jdbcTemplate;
+    private final TransactionTemplate requiresNew;
+
+    private final BlockingQueue<Event> queue = new ArrayBlockingQueue<>(SecurityConstants.LOGIN_AUDIT_QUEUE_CAPACITY);
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("login-audit-writer").daemon(true).factory());
+    private volatile boolean running = true;
+
+    private final AtomicLong enqueued        = new AtomicLong();
+    private final AtomicLong written         = new AtomicLong();
+    private final AtomicLong writtenByCaller = new AtomicLong();
+    private final AtomicLong failed          = new AtomicLong();
+    private final AtomicLong batches         = new AtomicLong();
+
+    public LoginAuditQueue(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @PostConstruct
+    public void start() {
+        writer.execute(this::drainLoop);
+    }
+
+    /**
+     * Queue one event. Waits briefly for space; if the queue is still full (or shutting down)
+     * the event is written on the calling thread in its own transaction.
+     */
+    public void submit(Event event) {
+        if (running) {
+            try {
+                if (queue.offer(event, SecurityConstants.LOGIN_AUDIT_OFFER_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                    enqueued.incrementAndGet();
+                    return;
+                }
+                log.warn("Login audit queue full ({} events), writing on caller thread", queue.size());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        writtenByCaller.addAndGet(write(List.of(event)));
+    }
+
+    public LoginAuditQueueStatsResponse stats() {
+        return LoginAuditQueueStatsResponse.builder()
+                .queueDepth(queue.size())
+                .queueCapacity(SecurityConstants.LOGIN_AUDIT_QUEUE_CAPACITY)
+                .enqueued(enqueued.get())
+                .written(written.get())
+                .writtenByCaller(writtenByCaller.get())
+                .failed(failed.get())
+                .batches(batches.get())
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(SecurityConstants.LOGIN_AUDIT_SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                log.warn("Login audit writer did not finish in time, {} events not written", queue.size());
+                writer.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            writer.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ── Writer ──
+
+    private void drainLoop() {
+        List<Event> batch = new ArrayList<>(SecurityConstants.LOGIN_AUDIT_BATCH_SIZE);
+        while (running || !queue.isEmpty()) {
+            try {
+                Event first = queue.poll(SecurityConstants.LOGIN_AUDIT_POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, SecurityConstants.LOGIN_AUDIT_BATCH_SIZE - 1);
+                written.addAndGet(write(batch));
+            } catch (InterruptedException e) {
+                if (!running) {
+                    queue.drainTo(batch);
+                    written.addAndGet(write(batch));
+                    return;
+                }
+            } finally {
+                batch.clear();
+            }
+        }
+        log.info("Login audit writer stopped");
+    }
+
+    /**
+     * Insert the batch as one multi-row statement; if that fails, retry row by row so a single
+     * bad row does not lose the rest. Returns the number of events stored.
+     */
+    private int write(List<Event> events) {
+        if (events.isEmpty()) {
+            return 0;
+        }
+        try {
+            requiresNew.executeWithoutResult(status -> writeBatch(events));
+            batches.incrementAndGet();
+            return events.size();
+        } catch (RuntimeException batchError) {
+            log.warn("Login audit batch of {} failed, retrying row by row: {}", events.size(), batchError.getMessage());
+            int stored = 0;
+            for (Event event : events) {
+                try {
+                    requiresNew.executeWithoutResult(status -> writeBatch(List.of(event)));
+                    stored++;
+                } catch (RuntimeException rowError) {
+                    failed.incrementAndGet();
+                    log.error("Login audit row dropped for email={} status={}: {}",
+                            event.email(), event.status(), rowError.getMessage());
+                }
+            }
+            return stored;
+        }
+    }
+
+    private void writeBatch(List<Event> events) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+        Object[] args = new Object[events.size() * 8];
+        List<Object[]> lastLogins = new ArrayList<>();
+
+        int i = 0;
+        for (Event e : events) {
+            sql.append(i == 0 ? "" : ", ").append(INSERT_ROW);
+            Timestamp at = Timestamp.valueOf(e.attemptTime());
+            args[i++] = e.employeeId();
+            args[i++] = e.email();
+            args[i++] = at;
+            args[i++] = e.deviceId();
+            args[i++] = e.ipAddress();
+            args[i++] = e.status().name();
+            args[i++] = e.failureReason();
+            args[i++] = e.userAgent();
+            if (e.status() == LoginAttemptStatus.SUCCESS && e.employeeId() != null) {
+                lastLogins.add(new Object[]{at, e.employeeId()});
+            }
+        }
+
+        jdbcTemplate.update(sql.toString(), args);
+        if (!lastLogins.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_LAST_LOGIN, lastLogins);
+        }
+    }
+
+    /**
+     * One login attempt. String fields are cut to their column lengths so over-long client input
+     * (e.g. a pasted user agent) cannot fail the batch.
+     */
+    public record Event(
+            Long employeeId,
+            String email,
+            String deviceId,
+            String ipAddress,
+            String userAgent,
+            LoginAttemptStatus status,
+            String failureReason,
+            LocalDateTime attemptTime) {
+
+        public static Event of(Long employeeId, String email, String deviceId, String ipAddress,
+                               String userAgent, LoginAttemptStatus status, String failureReason) {
+            return new Event(employeeId,
+                    truncate(email, 100),
+                    truncate(deviceId, 255),
+                    truncate(ipAddress, 45),
+                    truncate(userAgent, 500),
+                    status,
+                    truncate(failureReason, 255),
+                    LocalDateTime.now());
+        }
+
+        private static String truncate(String value, int max) {
+            return value != null && value.length() > max ? value.substring(0, max) : value;
+        }
+    }
+}
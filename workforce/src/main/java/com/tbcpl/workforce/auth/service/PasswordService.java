@@ -27,6 +27,7 @@ public class PasswordService {
     private final PasswordEncoder              passwordEncoder;
     private final PasswordValidator            passwordValidator;
     private final PasswordResetEmailService    passwordResetEmailService;
+    private final EmployeeDirectory            employeeDirectory;
 
     private static final int RESET_TOKEN_EXPIRY_HOURS = 1;
 
@@ -53,6 +54,7 @@ public class PasswordService {
         employee.setPassword(passwordEncoder.encode(newPassword));
         employee.setLastPasswordChangeDate(LocalDate.now());
         employeeRepository.save(employee);
+        employeeDirectory.refresh(employee.getId());
         log.info("Password changed via current-password flow for empId: {}", empId);
     }
 
@@ -110,6 +112,7 @@ public class PasswordService {
         employee.setPassword(passwordEncoder.encode(newPassword));
         employee.setLastPasswordChangeDate(LocalDate.now());
         employeeRepository.save(employee);
+        employeeDirectory.refresh(employee.getId());
 
         resetToken.setUsed(true);
         resetTokenRepository.save(resetToken);
@@ -136,6 +139,7 @@ public class PasswordService {
         target.setPassword(passwordEncoder.encode(newPassword));
         target.setLastPasswordChangeDate(LocalDate.now());
         employeeRepository.save(target);
+        employeeDirectory.refresh(target.getId());
         log.info("Admin [{}] reset password for employee [{}]",
                 adminEmpId, target.getEmpId());
     }
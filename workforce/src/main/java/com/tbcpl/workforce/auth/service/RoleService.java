@@ -4,6 +4,7 @@ import com.tbcpl.workforce.auth.dto.request.RoleRequest;
 import com.tbcpl.workforce.auth.dto.response.RoleResponse;
 import com.tbcpl.workforce.auth.entity.Role;
 import com.tbcpl.workforce.auth.repository.RoleRepository;
+import com.tbcpl.workforce.auth.security.PrincipalCache;
 import com.tbcpl.workforce.common.enums.RoleType;
 import com.tbcpl.workforce.common.exception.DuplicateResourceException;
 import com.tbcpl.workforce.common.exception.ResourceNotFoundException;
@@ -32,6 +33,8 @@ public class RoleService {
 
     private final RoleRepository roleRepository;
     private final EmployeeNameResolverService nameResolver;
+    private final PrincipalCache principalCache;
+    private final EmployeeDirectory employeeDirectory;
 
     private RoleResponse mapToResponse(Role role) {
         if (role.getCreatedBy() == null || role.getCreatedBy().isBlank()) {
@@ -151,6 +154,8 @@ public class RoleService {
         role.setCreatedBy(updatedBy); // Using createdBy field for last updated by
 
         Role updatedRole = roleRepository.save(role);
+        principalCache.evictByRoleId(id);
+        employeeDirectory.invalidateAll();
         log.info("Role updated successfully: {}", updatedRole.getId());
 
         return mapToResponse(updatedRole);
@@ -184,6 +189,7 @@ public class RoleService {
         // Soft delete
         role.setIsActive(false);
         roleRepository.save(role);
+        principalCache.evictByRoleId(id);
         log.info("Role soft deleted successfully: {}", id);
     }
 
@@ -0,0 +1,235 @@
+package com.tbcpl.workforce.auth.service;
+
+import com.tbcpl.workforce.auth.entity.EmployeeSession;
+import com.tbcpl.workforce.auth.repository.EmployeeSessionRepository;
+import com.tbcpl.workforce.common.constants.SecurityConstants;
+import com.tbcpl.workforce.common.util.HashUtils;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory registry of active employee sessions
+ * Answers per-request validity checks from memory; employee_sessions stays the source of truth.
+ * Misses fall back to the DB, and held sessions are re-checked against it every
+ * SESSION_REVALIDATE_MS so logouts on other instances take effect here too.
+ * lastActivityTime updates are coalesced and written back to employee_sessions in batches.
+ * Rebuilt from EmployeeSessionRepository on startup.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SessionRegistry {
+
+    private final EmployeeSessionRepository sessionRepository;
+
+    // token hash -> active session
+    private final Map<String, ActiveSession> sessionsByToken = new ConcurrentHashMap<>();
+
+    // employee id -> token hash of their single active session
+    private final Map<Long, String> tokenByEmployee = new ConcurrentHashMap<>();
+
+    /**
+     * Snapshot of an active session held in memory
+     */
+    @Getter
+    public static final class ActiveSession {
+        private final Long sessionId;
+        private final Long employeeId;
+        private final String tokenHash;
+        private final LocalDateTime loginTime;
+        private volatile LocalDateTime lastActivityTime;
+        private volatile boolean dirty;
+
+        private ActiveSession(Long sessionId, Long employeeId, String tokenHash,
+                              LocalDateTime loginTime, LocalDateTime lastActivityTime) {
+            this.sessionId = sessionId;
+            this.employeeId = employeeId;
+            this.tokenHash = tokenHash;
+            this.loginTime = loginTime;
+            this.lastActivityTime = lastActivityTime != null ? lastActivityTime : loginTime;
+        }
+
+        /**
+         * Check if session is expired (based on last activity)
+         */
+        public boolean isExpired() {
+            return LocalDateTime.now().isAfter(lastActivityTime.plusHours(SecurityConstants.SESSION_TIMEOUT_HOURS));
+        }
+
+        /**
+         * Check if session date has changed (auto-logout feature)
+         */
+        public boolean isDateChanged() {
+            return !loginTime.toLocalDate().equals(LocalDateTime.now().toLocalDate());
+        }
+    }
+
+    /**
+     * Rebuild registry from active sessions in DB
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        sessionsByToken.clear();
+        tokenByEmployee.clear();
+        List<EmployeeSession> activeSessions = sessionRepository.findAllActiveSessions();
+        activeSessions.forEach(this::register);
+        log.info("Session registry rebuilt with {} active session(s)", activeSessions.size());
+    }
+
+    /**
+     * Register a newly created (or newly discovered) active session
+     */
+    public ActiveSession register(EmployeeSession session) {
+        String tokenHash = HashUtils.sha256Hex(session.getSessionToken());
+        Long employeeId = session.getEmployee().getId();
+        ActiveSession active = new ActiveSession(
+                session.getId(),
+                employeeId,
+                tokenHash,
+                session.getLoginTime() != null ? session.getLoginTime() : LocalDateTime.now(),
+                session.getLastActivityTime()
+        );
+
+        String previous = tokenByEmployee.put(employeeId, tokenHash);
+        if (previous != null && !previous.equals(tokenHash)) {
+            sessionsByToken.remove(previous);
+        }
+        sessionsByToken.put(tokenHash, active);
+        return active;
+    }
+
+    /**
+     * Find active session by raw token
+     */
+    public Optional<ActiveSession> findByToken(String token) {
+        return Optional.ofNullable(sessionsByToken.get(HashUtils.sha256Hex(token)));
+    }
+
+    /**
+     * Record activity for a session; persisted on the next flush
+     */
+    public void touch(String token) {
+        ActiveSession active = sessionsByToken.get(HashUtils.sha256Hex(token));
+        if (active != null) {
+            active.lastActivityTime = LocalDateTime.now();
+            active.dirty = true;
+        }
+    }
+
+    /**
+     * Remove session by raw token
+     */
+    public Optional<ActiveSession> remove(String token) {
+        return removeByHash(HashUtils.sha256Hex(token));
+    }
+
+    /**
+     * Remove the active session of an employee
+     */
+    public Optional<ActiveSession> removeByEmployeeId(Long employeeId) {
+        String tokenHash = tokenByEmployee.get(employeeId);
+        return tokenHash == null ? Optional.empty() : removeByHash(tokenHash);
+    }
+
+    public int size() {
+        return sessionsByToken.size();
+    }
+
+    /**
+     * Write coalesced lastActivityTime updates back to DB
+     * One UPDATE per distinct minute instead of one per request
+     */
+    @Scheduled(fixedDelay = SecurityConstants.SESSION_ACTIVITY_FLUSH_MS)
+    public void flushActivity() {
+        Map<LocalDateTime, List<Long>> idsByMinute = new HashMap<>();
+        for (ActiveSession active : sessionsByToken.values()) {
+            if (!active.dirty) {
+                continue;
+            }
+            active.dirty = false;
+            idsByMinute
+                    .computeIfAbsent(active.lastActivityTime.truncatedTo(ChronoUnit.MINUTES), t -> new ArrayList<>())
+                    .add(active.sessionId);
+        }
+
+        if (idsByMinute.isEmpty()) {
+            return;
+        }
+
+        int updated = 0;
+        for (Map.Entry<LocalDateTime, List<Long>> entry : idsByMinute.entrySet()) {
+            updated += sessionRepository.updateLastActivityTime(entry.getValue(), entry.getKey());
+        }
+        log.debug("Flushed activity for {} session(s) in {} batch(es)", updated, idsByMinute.size());
+    }
+
+    /**
+     * Drop sessions that were deactivated in the DB by another instance
+     * (logout, force logout, expiry cleanup). One query per chunk of held session ids.
+     */
+    @Scheduled(fixedDelay = SecurityConstants.SESSION_REVALIDATE_MS)
+    public void revalidate() {
+        List<ActiveSession> held = new ArrayList<>(sessionsByToken.values());
+        if (held.isEmpty()) {
+            return;
+        }
+
+        Set<Long> stillActive = new HashSet<>();
+        for (int from = 0; from < held.size(); from += SecurityConstants.SESSION_REVALIDATE_CHUNK_SIZE) {
+            List<Long> ids = held.subList(from, Math.min(from + SecurityConstants.SESSION_REVALIDATE_CHUNK_SIZE, held.size()))
+                    .stream()
+                    .map(ActiveSession::getSessionId)
+                    .toList();
+            stillActive.addAll(sessionRepository.findActiveSessionIds(ids));
+        }
+
+        int dropped = 0;
+        for (ActiveSession active : held) {
+            // Only drop the exact snapshot we checked; a re-registered session is left alone
+            if (!stillActive.contains(active.sessionId) && sessionsByToken.remove(active.tokenHash, active)) {
+                tokenByEmployee.remove(active.employeeId, active.tokenHash);
+                dropped++;
+            }
+        }
+        if (dropped > 0) {
+            log.info("Dropped {} session(s) ended on another instance", dropped);
+        }
+    }
+
+    /**
+     * Persist pending activity before shutdown
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        try {
+            flushActivity();
+        } catch (Exception e) {
+            log.warn("Failed to flush session activity on shutdown: {}", e.getMessage());
+        }
+    }
+
+    private Optional<ActiveSession> removeByHash(String tokenHash) {
+        ActiveSession removed = sessionsByToken.remove(tokenHash);
+        if (removed != null) {
+            tokenByEmployee.remove(removed.employeeId, tokenHash);
+        }
+        return Optional.ofNullable(removed);
+    }
+}
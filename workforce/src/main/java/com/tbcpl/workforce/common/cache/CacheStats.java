@@ -0,0 +1,21 @@
+package com.tbcpl.workforce.common.cache;
+
+/**
+ * Point-in-time counters for an in-memory cache
+ * size is the number of entries; weight is what capacity bounds (entries, or bytes for weighed caches)
+ */
+public record CacheStats(
+        String name,
+        long size,
+        long weight,
+        long capacity,
+        long hits,
+        long misses,
+        long evictions
+) {
+
+    public double hitRatio() {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+}
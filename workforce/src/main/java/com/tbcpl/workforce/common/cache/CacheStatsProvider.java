@@ -0,0 +1,9 @@
+package com.tbcpl.workforce.common.cache;
+
+/**
+ * Implemented by cache components whose counters are exposed on the admin cache-stats endpoint
+ */
+public interface CacheStatsProvider {
+
+    CacheStats stats();
+}
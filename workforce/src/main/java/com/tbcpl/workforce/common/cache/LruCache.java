@@ -0,0 +1,184 @@
+package com.tbcpl.workforce.common.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Small thread-safe LRU cache with hit/miss/eviction counters.
+ * Bounded either by entry count or by total weight (e.g. bytes) through a weigher.
+ * Entries can optionally expire a fixed time after they were written.
+ */
+public class LruCache<K, V> implements CacheStatsProvider {
+
+    private final String name;
+    private final long capacity;
+    private final ToLongFunction<V> weigher;
+    private final long ttlNanos;
+    private final LinkedHashMap<K, Entry<V>> map = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long weight;
+    // Bumped by every remove/removeIf/clear; lets get(key, loader) detect an invalidation during its load
+    private long invalidations;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    private record Entry<V>(V value, long writtenAt) {}
+
+    /**
+     * Cache bounded by number of entries
+     */
+    public LruCache(String name, int maxEntries) {
+        this(name, maxEntries, value -> 1L);
+    }
+
+    /**
+     * Cache bounded by number of entries whose entries expire after the given time
+     */
+    public LruCache(String name, int maxEntries, Duration ttl) {
+        this(name, maxEntries, value -> 1L, ttl);
+    }
+
+    /**
+     * Cache bounded by total weight of values
+     */
+    public LruCache(String name, long maxWeight, ToLongFunction<V> weigher) {
+        this(name, maxWeight, weigher, null);
+    }
+
+    /**
+     * Cache bounded by total weight of values; null ttl means entries never expire
+     */
+    public LruCache(String name, long maxWeight, ToLongFunction<V> weigher, Duration ttl) {
+        this.name = name;
+        this.capacity = maxWeight;
+        this.weigher = weigher;
+        this.ttlNanos = ttl != null ? ttl.toNanos() : 0L;
+    }
+
+    public synchronized V get(K key) {
+        Entry<V> entry = map.get(key);
+        if (entry != null && isExpired(entry)) {
+            map.remove(key);
+            weight -= weigher.applyAsLong(entry.value());
+            evictions.incrementAndGet();
+            entry = null;
+        }
+        if (entry == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return entry.value();
+    }
+
+    /**
+     * Get cached value or load and cache it. The loader runs outside the lock; null results are not cached.
+     * If any entry is invalidated while the loader runs, the loaded value is returned but not cached,
+     * since it may have been read before that invalidation.
+     */
+    public V get(K key, Function<K, V> loader) {
+        long invalidationsBefore;
+        synchronized (this) {
+            V value = get(key);
+            if (value != null) {
+                return value;
+            }
+            invalidationsBefore = invalidations;
+        }
+        V value = loader.apply(key);
+        if (value != null) {
+            synchronized (this) {
+                if (invalidations == invalidationsBefore) {
+                    put(key, value);
+                }
+            }
+        }
+        return value;
+    }
+
+    public synchronized void put(K key, V value) {
+        long valueWeight = weigher.applyAsLong(value);
+        if (valueWeight > capacity) {
+            return;
+        }
+        Entry<V> previous = map.put(key, new Entry<>(value, System.nanoTime()));
+        if (previous != null) {
+            weight -= weigher.applyAsLong(previous.value());
+        }
+        weight += valueWeight;
+        trim();
+    }
+
+    public synchronized V remove(K key) {
+        invalidations++;
+        Entry<V> removed = map.remove(key);
+        if (removed == null) {
+            return null;
+        }
+        weight -= weigher.applyAsLong(removed.value());
+        return removed.value();
+    }
+
+    /**
+     * Remove all entries matching the predicate
+     */
+    public synchronized int removeIf(BiPredicate<K, V> predicate) {
+        invalidations++;
+        int removed = 0;
+        Iterator<Map.Entry<K, Entry<V>>> it = map.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<K, Entry<V>> entry = it.next();
+            if (predicate.test(entry.getKey(), entry.getValue().value())) {
+                weight -= weigher.applyAsLong(entry.getValue().value());
+                it.remove();
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    public synchronized void clear() {
+        invalidations++;
+        map.clear();
+        weight = 0;
+    }
+
+    public synchronized int size() {
+        return map.size();
+    }
+
+    /**
+     * Copy of the current keys, eldest first; does not count as access
+     */
+    public synchronized List<K> keys() {
+        return new ArrayList<>(map.keySet());
+    }
+
+    @Override
+    public synchronized CacheStats stats() {
+        return new CacheStats(name, map.size(), weight, capacity, hits.get(), misses.get(), evictions.get());
+    }
+
+    private boolean isExpired(Entry<V> entry) {
+        return ttlNanos > 0 && System.nanoTime() - entry.writtenAt() > ttlNanos;
+    }
+
+    private void trim() {
+        Iterator<Map.Entry<K, Entry<V>>> it = map.entrySet().iterator();
+        while (weight > capacity && it.hasNext()) {
+            Map.Entry<K, Entry<V>> eldest = it.next();
+            weight -= weigher.applyAsLong(eldest.getValue().value());
+            it.remove();
+            evictions.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.tbcpl.workforce.common.cache;
+
+import com.tbcpl.workforce.common.util.HashUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Content-addressed cache of rendered PDF bytes.
+ * The key digests (kind, report id, fingerprint) where the fingerprint carries the entity
+ * versions and template version the PDF was rendered from, so any change to the underlying
+ * rows produces a new key. Memory is bounded by total bytes; an optional spill directory
+ * keeps recently rendered PDFs on disk across evictions and restarts.
+ */
+@Component
+@Slf4j
+public class PdfRenderCache implements CacheStatsProvider {
+
+    private final LruCache<PdfKey, byte[]> memory;
+    private final Path spillDir;
+    private final long spillMaxBytes;
+
+    public PdfRenderCache(
+            @Value("${app.pdf-cache.max-bytes:67108864}") long maxBytes,
+            @Value("${app.pdf-cache.spill-dir:}") String spillDir,
+            @Value("${app.pdf-cache.spill-max-bytes:536870912}") long spillMaxBytes) {
+        this.memory = new LruCache<>("pdf-render", maxBytes, bytes -> bytes.length);
+        this.spillDir = initSpillDir(spillDir);
+        this.spillMaxBytes = spillMaxBytes;
+    }
+
+    /**
+     * Cached PDF for the given report state, rendering it on miss
+     */
+    public byte[] get(String kind, Object reportId, String fingerprint, Supplier<byte[]> renderer) {
+        return getOrRender(kind, reportId, fingerprint, () -> Rendered.complete(renderer.get()));
+    }
+
+    /**
+     * Like {@link #get}, for renderers that can fall back to a degraded PDF (e.g. a missing image).
+     * A degraded render is returned but never cached, so the next request tries again.
+     */
+    public byte[] getOrRender(String kind, Object reportId, String fingerprint, Supplier<Rendered> renderer) {
+        PdfKey key = new PdfKey(kind, String.valueOf(reportId),
+                HashUtils.sha256Hex(kind + "|" + reportId + "|" + fingerprint));
+
+        byte[] cached = memory.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        byte[] spilled = readSpill(key);
+        if (spilled != null) {
+            memory.put(key, spilled);
+            return spilled;
+        }
+
+        Rendered rendered = renderer.get();
+        if (!rendered.complete()) {
+            log.debug("PDF render for {} {} is degraded, not caching", kind, reportId);
+            return rendered.bytes();
+        }
+        memory.put(key, rendered.bytes());
+        writeSpill(key, rendered.bytes());
+        return rendered.bytes();
+    }
+
+    /**
+     * Drop in-memory renders of one report. Spilled files are content-addressed and
+     * simply stop being hit; they age out under the spill size budget.
+     */
+    public void evict(String kind, Object reportId) {
+        String id = String.valueOf(reportId);
+        int removed = memory.removeIf((key, bytes) -> key.kind().equals(kind) && key.reportId().equals(id));
+        if (removed > 0) {
+            log.debug("PDF cache evicted {} renders for {} {}", removed, kind, id);
+        }
+    }
+
+    /**
+     * Drop all in-memory renders of a kind (e.g. shared assets changed)
+     */
+    public void evictKind(String kind) {
+        int removed = memory.removeIf((key, bytes) -> key.kind().equals(kind));
+        log.debug("PDF cache evicted {} renders of kind {}", removed, kind);
+    }
+
+    @Override
+    public CacheStats stats() {
+        return memory.stats();
+    }
+
+    // ── Disk spill ──
+
+    private Path initSpillDir(String dir) {
+        if (dir == null || dir.isBlank()) {
+            return null;
+        }
+        try {
+            Path path = Files.createDirectories(Path.of(dir));
+            log.info("PDF render cache spilling to {}", path.toAbsolutePath());
+            return path;
+        } catch (IOException e) {
+            log.warn("PDF render cache spill directory {} unavailable, using memory only: {}", dir, e.getMessage());
+            return null;
+        }
+    }
+
+    private Path spillFile(PdfKey key) {
+        return spillDir.resolve(key.digest() + ".pdf");
+    }
+
+    private byte[] readSpill(PdfKey key) {
+        if (spillDir == null) {
+            return null;
+        }
+        Path file = spillFile(key);
+        try {
+            if (!Files.exists(file)) {
+                return null;
+            }
+            byte[] bytes = Files.readAllBytes(file);
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+            return bytes;
+        } catch (IOException e) {
+            log.warn("PDF spill read failed for {}: {}", file, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeSpill(PdfKey key, byte[] bytes) {
+        if (spillDir == null) {
+            return;
+        }
+        try {
+            Path tmp = Files.createTempFile(spillDir, key.digest(), ".tmp");
+            Files.write(tmp, bytes);
+            Files.move(tmp, spillFile(key), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            trimSpill();
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("PDF spill write failed for {}: {}", key.digest(), e.getMessage());
+        }
+    }
+
+    /**
+     * Delete least recently used spill files until the directory fits the budget
+     */
+    private synchronized void trimSpill() throws IOException {
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(spillDir)) {
+            files = stream.filter(p -> p.toString().endsWith(".pdf")).toList();
+        }
+
+        long total = 0;
+        for (Path file : files) {
+            total += Files.size(file);
+        }
+        if (total <= spillMaxBytes) {
+            return;
+        }
+
+        List<Path> oldestFirst = files.stream()
+                .sorted(Comparator.comparing(PdfRenderCache::lastModified))
+                .toList();
+        for (Path file : oldestFirst) {
+            if (total <= spillMaxBytes) {
+                break;
+            }
+            long size = Files.size(file);
+            Files.deleteIfExists(file);
+            total -= size;
+        }
+    }
+
+    private static FileTime lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private record PdfKey(String kind, String reportId, String digest) {}
+
+    /**
+     * Rendered PDF bytes; complete is false when the renderer had to leave something out
+     */
+    public record Rendered(byte[] bytes, boolean complete) {
+
+        public static Rendered complete(byte[] bytes) {
+            return new Rendered(bytes, true);
+        }
+
+        public static Rendered degraded(byte[] bytes) {
+            return new Rendered(bytes, false);
+        }
+    }
+}
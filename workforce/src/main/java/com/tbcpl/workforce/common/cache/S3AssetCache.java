@@ -0,0 +1,258 @@
+package com.tbcpl.workforce.common.cache;
+
+import com.tbcpl.workforce.common.util.HashUtils;
+import com.tbcpl.workforce.common.util.S3Service;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Read-through cache of small, rarely replaced S3 objects (LOA logo, stamp, signature).
+ * Entries carry the object's ETag; memory is bounded by total bytes and an optional directory
+ * keeps them across restarts, so repeated reads of a key do no network I/O.
+ * <p>
+ * A replaced asset gets a new key. The instance that replaced it evicts the old key and fetches
+ * the new one through refresh(); other instances keep rendering the old key from their cache until
+ * their 60s LoaAssets snapshot expires, then fetch the new key from S3 on first use. Their copies of
+ * the old key age out of memory by LRU and off disk through the daily sweep.
+ */
+@Component
+@Slf4j
+public class S3AssetCache implements CacheStatsProvider {
+
+    private static final String ASSET_SUFFIX = ".asset";
+    private static final String TEMP_SUFFIX = ".tmp";
+    // Disk files not held in memory and untouched this long are swept
+    private static final Duration DISK_IDLE_AFTER = Duration.ofDays(7);
+    // Temp files this old were left by a crashed write
+    private static final Duration TEMP_ORPHAN_AFTER = Duration.ofHours(1);
+
+    private final S3Service s3Service;
+    private final LruCache<String, Asset> memory;
+    private final Path diskDir;
+
+    public S3AssetCache(
+            S3Service s3Service,
+            @Value("${app.asset-cache.max-bytes:16777216}") long maxBytes,
+            @Value("${app.asset-cache.dir:}") String diskDir) {
+        this.s3Service = s3Service;
+        this.memory = new LruCache<>("s3-asset", maxBytes, asset -> asset.bytes().length);
+        this.diskDir = initDiskDir(diskDir);
+    }
+
+    /**
+     * Asset bytes from memory, then disk, then S3
+     */
+    public Asset get(String key) {
+        Asset cached = memory.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        Asset stored = readDisk(key);
+        if (stored != null) {
+            memory.put(key, stored);
+            return stored;
+        }
+
+        return fetch(key);
+    }
+
+    /**
+     * Re-read the object from S3 (e.g. right after it was uploaded), replacing any cached copy
+     * whose ETag differs. Failures are logged; the next get() retries.
+     */
+    public void refresh(String key) {
+        if (key == null || key.isBlank()) {
+            return;
+        }
+        try {
+            fetch(key);
+        } catch (RuntimeException e) {
+            log.warn("S3 asset cache refresh failed for {}: {}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * Forget a replaced or deleted asset in both tiers
+     */
+    public void evict(String key) {
+        if (key == null || key.isBlank()) {
+            return;
+        }
+        memory.remove(key);
+        if (diskDir != null) {
+            try {
+                Files.deleteIfExists(diskFile(key));
+            } catch (IOException e) {
+                log.warn("S3 asset cache could not delete {} from disk: {}", key, e.getMessage());
+            }
+        }
+        log.debug("S3 asset cache evicted {}", key);
+    }
+
+    /**
+     * Delete disk files whose key is not in memory and that were not written or read for
+     * DISK_IDLE_AFTER (replaced assets, including those replaced on other instances), plus
+     * temp files left by interrupted writes
+     */
+    @Scheduled(cron = "0 15 4 * * *")
+    public void sweepDisk() {
+        if (diskDir == null) {
+            return;
+        }
+        Set<String> held = memory.keys().stream()
+                .map(this::diskFileName)
+                .collect(Collectors.toSet());
+        Instant idleCutoff = Instant.now().minus(DISK_IDLE_AFTER);
+        Instant tempCutoff = Instant.now().minus(TEMP_ORPHAN_AFTER);
+
+        int removed = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(diskDir)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                boolean stale = name.endsWith(TEMP_SUFFIX)
+                        ? isOlderThan(file, tempCutoff)
+                        : name.endsWith(ASSET_SUFFIX) && !held.contains(name) && isOlderThan(file, idleCutoff);
+                if (stale && Files.deleteIfExists(file)) {
+                    removed++;
+                }
+            }
+        } catch (IOException e) {
+            log.warn("S3 asset cache disk sweep failed: {}", e.getMessage());
+        }
+        if (removed > 0) {
+            log.info("S3 asset cache swept {} files from disk", removed);
+        }
+    }
+
+    @Override
+    public CacheStats stats() {
+        return memory.stats();
+    }
+
+    private Asset fetch(String key) {
+        S3Service.Download download = s3Service.downloadObject(key);
+        Asset asset = new Asset(key, download.eTag() != null ? download.eTag() : "", download.bytes());
+
+        Asset previous = memory.get(key);
+        if (previous == null || !asset.eTag().equals(previous.eTag())) {
+            memory.put(key, asset);
+            writeDisk(asset);
+            log.info("S3 asset cached: {} (etag {}, {} bytes)", key, asset.eTag(), asset.bytes().length);
+        }
+        return asset;
+    }
+
+    // ── Disk tier ──
+
+    private Path initDiskDir(String dir) {
+        if (dir == null || dir.isBlank()) {
+            return null;
+        }
+        try {
+            Path path = Files.createDirectories(Path.of(dir));
+            log.info("S3 asset cache storing to {}", path.toAbsolutePath());
+            return path;
+        } catch (IOException e) {
+            log.warn("S3 asset cache directory {} unavailable, using memory only: {}", dir, e.getMessage());
+            return null;
+        }
+    }
+
+    private Path diskFile(String key) {
+        return diskDir.resolve(diskFileName(key));
+    }
+
+    private String diskFileName(String key) {
+        return HashUtils.sha256Hex(key) + ASSET_SUFFIX;
+    }
+
+    private static boolean isOlderThan(Path file, Instant cutoff) throws IOException {
+        try {
+            return Files.getLastModifiedTime(file).toInstant().isBefore(cutoff);
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+    }
+
+    private Asset readDisk(String key) {
+        if (diskDir == null) {
+            return null;
+        }
+        Path path = diskFile(key);
+        try (InputStream file = Files.newInputStream(path);
+             DataInputStream in = new DataInputStream(file)) {
+            String eTag = in.readUTF();
+            byte[] bytes = in.readNBytes(in.readInt());
+            touch(path);
+            return new Asset(key, eTag, bytes);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            log.warn("S3 asset cache disk read failed for {}: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeDisk(Asset asset) {
+        if (diskDir == null) {
+            return;
+        }
+        Path tmp = null;
+        try {
+            tmp = Files.createTempFile(diskDir, "asset", TEMP_SUFFIX);
+            try (OutputStream file = Files.newOutputStream(tmp);
+                 DataOutputStream out = new DataOutputStream(file)) {
+                out.writeUTF(asset.eTag());
+                out.writeInt(asset.bytes().length);
+                out.write(asset.bytes());
+            }
+            Files.move(tmp, diskFile(asset.key()), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("S3 asset cache disk write failed for {}: {}", asset.key(), e.getMessage());
+        } finally {
+            // No-op after a successful move; otherwise drops the partial or unmoved temp file
+            deleteQuietly(tmp);
+        }
+    }
+
+    // Mark a disk file as in use so sweepDisk() keeps it
+    private void touch(Path file) {
+        try {
+            Files.setLastModifiedTime(file, FileTime.from(Instant.now()));
+        } catch (IOException e) {
+            log.debug("S3 asset cache could not touch {}: {}", file, e.getMessage());
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("S3 asset cache could not delete temp file {}: {}", file, e.getMessage());
+        }
+    }
+
+    public record Asset(String key, String eTag, byte[] bytes) {}
+}
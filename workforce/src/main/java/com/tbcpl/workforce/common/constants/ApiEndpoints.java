@@ -51,6 +51,7 @@ public final class ApiEndpoints {
     public static final String LOGIN_ATTEMPT_BY_ID    = "/login-attempts/{id}";
     public static final String LOGIN_ATTEMPTS_BLOCKED    = "/login-attempts/blocked";
     public static final String LOGIN_ATTEMPTS_BY_EMPLOYEE = "/login-attempts/employee/{empId}";
+    public static final String LOGIN_ATTEMPTS_AUDIT_QUEUE = "/login-attempts/audit-queue";
     public static final String EMPLOYEE_UPDATE    = "/employees/{id}";
 
     public static final String PASSWORD_BASE          = "/password";
@@ -93,6 +94,7 @@ public final class ApiEndpoints {
     public static final String HR_ATTENDANCE_BY_ID          = "/attendance/{id}";
     public static final String HR_ATTENDANCE_BY_EMP         = "/attendance/emp/{empId}";
     public static final String HR_ATTENDANCE_MONTHLY        = "/attendance/emp/{empId}/monthly";
+    public static final String HR_ATTENDANCE_IMPORT         = "/attendance/import";
 
     // Leave Types
     public static final String HR_LEAVE_TYPES               = "/leave-types";
@@ -170,6 +172,10 @@ public final class ApiEndpoints {
     // ─── Common/Shared endpoints (accessible by all departments) ─────────────
     public static final String COMMON_BASE = API_V1 + "/common";
     public static final String COMMON_DROPDOWN_CLIENTS = "/dropdowns/clients";
+    public static final String COMMON_MAIL_STATUS = "/mail/{messageId}";
+
+    // ─── Admin monitoring endpoints ───────────────────────────────────────────
+    public static final String ADMIN_CACHE_STATS = "/cache-stats";
 
 
 
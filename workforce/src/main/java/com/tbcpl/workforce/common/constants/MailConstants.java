@@ -0,0 +1,33 @@
+package com.tbcpl.workforce.common.constants;
+
+/**
+ * Outbound mail outbox tuning
+ */
+public final class MailConstants {
+
+    private MailConstants() {
+        // Prevent instantiation
+    }
+
+    // Dispatcher
+    public static final long OUTBOX_POLL_INTERVAL_MS = 2_000;
+    public static final int OUTBOX_BATCH_SIZE = 20;
+    public static final int OUTBOX_WORKER_THREADS = 4;
+    // Claim lease: a SENDING row older than this is assumed abandoned by its instance
+    public static final long OUTBOX_STALE_SENDING_MINUTES = 10;
+
+    // Retention of finished (SENT / FAILED) rows, which still hold body and attachment
+    public static final long OUTBOX_RETENTION_DAYS = 14;
+    public static final int OUTBOX_PURGE_BATCH_SIZE = 500;
+
+    // Retry with exponential backoff: 30s, 1m, 2m, 4m ... capped at 30m
+    public static final int OUTBOX_MAX_ATTEMPTS = 6;
+    public static final long OUTBOX_BACKOFF_BASE_SECONDS = 30;
+    public static final long OUTBOX_BACKOFF_MAX_SECONDS = 30 * 60;
+
+    // Per-recipient rate limit
+    public static final int RECIPIENT_MAX_PER_WINDOW = 5;
+    public static final long RECIPIENT_WINDOW_SECONDS = 60;
+
+    public static final int LAST_ERROR_MAX_LENGTH = 1000;
+}
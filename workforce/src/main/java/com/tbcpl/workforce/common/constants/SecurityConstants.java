@@ -15,6 +15,14 @@ public final class SecurityConstants {
     public static final String JWT_TOKEN_PREFIX = "Bearer ";
     public static final String JWT_HEADER_STRING = "Authorization";
 
+    // Verified token cache
+    public static final long JWT_CACHE_TTL_MS = 10 * 60 * 1000; // 10 minutes
+    public static final int JWT_CACHE_MAX_ENTRIES = 10_000;
+
+    // Principal (authority snapshot) cache
+    public static final int PRINCIPAL_CACHE_MAX_ENTRIES = 5_000;
+    public static final long PRINCIPAL_CACHE_TTL_MS = 5 * 60 * 1000; // bounds staleness of evictions made on other instances
+
     // JWT Claims
     public static final String CLAIM_EMP_ID = "empId";
     public static final String CLAIM_EMAIL = "email";
@@ -24,9 +32,19 @@ public final class SecurityConstants {
 
     // Session Configuration
     public static final int SESSION_TIMEOUT_HOURS = 8;
+    public static final long SESSION_ACTIVITY_FLUSH_MS = 60 * 1000; // 1 minute
+    public static final long SESSION_REVALIDATE_MS = 15 * 1000; // revocations from other instances
+    public static final int SESSION_REVALIDATE_CHUNK_SIZE = 1000;
     public static final int PASSWORD_EXPIRY_MONTHS = 2;
     public static final int PASSWORD_EXPIRY_DAYS = 60;
 
+    // Login audit queue (async batched writes of login_attempt_logs)
+    public static final int LOGIN_AUDIT_QUEUE_CAPACITY = 10_000;
+    public static final int LOGIN_AUDIT_BATCH_SIZE = 200;
+    public static final long LOGIN_AUDIT_OFFER_TIMEOUT_MS = 50;
+    public static final long LOGIN_AUDIT_POLL_INTERVAL_MS = 500;
+    public static final long LOGIN_AUDIT_SHUTDOWN_TIMEOUT_SECONDS = 10;
+
     // Security Messages
     public static final String INVALID_TOKEN_MESSAGE = "Invalid or expired token";
     public static final String UNAUTHORIZED_MESSAGE = "You do not have permission to access this resource";
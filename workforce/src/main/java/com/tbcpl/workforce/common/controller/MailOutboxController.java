@@ -0,0 +1,39 @@
+package com.tbcpl.workforce.common.controller;
+
+import com.tbcpl.workforce.common.constants.ApiEndpoints;
+import com.tbcpl.workforce.common.dto.MailOutboxStatusResponse;
+import com.tbcpl.workforce.common.email.MailOutboxService;
+import com.tbcpl.workforce.common.response.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Delivery status of queued outbound mail.
+ * Mail-sending endpoints return a message id; clients poll here with it.
+ */
+@RestController
+@RequestMapping(ApiEndpoints.COMMON_BASE)
+@RequiredArgsConstructor
+@Slf4j
+public class MailOutboxController {
+
+    private final MailOutboxService mailOutboxService;
+
+    /**
+     * Get delivery status of a queued mail
+     *
+     * @param messageId id returned when the mail was queued
+     * @return status, attempts, next retry time and last error
+     */
+    @GetMapping(ApiEndpoints.COMMON_MAIL_STATUS)
+    public ResponseEntity<ApiResponse<MailOutboxStatusResponse>> getMailStatus(@PathVariable String messageId) {
+        log.debug("GET /api/v1/common/mail/{} - Get mail delivery status", messageId);
+        MailOutboxStatusResponse status = mailOutboxService.getStatus(messageId);
+        return ResponseEntity.ok(ApiResponse.success("Mail status retrieved successfully", status));
+    }
+}
@@ -0,0 +1,25 @@
+package com.tbcpl.workforce.common.dto;
+
+import com.tbcpl.workforce.common.enums.MailStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MailOutboxStatusResponse {
+    private String messageId;
+    private String toEmail;
+    private String subject;
+    private MailStatus status;
+    private Integer attempts;
+    private LocalDateTime nextAttemptAt;
+    private LocalDateTime sentAt;
+    private String lastError;
+    private LocalDateTime createdAt;
+}
@@ -1,5 +1,6 @@
 package com.tbcpl.workforce.common.email;
 
+import com.tbcpl.workforce.common.entity.MailOutboxMessage;
 import com.tbcpl.workforce.common.exception.EmailDeliveryException;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
@@ -10,56 +11,46 @@ import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 
+import java.io.UnsupportedEncodingException;
+
 @Slf4j
 @Service
 public class BrevoEmailService {
 
     private final JavaMailSender mailSender;
+    private final MailOutboxService mailOutboxService;
     private final String senderEmail;
     private final String senderName;
     private final String replyTo;
 
     public BrevoEmailService(
             JavaMailSender mailSender,
+            MailOutboxService mailOutboxService,
             @Value("${app.mail.from}") String senderEmail,
             @Value("${app.mail.from-name}") String senderName,
             @Value("${app.mail.reply-to}") String replyTo
     ) {
         this.mailSender = mailSender;
+        this.mailOutboxService = mailOutboxService;
         this.senderEmail = senderEmail;
         this.senderName = senderName;
         this.replyTo = replyTo;
     }
 
     /**
-     * Sends a plain transactional email (no attachment).
+     * Queues a plain transactional email (no attachment) and returns its outbox message id.
      * Used for: OTP, verification, password reset, etc.
      */
-    public void sendEmail(String toEmail, String toName, String subject, String htmlBody) {
-        log.info("Sending transactional email to: {} | Subject: {}", toEmail, subject);
-        try {
-            MimeMessage message = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(message, false, "UTF-8");
-
-            helper.setFrom(senderEmail, senderName);
-            helper.setReplyTo(replyTo);
-            helper.setTo(toEmail);
-            helper.setSubject(subject);
-            helper.setText(htmlBody, true);
-
-            mailSender.send(message);
-            log.info("Email sent successfully to: {}", toEmail);
-        } catch (Exception ex) {
-            log.error("Failed to send email to {}: {}", toEmail, ex.getMessage(), ex);
-            throw new EmailDeliveryException("Failed to send email: " + ex.getMessage(), ex);
-        }
+    public String sendEmail(String toEmail, String toName, String subject, String htmlBody) {
+        log.info("Queueing transactional email to: {} | Subject: {}", toEmail, subject);
+        return mailOutboxService.enqueue(toEmail, toName, subject, htmlBody, null, null);
     }
 
     /**
-     * Sends a transactional email WITH a PDF attachment.
+     * Queues a transactional email WITH a PDF attachment and returns its outbox message id.
      * Used for: Pre-reports, Final reports, Proposals, Letters of Authority, etc.
      */
-    public void sendReportEmail(
+    public String sendReportEmail(
             String toEmail,
             String toName,
             String subject,
@@ -67,26 +58,34 @@ public class BrevoEmailService {
             byte[] pdfBytes,
             String pdfFileName
     ) {
-        log.info("Sending report email to: {} | Attachment: {}", toEmail, pdfFileName);
+        log.info("Queueing report email to: {} | Attachment: {}", toEmail, pdfFileName);
+        return mailOutboxService.enqueue(toEmail, toName, subject, htmlBody, pdfBytes, pdfFileName);
+    }
+
+    /**
+     * Performs the actual SMTP send for an outbox message.
+     * Called only by MailOutboxWorker; failures propagate so the worker can schedule a retry.
+     */
+    void deliver(MailOutboxMessage outboxMessage) {
         try {
             MimeMessage message = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+            MimeMessageHelper helper = new MimeMessageHelper(message, outboxMessage.hasAttachment(), "UTF-8");
 
             helper.setFrom(senderEmail, senderName);
             helper.setReplyTo(replyTo);
-            helper.setTo(toEmail);
-            helper.setSubject(subject);
-            helper.setText(htmlBody, true);
-            helper.addAttachment(pdfFileName, new ByteArrayResource(pdfBytes));
+            helper.setTo(outboxMessage.getToEmail());
+            helper.setSubject(outboxMessage.getSubject());
+            helper.setText(outboxMessage.getHtmlBody(), true);
+            if (outboxMessage.hasAttachment()) {
+                helper.addAttachment(outboxMessage.getAttachmentName(),
+                        new ByteArrayResource(outboxMessage.getAttachment()));
+            }
 
             mailSender.send(message);
-            log.info("Report email sent successfully to: {}", toEmail);
         } catch (MessagingException ex) {
-            log.error("Messaging error sending report to {}: {}", toEmail, ex.getMessage(), ex);
-            throw new EmailDeliveryException("Failed to send report email: " + ex.getMessage(), ex);
-        } catch (Exception ex) {
-            log.error("Unexpected error sending report to {}: {}", toEmail, ex.getMessage(), ex);
-            throw new EmailDeliveryException("Email delivery failed: " + ex.getMessage(), ex);
+            throw new EmailDeliveryException("Failed to build email: " + ex.getMessage(), ex);
+        } catch (UnsupportedEncodingException ex) {
+            throw new EmailDeliveryException("Invalid sender name encoding: " + ex.getMessage(), ex);
         }
     }
-}
\ No newline at end of file
+}
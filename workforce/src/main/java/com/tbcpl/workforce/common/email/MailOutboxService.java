@@ -0,0 +1,59 @@
+package com.tbcpl.workforce.common.email;
+
+import com.tbcpl.workforce.common.dto.MailOutboxStatusResponse;
+import com.tbcpl.workforce.common.entity.MailOutboxMessage;
+import com.tbcpl.workforce.common.enums.MailStatus;
+import com.tbcpl.workforce.common.exception.ResourceNotFoundException;
+import com.tbcpl.workforce.common.repository.MailOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Persists outbound mail for asynchronous delivery and reports its status.
+ * Enqueueing is a single insert, so callers return as soon as the row is written.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MailOutboxService {
+
+    private final MailOutboxRepository outboxRepository;
+
+    /**
+     * Queue a mail for delivery and return its message id
+     */
+    @Transactional
+    public String enqueue(String toEmail, String toName, String subject, String htmlBody,
+                          byte[] attachment, String attachmentName) {
+        MailOutboxMessage message = MailOutboxMessage.builder()
+                .messageId(UUID.randomUUID().toString())
+                .toEmail(toEmail)
+                .toName(toName)
+                .subject(subject)
+                .htmlBody(htmlBody)
+                .attachment(attachment)
+                .attachmentName(attachmentName)
+                .status(MailStatus.PENDING)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+        outboxRepository.save(message);
+
+        log.info("Mail queued: messageId={} to={} subject={}", message.getMessageId(), toEmail, subject);
+        return message.getMessageId();
+    }
+
+    @Transactional(readOnly = true)
+    public MailOutboxStatusResponse getStatus(String messageId) {
+        MailOutboxStatusResponse status = outboxRepository.findStatusByMessageId(messageId)
+                .orElseThrow(() -> new ResourceNotFoundException("Mail message not found: " + messageId));
+        if (status.getStatus().isFinal()) {
+            status.setNextAttemptAt(null);
+        }
+        return status;
+    }
+}
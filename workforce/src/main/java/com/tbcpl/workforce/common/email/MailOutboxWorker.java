@@ -0,0 +1,236 @@
+package com.tbcpl.workforce.common.email;
+
+import com.tbcpl.workforce.common.constants.MailConstants;
+import com.tbcpl.workforce.common.entity.MailOutboxMessage;
+import com.tbcpl.workforce.common.enums.MailStatus;
+import com.tbcpl.workforce.common.repository.MailOutboxRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Delivers queued outbox mail off the request path.
+ * A poller claims due messages and hands them to a small pool of virtual threads;
+ * failures are retried with exponential backoff and each recipient is rate limited.
+ */
+@Slf4j
+@Component
+public class MailOutboxWorker {
+
+    private final MailOutboxRepository outboxRepository;
+    private final BrevoEmailService brevoEmailService;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(
+            MailConstants.OUTBOX_WORKER_THREADS, Thread.ofVirtual().name("mail-outbox-", 0).factory());
+    // One permit per worker thread, so the poller never claims more than it can send
+    private final Semaphore permits = new Semaphore(MailConstants.OUTBOX_WORKER_THREADS);
+    private final ConcurrentHashMap<String, Deque<Instant>> recipientWindows = new ConcurrentHashMap<>();
+
+    public MailOutboxWorker(MailOutboxRepository outboxRepository, BrevoEmailService brevoEmailService) {
+        this.outboxRepository = outboxRepository;
+        this.brevoEmailService = brevoEmailService;
+    }
+
+    /**
+     * Make SENDING rows whose claim lease has run out due again, so mail claimed by a stopped
+     * process is not left waiting for the first housekeeping run. Rows claimed within the lease
+     * may belong to another live instance and are left alone.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void releaseAfterRestart() {
+        LocalDateTime now = LocalDateTime.now();
+        int released = outboxRepository.releaseStale(
+                now.minusMinutes(MailConstants.OUTBOX_STALE_SENDING_MINUTES), now);
+        if (released > 0) {
+            log.info("Mail outbox released {} messages with an expired SENDING claim", released);
+        }
+    }
+
+    @Scheduled(fixedDelay = MailConstants.OUTBOX_POLL_INTERVAL_MS)
+    public void dispatchDue() {
+        int free = permits.availablePermits();
+        if (free == 0) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> due = outboxRepository.findDue(MailStatus.PENDING, now,
+                PageRequest.of(0, Math.min(free, MailConstants.OUTBOX_BATCH_SIZE)));
+
+        for (Object[] row : due) {
+            Long id = (Long) row[0];
+            String toEmail = (String) row[1];
+
+            if (!permits.tryAcquire()) {
+                break;
+            }
+            if (outboxRepository.claim(id, now) == 0) {
+                permits.release();
+                continue;
+            }
+
+            LocalDateTime allowedAt = reserveRecipientSlot(toEmail);
+            if (allowedAt != null) {
+                outboxRepository.defer(id, allowedAt, now);
+                permits.release();
+                log.debug("Mail {} to {} deferred until {} (recipient rate limit)", id, toEmail, allowedAt);
+                continue;
+            }
+
+            executor.execute(() -> {
+                try {
+                    deliver(id);
+                } finally {
+                    permits.release();
+                }
+            });
+        }
+    }
+
+    /**
+     * Release messages stuck in SENDING and drop idle recipient windows
+     */
+    @Scheduled(fixedDelay = 5 * 60 * 1000)
+    public void housekeeping() {
+        LocalDateTime now = LocalDateTime.now();
+        int released = outboxRepository.releaseStale(
+                now.minusMinutes(MailConstants.OUTBOX_STALE_SENDING_MINUTES), now);
+        if (released > 0) {
+            log.warn("Mail outbox released {} stale SENDING messages", released);
+        }
+
+        Instant windowStart = Instant.now().minusSeconds(MailConstants.RECIPIENT_WINDOW_SECONDS);
+        recipientWindows.entrySet().removeIf(entry -> {
+            synchronized (entry.getValue()) {
+                pruneWindow(entry.getValue(), windowStart);
+                return entry.getValue().isEmpty();
+            }
+        });
+    }
+
+    /**
+     * Delete SENT and FAILED rows older than the retention period, in batches
+     */
+    @Scheduled(cron = "0 30 3 * * *")
+    public void purgeFinished() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(MailConstants.OUTBOX_RETENTION_DAYS);
+        List<MailStatus> finished = List.of(MailStatus.SENT, MailStatus.FAILED);
+        int purged = 0;
+        List<Long> ids;
+        do {
+            ids = outboxRepository.findFinishedIds(finished, cutoff,
+                    PageRequest.of(0, MailConstants.OUTBOX_PURGE_BATCH_SIZE));
+            if (!ids.isEmpty()) {
+                purged += outboxRepository.deleteByIds(ids);
+            }
+        } while (ids.size() == MailConstants.OUTBOX_PURGE_BATCH_SIZE);
+
+        if (purged > 0) {
+            log.info("Mail outbox purged {} finished messages older than {} days",
+                    purged, MailConstants.OUTBOX_RETENTION_DAYS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ── Delivery ──
+
+    private void deliver(Long id) {
+        MailOutboxMessage message = outboxRepository.findById(id).orElse(null);
+        if (message == null) {
+            return;
+        }
+
+        try {
+            brevoEmailService.deliver(message);
+            outboxRepository.markSent(id, LocalDateTime.now());
+            log.info("Mail sent: messageId={} to={}", message.getMessageId(), message.getToEmail());
+        } catch (Exception ex) {
+            int attempts = message.getAttempts() + 1;
+            LocalDateTime now = LocalDateTime.now();
+            boolean exhausted = attempts >= MailConstants.OUTBOX_MAX_ATTEMPTS;
+            LocalDateTime nextAttemptAt = exhausted ? now : now.plusSeconds(backoffSeconds(attempts));
+
+            outboxRepository.markAttemptFailed(id,
+                    exhausted ? MailStatus.FAILED : MailStatus.PENDING,
+                    nextAttemptAt, truncate(ex.getMessage()), now);
+
+            if (exhausted) {
+                log.error("Mail failed permanently after {} attempts: messageId={} to={}",
+                        attempts, message.getMessageId(), message.getToEmail(), ex);
+            } else {
+                log.warn("Mail attempt {} failed for messageId={} to={}, retry at {}: {}",
+                        attempts, message.getMessageId(), message.getToEmail(), nextAttemptAt, ex.getMessage());
+            }
+        }
+    }
+
+    private long backoffSeconds(int attempts) {
+        long delay = MailConstants.OUTBOX_BACKOFF_BASE_SECONDS << Math.min(attempts - 1, 20);
+        return Math.min(delay, MailConstants.OUTBOX_BACKOFF_MAX_SECONDS);
+    }
+
+    // ── Per-recipient rate limit (sliding window) ──
+
+    /**
+     * Record a send for the recipient, or return when the next send is allowed if the window is full
+     */
+    private LocalDateTime reserveRecipientSlot(String toEmail) {
+        Deque<Instant> window = recipientWindows.computeIfAbsent(
+                toEmail.toLowerCase(Locale.ROOT), key -> new ArrayDeque<>());
+        Instant now = Instant.now();
+
+        synchronized (window) {
+            pruneWindow(window, now.minusSeconds(MailConstants.RECIPIENT_WINDOW_SECONDS));
+            if (window.size() >= MailConstants.RECIPIENT_MAX_PER_WINDOW) {
+                Instant allowedAt = window.peekFirst().plus(Duration.ofSeconds(MailConstants.RECIPIENT_WINDOW_SECONDS));
+                return LocalDateTime.ofInstant(allowedAt, ZoneId.systemDefault());
+            }
+            window.addLast(now);
+            return null;
+        }
+    }
+
+    private void pruneWindow(Deque<Instant> window, Instant windowStart) {
+        while (!window.isEmpty() && window.peekFirst().isBefore(windowStart)) {
+            window.pollFirst();
+        }
+    }
+
+    private String truncate(String error) {
+        if (error == null) {
+            return null;
+        }
+        return error.length() > MailConstants.LAST_ERROR_MAX_LENGTH
+                ? error.substring(0, MailConstants.LAST_ERROR_MAX_LENGTH) : error;
+    }
+}
@@ -36,9 +36,11 @@ public class ReportEmailService {
 
     /**
      * Universal entry point. Routes to the correct HTML template
-     * based on ReportType and sends via Brevo.
+     * based on ReportType and queues it for delivery via Brevo.
+     *
+     * @return outbox message id
      */
-    public void sendReport(ReportEmailRequestDto request) {
+    public String sendReport(ReportEmailRequestDto request) {
         ReportEmailTemplate template = templateRegistry.get(request.getReportType());
 
         if (template == null) {
@@ -54,7 +56,7 @@ public class ReportEmailService {
         String subject = template.buildSubject(request);
         String htmlBody = template.buildHtmlBody(request);
 
-        brevoEmailService.sendReportEmail(
+        String messageId = brevoEmailService.sendReportEmail(
                 request.getToEmail(),
                 request.getToName(),
                 subject,
@@ -63,7 +65,8 @@ public class ReportEmailService {
                 request.getPdfFileName()
         );
 
-        log.info("[{}] report email sent successfully to: {}",
-                request.getReportType(), request.getToEmail());
+        log.info("[{}] report email queued for: {} | messageId: {}",
+                request.getReportType(), request.getToEmail(), messageId);
+        return messageId;
     }
 }
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.tbcpl.workforce.common.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * High-water mark of one human document number series (e.g. "CASE-2026", "TTR").
+ * DocumentNumberAllocator reserves blocks by advancing nextValue under a row lock.
+ */
+@Entity
+@Table(name = "document_sequence")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DocumentSequence {
+
+    @Id
+    @Column(name = "sequence_key", length = 50)
+    private String sequenceKey;
+
+    // First value not yet handed out to any instance
+    @Column(name = "next_value", nullable = false)
+    private Long nextValue;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
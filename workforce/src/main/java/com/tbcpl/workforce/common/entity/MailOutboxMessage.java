@@ -0,0 +1,87 @@
+package com.tbcpl.workforce.common.entity;
+
+import com.tbcpl.workforce.common.enums.MailStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outbound mail persisted before delivery.
+ * Request threads only insert here; MailOutboxWorker performs the SMTP send.
+ */
+@Entity
+@Table(name = "mail_outbox", indexes = {
+        @Index(name = "idx_mail_outbox_message_id", columnList = "message_id", unique = true),
+        @Index(name = "idx_mail_outbox_status_next", columnList = "status, next_attempt_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MailOutboxMessage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "message_id", nullable = false, unique = true, length = 36)
+    private String messageId;
+
+    @Column(name = "to_email", nullable = false, length = 150)
+    private String toEmail;
+
+    @Column(name = "to_name", length = 150)
+    private String toName;
+
+    @Column(name = "subject", nullable = false, length = 500)
+    private String subject;
+
+    @Lob
+    @Column(name = "html_body", nullable = false, columnDefinition = "LONGTEXT")
+    @ToString.Exclude
+    private String htmlBody;
+
+    @Column(name = "attachment_name", length = 255)
+    private String attachmentName;
+
+    @Lob
+    @Column(name = "attachment", columnDefinition = "LONGBLOB")
+    @ToString.Exclude
+    private byte[] attachment;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private MailStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public boolean hasAttachment() {
+        return attachment != null && attachment.length > 0;
+    }
+}
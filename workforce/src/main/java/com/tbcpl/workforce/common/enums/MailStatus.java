@@ -0,0 +1,15 @@
+package com.tbcpl.workforce.common.enums;
+
+/**
+ * Delivery state of an outbox mail message
+ */
+public enum MailStatus {
+    PENDING,   // waiting for (re)delivery
+    SENDING,   // claimed by a worker
+    SENT,
+    FAILED;    // retries exhausted
+
+    public boolean isFinal() {
+        return this == SENT || this == FAILED;
+    }
+}
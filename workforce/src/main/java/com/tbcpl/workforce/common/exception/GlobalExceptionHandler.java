@@ -3,10 +3,13 @@ package com.tbcpl.workforce.common.exception;
 import com.tbcpl.workforce.common.response.ApiResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.util.unit.DataSize;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -20,6 +23,10 @@ import java.util.Map;
 @Slf4j
 public class GlobalExceptionHandler {
 
+    // Same property and default as FileUploadConfig
+    @Value("${spring.servlet.multipart.max-file-size:5MB}")
+    private DataSize maxUploadSize;
+
     // ========== EXISTING HANDLERS (KEEP AS IS) ==========
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
@@ -60,7 +67,7 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ApiResponse<Object>> handleMaxUploadSizeExceeded(MaxUploadSizeExceededException ex) {
         log.error("File size exceeded: {}", ex.getMessage());
         return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE)
-                .body(ApiResponse.error("File size exceeds maximum limit of 5MB"));
+                .body(ApiResponse.error("File size exceeds maximum limit of " + maxUploadSize.toMegabytes() + "MB"));
     }
 
     @ExceptionHandler(IllegalArgumentException.class)
@@ -102,6 +109,17 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error(ex.getMessage()));
     }
 
+    /**
+     * Handle login throttle lockout (too many failed attempts for an email or IP)
+     */
+    @ExceptionHandler(TooManyLoginAttemptsException.class)
+    public ResponseEntity<ApiResponse<Object>> handleTooManyLoginAttempts(TooManyLoginAttemptsException ex) {
+        log.warn("Login throttled: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(ApiResponse.error(ex.getMessage()));
+    }
+
     @ExceptionHandler(EmailNotVerifiedException.class)
     public ResponseEntity<ApiResponse<Void>> handleEmailNotVerifiedException(
             EmailNotVerifiedException ex,
@@ -0,0 +1,102 @@
+package com.tbcpl.workforce.common.repository;
+
+import com.tbcpl.workforce.common.dto.MailOutboxStatusResponse;
+import com.tbcpl.workforce.common.entity.MailOutboxMessage;
+import com.tbcpl.workforce.common.enums.MailStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for the outbound mail outbox.
+ * Status transitions are single UPDATE statements so workers never rewrite body/attachment columns.
+ */
+@Repository
+public interface MailOutboxRepository extends JpaRepository<MailOutboxMessage, Long> {
+
+    /**
+     * Status view for the status endpoint — skips the body and attachment columns
+     */
+    @Query("SELECT new com.tbcpl.workforce.common.dto.MailOutboxStatusResponse(" +
+            "m.messageId, m.toEmail, m.subject, m.status, m.attempts, m.nextAttemptAt, " +
+            "m.sentAt, m.lastError, m.createdAt) FROM MailOutboxMessage m WHERE m.messageId = :messageId")
+    Optional<MailOutboxStatusResponse> findStatusByMessageId(@Param("messageId") String messageId);
+
+    /**
+     * Due messages as [id, toEmail], oldest first — body and attachment are not loaded
+     */
+    @Query("SELECT m.id, m.toEmail FROM MailOutboxMessage m " +
+            "WHERE m.status = :status AND m.nextAttemptAt <= :now ORDER BY m.nextAttemptAt")
+    List<Object[]> findDue(@Param("status") MailStatus status,
+                           @Param("now") LocalDateTime now,
+                           Pageable pageable);
+
+    /**
+     * Claim a message for delivery; returns 0 when another worker got it first
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE MailOutboxMessage m SET m.status = com.tbcpl.workforce.common.enums.MailStatus.SENDING, m.updatedAt = :now " +
+            "WHERE m.id = :id AND m.status = com.tbcpl.workforce.common.enums.MailStatus.PENDING")
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE MailOutboxMessage m SET m.status = com.tbcpl.workforce.common.enums.MailStatus.SENT, m.attempts = m.attempts + 1, " +
+            "m.sentAt = :now, m.lastError = null, m.updatedAt = :now WHERE m.id = :id")
+    int markSent(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    /**
+     * Record a failed attempt and either reschedule (PENDING) or give up (FAILED)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE MailOutboxMessage m SET m.status = :status, m.attempts = m.attempts + 1, " +
+            "m.nextAttemptAt = :nextAttemptAt, m.lastError = :error, m.updatedAt = :now WHERE m.id = :id")
+    int markAttemptFailed(@Param("id") Long id,
+                          @Param("status") MailStatus status,
+                          @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                          @Param("error") String error,
+                          @Param("now") LocalDateTime now);
+
+    /**
+     * Push a message back without counting an attempt (recipient rate limit)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE MailOutboxMessage m SET m.status = com.tbcpl.workforce.common.enums.MailStatus.PENDING, m.nextAttemptAt = :nextAttemptAt, " +
+            "m.updatedAt = :now WHERE m.id = :id")
+    int defer(@Param("id") Long id,
+              @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+              @Param("now") LocalDateTime now);
+
+    /**
+     * Release messages left in SENDING by a crashed or stopped worker
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE MailOutboxMessage m SET m.status = com.tbcpl.workforce.common.enums.MailStatus.PENDING, m.updatedAt = :now " +
+            "WHERE m.status = com.tbcpl.workforce.common.enums.MailStatus.SENDING AND m.updatedAt < :cutoff")
+    int releaseStale(@Param("cutoff") LocalDateTime cutoff, @Param("now") LocalDateTime now);
+
+    /**
+     * Ids of finished messages last touched before the cutoff, oldest first
+     */
+    @Query("SELECT m.id FROM MailOutboxMessage m WHERE m.status IN :statuses AND m.updatedAt < :cutoff ORDER BY m.id")
+    List<Long> findFinishedIds(@Param("statuses") List<MailStatus> statuses,
+                               @Param("cutoff") LocalDateTime cutoff,
+                               Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM MailOutboxMessage m WHERE m.id IN :ids")
+    int deleteByIds(@Param("ids") List<Long> ids);
+}
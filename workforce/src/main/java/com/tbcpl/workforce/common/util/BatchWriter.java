@@ -0,0 +1,47 @@
+package com.tbcpl.workforce.common.util;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Persists large lists of new entities in fixed-size chunks: each chunk is persisted, flushed
+ * (one JDBC batch when the entity's id generator allows batching) and cleared from the
+ * persistence context, so memory and dirty-checking cost stay flat however many rows are written.
+ * Must run inside the caller's transaction; clearing detaches everything the caller loaded before.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BatchWriter {
+
+    // Matches spring.jpa.properties.hibernate.jdbc.batch_size
+    public static final int DEFAULT_CHUNK_SIZE = 50;
+
+    private final EntityManager entityManager;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public <T> List<T> insertAll(List<T> entities) {
+        return insertAll(entities, DEFAULT_CHUNK_SIZE);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public <T> List<T> insertAll(List<T> entities, int chunkSize) {
+        for (int i = 0; i < entities.size(); i++) {
+            entityManager.persist(entities.get(i));
+            if ((i + 1) % chunkSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        log.debug("Batch inserted {} rows in chunks of {}", entities.size(), chunkSize);
+        return entities;
+    }
+}
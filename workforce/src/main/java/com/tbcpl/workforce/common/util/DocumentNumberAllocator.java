@@ -0,0 +1,113 @@
+package com.tbcpl.workforce.common.util;
+
+import com.tbcpl.workforce.common.entity.DocumentSequence;
+import com.tbcpl.workforce.common.repository.DocumentSequenceRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Hands out human document numbers (case, pre-report, report, TTR, profile, proposal) from the
+ * document_sequence table using hi/lo blocks. Each instance reserves a block of numbers per series
+ * under a row lock in its own short transaction, then serves the block from memory, so numbers are
+ * unique across instances without scanning the document tables. Numbers left in a block when an
+ * instance stops are skipped; set app.document-numbers.block-size=1 for gap-free series.
+ * The reservation runs outside the per-series monitor, so callers never wait on it while another
+ * caller holds a second connection; when two callers reserve at once, the block with more numbers
+ * left is kept and the rest of the other is skipped.
+ */
+@Component
+@Slf4j
+public class DocumentNumberAllocator {
+
+    private static final int MAX_RESERVE_ATTEMPTS = 5;
+
+    private final DocumentSequenceRepository sequenceRepository;
+    private final TransactionTemplate        requiresNew;
+    private final int                        blockSize;
+
+    private final ConcurrentHashMap<String, Block> blocks = new ConcurrentHashMap<>();
+
+    public DocumentNumberAllocator(DocumentSequenceRepository sequenceRepository,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${app.document-numbers.block-size:20}") int blockSize) {
+        this.sequenceRepository = sequenceRepository;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.blockSize = Math.max(1, blockSize);
+    }
+
+    /**
+     * Next number of a yearly series, e.g. next("CASE", 2026, ...) for CASE-2026-NNNN
+     */
+    public long next(String prefix, int year, LongSupplier currentMax) {
+        return next(prefix + "-" + year, currentMax);
+    }
+
+    /**
+     * Next number of a series. currentMax is only consulted the first time the series is
+     * seen and must return the highest number already in use (0 if none).
+     */
+    public long next(String sequenceKey, LongSupplier currentMax) {
+        Block block = blocks.computeIfAbsent(sequenceKey, k -> new Block());
+        synchronized (block) {
+            if (block.next < block.limit) {
+                return block.next++;
+            }
+        }
+
+        long start = reserveBlock(sequenceKey, currentMax);
+        synchronized (block) {
+            // Another caller may have installed a block meanwhile — keep whichever has more left
+            if (block.limit - block.next < blockSize - 1) {
+                block.next = start + 1;
+                block.limit = start + blockSize;
+            }
+        }
+        return start;
+    }
+
+    private long reserveBlock(String sequenceKey, LongSupplier currentMax) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                Long start = requiresNew.execute(status -> sequenceRepository.findForUpdate(sequenceKey)
+                        .map(sequence -> {
+                            long first = sequence.getNextValue();
+                            sequence.setNextValue(first + blockSize);
+                            return first;
+                        })
+                        .orElseGet(() -> {
+                            long first = currentMax.getAsLong() + 1;
+                            sequenceRepository.saveAndFlush(DocumentSequence.builder()
+                                    .sequenceKey(sequenceKey)
+                                    .nextValue(first + blockSize)
+                                    .build());
+                            log.info("Document sequence {} created starting at {}", sequenceKey, first);
+                            return first;
+                        }));
+                return start;
+            } catch (DataIntegrityViolationException | PessimisticLockingFailureException e) {
+                // Another instance created the series row first, or (MySQL) two first-time
+                // reservations deadlocked on the gap lock of the missing row — lock it and retry
+                if (attempt >= MAX_RESERVE_ATTEMPTS) {
+                    throw e;
+                }
+                log.debug("Document sequence {} reservation attempt {} failed, retrying: {}",
+                        sequenceKey, attempt, e.getMessage());
+            }
+        }
+    }
+
+    private static final class Block {
+        private long next;
+        private long limit;
+    }
+}
@@ -0,0 +1,35 @@
+package com.tbcpl.workforce.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Hashing helpers for cache keys and content addressing
+ */
+public final class HashUtils {
+
+    private HashUtils() {
+        // Prevent instantiation
+    }
+
+    /**
+     * SHA-256 hex digest of a UTF-8 string
+     */
+    public static String sha256Hex(String value) {
+        return sha256Hex(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * SHA-256 hex digest of raw bytes
+     */
+    public static String sha256Hex(byte[] bytes) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(md.digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
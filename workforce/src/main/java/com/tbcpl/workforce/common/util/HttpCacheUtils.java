@@ -0,0 +1,24 @@
+package com.tbcpl.workforce.common.util;
+
+/**
+ * Conditional-request helpers for ETag-served endpoints
+ */
+public final class HttpCacheUtils {
+
+    private HttpCacheUtils() {
+        // Prevent instantiation
+    }
+
+    /**
+     * True when an If-None-Match header value matches the given strong ETag (weak prefixes and * accepted)
+     */
+    public static boolean etagMatches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) return false;
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) tag = tag.substring(2);
+            if (tag.equals("*") || tag.equals(etag)) return true;
+        }
+        return false;
+    }
+}
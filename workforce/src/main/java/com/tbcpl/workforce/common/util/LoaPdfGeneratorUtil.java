@@ -2,26 +2,39 @@ package com.tbcpl.workforce.common.util;
 
 import com.lowagie.text.*;
 import com.lowagie.text.pdf.*;
+import com.tbcpl.workforce.common.cache.LruCache;
+import com.tbcpl.workforce.common.cache.PdfRenderCache;
+import com.tbcpl.workforce.common.cache.S3AssetCache;
 import com.tbcpl.workforce.grnd_operation.entity.Loa;
 import com.tbcpl.workforce.grnd_operation.entity.LoaAssets;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
-import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 
 import java.awt.Color;
 import java.io.ByteArrayOutputStream;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 
 @Component
 @Slf4j
 public class LoaPdfGeneratorUtil {
 
-    private final S3Service s3Service;
-    public LoaPdfGeneratorUtil(S3Service s3Service) {
-        this.s3Service = s3Service;
+    private final S3AssetCache assetCache;
+    private final PdfRenderCache pdfRenderCache;
+    // Decoded logo/stamp/signature keyed by S3 key + ETag; each render scales its own copy
+    private final LruCache<String, Image> decodedAssets = new LruCache<>("loa-asset-image", 16);
+
+    public LoaPdfGeneratorUtil(S3AssetCache assetCache, PdfRenderCache pdfRenderCache) {
+        this.assetCache = assetCache;
+        this.pdfRenderCache = pdfRenderCache;
     }
 
+    // Bump when the letter layout changes so cached renders are not reused
+    private static final String TEMPLATE_VERSION = "1";
+    public static final String CACHE_KIND        = "LOA";
+
     private static final String COMPANY_NAME         = "TRUE BUDDY CONSULTING PRIVATE LIMITED";
     private static final String COMPANY_CIN          = "CIN Number : U93000DL2016PTC291039";
     private static final String COMPANY_ADDRESS      = "A-22, Sec-3, Noida-201301";
@@ -45,16 +58,29 @@ public class LoaPdfGeneratorUtil {
 
     // ─── Main ────────────────────────────────────────────────────────────────
 
+    /**
+     * Cached render while the LOA row and the shared logo/stamp/signature assets are unchanged.
+     * A render that could not load one of the assets is served but not cached.
+     */
     public byte[] generateLoaPdf(Loa loa, LoaAssets assets) {
+        String fingerprint = String.join("|",
+                TEMPLATE_VERSION,
+                String.valueOf(loa.getUpdatedAt()),
+                assets != null ? assets.getId() + "@" + assets.getUpdatedAt() : "-");
+        return pdfRenderCache.getOrRender(CACHE_KIND, loa.getId(), fingerprint, () -> renderLoaPdf(loa, assets));
+    }
+
+    private PdfRenderCache.Rendered renderLoaPdf(Loa loa, LoaAssets assets) {
+        List<String> failedAssets = new ArrayList<>();
         try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
 
             Document doc = new Document(PageSize.A4, 72f, 72f, 60f, 60f);
             PdfWriter.getInstance(doc, baos);
             doc.open();
 
-            Image logoImg      = safeLoad(assets == null ? null : assets.getLogoUrl(),      LOGO_W,      LOGO_H);
-            Image stampImg     = safeLoad(assets == null ? null : assets.getStampUrl(),     STAMP_W,     STAMP_H);
-            Image signatureImg = safeLoad(assets == null ? null : assets.getSignatureUrl(), SIGNATURE_W, SIGNATURE_H);
+            Image logoImg      = assets == null ? null : safeLoad(assets.getLogoPublicId(),      assets.getLogoUrl(),      LOGO_W,      LOGO_H,      failedAssets);
+            Image stampImg     = assets == null ? null : safeLoad(assets.getStampPublicId(),     assets.getStampUrl(),     STAMP_W,     STAMP_H,     failedAssets);
+            Image signatureImg = assets == null ? null : safeLoad(assets.getSignaturePublicId(), assets.getSignatureUrl(), SIGNATURE_W, SIGNATURE_H, failedAssets);
 
             // ── Fonts (all slightly smaller than before) ─────────────────────
             Font boldBlueTitle = FontFactory.getFont(FontFactory.HELVETICA_BOLD,  14f, HEADER_BLUE);  // company name
@@ -118,7 +144,11 @@ public class LoaPdfGeneratorUtil {
             buildFooter(doc, signatureImg, stampImg, bold11, boldBlue10, normal, boldMed);
 
             doc.close();
-            return baos.toByteArray();
+            if (!failedAssets.isEmpty()) {
+                log.warn("LOA {} rendered without asset(s) {}; render not cached", loa.getLoaNumber(), failedAssets);
+                return PdfRenderCache.Rendered.degraded(baos.toByteArray());
+            }
+            return PdfRenderCache.Rendered.complete(baos.toByteArray());
 
         } catch (Exception e) {
             log.error("PDF generation failed for LOA: {}", loa.getLoaNumber(), e);
@@ -286,17 +316,30 @@ public class LoaPdfGeneratorUtil {
 
     // ─── Image loader ────────────────────────────────────────────────────────
 
-    private Image safeLoad(String url, float maxW, float maxH) {
-        if (url == null || url.isBlank()) return null;
+    /**
+     * Asset image by its stored S3 key (older rows: key parsed from the URL), served from
+     * the asset cache, decoded once per ETag and scaled to fit. On failure the key (or URL)
+     * is added to failedAssets and null is returned, so the render is marked degraded.
+     */
+    private Image safeLoad(String key, String url, float maxW, float maxH, List<String> failedAssets) {
+        if ((key == null || key.isBlank()) && (url == null || url.isBlank())) return null;
         try {
-            // ✅ Extract S3 key from URL and fetch bytes directly
-            String key = extractS3Key(url);
-            byte[] bytes = s3Service.downloadFileBytes(key);
-            Image img = Image.getInstance(bytes);
+            String s3Key = key != null && !key.isBlank() ? key : extractS3Key(url);
+            S3AssetCache.Asset asset = assetCache.get(s3Key);
+            String decodedKey = asset.key() + "@" + asset.eTag();
+
+            Image decoded = decodedAssets.get(decodedKey);
+            if (decoded == null) {
+                decoded = Image.getInstance(asset.bytes());
+                decodedAssets.put(decodedKey, decoded);
+            }
+
+            Image img = Image.getInstance(decoded);
             img.scaleToFit(maxW, maxH);
             return img;
         } catch (Exception e) {
-            log.warn("Could not load image from S3 key extracted from URL: {}", url);
+            log.warn("Could not load LOA asset image (key: {}, url: {}): {}", key, url, e.getMessage());
+            failedAssets.add(key != null && !key.isBlank() ? key : url);
             return null;
         }
     }
@@ -5,16 +5,31 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.ResponseBytes;
 import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.http.ContentStreamProvider;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
 
+import java.io.BufferedInputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
@@ -37,6 +52,11 @@ public class S3Service {
     private String cloudFrontDomain;
 
     private static final long MAX_FILE_SIZE = 20 * 1024 * 1024; // 20MB
+    // Above this, uploadFile switches to a multipart upload (S3 minimum part size is 5MB)
+    private static final long MULTIPART_THRESHOLD = 8 * 1024 * 1024;
+    private static final long PART_SIZE           = 8 * 1024 * 1024;
+    private static final int  STREAM_BUFFER_SIZE  = 64 * 1024;
+    private static final int  SNIFF_LENGTH        = 12;
     private static final Set<String> ALLOWED_TYPES = Set.of(
             "image/jpeg", "image/jpg", "image/png", "image/webp",
             "application/pdf",
@@ -46,6 +66,9 @@ public class S3Service {
 
     /**
      * Upload a MultipartFile to S3 under the given folder path.
+     * The part is streamed from the container's temp file — never read into a byte[] —
+     * as one PUT, or as a multipart upload above MULTIPART_THRESHOLD. Every request body
+     * reopens the file at its offset, so the SDK can replay it when it retries a request.
      * Returns: url, key, fileName
      */
     public Map<String, String> uploadFile(MultipartFile file, String folder) throws IOException {
@@ -53,15 +76,29 @@ public class S3Service {
 
         String extension = getExtension(file.getOriginalFilename());
         String key       = folder + "/" + UUID.randomUUID() + extension;
+        long   size      = file.getSize();
 
-        PutObjectRequest putRequest = PutObjectRequest.builder()
-                .bucket(bucketName)
-                .key(key)
-                .contentType(file.getContentType())
-                .contentLength(file.getSize())
-                .build();
+        String contentType;
+        try (InputStream in = file.getInputStream()) {
+            contentType = sniffContentType(in, file.getContentType());
+        }
 
-        s3Client.putObject(putRequest, RequestBody.fromBytes(file.getBytes()));
+        if (size > MULTIPART_THRESHOLD) {
+            uploadMultipart(file, key, contentType, size);
+        } else {
+            FileRange body = new FileRange(file, 0, size);
+            try {
+                s3Client.putObject(PutObjectRequest.builder()
+                                .bucket(bucketName)
+                                .key(key)
+                                .contentType(contentType)
+                                .contentLength(size)
+                                .build(),
+                        RequestBody.fromContentProvider(body, size, contentType));
+            } finally {
+                body.close();
+            }
+        }
 
         String url = buildUrl(key);
         log.info("File uploaded to S3: {}", key);
@@ -91,6 +128,19 @@ public class S3Service {
         }
     }
 
+    /**
+     * Download an object's bytes together with its ETag, for callers that cache by content version.
+     */
+    public Download downloadObject(String key) {
+        ResponseBytes<GetObjectResponse> object = s3Client.getObjectAsBytes(GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .build());
+        return new Download(object.asByteArray(), object.response().eTag());
+    }
+
+    public record Download(byte[] bytes, String eTag) {}
+
 
     /**
      * Upload raw bytes directly (used for cropped canvas images from frontend).
@@ -155,6 +205,104 @@ public class S3Service {
 
     // ── Private helpers ───────────────────────────────────────────────────────
 
+    /**
+     * Upload the file in PART_SIZE parts; each part is streamed from its own range of the file,
+     * and the upload is aborted on failure so no orphaned parts are billed
+     */
+    private void uploadMultipart(MultipartFile file, String key, String contentType, long size) {
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                        .bucket(bucketName)
+                        .key(key)
+                        .contentType(contentType)
+                        .build())
+                .uploadId();
+
+        try {
+            List<CompletedPart> parts = new ArrayList<>();
+            int partNumber = 1;
+            for (long offset = 0; offset < size; offset += PART_SIZE, partNumber++) {
+                long partSize = Math.min(PART_SIZE, size - offset);
+                FileRange body = new FileRange(file, offset, partSize);
+                try {
+                    String eTag = s3Client.uploadPart(UploadPartRequest.builder()
+                                            .bucket(bucketName)
+                                            .key(key)
+                                            .uploadId(uploadId)
+                                            .partNumber(partNumber)
+                                            .contentLength(partSize)
+                                            .build(),
+                                    RequestBody.fromContentProvider(body, partSize, contentType))
+                            .eTag();
+                    parts.add(CompletedPart.builder().partNumber(partNumber).eTag(eTag).build());
+                } finally {
+                    body.close();
+                }
+            }
+
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                    .build());
+            log.debug("Multipart upload of {} bytes to {} in {} parts", size, key, parts.size());
+        } catch (RuntimeException e) {
+            try {
+                s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                        .bucket(bucketName)
+                        .key(key)
+                        .uploadId(uploadId)
+                        .build());
+            } catch (RuntimeException abortError) {
+                log.warn("Failed to abort multipart upload {} for {}: {}", uploadId, key, abortError.getMessage());
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Content type from the file's leading magic bytes. Rejects content that matches no allowed
+     * type; JPEG/PNG/WEBP and PDF are canonicalised, Office files keep the declared type
+     * (DOC/DOCX containers are generic).
+     */
+    private String sniffContentType(InputStream in, String declaredType) throws IOException {
+        byte[] head = new byte[SNIFF_LENGTH];
+        int read = in.readNBytes(head, 0, SNIFF_LENGTH);
+
+        String sniffed = null;
+        if (startsWith(head, read, 0xFF, 0xD8, 0xFF)) {
+            sniffed = "image/jpeg";
+        } else if (startsWith(head, read, 0x89, 'P', 'N', 'G')) {
+            sniffed = "image/png";
+        } else if (startsWith(head, read, 'R', 'I', 'F', 'F') && read >= 12
+                && head[8] == 'W' && head[9] == 'E' && head[10] == 'B' && head[11] == 'P') {
+            sniffed = "image/webp";
+        } else if (startsWith(head, read, '%', 'P', 'D', 'F')) {
+            sniffed = "application/pdf";
+        } else if (startsWith(head, read, 0xD0, 0xCF, 0x11, 0xE0)
+                && "application/msword".equals(declaredType)) {
+            sniffed = declaredType;
+        } else if (startsWith(head, read, 'P', 'K', 0x03, 0x04)
+                && "application/vnd.openxmlformats-officedocument.wordprocessingml.document".equals(declaredType)) {
+            sniffed = declaredType;
+        }
+
+        if (sniffed == null) {
+            throw new IllegalArgumentException(
+                    "File content does not match an allowed type. Allowed: JPG, PNG, WEBP, PDF, DOC, DOCX"
+            );
+        }
+        return sniffed;
+    }
+
+    private static boolean startsWith(byte[] head, int read, int... signature) {
+        if (read < signature.length) return false;
+        for (int i = 0; i < signature.length; i++) {
+            if ((head[i] & 0xFF) != signature[i]) return false;
+        }
+        return true;
+    }
+
     private String buildUrl(String key) {
         return String.format("https://%s/%s", cloudFrontDomain, key);
     }
@@ -164,6 +312,102 @@ public class S3Service {
         return fileName.substring(fileName.lastIndexOf('.'));
     }
 
+    /**
+     * Request body over one byte range of the upload. Each newStream() reopens the file and skips
+     * to the range, so a retried request replays exactly its own bytes; the previous attempt's
+     * stream is closed first, and close() releases the last one.
+     */
+    private static final class FileRange implements ContentStreamProvider {
+        private final MultipartFile file;
+        private final long          offset;
+        private final long          length;
+        private InputStream         current;
+
+        FileRange(MultipartFile file, long offset, long length) {
+            this.file   = file;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        @Override
+        public synchronized InputStream newStream() {
+            close();
+            try {
+                InputStream in = file.getInputStream();
+                in.skipNBytes(offset);
+                current = new BufferedInputStream(new BoundedInputStream(in, length), STREAM_BUFFER_SIZE);
+                return current;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not reopen upload at offset " + offset, e);
+            }
+        }
+
+        synchronized void close() {
+            if (current == null) {
+                return;
+            }
+            try {
+                current.close();
+            } catch (IOException e) {
+                log.debug("Closing upload stream failed: {}", e.getMessage());
+            }
+            current = null;
+        }
+    }
+
+    /**
+     * Ends after length bytes, so a part never reads into the next one
+     */
+    private static final class BoundedInputStream extends FilterInputStream {
+        private long remaining;
+
+        BoundedInputStream(InputStream in, long length) {
+            super(in);
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int b = super.read();
+            if (b >= 0) {
+                remaining--;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int off, int len) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int n = super.read(buffer, off, (int) Math.min(len, remaining));
+            if (n > 0) {
+                remaining -= n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(Math.min(n, remaining));
+            remaining -= skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return (int) Math.min(super.available(), remaining);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+    }
+
     private void validateFile(MultipartFile file) {
         if (file == null || file.isEmpty()) {
             throw new IllegalArgumentException("File cannot be empty");
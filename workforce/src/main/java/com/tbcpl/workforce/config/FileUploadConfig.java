@@ -1,6 +1,7 @@
 package com.tbcpl.workforce.config;
 
 import jakarta.servlet.MultipartConfigElement;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.servlet.MultipartConfigFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -10,15 +11,26 @@ import org.springframework.web.multipart.support.StandardServletMultipartResolve
 
 import java.security.PublicKey;
 
+/**
+ * Servlet-wide multipart limits. This bean replaces Boot's own, so it reads the
+ * spring.servlet.multipart.* limits itself; per-endpoint limits are enforced by the services.
+ */
 @Configuration
 public class FileUploadConfig {
+
+    @Value("${spring.servlet.multipart.max-file-size:5MB}")
+    private DataSize maxFileSize;
+
+    @Value("${spring.servlet.multipart.max-request-size:10MB}")
+    private DataSize maxRequestSize;
+
     @Bean
     public MultipartConfigElement multipartConfigElement() {
         MultipartConfigFactory factory = new MultipartConfigFactory();
 
-        factory.setMaxFileSize(DataSize.ofMegabytes(5));
+        factory.setMaxFileSize(maxFileSize);
 
-        factory.setMaxRequestSize(DataSize.ofMegabytes(10));
+        factory.setMaxRequestSize(maxRequestSize);
 
         return factory.createMultipartConfig();
     }
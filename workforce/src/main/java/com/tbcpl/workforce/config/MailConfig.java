@@ -23,6 +23,13 @@ public class MailConfig {
     @Value("${spring.mail.password}")
     private String password;
 
+    // Disable both for a plain local SMTP stand-in (e.g. GreenMail) when testing the mail outbox
+    @Value("${app.mail.smtp.auth:true}")
+    private boolean smtpAuth;
+
+    @Value("${app.mail.smtp.starttls:true}")
+    private boolean startTls;
+
     @Bean
     public JavaMailSender javaMailSender() {
         JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
@@ -33,9 +40,9 @@ public class MailConfig {
 
         Properties props = mailSender.getJavaMailProperties();
         props.put("mail.transport.protocol", "smtp");
-        props.put("mail.smtp.auth", "true");
-        props.put("mail.smtp.starttls.enable", "true");
-        props.put("mail.smtp.starttls.required", "true");
+        props.put("mail.smtp.auth", String.valueOf(smtpAuth));
+        props.put("mail.smtp.starttls.enable", String.valueOf(startTls));
+        props.put("mail.smtp.starttls.required", String.valueOf(startTls));
         props.put("mail.smtp.connectiontimeout", "5000");
         props.put("mail.smtp.timeout", "5000");
         props.put("mail.smtp.writetimeout", "5000");
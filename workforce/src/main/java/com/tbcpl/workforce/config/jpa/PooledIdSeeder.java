@@ -0,0 +1,63 @@
+package com.tbcpl.workforce.config.jpa;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+import jakarta.persistence.metamodel.EntityType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Field;
+
+/**
+ * Moves every pooled id segment past the highest id already in its table before the app serves
+ * requests. Tables switched from AUTO_INCREMENT keep their existing rows, so a fresh segment
+ * starting at 1 would collide. Runs after the schema update (it depends on the
+ * EntityManagerFactory) and never lowers a segment, so concurrent instances are safe.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PooledIdSeeder {
+
+    private static final String UPSERT_SEGMENT =
+            "INSERT INTO " + PooledIds.TABLE + " (" + PooledIds.SEGMENT_COLUMN + ", " + PooledIds.VALUE_COLUMN + ") " +
+            "VALUES (?, ?) ON DUPLICATE KEY UPDATE " + PooledIds.VALUE_COLUMN + " = GREATEST(" + PooledIds.VALUE_COLUMN + ", ?)";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate         jdbcTemplate;
+
+    @PostConstruct
+    public void seed() {
+        for (EntityType<?> entity : entityManagerFactory.getMetamodel().getEntities()) {
+            Class<?> type = entity.getJavaType();
+            TableGenerator generator = findIdTableGenerator(type);
+            Table table = type.getAnnotation(Table.class);
+            if (generator == null || table == null || !PooledIds.TABLE.equals(generator.table())) {
+                continue;
+            }
+
+            Long maxId = jdbcTemplate.queryForObject(
+                    "SELECT COALESCE(MAX(id), 0) FROM " + table.name(), Long.class);
+            // The pooled optimizer hands out (value - allocationSize, value], so stay a full block clear
+            long floor = (maxId != null ? maxId : 0L) + generator.allocationSize() + 1;
+            jdbcTemplate.update(UPSERT_SEGMENT, generator.pkColumnValue(), floor, floor);
+            log.debug("Pooled id segment {} seeded above id {}", generator.pkColumnValue(), maxId);
+        }
+    }
+
+    private static TableGenerator findIdTableGenerator(Class<?> type) {
+        for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                if (field.isAnnotationPresent(Id.class)) {
+                    return field.getAnnotation(TableGenerator.class);
+                }
+            }
+        }
+        return null;
+    }
+}
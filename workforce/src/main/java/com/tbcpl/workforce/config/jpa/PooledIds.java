@@ -0,0 +1,30 @@
+package com.tbcpl.workforce.config.jpa;
+
+/**
+ * Shared settings for entities whose ids come from the id_generator table instead of
+ * AUTO_INCREMENT. IDENTITY ids force Hibernate to insert rows one at a time to learn each id;
+ * pooled table ids are reserved in blocks of ALLOCATION_SIZE, so inserts can be JDBC-batched.
+ * Use on high-volume child tables only, and only where every insert goes through JPA.
+ *
+ * <pre>
+ * &#64;Id
+ * &#64;GeneratedValue(strategy = GenerationType.TABLE, generator = "my_table")
+ * &#64;TableGenerator(name = "my_table", table = PooledIds.TABLE, pkColumnName = PooledIds.SEGMENT_COLUMN,
+ *         valueColumnName = PooledIds.VALUE_COLUMN, pkColumnValue = "my_table",
+ *         allocationSize = PooledIds.ALLOCATION_SIZE)
+ * private Long id;
+ * </pre>
+ */
+public final class PooledIds {
+
+    private PooledIds() {
+        // Prevent instantiation
+    }
+
+    public static final String TABLE          = "id_generator";
+    public static final String SEGMENT_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN   = "next_val";
+
+    // Matches spring.jpa.properties.hibernate.jdbc.batch_size
+    public static final int ALLOCATION_SIZE = 50;
+}
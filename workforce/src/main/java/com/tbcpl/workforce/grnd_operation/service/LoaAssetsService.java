@@ -1,12 +1,19 @@
 package com.tbcpl.workforce.grnd_operation.service;
 
 import com.tbcpl.workforce.grnd_operation.dto.response.LoaAssetsResponseDto;
+import com.tbcpl.workforce.grnd_operation.entity.LoaAssets;
 import org.springframework.web.multipart.MultipartFile;
 
 public interface LoaAssetsService {
 
     LoaAssetsResponseDto getAssets();
 
+    /**
+     * The singleton assets row for PDF rendering, served from a short-lived snapshot
+     * that is dropped whenever an asset is replaced.
+     */
+    LoaAssets getCurrentAssets();
+
     LoaAssetsResponseDto uploadLogo(MultipartFile file);
 
     LoaAssetsResponseDto uploadStamp(MultipartFile file);
@@ -1,6 +1,9 @@
 package com.tbcpl.workforce.grnd_operation.service.impl;
 
 
+import com.tbcpl.workforce.common.cache.PdfRenderCache;
+import com.tbcpl.workforce.common.cache.S3AssetCache;
+import com.tbcpl.workforce.common.util.LoaPdfGeneratorUtil;
 import com.tbcpl.workforce.common.util.S3Service;
 import com.tbcpl.workforce.grnd_operation.dto.response.LoaAssetsResponseDto;
 import com.tbcpl.workforce.grnd_operation.entity.LoaAssets;
@@ -11,6 +14,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
 
@@ -23,8 +28,14 @@ public class LoaAssetsServiceImpl implements LoaAssetsService {
 
     private final LoaAssetsRepository loaAssetsRepository;
     private final S3Service s3Service;
+    private final PdfRenderCache pdfRenderCache;
+    private final S3AssetCache assetCache;
 
     private static final String FOLDER = "loa-assets";
+    // Other instances pick up replaced assets within this window
+    private static final long SNAPSHOT_TTL_MS = 60_000;
+
+    private volatile Snapshot snapshot;
 
     // ─── Get ─────────────────────────────────────────────────────────────────
 
@@ -34,42 +45,56 @@ public class LoaAssetsServiceImpl implements LoaAssetsService {
         return toDto(loaAssetsRepository.findTopByOrderByIdAsc().orElse(null));
     }
 
+    @Override
+    public LoaAssets getCurrentAssets() {
+        Snapshot current = snapshot;
+        if (current == null || System.currentTimeMillis() - current.loadedAt() > SNAPSHOT_TTL_MS) {
+            current = new Snapshot(loaAssetsRepository.findTopByOrderByIdAsc().orElse(null),
+                    System.currentTimeMillis());
+            snapshot = current;
+        }
+        return current.assets();
+    }
+
     // ─── Uploads ─────────────────────────────────────────────────────────────
 
     @Override
     @Transactional
     public LoaAssetsResponseDto uploadLogo(MultipartFile file) {
         LoaAssets assets = getOrCreate();
-        safeDelete(assets.getLogoPublicId());
+        String replacedKey = assets.getLogoPublicId();
+        safeDelete(replacedKey);
         Map<String, String> result = upload(file);
         assets.setLogoUrl(result.get("url"));
         assets.setLogoPublicId(result.get("key"));
         log.info("LOA logo uploaded: {}", result.get("key"));
-        return toDto(loaAssetsRepository.save(assets));
+        return toDto(saveAndEvictRenders(assets, replacedKey, result.get("key")));
     }
 
     @Override
     @Transactional
     public LoaAssetsResponseDto uploadStamp(MultipartFile file) {
         LoaAssets assets = getOrCreate();
-        safeDelete(assets.getStampPublicId());
+        String replacedKey = assets.getStampPublicId();
+        safeDelete(replacedKey);
         Map<String, String> result = upload(file);
         assets.setStampUrl(result.get("url"));
         assets.setStampPublicId(result.get("key"));
         log.info("LOA stamp uploaded: {}", result.get("key"));
-        return toDto(loaAssetsRepository.save(assets));
+        return toDto(saveAndEvictRenders(assets, replacedKey, result.get("key")));
     }
 
     @Override
     @Transactional
     public LoaAssetsResponseDto uploadSignature(MultipartFile file) {
         LoaAssets assets = getOrCreate();
-        safeDelete(assets.getSignaturePublicId());
+        String replacedKey = assets.getSignaturePublicId();
+        safeDelete(replacedKey);
         Map<String, String> result = upload(file);
         assets.setSignatureUrl(result.get("url"));
         assets.setSignaturePublicId(result.get("key"));
         log.info("LOA signature uploaded: {}", result.get("key"));
-        return toDto(loaAssetsRepository.save(assets));
+        return toDto(saveAndEvictRenders(assets, replacedKey, result.get("key")));
     }
 
     // ─── Deletes ─────────────────────────────────────────────────────────────
@@ -78,34 +103,62 @@ public class LoaAssetsServiceImpl implements LoaAssetsService {
     @Transactional
     public LoaAssetsResponseDto deleteLogo() {
         LoaAssets assets = getOrCreate();
-        safeDelete(assets.getLogoPublicId());
+        String replacedKey = assets.getLogoPublicId();
+        safeDelete(replacedKey);
         assets.setLogoUrl(null);
         assets.setLogoPublicId(null);
-        return toDto(loaAssetsRepository.save(assets));
+        return toDto(saveAndEvictRenders(assets, replacedKey, null));
     }
 
     @Override
     @Transactional
     public LoaAssetsResponseDto deleteStamp() {
         LoaAssets assets = getOrCreate();
-        safeDelete(assets.getStampPublicId());
+        String replacedKey = assets.getStampPublicId();
+        safeDelete(replacedKey);
         assets.setStampUrl(null);
         assets.setStampPublicId(null);
-        return toDto(loaAssetsRepository.save(assets));
+        return toDto(saveAndEvictRenders(assets, replacedKey, null));
     }
 
     @Override
     @Transactional
     public LoaAssetsResponseDto deleteSignature() {
         LoaAssets assets = getOrCreate();
-        safeDelete(assets.getSignaturePublicId());
+        String replacedKey = assets.getSignaturePublicId();
+        safeDelete(replacedKey);
         assets.setSignatureUrl(null);
         assets.setSignaturePublicId(null);
-        return toDto(loaAssetsRepository.save(assets));
+        return toDto(saveAndEvictRenders(assets, replacedKey, null));
     }
 
     // ─── Helpers ─────────────────────────────────────────────────────────────
 
+    // Every LOA PDF embeds these assets, so cached renders of all LOAs are stale.
+    // Once committed, the replaced asset is dropped and the new one fetched into the asset cache.
+    private LoaAssets saveAndEvictRenders(LoaAssets assets, String replacedKey, String newKey) {
+        LoaAssets saved = loaAssetsRepository.save(assets);
+        pdfRenderCache.evictKind(LoaPdfGeneratorUtil.CACHE_KIND);
+        snapshot = null;
+
+        Runnable refresh = () -> {
+            snapshot = null;
+            assetCache.evict(replacedKey);
+            assetCache.refresh(newKey);
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    refresh.run();
+                }
+            });
+        } else {
+            refresh.run();
+        }
+        return saved;
+    }
+
     private LoaAssets getOrCreate() {
         return loaAssetsRepository.findTopByOrderByIdAsc()
                 .orElseGet(() -> loaAssetsRepository.save(LoaAssets.builder().build()));
@@ -131,6 +184,8 @@ public class LoaAssetsServiceImpl implements LoaAssetsService {
         }
     }
 
+    private record Snapshot(LoaAssets assets, long loadedAt) {}
+
     private LoaAssetsResponseDto toDto(LoaAssets assets) {
         if (assets == null) return LoaAssetsResponseDto.builder().build();
         return LoaAssetsResponseDto.builder()
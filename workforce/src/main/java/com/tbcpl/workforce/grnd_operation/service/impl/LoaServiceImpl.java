@@ -4,6 +4,8 @@ import com.tbcpl.workforce.admin.entity.Client;
 import com.tbcpl.workforce.admin.repository.ClientRepository;
 import com.tbcpl.workforce.auth.entity.Employee;
 import com.tbcpl.workforce.auth.repository.EmployeeRepository;
+import com.tbcpl.workforce.auth.service.EmployeeDirectory;
+import com.tbcpl.workforce.common.cache.PdfRenderCache;
 import com.tbcpl.workforce.common.util.LoaPdfGeneratorUtil;
 import com.tbcpl.workforce.grnd_operation.dto.request.LoaRequestDto;
 import com.tbcpl.workforce.grnd_operation.dto.response.ClientDropdownDto;
@@ -12,8 +14,8 @@ import com.tbcpl.workforce.grnd_operation.dto.response.LoaResponseDto;
 import com.tbcpl.workforce.grnd_operation.entity.Loa;
 import com.tbcpl.workforce.grnd_operation.entity.LoaAssets;
 import com.tbcpl.workforce.grnd_operation.entity.enums.LoaStatus;
-import com.tbcpl.workforce.grnd_operation.repository.LoaAssetsRepository;
 import com.tbcpl.workforce.grnd_operation.repository.LoaRepository;
+import com.tbcpl.workforce.grnd_operation.service.LoaAssetsService;
 import com.tbcpl.workforce.grnd_operation.service.LoaService;
 import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
@@ -40,11 +42,13 @@ import java.util.List;
 public class LoaServiceImpl implements LoaService {
 
     private final LoaRepository       loaRepository;
-    private final LoaAssetsRepository loaAssetsRepository;
+    private final LoaAssetsService    loaAssetsService;
     private final EmployeeRepository  employeeRepository;
+    private final EmployeeDirectory   employeeDirectory;
     private final ClientRepository    clientRepository;
     private final JavaMailSender      mailSender;
     private final LoaPdfGeneratorUtil pdfGeneratorUtil;
+    private final PdfRenderCache      pdfRenderCache;
 
     private static final String DEPT_ADMIN       = "DEPARTMENT_ADMIN";
     private static final String DEPT_OPERATION   = "DEPARTMENT_OPERATION";
@@ -57,16 +61,15 @@ public class LoaServiceImpl implements LoaService {
     // ─── Dropdowns ──────────────────────────────────────────────────────────
 
     @Override
-    @Transactional(readOnly = true)
     public List<EmployeeDropdownDto> getFieldAssociateDropdown() {
         requireAdminDeptAndAdminRole();
-        return employeeRepository.findActiveEmployeesByRoleName(FIELD_ASSOC_ROLE)
+        return employeeDirectory.byRoleNames(List.of(FIELD_ASSOC_ROLE))
                 .stream()
                 .map(e -> EmployeeDropdownDto.builder()
-                        .id(e.getId())
-                        .empId(e.getEmpId())
-                        .fullName(e.getFullName())
-                        .email(e.getEmail())
+                        .id(e.id())
+                        .empId(e.empId())
+                        .fullName(e.fullName())
+                        .email(e.email())
                         .build())
                 .toList();
     }
@@ -143,6 +146,7 @@ public class LoaServiceImpl implements LoaService {
         }
 
         Loa updated = loaRepository.save(loa);
+        pdfRenderCache.evict(LoaPdfGeneratorUtil.CACHE_KIND, id);
         log.info("LOA updated: {} by {}", updated.getLoaNumber(), currentEmpId());
         return toResponseDto(updated);
     }
@@ -162,6 +166,7 @@ public class LoaServiceImpl implements LoaService {
 
         loa.setStatus(LoaStatus.FINALIZED);
         Loa saved = loaRepository.save(loa);
+        pdfRenderCache.evict(LoaPdfGeneratorUtil.CACHE_KIND, id);
         log.info("LOA finalized: {} by {}", saved.getLoaNumber(), currentEmpId());
         return toResponseDto(saved);
     }
@@ -179,7 +184,7 @@ public class LoaServiceImpl implements LoaService {
                     "LOA must be finalized before sending via email.");
         }
 
-        LoaAssets assets = loaAssetsRepository.findTopByOrderByIdAsc().orElse(null);
+        LoaAssets assets = loaAssetsService.getCurrentAssets();
         byte[] pdfBytes  = pdfGeneratorUtil.generateLoaPdf(loa, assets);
 
         try {
@@ -209,7 +214,7 @@ public class LoaServiceImpl implements LoaService {
     @Transactional(readOnly = true)
     public byte[] previewLoaPdf(Long id) {
         Loa       loa    = getActiveLoaOrThrow(id);
-        LoaAssets assets = loaAssetsRepository.findTopByOrderByIdAsc().orElse(null);
+        LoaAssets assets = loaAssetsService.getCurrentAssets();
         return pdfGeneratorUtil.generateLoaPdf(loa, assets);
     }
 
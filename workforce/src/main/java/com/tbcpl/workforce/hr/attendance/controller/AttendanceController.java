@@ -3,6 +3,7 @@ package com.tbcpl.workforce.hr.attendance.controller;
 import com.tbcpl.workforce.common.constants.ApiEndpoints;
 import com.tbcpl.workforce.common.response.ApiResponse;
 import com.tbcpl.workforce.hr.attendance.dto.request.AttendanceRequest;
+import com.tbcpl.workforce.hr.attendance.dto.response.AttendanceImportResponse;
 import com.tbcpl.workforce.hr.attendance.dto.response.AttendanceResponse;
 import com.tbcpl.workforce.hr.attendance.service.AttendanceService;
 import jakarta.validation.Valid;
@@ -10,9 +11,11 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
 
@@ -37,6 +40,18 @@ public class AttendanceController {
                 .body(ApiResponse.success("Attendance marked successfully", response));
     }
 
+    /** POST /api/v1/hr/attendance/import  (multipart "file": CSV with header row, or JSON array) */
+    @PostMapping(value = ApiEndpoints.HR_ATTENDANCE_IMPORT, consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<AttendanceImportResponse>> importAttendance(
+            @RequestParam("file") MultipartFile file,
+            Authentication authentication
+    ) {
+        String importedBy = authentication.getName();
+        log.info("Import attendance file '{}' by: {}", file.getOriginalFilename(), importedBy);
+        AttendanceImportResponse response = attendanceService.importAttendance(file, importedBy);
+        return ResponseEntity.ok(ApiResponse.success("Attendance import completed", response));
+    }
+
     /** GET /api/v1/hr/attendance/{id} */
     @GetMapping(ApiEndpoints.HR_ATTENDANCE_BY_ID)
     public ResponseEntity<ApiResponse<AttendanceResponse>> getAttendanceById(
@@ -0,0 +1,36 @@
+package com.tbcpl.workforce.hr.attendance.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AttendanceImportResponse {
+
+    private String         format;
+    private Long           rowsRead;
+    private Long           rowsRejected;
+    private Long           duplicatesMerged;
+    private Long           recordsUpserted;
+    private Integer        chunks;
+    private Long           elapsedMs;
+    private Double         rowsPerSecond;
+    private List<RowError> errors;
+    private Boolean        errorsTruncated;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class RowError {
+        private Long   row;
+        private String empId;
+        private String message;
+    }
+}
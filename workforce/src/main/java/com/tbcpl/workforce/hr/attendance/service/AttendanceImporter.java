@@ -0,0 +1,631 @@
+package com.tbcpl.workforce.hr.attendance.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.tbcpl.workforce.auth.service.EmployeeDirectory;
+import com.tbcpl.workforce.common.exception.InvalidFileException;
+import com.tbcpl.workforce.hr.attendance.dto.response.AttendanceImportResponse;
+import com.tbcpl.workforce.hr.attendance.entity.enums.AttendanceStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Streams a device punch export (CSV with a header row, or a JSON array of objects) into
+ * hr_attendance. Rows are validated against the active-employee directory, merged per
+ * (empId, date) — earliest punch in, latest punch out — and written in chunks of CHUNK_SIZE with
+ * one batched INSERT ... ON DUPLICATE KEY UPDATE per chunk, each in its own transaction.
+ * Only the current chunk and the set of seen keys are held in memory.
+ * The merge also applies to rows already in the table, so re-importing a file is idempotent;
+ * regularized records keep their punches and status. Days whose record was soft-deleted are
+ * not revived: they are reported as row errors and left untouched.
+ */
+@Component
+@Slf4j
+public class AttendanceImporter {
+
+    private static final int CHUNK_SIZE          = 1000;
+    private static final int MAX_REPORTED_ERRORS = 1000;
+    private static final int REMARKS_LENGTH      = 255;
+
+    private static final String MERGED_IN  =
+            "COALESCE(LEAST(punch_in_time, VALUES(punch_in_time)), punch_in_time, VALUES(punch_in_time))";
+    private static final String MERGED_OUT =
+            "COALESCE(GREATEST(punch_out_time, VALUES(punch_out_time)), punch_out_time, VALUES(punch_out_time))";
+    private static final String MERGED_SECONDS = "TIME_TO_SEC(" + MERGED_OUT + ") - TIME_TO_SEC(" + MERGED_IN + ")";
+    // Rows the import must not change; soft-deleted ones are filtered out beforehand, this only guards a concurrent delete
+    private static final String FROZEN = "(is_regularized OR NOT is_active)";
+
+    // MySQL applies these assignments left to right and later ones see the values already assigned.
+    // working_hours must stay first: it is computed from the stored punches before they are overwritten.
+    private static final String UPSERT_KEEP_STATUS = """
+            INSERT INTO hr_attendance
+                (emp_id, attendance_date, status, punch_in_time, punch_out_time, working_hours,
+                 is_regularized, remarks, is_active, created_at, updated_at, created_by)
+            VALUES (?, ?, ?, ?, ?, ?, FALSE, ?, TRUE, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE
+                working_hours  = IF(%4$s, working_hours,
+                                    IF(%1$s >= 60, ROUND(FLOOR((%1$s) / 60) / 60, 2), working_hours)),
+                punch_in_time  = IF(%4$s, punch_in_time, %2$s),
+                punch_out_time = IF(%4$s, punch_out_time, %3$s),
+                remarks        = IF(is_active, COALESCE(VALUES(remarks), remarks), remarks),
+                updated_at     = IF(is_active, VALUES(updated_at), updated_at)"""
+            .formatted(MERGED_SECONDS, MERGED_IN, MERGED_OUT, FROZEN);
+    private static final String UPSERT_WITH_STATUS = UPSERT_KEEP_STATUS + """
+            ,
+                status         = IF(%s, status, VALUES(status))""".formatted(FROZEN);
+
+    private static final String SELECT_DELETED = """
+            SELECT emp_id, attendance_date FROM hr_attendance
+            WHERE is_active = FALSE AND attendance_date BETWEEN ? AND ? AND emp_id IN (%s)""";
+    private static final String DELETED_MESSAGE =
+            "Attendance record for this day was deleted; restore it before importing";
+
+    private static final DateTimeFormatter[] DATE_FORMATS = {
+            DateTimeFormatter.ISO_LOCAL_DATE,
+            DateTimeFormatter.ofPattern("dd-MM-yyyy"),
+            DateTimeFormatter.ofPattern("dd/MM/yyyy")
+    };
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("H:mm[:ss]");
+
+    private final JdbcTemplate        jdbcTemplate;
+    private final TransactionTemplate requiresNew;
+    private final EmployeeDirectory   employeeDirectory;
+    private final JsonFactory         jsonFactory = new JsonFactory();
+
+    public AttendanceImporter(JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager,
+                              EmployeeDirectory employeeDirectory) {
+        this.jdbcTemplate      = jdbcTemplate;
+        this.employeeDirectory = employeeDirectory;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Import the whole file. Bad rows are reported and skipped; chunks already written stay
+     * committed if the file turns out to be truncated or malformed further down.
+     */
+    public AttendanceImportResponse importFile(MultipartFile file, String importedBy) {
+        if (file == null || file.isEmpty()) {
+            throw new InvalidFileException("File is empty");
+        }
+        boolean json = isJson(file);
+        long startedAt = System.nanoTime();
+        Run run = new Run(importedBy);
+
+        try (InputStream in = file.getInputStream()) {
+            if (json) {
+                readJson(in, run);
+            } else {
+                readCsv(in, run);
+            }
+        } catch (IOException e) {
+            throw new InvalidFileException("Could not read attendance file: " + e.getMessage());
+        }
+        run.flush();
+
+        long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+        log.info("Attendance import by {}: {} rows read, {} rejected, {} duplicates merged, {} records in {} chunks, {} ms",
+                importedBy, run.rowsRead, run.rowsRejected, run.duplicates, run.written.size(), run.chunks, elapsedMs);
+
+        return AttendanceImportResponse.builder()
+                .format(json ? "JSON" : "CSV")
+                .rowsRead(run.rowsRead)
+                .rowsRejected(run.rowsRejected)
+                .duplicatesMerged(run.duplicates)
+                .recordsUpserted((long) run.written.size())
+                .chunks(run.chunks)
+                .elapsedMs(elapsedMs)
+                .rowsPerSecond(elapsedMs > 0 ? Math.round(run.rowsRead * 1000.0 / elapsedMs * 10.0) / 10.0 : null)
+                .errors(run.errors)
+                .errorsTruncated(run.rowsRejected > run.errors.size())
+                .build();
+    }
+
+    // ── Readers ──
+
+    private void readCsv(InputStream in, Run run) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 64 * 1024);
+        String header = reader.readLine();
+        if (header == null) {
+            throw new InvalidFileException("File is empty");
+        }
+        if (header.startsWith("\uFEFF")) {
+            header = header.substring(1);
+        }
+
+        char delimiter = detectDelimiter(header);
+        List<String> names = splitCsv(header, delimiter);
+        Column[] columns = new Column[names.size()];
+        Set<Column> present = new HashSet<>();
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = Column.of(names.get(i));
+            if (columns[i] != null) {
+                present.add(columns[i]);
+            }
+        }
+        if (!present.contains(Column.EMP_ID) || !(present.contains(Column.DATE) || present.contains(Column.DATETIME))) {
+            throw new InvalidFileException("CSV header must contain an employee ID column and a date or datetime column");
+        }
+
+        String line;
+        long lineNumber = 1;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            List<String> cells = splitCsv(line, delimiter);
+            Map<Column, String> values = new EnumMap<>(Column.class);
+            for (int i = 0; i < columns.length && i < cells.size(); i++) {
+                if (columns[i] != null) {
+                    values.put(columns[i], cells.get(i));
+                }
+            }
+            run.accept(values, lineNumber);
+        }
+    }
+
+    private void readJson(InputStream in, Run run) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new InvalidFileException("JSON import must be an array of punch objects");
+            }
+            long index = 0;
+            JsonToken token;
+            while ((token = parser.nextToken()) == JsonToken.START_OBJECT) {
+                index++;
+                Map<Column, String> values = new EnumMap<>(Column.class);
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    Column column = Column.of(parser.currentName());
+                    JsonToken value = parser.nextToken();
+                    if (value.isStructStart()) {
+                        parser.skipChildren();
+                    } else if (column != null && value != JsonToken.VALUE_NULL) {
+                        values.put(column, parser.getText());
+                    }
+                }
+                run.accept(values, index);
+            }
+            if (token != JsonToken.END_ARRAY) {
+                throw new InvalidFileException("Expected a punch object at entry " + (index + 1) + " but found " + token);
+            }
+        }
+    }
+
+    // ── Per-import state ──
+
+    private final class Run {
+        private final String              importedBy;
+        private final Map<String, String> empIds = new HashMap<>();
+        private final Set<String>         seen    = new HashSet<>();
+        private final Set<String>         written = new HashSet<>();
+        private final TreeMap<String, PunchRow> chunk = new TreeMap<>();
+        private final List<AttendanceImportResponse.RowError> errors = new ArrayList<>();
+        private final LocalDate           today = LocalDate.now();
+
+        private long rowsRead;
+        private long rowsRejected;
+        private long duplicates;
+        private int  chunks;
+
+        Run(String importedBy) {
+            this.importedBy = importedBy;
+            for (EmployeeDirectory.Entry entry : employeeDirectory.all()) {
+                empIds.put(entry.empId().toUpperCase(Locale.ROOT), entry.empId());
+            }
+        }
+
+        void accept(Map<Column, String> values, long row) {
+            rowsRead++;
+            PunchRow punch;
+            try {
+                punch = parse(values, row);
+            } catch (IllegalArgumentException e) {
+                reject(row, trimToNull(values.get(Column.EMP_ID)), e.getMessage());
+                return;
+            }
+
+            String key = punch.empId + '|' + punch.date;
+            if (!seen.add(key)) {
+                duplicates++;
+            }
+            PunchRow pending = chunk.get(key);
+            if (pending != null) {
+                pending.merge(punch);
+            } else {
+                chunk.put(key, punch);
+                if (chunk.size() >= CHUNK_SIZE) {
+                    flush();
+                }
+            }
+        }
+
+        /**
+         * Write the pending chunk in key order (so concurrent imports lock rows in the same order);
+         * if the batch fails, retry row by row so one bad record does not lose the rest
+         */
+        void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            List<PunchRow> rows = new ArrayList<>(chunk.values());
+            chunk.clear();
+            chunks++;
+
+            try {
+                record(rows, requiresNew.execute(status -> write(rows)));
+            } catch (RuntimeException batchError) {
+                log.warn("Attendance import chunk of {} failed, retrying row by row: {}", rows.size(), batchError.getMessage());
+                for (PunchRow row : rows) {
+                    try {
+                        record(List.of(row), requiresNew.execute(status -> write(List.of(row))));
+                    } catch (RuntimeException rowError) {
+                        reject(row.firstRow, row.empId, "Could not be saved: " + rowError.getMessage());
+                    }
+                }
+            }
+        }
+
+        private void record(List<PunchRow> rows, Set<String> deleted) {
+            for (PunchRow row : rows) {
+                if (deleted.contains(row.key())) {
+                    reject(row.firstRow, row.empId, DELETED_MESSAGE);
+                } else {
+                    written.add(row.key());
+                }
+            }
+        }
+
+        /**
+         * Upsert the rows, skipping days whose record is soft-deleted; returns the skipped keys
+         */
+        private Set<String> write(List<PunchRow> rows) {
+            Set<String> deleted = findDeleted(rows);
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            List<Object[]> keepStatus = new ArrayList<>();
+            List<Object[]> withStatus = new ArrayList<>();
+            for (PunchRow r : rows) {
+                if (deleted.contains(r.key())) {
+                    continue;
+                }
+                Object[] args = {
+                        r.empId,
+                        Date.valueOf(r.date),
+                        (r.status != null ? r.status : AttendanceStatus.PRESENT).name(),
+                        r.punchIn != null ? Time.valueOf(r.punchIn) : null,
+                        r.punchOut != null ? Time.valueOf(r.punchOut) : null,
+                        workingHours(r.punchIn, r.punchOut),
+                        r.remarks,
+                        now,
+                        now,
+                        importedBy
+                };
+                (r.status != null ? withStatus : keepStatus).add(args);
+            }
+            if (!keepStatus.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPSERT_KEEP_STATUS, keepStatus);
+            }
+            if (!withStatus.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPSERT_WITH_STATUS, withStatus);
+            }
+            return deleted;
+        }
+
+        // One indexed lookup per chunk: the chunk's employees over its date range, matched to exact keys here
+        private Set<String> findDeleted(List<PunchRow> rows) {
+            Set<String> chunkEmpIds = new TreeSet<>();
+            LocalDate from = null;
+            LocalDate to = null;
+            for (PunchRow r : rows) {
+                chunkEmpIds.add(r.empId);
+                from = from == null || r.date.isBefore(from) ? r.date : from;
+                to   = to == null || r.date.isAfter(to) ? r.date : to;
+            }
+
+            List<Object> args = new ArrayList<>(chunkEmpIds.size() + 2);
+            args.add(Date.valueOf(from));
+            args.add(Date.valueOf(to));
+            args.addAll(chunkEmpIds);
+            String sql = SELECT_DELETED.formatted(String.join(", ", Collections.nCopies(chunkEmpIds.size(), "?")));
+
+            Set<String> chunkKeys = new HashSet<>();
+            rows.forEach(r -> chunkKeys.add(r.key()));
+            Set<String> deleted = new HashSet<>();
+            jdbcTemplate.query(sql, rs -> {
+                String key = rs.getString(1) + '|' + rs.getDate(2).toLocalDate();
+                if (chunkKeys.contains(key)) {
+                    deleted.add(key);
+                }
+            }, args.toArray());
+            return deleted;
+        }
+
+        private PunchRow parse(Map<Column, String> values, long row) {
+            String rawEmpId = trimToNull(values.get(Column.EMP_ID));
+            if (rawEmpId == null) {
+                throw new IllegalArgumentException("Employee ID is required");
+            }
+            String empId = empIds.get(rawEmpId.toUpperCase(Locale.ROOT));
+            if (empId == null) {
+                throw new IllegalArgumentException("Unknown or inactive employee");
+            }
+
+            LocalDate date;
+            LocalTime stamped = null;
+            String dateTime = trimToNull(values.get(Column.DATETIME));
+            if (dateTime != null) {
+                int split = dateTime.indexOf('T') > 0 ? dateTime.indexOf('T') : dateTime.indexOf(' ');
+                if (split < 0) {
+                    throw new IllegalArgumentException("Invalid punch datetime: " + dateTime);
+                }
+                date    = parseDate(dateTime.substring(0, split));
+                stamped = parseTime(dateTime.substring(split + 1));
+            } else {
+                String rawDate = trimToNull(values.get(Column.DATE));
+                if (rawDate == null) {
+                    throw new IllegalArgumentException("Attendance date is required");
+                }
+                date = parseDate(rawDate);
+            }
+            if (date.isAfter(today)) {
+                throw new IllegalArgumentException("Attendance date " + date + " is in the future");
+            }
+
+            LocalTime punchIn  = parseTime(values.get(Column.PUNCH_IN));
+            LocalTime punchOut = parseTime(values.get(Column.PUNCH_OUT));
+            LocalTime punch    = stamped != null ? stamped : parseTime(values.get(Column.PUNCH));
+            if (punch != null) {
+                punchIn  = earliest(punchIn, punch);
+                punchOut = latest(punchOut, punch);
+            }
+            if (punchIn != null && punchOut != null && punchOut.isBefore(punchIn)) {
+                throw new IllegalArgumentException("Punch-out " + punchOut + " is before punch-in " + punchIn);
+            }
+
+            AttendanceStatus status = parseStatus(values.get(Column.STATUS));
+            if (punchIn == null && punchOut == null && status == null) {
+                throw new IllegalArgumentException("Row has no punch time and no status");
+            }
+
+            String remarks = trimToNull(values.get(Column.REMARKS));
+            if (remarks != null && remarks.length() > REMARKS_LENGTH) {
+                remarks = remarks.substring(0, REMARKS_LENGTH);
+            }
+            return new PunchRow(row, empId, date, punchIn, punchOut, status, remarks);
+        }
+
+        private void reject(long row, String empId, String message) {
+            rowsRejected++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(AttendanceImportResponse.RowError.builder()
+                        .row(row)
+                        .empId(empId)
+                        .message(message)
+                        .build());
+            }
+        }
+    }
+
+    /**
+     * One employee-day; rows for the same key merge to the widest punch span,
+     * the last explicit status and the last non-empty remark
+     */
+    private static final class PunchRow {
+        private final long      firstRow;
+        private final String    empId;
+        private final LocalDate date;
+        private LocalTime        punchIn;
+        private LocalTime        punchOut;
+        private AttendanceStatus status;
+        private String           remarks;
+
+        PunchRow(long firstRow, String empId, LocalDate date, LocalTime punchIn, LocalTime punchOut,
+                 AttendanceStatus status, String remarks) {
+            this.firstRow = firstRow;
+            this.empId    = empId;
+            this.date     = date;
+            this.punchIn  = punchIn;
+            this.punchOut = punchOut;
+            this.status   = status;
+            this.remarks  = remarks;
+        }
+
+        String key() {
+            return empId + '|' + date;
+        }
+
+        void merge(PunchRow other) {
+            punchIn  = earliest(punchIn, other.punchIn);
+            punchOut = latest(punchOut, other.punchOut);
+            if (other.status != null) {
+                status = other.status;
+            }
+            if (other.remarks != null) {
+                remarks = other.remarks;
+            }
+        }
+    }
+
+    /**
+     * Recognised columns / JSON fields; header names match case-insensitively, ignoring spaces,
+     * underscores and dashes
+     */
+    private enum Column {
+        EMP_ID("empid", "employeeid", "empcode", "employeecode"),
+        DATE("date", "attendancedate", "punchdate"),
+        DATETIME("datetime", "punchdatetime", "timestamp"),
+        PUNCH_IN("punchin", "punchintime", "intime", "checkin"),
+        PUNCH_OUT("punchout", "punchouttime", "outtime", "checkout"),
+        PUNCH("punch", "punchtime", "time"),
+        STATUS("status"),
+        REMARKS("remarks", "remark");
+
+        private static final Map<String, Column> BY_NAME = new HashMap<>();
+        static {
+            for (Column column : values()) {
+                for (String name : column.names) {
+                    BY_NAME.put(name, column);
+                }
+            }
+        }
+
+        private final String[] names;
+
+        Column(String... names) {
+            this.names = names;
+        }
+
+        static Column of(String header) {
+            return header == null ? null
+                    : BY_NAME.get(header.replaceAll("[\\s_\\-\"]", "").toLowerCase(Locale.ROOT));
+        }
+    }
+
+    // ── Parsing helpers ──
+
+    private static boolean isJson(MultipartFile file) {
+        String name = file.getOriginalFilename() != null ? file.getOriginalFilename().toLowerCase(Locale.ROOT) : "";
+        String type = file.getContentType() != null ? file.getContentType().toLowerCase(Locale.ROOT) : "";
+        if (name.endsWith(".json") || type.contains("json")) {
+            return true;
+        }
+        if (name.endsWith(".csv") || name.endsWith(".txt") || type.startsWith("text/")
+                || type.contains("csv") || type.equals("application/vnd.ms-excel")) {
+            return false;
+        }
+        throw new InvalidFileException("Only CSV or JSON attendance files are supported");
+    }
+
+    private static char detectDelimiter(String header) {
+        if (header.indexOf(',') >= 0) return ',';
+        if (header.indexOf('\t') >= 0) return '\t';
+        if (header.indexOf(';') >= 0) return ';';
+        return ',';
+    }
+
+    /**
+     * Split one CSV record; supports quoted cells with "" escapes (quoted line breaks are not supported)
+     */
+    static List<String> splitCsv(String line, char delimiter) {
+        List<String> cells = new ArrayList<>();
+        StringBuilder cell = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    cell.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    cell.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == delimiter) {
+                cells.add(cell.toString());
+                cell.setLength(0);
+            } else {
+                cell.append(c);
+            }
+        }
+        cells.add(cell.toString());
+        return cells;
+    }
+
+    private static LocalDate parseDate(String value) {
+        String text = value.trim();
+        for (DateTimeFormatter format : DATE_FORMATS) {
+            try {
+                return LocalDate.parse(text, format);
+            } catch (DateTimeParseException ignored) {
+                // try the next accepted format
+            }
+        }
+        throw new IllegalArgumentException("Invalid date: " + text);
+    }
+
+    private static LocalTime parseTime(String value) {
+        String text = trimToNull(value);
+        if (text == null) {
+            return null;
+        }
+        try {
+            return LocalTime.parse(text, TIME_FORMAT);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid time: " + text);
+        }
+    }
+
+    private static AttendanceStatus parseStatus(String value) {
+        String text = trimToNull(value);
+        if (text == null) {
+            return null;
+        }
+        try {
+            return AttendanceStatus.valueOf(text.toUpperCase(Locale.ROOT).replace(' ', '_').replace('-', '_'));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid status: " + text);
+        }
+    }
+
+    /**
+     * Same rule as AttendanceServiceImpl: whole minutes between the punches, in hours to 2 decimals
+     */
+    private static Double workingHours(LocalTime punchIn, LocalTime punchOut) {
+        if (punchIn == null || punchOut == null) {
+            return null;
+        }
+        long minutes = java.time.Duration.between(punchIn, punchOut).toMinutes();
+        return minutes > 0 ? Math.round(minutes / 60.0 * 100.0) / 100.0 : null;
+    }
+
+    private static LocalTime earliest(LocalTime a, LocalTime b) {
+        return a == null ? b : b == null ? a : (b.isBefore(a) ? b : a);
+    }
+
+    private static LocalTime latest(LocalTime a, LocalTime b) {
+        return a == null ? b : b == null ? a : (b.isAfter(a) ? b : a);
+    }
+
+    private static String trimToNull(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+}
@@ -1,8 +1,10 @@
 package com.tbcpl.workforce.hr.attendance.service;
 
 import com.tbcpl.workforce.hr.attendance.dto.request.AttendanceRequest;
+import com.tbcpl.workforce.hr.attendance.dto.response.AttendanceImportResponse;
 import com.tbcpl.workforce.hr.attendance.dto.response.AttendanceResponse;
 import org.springframework.data.domain.Page;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
 
@@ -19,4 +21,6 @@ public interface AttendanceService {
     AttendanceResponse updateAttendance(Long id, AttendanceRequest request, String updatedBy);
 
     void deleteAttendance(Long id, String deletedBy);
+
+    AttendanceImportResponse importAttendance(MultipartFile file, String importedBy);
 }
\ No newline at end of file
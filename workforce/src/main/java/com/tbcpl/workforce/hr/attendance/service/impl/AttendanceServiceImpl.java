@@ -5,9 +5,11 @@ import com.tbcpl.workforce.common.exception.DuplicateResourceException;
 import com.tbcpl.workforce.common.exception.ResourceNotFoundException;
 import com.tbcpl.workforce.common.util.EmployeeNameResolverService;
 import com.tbcpl.workforce.hr.attendance.dto.request.AttendanceRequest;
+import com.tbcpl.workforce.hr.attendance.dto.response.AttendanceImportResponse;
 import com.tbcpl.workforce.hr.attendance.dto.response.AttendanceResponse;
 import com.tbcpl.workforce.hr.attendance.entity.Attendance;
 import com.tbcpl.workforce.hr.attendance.repository.AttendanceRepository;
+import com.tbcpl.workforce.hr.attendance.service.AttendanceImporter;
 import com.tbcpl.workforce.hr.attendance.service.AttendanceService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,6 +19,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.util.Collections;
 import java.util.List;
@@ -32,6 +35,7 @@ public class AttendanceServiceImpl implements AttendanceService {
     private final AttendanceRepository        attendanceRepository;
     private final EmployeeRepository          employeeRepository;
     private final EmployeeNameResolverService  nameResolver;
+    private final AttendanceImporter           attendanceImporter;
 
     @Override
     @Transactional
@@ -142,6 +146,16 @@ public class AttendanceServiceImpl implements AttendanceService {
         attendanceRepository.save(attendance);
     }
 
+    /**
+     * Not transactional: the importer commits each chunk on its own
+     */
+    @Override
+    public AttendanceImportResponse importAttendance(MultipartFile file, String importedBy) {
+        log.info("Importing attendance file '{}' ({} bytes) by: {}",
+                file.getOriginalFilename(), file.getSize(), importedBy);
+        return attendanceImporter.importFile(file, importedBy);
+    }
+
     // ── Helpers ───────────────────────────────────────────────────────────────
 
     private Attendance findById(Long id) {
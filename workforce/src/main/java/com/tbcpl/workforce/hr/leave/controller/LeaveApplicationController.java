@@ -7,6 +7,7 @@ import com.tbcpl.workforce.hr.leave.dto.request.LeaveApplicationRequest;
 import com.tbcpl.workforce.hr.leave.dto.response.LeaveApplicationResponse;
 import com.tbcpl.workforce.hr.leave.dto.response.LeaveBalanceResponse;
 import com.tbcpl.workforce.hr.leave.dto.response.LeaveBalanceSummaryResponse;
+import com.tbcpl.workforce.hr.leave.dto.response.LeaveCarryForwardRunResponse;
 import com.tbcpl.workforce.hr.leave.service.LeaveService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -78,18 +79,34 @@ public class LeaveApplicationController {
 
     /**
      * POST /api/v1/hr/leave-balance/carry-forward?year=2025
-     * Year-end carry-forward processing — HR/Admin only
+     * Year-end carry-forward processing — HR/Admin only.
+     * Runs in the background; a failed or interrupted run resumes from its checkpoint.
      */
     @PostMapping("/leave-balance/carry-forward")
-    public ResponseEntity<ApiResponse<Void>> processCarryForward(
+    public ResponseEntity<ApiResponse<LeaveCarryForwardRunResponse>> processCarryForward(
             @RequestParam Integer year,
             Authentication authentication
     ) {
         String processedBy = authentication.getName();
         log.info("Process carry-forward for year: {} by: {}", year, processedBy);
-        leaveService.processYearEndCarryForward(year, processedBy);
+        LeaveCarryForwardRunResponse run = leaveService.processYearEndCarryForward(year, processedBy);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success("Carry-forward " + run.getStatus().name().toLowerCase()
+                        + " for year: " + year, run));
+    }
+
+    /**
+     * GET /api/v1/hr/leave-balance/carry-forward/2025
+     * Progress and throughput of a carry-forward run
+     */
+    @GetMapping("/leave-balance/carry-forward/{year}")
+    public ResponseEntity<ApiResponse<LeaveCarryForwardRunResponse>> getCarryForwardStatus(
+            @PathVariable Integer year
+    ) {
+        log.info("Get carry-forward status for year: {}", year);
         return ResponseEntity.ok(
-                ApiResponse.success("Carry-forward processed successfully for year: " + year));
+                ApiResponse.success("Carry-forward status retrieved",
+                        leaveService.getCarryForwardStatus(year)));
     }
 
     // ── Leave Application ─────────────────────────────────────────────────────
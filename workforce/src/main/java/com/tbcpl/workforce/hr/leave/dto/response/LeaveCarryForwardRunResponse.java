@@ -0,0 +1,31 @@
+package com.tbcpl.workforce.hr.leave.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.tbcpl.workforce.hr.leave.entity.enums.CarryForwardRunStatus;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class LeaveCarryForwardRunResponse {
+
+    private Integer               fromYear;
+    private Integer               toYear;
+    private CarryForwardRunStatus status;
+    private Long                  lastBalanceId;
+    private Long                  scannedBalances;
+    private Long                  createdBalances;
+    private Long                  updatedBalances;
+    private Integer               chunks;
+    private Long                  elapsedMs;
+    private Double                balancesPerSecond;
+    private String                startedBy;
+    private LocalDateTime         startedAt;
+    private LocalDateTime         heartbeatAt;
+    private LocalDateTime         finishedAt;
+    private String                lastError;
+}
@@ -1,5 +1,6 @@
 package com.tbcpl.workforce.hr.leave.entity;
 
+import com.tbcpl.workforce.config.jpa.PooledIds;
 import com.tbcpl.workforce.hr.attendance.entity.LeaveType;
 import jakarta.persistence.*;
 import lombok.*;
@@ -30,7 +31,10 @@ import java.time.LocalDateTime;
 public class LeaveBalance {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "hr_leave_balances")
+    @TableGenerator(name = "hr_leave_balances", table = PooledIds.TABLE,
+            pkColumnName = PooledIds.SEGMENT_COLUMN, valueColumnName = PooledIds.VALUE_COLUMN,
+            pkColumnValue = "hr_leave_balances", allocationSize = PooledIds.ALLOCATION_SIZE)
     private Long id;
 
     // Cross-dept reference — no JPA join
@@ -0,0 +1,80 @@
+package com.tbcpl.workforce.hr.leave.entity;
+
+import com.tbcpl.workforce.hr.leave.entity.enums.CarryForwardRunStatus;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Progress of the year-end carry-forward from one balance year into the next.
+ * lastBalanceId is the checkpoint: every hr_leave_balances row up to it has been carried
+ * forward, and it advances in the same transaction as the chunk it covers, so a failed or
+ * interrupted run resumes after the last committed chunk without double-counting.
+ */
+@Entity
+@Table(name = "hr_leave_carry_forward_runs")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LeaveCarryForwardRun {
+
+    // Balance year being carried forward (into fromYear + 1)
+    @Id
+    @Column(name = "from_year")
+    private Integer fromYear;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private CarryForwardRunStatus status;
+
+    // Highest eligible balance id already processed
+    @Column(name = "last_balance_id", nullable = false)
+    @Builder.Default
+    private Long lastBalanceId = 0L;
+
+    @Column(name = "scanned_balances", nullable = false)
+    @Builder.Default
+    private Long scannedBalances = 0L;
+
+    // Next-year balances created with the carried amount
+    @Column(name = "created_balances", nullable = false)
+    @Builder.Default
+    private Long createdBalances = 0L;
+
+    // Existing next-year balances topped up with the carried amount
+    @Column(name = "updated_balances", nullable = false)
+    @Builder.Default
+    private Long updatedBalances = 0L;
+
+    @Column(name = "chunks", nullable = false)
+    @Builder.Default
+    private Integer chunks = 0;
+
+    // Time spent inside chunk transactions, summed across resumes
+    @Column(name = "elapsed_ms", nullable = false)
+    @Builder.Default
+    private Long elapsedMs = 0L;
+
+    @Column(name = "started_by", length = 100)
+    private String startedBy;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    // Refreshed with every checkpoint; a RUNNING run with an old heartbeat has lost its worker
+    @Column(name = "heartbeat_at", nullable = false)
+    private LocalDateTime heartbeatAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
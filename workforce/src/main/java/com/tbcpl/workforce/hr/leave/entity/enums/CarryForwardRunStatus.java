@@ -0,0 +1,7 @@
+package com.tbcpl.workforce.hr.leave.entity.enums;
+
+public enum CarryForwardRunStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -1,11 +1,13 @@
 package com.tbcpl.workforce.hr.leave.repository;
 
 import com.tbcpl.workforce.hr.leave.entity.LeaveBalance;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -34,10 +36,26 @@ public interface LeaveBalanceRepository extends JpaRepository<LeaveBalance, Long
             @Param("year")  Integer year
     );
 
-    // Used during year-end carry-forward processing
+    // Year-end carry-forward: next chunk of balances with something to carry, in id order after the checkpoint
     @Query("SELECT lb FROM LeaveBalance lb " +
             "JOIN FETCH lb.leaveType lt " +
             "WHERE lb.balanceYear = :year AND lb.isActive = true " +
-            "AND lt.isCarryForwardAllowed = true")
-    List<LeaveBalance> findAllEligibleForCarryForward(@Param("year") Integer year);
+            "AND lt.isCarryForwardAllowed = true AND lt.maxCarryForwardDays > 0 " +
+            "AND lb.availableBalance > 0 AND lb.id > :afterId " +
+            "ORDER BY lb.id ASC")
+    List<LeaveBalance> findEligibleForCarryForwardAfter(
+            @Param("year")    Integer year,
+            @Param("afterId") Long afterId,
+            Pageable pageable
+    );
+
+    // Year-end carry-forward: target-year balances for a whole chunk in one query
+    @Query("SELECT lb FROM LeaveBalance lb " +
+            "WHERE lb.balanceYear = :year AND lb.empId IN :empIds " +
+            "AND lb.leaveType.id IN :leaveTypeIds")
+    List<LeaveBalance> findByYearAndEmpIdsAndLeaveTypeIds(
+            @Param("year")         Integer year,
+            @Param("empIds")       Collection<String> empIds,
+            @Param("leaveTypeIds") Collection<Long> leaveTypeIds
+    );
 }
\ No newline at end of file
@@ -0,0 +1,64 @@
+package com.tbcpl.workforce.hr.leave.repository;
+
+import com.tbcpl.workforce.hr.leave.entity.LeaveCarryForwardRun;
+import com.tbcpl.workforce.hr.leave.entity.enums.CarryForwardRunStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Carry-forward run state. Every transition is a conditional UPDATE, so two instances
+ * can never both own a run or both advance the same checkpoint.
+ */
+@Repository
+public interface LeaveCarryForwardRunRepository extends JpaRepository<LeaveCarryForwardRun, Integer> {
+
+    /**
+     * Take over a FAILED run, or a RUNNING one whose worker stopped sending heartbeats;
+     * returns 0 when the run is completed or still owned by a live worker
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE LeaveCarryForwardRun r SET r.status = com.tbcpl.workforce.hr.leave.entity.enums.CarryForwardRunStatus.RUNNING, " +
+            "r.startedBy = :startedBy, r.heartbeatAt = :now, r.finishedAt = null, r.lastError = null, r.updatedAt = :now " +
+            "WHERE r.fromYear = :year AND (r.status = com.tbcpl.workforce.hr.leave.entity.enums.CarryForwardRunStatus.FAILED " +
+            "OR (r.status = com.tbcpl.workforce.hr.leave.entity.enums.CarryForwardRunStatus.RUNNING AND r.heartbeatAt < :staleBefore))")
+    int claim(@Param("year") Integer year,
+              @Param("startedBy") String startedBy,
+              @Param("staleBefore") LocalDateTime staleBefore,
+              @Param("now") LocalDateTime now);
+
+    /**
+     * Advance the checkpoint past one chunk; runs inside the chunk's transaction and
+     * returns 0 if the checkpoint moved underneath it (the chunk must then roll back)
+     */
+    @Modifying
+    @Query("UPDATE LeaveCarryForwardRun r SET r.lastBalanceId = :lastBalanceId, " +
+            "r.scannedBalances = r.scannedBalances + :scanned, r.createdBalances = r.createdBalances + :created, " +
+            "r.updatedBalances = r.updatedBalances + :updated, r.chunks = r.chunks + 1, r.elapsedMs = r.elapsedMs + :elapsedMs, " +
+            "r.heartbeatAt = :now, r.updatedAt = :now " +
+            "WHERE r.fromYear = :year AND r.lastBalanceId = :expectedBalanceId " +
+            "AND r.status = com.tbcpl.workforce.hr.leave.entity.enums.CarryForwardRunStatus.RUNNING")
+    int checkpoint(@Param("year") Integer year,
+                   @Param("expectedBalanceId") Long expectedBalanceId,
+                   @Param("lastBalanceId") Long lastBalanceId,
+                   @Param("scanned") long scanned,
+                   @Param("created") long created,
+                   @Param("updated") long updated,
+                   @Param("elapsedMs") long elapsedMs,
+                   @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE LeaveCarryForwardRun r SET r.status = :status, r.finishedAt = :now, r.lastError = :error, r.updatedAt = :now " +
+            "WHERE r.fromYear = :year AND r.status = com.tbcpl.workforce.hr.leave.entity.enums.CarryForwardRunStatus.RUNNING")
+    int finish(@Param("year") Integer year,
+               @Param("status") CarryForwardRunStatus status,
+               @Param("error") String error,
+               @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,278 @@
+package com.tbcpl.workforce.hr.leave.service;
+
+import com.tbcpl.workforce.common.exception.DuplicateResourceException;
+import com.tbcpl.workforce.common.exception.ResourceNotFoundException;
+import com.tbcpl.workforce.common.util.BatchWriter;
+import com.tbcpl.workforce.hr.attendance.entity.LeaveType;
+import com.tbcpl.workforce.hr.leave.dto.response.LeaveCarryForwardRunResponse;
+import com.tbcpl.workforce.hr.leave.entity.LeaveBalance;
+import com.tbcpl.workforce.hr.leave.entity.LeaveCarryForwardRun;
+import com.tbcpl.workforce.hr.leave.entity.enums.CarryForwardRunStatus;
+import com.tbcpl.workforce.hr.leave.repository.LeaveBalanceRepository;
+import com.tbcpl.workforce.hr.leave.repository.LeaveCarryForwardRunRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Year-end leave carry-forward as a background job.
+ * Eligible balances are walked in id order in chunks; each chunk loads its target-year balances
+ * with one query, tops them up or creates them (JDBC-batched) and advances the run checkpoint,
+ * all in one transaction. A failed, interrupted or abandoned run resumes from its checkpoint.
+ */
+@Component
+@Slf4j
+public class LeaveCarryForwardJob {
+
+    private static final int  CHUNK_SIZE              = 500;
+    private static final long STALE_HEARTBEAT_MINUTES = 10;
+    private static final int  LAST_ERROR_MAX_LENGTH   = 1000;
+
+    private final LeaveBalanceRepository         leaveBalanceRepository;
+    private final LeaveCarryForwardRunRepository runRepository;
+    private final BatchWriter                    batchWriter;
+    private final TransactionTemplate            requiresNew;
+
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("leave-carry-forward").daemon(true).factory());
+    private volatile boolean stopping = false;
+
+    public LeaveCarryForwardJob(LeaveBalanceRepository leaveBalanceRepository,
+                                LeaveCarryForwardRunRepository runRepository,
+                                BatchWriter batchWriter,
+                                PlatformTransactionManager transactionManager) {
+        this.leaveBalanceRepository = leaveBalanceRepository;
+        this.runRepository          = runRepository;
+        this.batchWriter            = batchWriter;
+        this.requiresNew            = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Start (or resume) the carry-forward out of the given year and return immediately.
+     * A run already in progress is reported as-is; a completed year is rejected.
+     */
+    public LeaveCarryForwardRunResponse start(Integer year, String startedBy) {
+        LocalDateTime now = LocalDateTime.now();
+        LeaveCarryForwardRun run = runRepository.findById(year).orElse(null);
+
+        if (run == null) {
+            if (!createRun(year, startedBy, now)) {
+                return status(year); // another request created it first
+            }
+        } else if (run.getStatus() == CarryForwardRunStatus.COMPLETED) {
+            throw new DuplicateResourceException(
+                    "Carry-forward already completed for year: " + year);
+        } else if (runRepository.claim(year, startedBy,
+                now.minusMinutes(STALE_HEARTBEAT_MINUTES), now) == 0) {
+            log.info("Carry-forward for year {} is already running", year);
+            return status(year);
+        } else {
+            log.info("Resuming carry-forward for year {} after balance id {} by {}",
+                    year, run.getLastBalanceId(), startedBy);
+        }
+
+        try {
+            worker.execute(() -> runToCompletion(year, startedBy));
+        } catch (RejectedExecutionException e) {
+            runRepository.finish(year, CarryForwardRunStatus.FAILED,
+                    "Application is shutting down; start again to resume", LocalDateTime.now());
+        }
+        return status(year);
+    }
+
+    public LeaveCarryForwardRunResponse status(Integer year) {
+        return runRepository.findById(year)
+                .map(this::toResponse)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "No carry-forward run for year: " + year));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        stopping = true;
+        worker.shutdown();
+        try {
+            if (!worker.awaitTermination(30, TimeUnit.SECONDS)) {
+                worker.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            worker.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ── Worker ──
+
+    private boolean createRun(Integer year, String startedBy, LocalDateTime now) {
+        try {
+            runRepository.saveAndFlush(LeaveCarryForwardRun.builder()
+                    .fromYear(year)
+                    .status(CarryForwardRunStatus.RUNNING)
+                    .startedBy(startedBy)
+                    .startedAt(now)
+                    .heartbeatAt(now)
+                    .build());
+            log.info("Carry-forward for year {} started by {}", year, startedBy);
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+
+    private void runToCompletion(Integer year, String startedBy) {
+        long afterId = 0;
+        try {
+            afterId = runRepository.findById(year).orElseThrow().getLastBalanceId();
+            while (!stopping) {
+                long checkpoint = afterId;
+                Long lastId = requiresNew.execute(status -> processChunk(year, checkpoint, startedBy));
+                if (lastId == null) {
+                    runRepository.finish(year, CarryForwardRunStatus.COMPLETED, null, LocalDateTime.now());
+                    LeaveCarryForwardRun run = runRepository.findById(year).orElseThrow();
+                    log.info("Carry-forward for year {} complete: {} balances scanned, {} created, {} updated in {} ms",
+                            year, run.getScannedBalances(), run.getCreatedBalances(),
+                            run.getUpdatedBalances(), run.getElapsedMs());
+                    return;
+                }
+                afterId = lastId;
+            }
+            runRepository.finish(year, CarryForwardRunStatus.FAILED,
+                    "Stopped at shutdown after balance id " + afterId + "; start again to resume",
+                    LocalDateTime.now());
+        } catch (LostOwnershipException e) {
+            log.warn(e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("Carry-forward for year {} failed after balance id {}", year, afterId, e);
+            runRepository.finish(year, CarryForwardRunStatus.FAILED, truncate(e.getMessage()), LocalDateTime.now());
+        }
+    }
+
+    /**
+     * Carry forward one chunk after the checkpoint and advance it.
+     * Returns the new checkpoint, or null when no eligible balances are left.
+     */
+    private Long processChunk(Integer year, long afterId, String startedBy) {
+        long startedAt = System.nanoTime();
+        List<LeaveBalance> chunk = leaveBalanceRepository.findEligibleForCarryForwardAfter(
+                year, afterId, PageRequest.of(0, CHUNK_SIZE));
+        if (chunk.isEmpty()) {
+            return null;
+        }
+
+        int nextYear = year + 1;
+        Set<String> empIds       = new HashSet<>();
+        Set<Long>   leaveTypeIds = new HashSet<>();
+        for (LeaveBalance current : chunk) {
+            empIds.add(current.getEmpId());
+            leaveTypeIds.add(current.getLeaveType().getId());
+        }
+
+        Map<String, LeaveBalance> targets = new HashMap<>();
+        for (LeaveBalance next : leaveBalanceRepository.findByYearAndEmpIdsAndLeaveTypeIds(
+                nextYear, empIds, leaveTypeIds)) {
+            targets.put(key(next.getEmpId(), next.getLeaveType().getId()), next);
+        }
+
+        List<LeaveBalance> created = new ArrayList<>();
+        int updated = 0;
+        for (LeaveBalance current : chunk) {
+            LeaveType leaveType = current.getLeaveType();
+            double carryAmount  = Math.min(current.getAvailableBalance(), leaveType.getMaxCarryForwardDays());
+
+            LeaveBalance target = targets.get(key(current.getEmpId(), leaveType.getId()));
+            if (target != null) {
+                target.setCarriedForward(target.getCarriedForward() + carryAmount);
+                target.recalculateAvailableBalance();
+                updated++;
+            } else {
+                double allocated = leaveType.getMaxDaysPerYear();
+                created.add(LeaveBalance.builder()
+                        .empId(current.getEmpId())
+                        .leaveType(leaveType)
+                        .balanceYear(nextYear)
+                        .totalAllocated(allocated)
+                        .totalUsed(0.0)
+                        .totalPending(0.0)
+                        .carriedForward(carryAmount)
+                        .availableBalance(allocated + carryAmount)
+                        .isActive(true)
+                        .createdBy(startedBy)
+                        .build());
+            }
+        }
+
+        // Flushes the top-ups and inserts the new balances as JDBC batches
+        batchWriter.insertAll(created);
+
+        long lastId    = chunk.get(chunk.size() - 1).getId();
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        if (runRepository.checkpoint(year, afterId, lastId, chunk.size(), created.size(), updated,
+                elapsedMs, LocalDateTime.now()) == 0) {
+            throw new LostOwnershipException(
+                    "Carry-forward checkpoint for year " + year + " moved; another worker owns this run");
+        }
+        log.debug("Carry-forward {} chunk up to balance id {}: {} created, {} updated in {} ms",
+                year, lastId, created.size(), updated, elapsedMs);
+        return lastId;
+    }
+
+    private static String key(String empId, Long leaveTypeId) {
+        return empId + ":" + leaveTypeId;
+    }
+
+    private LeaveCarryForwardRunResponse toResponse(LeaveCarryForwardRun run) {
+        long elapsedMs = run.getElapsedMs();
+        return LeaveCarryForwardRunResponse.builder()
+                .fromYear(run.getFromYear())
+                .toYear(run.getFromYear() + 1)
+                .status(run.getStatus())
+                .lastBalanceId(run.getLastBalanceId())
+                .scannedBalances(run.getScannedBalances())
+                .createdBalances(run.getCreatedBalances())
+                .updatedBalances(run.getUpdatedBalances())
+                .chunks(run.getChunks())
+                .elapsedMs(elapsedMs)
+                .balancesPerSecond(elapsedMs > 0 ? run.getScannedBalances() * 1000.0 / elapsedMs : null)
+                .startedBy(run.getStartedBy())
+                .startedAt(run.getStartedAt())
+                .heartbeatAt(run.getHeartbeatAt())
+                .finishedAt(run.getFinishedAt())
+                .lastError(run.getLastError())
+                .build();
+    }
+
+    private static String truncate(String error) {
+        if (error == null) {
+            return null;
+        }
+        return error.length() > LAST_ERROR_MAX_LENGTH ? error.substring(0, LAST_ERROR_MAX_LENGTH) : error;
+    }
+
+    /**
+     * The run was taken over (stale heartbeat) while this worker was still alive — the chunk
+     * rolls back and this worker stops without touching the run's status
+     */
+    private static final class LostOwnershipException extends RuntimeException {
+        LostOwnershipException(String message) {
+            super(message);
+        }
+    }
+}
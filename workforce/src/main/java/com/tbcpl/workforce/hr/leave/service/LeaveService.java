@@ -5,6 +5,7 @@ import com.tbcpl.workforce.hr.leave.dto.request.LeaveApplicationRequest;
 import com.tbcpl.workforce.hr.leave.dto.response.LeaveApplicationResponse;
 import com.tbcpl.workforce.hr.leave.dto.response.LeaveBalanceResponse;
 import com.tbcpl.workforce.hr.leave.dto.response.LeaveBalanceSummaryResponse;
+import com.tbcpl.workforce.hr.leave.dto.response.LeaveCarryForwardRunResponse;
 import org.springframework.data.domain.Page;
 
 import java.util.List;
@@ -32,10 +33,15 @@ public interface LeaveService {
     List<LeaveBalanceResponse> getLeaveBalances(String empId, Integer year);
 
     /**
-     * Year-end carry-forward: process all eligible balances from the given year.
-     * Carries forward min(availableBalance, maxCarryForwardDays) to next year.
+     * Year-end carry-forward: start (or resume) a background run over all eligible balances
+     * of the given year. Carries forward min(availableBalance, maxCarryForwardDays) to next year.
      */
-    void processYearEndCarryForward(Integer year, String processedBy);
+    LeaveCarryForwardRunResponse processYearEndCarryForward(Integer year, String processedBy);
+
+    /**
+     * Progress and throughput of the carry-forward run out of the given year.
+     */
+    LeaveCarryForwardRunResponse getCarryForwardStatus(Integer year);
 
     // ── Leave Application ─────────────────────────────────────────────────────
 
@@ -9,6 +9,7 @@ import com.tbcpl.workforce.hr.leave.dto.request.LeaveApplicationRequest;
 import com.tbcpl.workforce.hr.leave.dto.response.LeaveApplicationResponse;
 import com.tbcpl.workforce.hr.leave.dto.response.LeaveBalanceResponse;
 import com.tbcpl.workforce.hr.leave.dto.response.LeaveBalanceSummaryResponse;
+import com.tbcpl.workforce.hr.leave.dto.response.LeaveCarryForwardRunResponse;
 import com.tbcpl.workforce.hr.leave.entity.LeaveApplication;
 import com.tbcpl.workforce.hr.leave.entity.LeaveBalance;
 import com.tbcpl.workforce.hr.attendance.entity.LeaveType;
@@ -16,6 +17,7 @@ import com.tbcpl.workforce.hr.attendance.entity.enums.LeaveStatus;
 import com.tbcpl.workforce.hr.leave.repository.LeaveApplicationRepository;
 import com.tbcpl.workforce.hr.leave.repository.LeaveBalanceRepository;
 import com.tbcpl.workforce.hr.attendance.repository.LeaveTypeRepository;
+import com.tbcpl.workforce.hr.leave.service.LeaveCarryForwardJob;
 import com.tbcpl.workforce.hr.leave.service.LeaveService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -44,6 +46,7 @@ public class LeaveServiceImpl implements LeaveService {
     private final LeaveTypeRepository         leaveTypeRepository;
     private final EmployeeRepository          employeeRepository;
     private final EmployeeNameResolverService  nameResolver;
+    private final LeaveCarryForwardJob         carryForwardJob;
 
     // ─────────────────────────────────────────────────────────────────────────
     // LEAVE BALANCE
@@ -125,62 +128,14 @@ public class LeaveServiceImpl implements LeaveService {
     }
 
     @Override
-    @Transactional
-    public void processYearEndCarryForward(Integer year, String processedBy) {
+    public LeaveCarryForwardRunResponse processYearEndCarryForward(Integer year, String processedBy) {
         log.info("Processing year-end carry-forward for year: {} by: {}", year, processedBy);
+        return carryForwardJob.start(year, processedBy);
+    }
 
-        List<LeaveBalance> eligibleBalances =
-                leaveBalanceRepository.findAllEligibleForCarryForward(year);
-
-        int nextYear    = year + 1;
-        int processedCount = 0;
-
-        for (LeaveBalance current : eligibleBalances) {
-            LeaveType leaveType = current.getLeaveType();
-            double available    = current.getAvailableBalance();
-            if (available <= 0) continue;
-
-            double maxCarry = leaveType.getMaxCarryForwardDays() != null
-                    ? leaveType.getMaxCarryForwardDays() : 0;
-            double carryAmount = Math.min(available, maxCarry);
-            if (carryAmount <= 0) continue;
-
-            // Check if next-year balance already exists
-            boolean nextYearExists = leaveBalanceRepository
-                    .existsByEmpIdAndLeaveTypeIdAndBalanceYear(
-                            current.getEmpId(), leaveType.getId(), nextYear);
-
-            if (nextYearExists) {
-                // Add carry-forward to existing next-year balance
-                LeaveBalance nextYear_balance = leaveBalanceRepository
-                        .findByEmpIdAndLeaveTypeIdAndBalanceYear(
-                                current.getEmpId(), leaveType.getId(), nextYear)
-                        .orElseThrow();
-                nextYear_balance.setCarriedForward(
-                        nextYear_balance.getCarriedForward() + carryAmount);
-                nextYear_balance.recalculateAvailableBalance();
-                leaveBalanceRepository.save(nextYear_balance);
-            } else {
-                // Create new balance for next year with carry-forward
-                double allocated = leaveType.getMaxDaysPerYear();
-                LeaveBalance newBalance = LeaveBalance.builder()
-                        .empId(current.getEmpId())
-                        .leaveType(leaveType)
-                        .balanceYear(nextYear)
-                        .totalAllocated(allocated)
-                        .totalUsed(0.0)
-                        .totalPending(0.0)
-                        .carriedForward(carryAmount)
-                        .availableBalance(allocated + carryAmount)
-                        .isActive(true)
-                        .createdBy(processedBy)
-                        .build();
-                leaveBalanceRepository.save(newBalance);
-            }
-            processedCount++;
-        }
-        log.info("Year-end carry-forward complete. Processed {} balances for year {}",
-                processedCount, year);
+    @Override
+    public LeaveCarryForwardRunResponse getCarryForwardStatus(Integer year) {
+        return carryForwardJob.status(year);
     }
 
     // ─────────────────────────────────────────────────────────────────────────
@@ -3,6 +3,7 @@ package com.tbcpl.workforce.hr.performance.controller;
 import com.tbcpl.workforce.common.constants.ApiEndpoints;
 import com.tbcpl.workforce.common.response.ApiResponse;
 import com.tbcpl.workforce.hr.performance.dto.request.*;
+import com.tbcpl.workforce.hr.performance.dto.response.HrBulkAppraisalResultResponse;
 import com.tbcpl.workforce.hr.performance.dto.response.HrEmployeeAppraisalResponse;
 import com.tbcpl.workforce.hr.performance.service.HrEmployeeAppraisalService;
 import jakarta.validation.Valid;
@@ -42,7 +43,7 @@ public class HrEmployeeAppraisalController {
 
     /** POST /api/v1/hr/appraisals/bulk-initiate */
     @PostMapping(ApiEndpoints.HR_APPRAISALS + "/bulk-initiate")
-    public ResponseEntity<ApiResponse<String>> bulkInitiateAppraisals(
+    public ResponseEntity<ApiResponse<HrBulkAppraisalResultResponse>> bulkInitiateAppraisals(
             @RequestParam Long         cycleId,
             @RequestParam(required = false) String managerEmpId,
             @RequestBody  List<String> empIds,
@@ -50,11 +51,11 @@ public class HrEmployeeAppraisalController {
     ) {
         log.info("Bulk initiate appraisals cycleId:{} count:{} by:{}",
                 cycleId, empIds.size(), authentication.getName());
-        int created = appraisalService.bulkInitiateAppraisals(
+        HrBulkAppraisalResultResponse result = appraisalService.bulkInitiateAppraisals(
                 cycleId, empIds, managerEmpId, authentication.getName());
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(ApiResponse.success(
-                        created + " appraisal(s) initiated successfully"));
+                        result.getCreated() + " appraisal(s) initiated successfully", result));
     }
 
     /** GET /api/v1/hr/appraisals?cycleId=1&empId=2026/001&status=SELF_REVIEW_PENDING */
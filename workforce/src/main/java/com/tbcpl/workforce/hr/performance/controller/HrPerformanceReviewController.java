@@ -5,6 +5,7 @@ import com.tbcpl.workforce.common.response.ApiResponse;
 import com.tbcpl.workforce.hr.performance.dto.request.HrFinalReviewRequest;
 import com.tbcpl.workforce.hr.performance.dto.request.HrManagerReviewRequest;
 import com.tbcpl.workforce.hr.performance.dto.request.HrSelfReviewRequest;
+import com.tbcpl.workforce.hr.performance.dto.response.HrBulkAppraisalResultResponse;
 import com.tbcpl.workforce.hr.performance.dto.response.HrEmployeeAppraisalResponse;
 import com.tbcpl.workforce.hr.performance.service.HrEmployeeAppraisalService;
 import jakarta.validation.Valid;
@@ -51,7 +52,7 @@ public class HrPerformanceReviewController {
      * HR bulk-initiates appraisals for a list of employees in a cycle.
      */
     @PostMapping(ApiEndpoints.HR_PERFORMANCE_REVIEWS + "/bulk")
-    public ResponseEntity<ApiResponse<String>> bulkInitiateAppraisals(
+    public ResponseEntity<ApiResponse<HrBulkAppraisalResultResponse>> bulkInitiateAppraisals(
             @RequestParam Long         cycleId,
             @RequestParam(required = false) String managerEmpId,
             @RequestBody  List<String> empIds,
@@ -59,11 +60,11 @@ public class HrPerformanceReviewController {
     ) {
         log.info("Bulk initiate appraisals cycleId:{} count:{} by:{}",
                 cycleId, empIds.size(), authentication.getName());
-        int count = appraisalService.bulkInitiateAppraisals(
+        HrBulkAppraisalResultResponse result = appraisalService.bulkInitiateAppraisals(
                 cycleId, empIds, managerEmpId, authentication.getName());
         return ResponseEntity.status(HttpStatus.CREATED)
-                .body(ApiResponse.success(count + " appraisal(s) initiated successfully",
-                        count + " records created"));
+                .body(ApiResponse.success(result.getCreated() + " appraisal(s) initiated successfully",
+                        result));
     }
 
     /**
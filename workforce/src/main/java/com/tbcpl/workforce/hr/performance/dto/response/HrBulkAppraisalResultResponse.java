@@ -0,0 +1,41 @@
+package com.tbcpl.workforce.hr.performance.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk appraisal initiation, one item per requested empId
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class HrBulkAppraisalResultResponse {
+
+    private Long       cycleId;
+    private int        requested;
+    private int        created;
+    private int        skipped;
+    private List<Item> results;
+
+    public enum Outcome {
+        CREATED,
+        EMPLOYEE_NOT_FOUND,
+        ALREADY_INITIATED,
+        PREVIOUSLY_DELETED,
+        DUPLICATE_IN_REQUEST
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Item {
+        private String  empId;
+        private Outcome outcome;
+        private Long    appraisalId;
+    }
+}
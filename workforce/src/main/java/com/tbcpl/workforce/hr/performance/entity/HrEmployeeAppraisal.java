@@ -1,5 +1,6 @@
 package com.tbcpl.workforce.hr.performance.entity;
 
+import com.tbcpl.workforce.config.jpa.PooledIds;
 import com.tbcpl.workforce.hr.performance.entity.enums.AppraisalStatus;
 import com.tbcpl.workforce.hr.performance.entity.enums.RatingScale;
 import jakarta.persistence.*;
@@ -34,7 +35,10 @@ import java.util.List;
 public class HrEmployeeAppraisal {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "hr_employee_appraisals")
+    @TableGenerator(name = "hr_employee_appraisals", table = PooledIds.TABLE,
+            pkColumnName = PooledIds.SEGMENT_COLUMN, valueColumnName = PooledIds.VALUE_COLUMN,
+            pkColumnValue = "hr_employee_appraisals", allocationSize = PooledIds.ALLOCATION_SIZE)
     private Long id;
 
     // Cross-dept reference — no JPA join
@@ -1,5 +1,6 @@
 package com.tbcpl.workforce.hr.performance.entity;
 
+import com.tbcpl.workforce.config.jpa.PooledIds;
 import com.tbcpl.workforce.hr.performance.entity.enums.RatingScale;
 import jakarta.persistence.*;
 import lombok.*;
@@ -24,7 +25,10 @@ import java.time.LocalDateTime;
 public class HrKraRating {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "hr_kra_ratings")
+    @TableGenerator(name = "hr_kra_ratings", table = PooledIds.TABLE,
+            pkColumnName = PooledIds.SEGMENT_COLUMN, valueColumnName = PooledIds.VALUE_COLUMN,
+            pkColumnValue = "hr_kra_ratings", allocationSize = PooledIds.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -41,4 +42,10 @@ public interface HrEmployeeAppraisalRepository
 
     boolean existsByEmpIdAndAppraisalCycleIdAndIsActiveTrue(
             String empId, Long cycleId);
+
+    // [empId, isActive] of existing appraisals in a cycle — one query for bulk initiation
+    @Query("SELECT ea.empId, ea.isActive FROM HrEmployeeAppraisal ea " +
+            "WHERE ea.appraisalCycle.id = :cycleId AND ea.empId IN :empIds")
+    List<Object[]> findEmpIdStatesInCycle(@Param("cycleId") Long cycleId,
+                                          @Param("empIds") Collection<String> empIds);
 }
\ No newline at end of file
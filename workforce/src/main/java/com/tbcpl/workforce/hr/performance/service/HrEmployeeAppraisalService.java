@@ -3,6 +3,7 @@ package com.tbcpl.workforce.hr.performance.service;
 import com.tbcpl.workforce.hr.performance.dto.request.HrFinalReviewRequest;
 import com.tbcpl.workforce.hr.performance.dto.request.HrManagerReviewRequest;
 import com.tbcpl.workforce.hr.performance.dto.request.HrSelfReviewRequest;
+import com.tbcpl.workforce.hr.performance.dto.response.HrBulkAppraisalResultResponse;
 import com.tbcpl.workforce.hr.performance.dto.response.HrEmployeeAppraisalResponse;
 import org.springframework.data.domain.Page;
 
@@ -18,10 +19,10 @@ public interface HrEmployeeAppraisalService {
 
     /**
      * HR bulk-initiates appraisals for all employees in a cycle.
-     * Returns count of appraisals created.
+     * Returns a per-employee report (created / skipped with reason).
      */
-    int bulkInitiateAppraisals(Long cycleId, List<String> empIds,
-                               String managerEmpId, String createdBy);
+    HrBulkAppraisalResultResponse bulkInitiateAppraisals(Long cycleId, List<String> empIds,
+                                                         String managerEmpId, String createdBy);
 
     HrEmployeeAppraisalResponse getAppraisalById(Long id);
 
@@ -3,6 +3,7 @@ package com.tbcpl.workforce.hr.performance.service.impl;
 import com.tbcpl.workforce.auth.repository.EmployeeRepository;
 import com.tbcpl.workforce.common.exception.DuplicateResourceException;
 import com.tbcpl.workforce.common.exception.ResourceNotFoundException;
+import com.tbcpl.workforce.common.util.BatchWriter;
 import com.tbcpl.workforce.common.util.EmployeeNameResolverService;
 import com.tbcpl.workforce.hr.performance.dto.request.*;
 import com.tbcpl.workforce.hr.performance.dto.response.*;
@@ -33,6 +34,7 @@ public class HrEmployeeAppraisalServiceImpl implements HrEmployeeAppraisalServic
     private final HrKraRatingRepository         kraRatingRepository;
     private final EmployeeRepository            employeeRepository;
     private final EmployeeNameResolverService    nameResolver;
+    private final BatchWriter                    batchWriter;
 
     @Override
     @Transactional
@@ -65,39 +67,77 @@ public class HrEmployeeAppraisalServiceImpl implements HrEmployeeAppraisalServic
         return mapToResponse(saved, resolveCreatedBy(saved.getCreatedBy()));
     }
 
+    /**
+     * Set-based: one IN query for existing employees, one for appraisals already in the cycle,
+     * then the new rows are inserted in chunks. Unlike the per-employee path this never fails
+     * the whole batch — every requested empId gets an outcome in the report.
+     */
     @Override
     @Transactional
-    public int bulkInitiateAppraisals(Long cycleId, List<String> empIds,
-                                      String managerEmpId, String createdBy) {
+    public HrBulkAppraisalResultResponse bulkInitiateAppraisals(Long cycleId, List<String> empIds,
+                                                                String managerEmpId, String createdBy) {
         log.info("Bulk initiating appraisals for cycleId:{} empCount:{}",
                 cycleId, empIds.size());
         HrAppraisalCycle cycle = findCycleById(cycleId);
-        int created = 0;
 
-        for (String empId : empIds) {
-            if (!employeeRepository.existsByEmpId(empId)) {
-                log.warn("Skipping empId:{} — not found", empId);
+        // Normalise: trim, drop blanks, keep first occurrence order
+        Set<String> requested = new LinkedHashSet<>();
+        List<HrBulkAppraisalResultResponse.Item> results = new ArrayList<>(empIds.size());
+        for (String raw : empIds) {
+            if (raw == null || raw.isBlank()) {
                 continue;
             }
-            if (appraisalRepository.existsByEmpIdAndAppraisalCycleIdAndIsActiveTrue(
-                    empId, cycleId)) {
-                log.warn("Skipping empId:{} — appraisal already exists in cycle:{}", empId, cycleId);
-                continue;
+            String empId = raw.trim();
+            if (!requested.add(empId)) {
+                results.add(item(empId, HrBulkAppraisalResultResponse.Outcome.DUPLICATE_IN_REQUEST, null));
+            }
+        }
+
+        Set<String> existingEmployees = requested.isEmpty()
+                ? Set.of()
+                : new HashSet<>(employeeRepository.findExistingEmpIds(requested));
+
+        // The unique key (emp_id, cycle) covers soft-deleted rows too, so those are skipped as well
+        Map<String, Boolean> inCycle = new HashMap<>();
+        if (!existingEmployees.isEmpty()) {
+            for (Object[] row : appraisalRepository.findEmpIdStatesInCycle(cycleId, existingEmployees)) {
+                inCycle.put((String) row[0], (Boolean) row[1]);
+            }
+        }
+
+        List<HrEmployeeAppraisal> toCreate = new ArrayList<>();
+        for (String empId : requested) {
+            if (!existingEmployees.contains(empId)) {
+                results.add(item(empId, HrBulkAppraisalResultResponse.Outcome.EMPLOYEE_NOT_FOUND, null));
+            } else if (inCycle.containsKey(empId)) {
+                results.add(item(empId, Boolean.TRUE.equals(inCycle.get(empId))
+                        ? HrBulkAppraisalResultResponse.Outcome.ALREADY_INITIATED
+                        : HrBulkAppraisalResultResponse.Outcome.PREVIOUSLY_DELETED, null));
+            } else {
+                toCreate.add(HrEmployeeAppraisal.builder()
+                        .empId(empId)
+                        .appraisalCycle(cycle)
+                        .managerEmpId(managerEmpId)
+                        .status(AppraisalStatus.SELF_REVIEW_PENDING)
+                        .isActive(true)
+                        .createdBy(createdBy)
+                        .build());
             }
-            HrEmployeeAppraisal appraisal = HrEmployeeAppraisal.builder()
-                    .empId(empId.trim())
-                    .appraisalCycle(cycle)
-                    .managerEmpId(managerEmpId)
-                    .status(AppraisalStatus.SELF_REVIEW_PENDING)
-                    .isActive(true)
-                    .createdBy(createdBy)
-                    .build();
-            appraisalRepository.save(appraisal);
-            created++;
         }
-        log.info("Bulk initiation complete. Created:{} skipped:{}",
-                created, empIds.size() - created);
-        return created;
+
+        for (HrEmployeeAppraisal saved : batchWriter.insertAll(toCreate)) {
+            results.add(item(saved.getEmpId(), HrBulkAppraisalResultResponse.Outcome.CREATED, saved.getId()));
+        }
+
+        int skipped = results.size() - toCreate.size();
+        log.info("Bulk initiation complete. Created:{} skipped:{}", toCreate.size(), skipped);
+        return HrBulkAppraisalResultResponse.builder()
+                .cycleId(cycleId)
+                .requested(empIds.size())
+                .created(toCreate.size())
+                .skipped(skipped)
+                .results(results)
+                .build();
     }
 
     @Override
@@ -269,10 +309,10 @@ public class HrEmployeeAppraisalServiceImpl implements HrEmployeeAppraisalServic
                         (a, b) -> a
                 ));
 
+        Map<Long, HrKraTemplate> templates = loadKraTemplates(ratingRequests);
+
         for (HrKraRatingRequest req : ratingRequests) {
-            HrKraTemplate template = kraTemplateRepository.findById(req.getKraTemplateId())
-                    .orElseThrow(() -> new ResourceNotFoundException(
-                            "KRA template not found: " + req.getKraTemplateId()));
+            HrKraTemplate template = templates.get(req.getKraTemplateId());
 
             HrKraRating rating = existingByKraId.getOrDefault(
                     req.getKraTemplateId(),
@@ -305,6 +345,24 @@ public class HrEmployeeAppraisalServiceImpl implements HrEmployeeAppraisalServic
         }
     }
 
+    /**
+     * All templates referenced by the ratings in one query; fails listing every missing id
+     */
+    private Map<Long, HrKraTemplate> loadKraTemplates(List<HrKraRatingRequest> ratingRequests) {
+        Set<Long> ids = ratingRequests.stream()
+                .map(HrKraRatingRequest::getKraTemplateId)
+                .collect(Collectors.toSet());
+        Map<Long, HrKraTemplate> templates = kraTemplateRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(HrKraTemplate::getId, t -> t));
+        if (templates.size() < ids.size()) {
+            Set<Long> missing = new TreeSet<>(ids);
+            missing.removeAll(templates.keySet());
+            throw new ResourceNotFoundException("KRA template not found: "
+                    + missing.stream().map(String::valueOf).collect(Collectors.joining(", ")));
+        }
+        return templates;
+    }
+
     /**
      * Sums all KRA weighted scores for the appraisal.
      * Total = Sum(managerRating_numeric × KRA_weightage / 100)
@@ -348,6 +406,16 @@ public class HrEmployeeAppraisalServiceImpl implements HrEmployeeAppraisalServic
         }
     }
 
+    private HrBulkAppraisalResultResponse.Item item(String empId,
+                                                    HrBulkAppraisalResultResponse.Outcome outcome,
+                                                    Long appraisalId) {
+        return HrBulkAppraisalResultResponse.Item.builder()
+                .empId(empId)
+                .outcome(outcome)
+                .appraisalId(appraisalId)
+                .build();
+    }
+
     private Map<String, String> resolveCreatedBy(String createdBy) {
         if (createdBy == null || createdBy.isBlank()) return Collections.emptyMap();
         return nameResolver.resolve(Set.of(createdBy));
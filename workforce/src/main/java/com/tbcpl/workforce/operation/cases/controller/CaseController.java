@@ -88,6 +88,18 @@ public class CaseController {
                 caseService.getCasesByStatus(status, pageable)));
     }
 
+    @GetMapping("/my")
+    public ResponseEntity<ApiResponse<Page<CaseListItemResponse>>> getMyCases(
+            @RequestHeader("X-Username") String username,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        // Ordering (newest first) is part of the query, which selects through op_case_assignment
+        Pageable pageable = PageRequest.of(page, size);
+        return ResponseEntity.ok(ApiResponse.success("Cases fetched successfully",
+                caseService.getCasesAssignedTo(username, pageable)));
+    }
+
 
     @GetMapping("/operations-employees")
     public ResponseEntity<ApiResponse<List<OperationsEmployeeResponse>>> getOperationsEmployees() {
@@ -386,6 +386,10 @@ public class Case {
     @Builder.Default
     private List<CaseLinkedProfile> linkedProfiles = new ArrayList<>();
 
+    @OneToMany(mappedBy = "caseEntity", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
+    @Builder.Default
+    private List<CaseAssignment> assignments = new ArrayList<>();
+
 
     // ── Audit ──────────────────────────────────────────────────────────
     @Column(name = "created_by", nullable = false, length = 100)
@@ -0,0 +1,48 @@
+package com.tbcpl.workforce.operation.cases.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * One employee assigned to a case. Indexed by employee so "my cases" is a single index range
+ * instead of a scan over every case's assigned_employees string.
+ */
+@Entity
+@Table(name = "op_case_assignment",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_case_assignment_case_emp", columnNames = {"case_id", "emp_id"})
+        },
+        indexes = {
+                @Index(name = "idx_case_assignment_emp_case", columnList = "emp_id, case_id")
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CaseAssignment {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "case_id", nullable = false,
+            foreignKey = @ForeignKey(name = "fk_case_assignment_case"))
+    private Case caseEntity;
+
+    @Column(name = "emp_id", nullable = false, length = 20)
+    private String empId;
+
+    @Column(name = "assigned_at", nullable = false, updatable = false)
+    private LocalDateTime assignedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (assignedAt == null) {
+            assignedAt = LocalDateTime.now();
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.tbcpl.workforce.operation.cases.repository;
+
+import com.tbcpl.workforce.auth.entity.Employee;
+import com.tbcpl.workforce.operation.cases.entity.CaseAssignment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface CaseAssignmentRepository extends JpaRepository<CaseAssignment, Long> {
+
+    boolean existsByCaseEntity_IdAndEmpId(Long caseId, String empId);
+
+    /**
+     * Assigned employees of a case in assignment order, resolved in the same query
+     */
+    @Query("""
+            SELECT e FROM CaseAssignment a
+            JOIN Employee e ON e.empId = a.empId
+            WHERE a.caseEntity.id = :caseId
+            ORDER BY a.assignedAt, a.id
+            """)
+    List<Employee> findAssignedEmployees(@Param("caseId") Long caseId);
+}
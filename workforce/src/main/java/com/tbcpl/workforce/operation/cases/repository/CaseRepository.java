@@ -28,6 +28,45 @@ public interface CaseRepository extends JpaRepository<Case, Long> {
     @Query("SELECT c FROM Case c WHERE c.status = :status AND c.isDeleted = false ORDER BY c.createdAt DESC")
     Page<Case> findByStatus(@Param("status") String status, Pageable pageable);
 
+    /**
+     * First query of the case detail load: the case with its updates, newest first
+     */
+    @Query("""
+            SELECT c FROM Case c
+            LEFT JOIN FETCH c.updates u
+            WHERE c.id = :id AND c.isDeleted = false
+            ORDER BY u.updateDate DESC, u.id DESC
+            """)
+    Optional<Case> findActiveWithUpdates(@Param("id") Long id);
+
+    /**
+     * Second query of the case detail load: initialises onlinePresences of the case
+     * already loaded by findActiveWithUpdates
+     */
+    @Query("""
+            SELECT c FROM Case c
+            LEFT JOIN FETCH c.onlinePresences p
+            WHERE c.id = :id
+            ORDER BY p.id
+            """)
+    Optional<Case> fetchOnlinePresences(@Param("id") Long id);
+
+    @Query("SELECT c.id FROM Case c WHERE c.caseNumber = :caseNumber AND c.isDeleted = false")
+    Optional<Long> findActiveIdByCaseNumber(@Param("caseNumber") String caseNumber);
+
+    @Query(value = """
+            SELECT c FROM CaseAssignment a
+            JOIN a.caseEntity c
+            WHERE a.empId = :empId AND c.isDeleted = false
+            ORDER BY c.createdAt DESC
+            """,
+            countQuery = """
+            SELECT COUNT(a) FROM CaseAssignment a
+            JOIN a.caseEntity c
+            WHERE a.empId = :empId AND c.isDeleted = false
+            """)
+    Page<Case> findAssignedTo(@Param("empId") String empId, Pageable pageable);
+
     @Query("SELECT COUNT(c) FROM Case c WHERE YEAR(c.createdAt) = :year")
     Long countByYear(@Param("year") int year);
 }
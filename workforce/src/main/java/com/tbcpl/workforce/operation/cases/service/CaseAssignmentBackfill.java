@@ -0,0 +1,88 @@
+package com.tbcpl.workforce.operation.cases.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * One-time copy of the legacy comma-separated op_case.assigned_employees column into
+ * op_case_assignment rows. Only cases that have no assignment rows yet are read, so after the
+ * first run this is a single empty query; INSERT IGNORE keeps concurrent instances safe.
+ * Cases are read and inserted in id-ordered chunks so a large first run never holds every
+ * legacy row in memory or in one batch.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CaseAssignmentBackfill {
+
+    private static final String SELECT_UNMIGRATED = """
+            SELECT c.id, c.assigned_employees, c.created_at FROM op_case c
+            WHERE c.assigned_employees IS NOT NULL AND c.assigned_employees <> ''
+            AND NOT EXISTS (SELECT 1 FROM op_case_assignment a WHERE a.case_id = c.id)
+            AND c.id > ?
+            ORDER BY c.id
+            LIMIT ?
+            """;
+    private static final String INSERT_ASSIGNMENT =
+            "INSERT IGNORE INTO op_case_assignment (case_id, emp_id, assigned_at) VALUES (?, ?, ?)";
+    private static final int EMP_ID_LENGTH = 20;
+    private static final int CHUNK_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        long afterId = 0;
+        int cases = 0;
+        int inserted = 0;
+        while (true) {
+            List<Object[]> rows = new ArrayList<>();
+            long[] lastId = {afterId};
+            int[] chunkCases = {0};
+            // Keyset on id: cases whose column yields no valid emp id stay unmigrated and must not be re-read
+            jdbcTemplate.query(SELECT_UNMIGRATED, rs -> {
+                long caseId = rs.getLong(1);
+                Timestamp assignedAt = rs.getTimestamp(3);
+                for (String empId : split(rs.getString(2))) {
+                    rows.add(new Object[]{caseId, empId, assignedAt});
+                }
+                lastId[0] = caseId;
+                chunkCases[0]++;
+            }, afterId, CHUNK_SIZE);
+
+            if (!rows.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_ASSIGNMENT, rows);
+                inserted += rows.size();
+            }
+            cases += chunkCases[0];
+            if (chunkCases[0] < CHUNK_SIZE) {
+                break;
+            }
+            afterId = lastId[0];
+        }
+        if (inserted > 0) {
+            log.info("Case assignments backfilled: {} rows from assigned_employees of {} cases", inserted, cases);
+        }
+    }
+
+    private static Set<String> split(String assignedEmployees) {
+        Set<String> empIds = new LinkedHashSet<>();
+        for (String part : assignedEmployees.split(",")) {
+            String empId = part.trim();
+            if (!empId.isEmpty() && empId.length() <= EMP_ID_LENGTH) {
+                empIds.add(empId);
+            }
+        }
+        return empIds;
+    }
+}
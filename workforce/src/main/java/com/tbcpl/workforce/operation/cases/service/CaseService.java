@@ -24,6 +24,8 @@ public interface CaseService {
 
     Page<CaseListItemResponse> getCasesByStatus(String status, Pageable pageable);
 
+    Page<CaseListItemResponse> getCasesAssignedTo(String empId, Pageable pageable);
+
     void addUpdate(Long caseId, AddCaseUpdateRequest request, String updatedBy);
 
     // Add these 3 methods to existing CaseService interface
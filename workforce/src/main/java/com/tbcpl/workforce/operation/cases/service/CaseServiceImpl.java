@@ -4,12 +4,14 @@ import com.tbcpl.workforce.admin.entity.ClientProduct;
 import com.tbcpl.workforce.admin.repository.ClientProductRepository;
 import com.tbcpl.workforce.common.exception.ResourceNotFoundException;
 
+import com.tbcpl.workforce.common.util.DocumentNumberAllocator;
 import com.tbcpl.workforce.common.util.S3Service;
 import com.tbcpl.workforce.operation.cases.dto.request.AddCaseUpdateRequest;
 import com.tbcpl.workforce.operation.cases.dto.request.CreateCaseRequest;
 import com.tbcpl.workforce.operation.cases.dto.request.LinkProfileRequest;
 import com.tbcpl.workforce.operation.cases.dto.response.*;
 import com.tbcpl.workforce.operation.cases.entity.*;
+import com.tbcpl.workforce.operation.cases.repository.CaseAssignmentRepository;
 import com.tbcpl.workforce.operation.cases.repository.CaseDocumentRepository;
 import com.tbcpl.workforce.operation.cases.repository.CaseLinkedProfileRepository;
 import com.tbcpl.workforce.operation.cases.repository.CaseRepository;
@@ -24,6 +26,7 @@ import com.tbcpl.workforce.operation.prereport.repository.PreReportTrueBuddyLead
 import com.tbcpl.workforce.operation.cases.repository.CaseUpdateRepository;
 import com.tbcpl.workforce.auth.entity.Employee;
 import com.tbcpl.workforce.auth.repository.EmployeeRepository;
+import com.tbcpl.workforce.auth.service.EmployeeDirectory;
 import com.tbcpl.workforce.operation.prereport.service.PreReportService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.slf4j.Slf4j;
@@ -57,9 +60,12 @@ public class CaseServiceImpl implements CaseService {
     private final CaseUpdateRepository caseUpdateRepository;
     private final CaseDocumentRepository caseDocumentRepository;
     private final S3Service s3Service;
+    private final DocumentNumberAllocator documentNumberAllocator;
     private final EmployeeRepository employeeRepository;
+    private final EmployeeDirectory employeeDirectory;
     private final PreReportService preReportService;
     private final CaseLinkedProfileRepository linkedProfileRepository;
+    private final CaseAssignmentRepository assignmentRepository;
 
 
     public CaseServiceImpl(
@@ -72,9 +78,12 @@ public class CaseServiceImpl implements CaseService {
             CaseUpdateRepository caseUpdateRepository,
             CaseDocumentRepository caseDocumentRepository,  // ✅ ADD
             S3Service s3Service,
+            DocumentNumberAllocator documentNumberAllocator,
             EmployeeRepository employeeRepository,
+            EmployeeDirectory employeeDirectory,
             PreReportService preReportService,
-            CaseLinkedProfileRepository linkedProfileRepository
+            CaseLinkedProfileRepository linkedProfileRepository,
+            CaseAssignmentRepository assignmentRepository
     ) {
         this.caseRepository = caseRepository;
         this.preReportRepository = preReportRepository;
@@ -85,9 +94,12 @@ public class CaseServiceImpl implements CaseService {
         this.caseUpdateRepository = caseUpdateRepository;
         this.caseDocumentRepository   = caseDocumentRepository;  // ✅ ADD
         this.s3Service        = s3Service;
+        this.documentNumberAllocator  = documentNumberAllocator;
         this.employeeRepository       = employeeRepository;
+        this.employeeDirectory        = employeeDirectory;
         this.preReportService = preReportService;
         this.linkedProfileRepository = linkedProfileRepository;
+        this.assignmentRepository    = assignmentRepository;
     }
 
     // ─────────────────────────────────────────────────────────────────
@@ -116,13 +128,14 @@ public class CaseServiceImpl implements CaseService {
             throw new IllegalArgumentException("At least one Operations employee must be assigned to the case");
         }
 
-        List<String> validEmpIds = employeeRepository
+        Set<String> validEmpIds = employeeRepository
                 .findActiveEmployeesByDepartmentName("Operation")
                 .stream()
                 .map(Employee::getEmpId)
-                .toList();
+                .collect(Collectors.toSet());
 
-        for (String empId : request.getAssignedEmployees()) {
+        Set<String> assignedEmpIds = new LinkedHashSet<>(request.getAssignedEmployees());
+        for (String empId : assignedEmpIds) {
             if (!validEmpIds.contains(empId)) {
                 throw new IllegalArgumentException(
                         "Employee '" + empId + "' is not in Operations department or is inactive"
@@ -152,9 +165,7 @@ public class CaseServiceImpl implements CaseService {
                 .clientName(clientName)
                 .clientProduct(clientProducts)
                 .clientEmail(request.getClientEmail())
-                .assignedEmployees(request.getAssignedEmployees() != null
-                        ? String.join(",", request.getAssignedEmployees())
-                        : null)
+                .assignedEmployees(String.join(",", assignedEmpIds))
                 .estimatedCompletionDate(request.getEstimatedCompletionDate())
                 .createdBy(createdBy)
                 .build();
@@ -174,6 +185,13 @@ public class CaseServiceImpl implements CaseService {
 
         newCase.getUpdates().add(initialUpdate);
 
+        for (String empId : assignedEmpIds) {
+            newCase.getAssignments().add(CaseAssignment.builder()
+                    .caseEntity(newCase)
+                    .empId(empId)
+                    .build());
+        }
+
         Case savedCase = caseRepository.save(newCase);
         log.info("Case created successfully: {}", savedCase.getCaseNumber());
         preReportService.markCaseGenerated(
@@ -182,7 +200,7 @@ public class CaseServiceImpl implements CaseService {
                 savedCase.getId()
         );
 
-        return mapToCaseResponse(savedCase);
+        return mapToCaseResponse(savedCase, assignmentRepository.findAssignedEmployees(savedCase.getId()));
     }
 
     // ─────────────────────────────────────────────────────────────────
@@ -195,19 +213,20 @@ public class CaseServiceImpl implements CaseService {
                 .filter(c -> !c.getIsDeleted())
                 .orElseThrow(() -> new EntityNotFoundException("Case not found: " + caseId));
 
-        // ── Resolve updatedBy: empId → fullName ───────────────────────
-        String updatedByName = employeeRepository.findByEmpId(updatedByEmpId)
-                .map(Employee::getFullName)
-                .orElse(updatedByEmpId); // fallback to empId if employee not found
-
-        // ── Resolve procedureDoneBy: empId → fullName ─────────────────
-        String procedureDoneByName = null;
-        String procedureDoneByEmpId = request.getProcedureDoneByEmpId();
-        if (procedureDoneByEmpId != null && !procedureDoneByEmpId.isBlank()) {
-            procedureDoneByName = employeeRepository.findByEmpId(procedureDoneByEmpId.trim())
-                    .map(Employee::getFullName)
-                    .orElse(procedureDoneByEmpId); // fallback
-        }
+        // ── Resolve updatedBy / procedureDoneBy: empId → fullName in one query ──
+        String procedureDoneByEmpId = request.getProcedureDoneByEmpId() != null
+                && !request.getProcedureDoneByEmpId().isBlank()
+                ? request.getProcedureDoneByEmpId().trim()
+                : null;
+        Map<String, String> names = employeeRepository.findAllByEmpIdIn(
+                        procedureDoneByEmpId != null ? List.of(updatedByEmpId, procedureDoneByEmpId) : List.of(updatedByEmpId))
+                .stream()
+                .collect(Collectors.toMap(Employee::getEmpId, Employee::getFullName, (a, b) -> a));
+
+        String updatedByName = names.getOrDefault(updatedByEmpId, updatedByEmpId); // fallback to empId if employee not found
+        String procedureDoneByName = procedureDoneByEmpId != null
+                ? names.getOrDefault(procedureDoneByEmpId, procedureDoneByEmpId)
+                : null;
 
         CaseUpdate update = CaseUpdate.builder()
                 .caseEntity(caseEntity)
@@ -221,18 +240,20 @@ public class CaseServiceImpl implements CaseService {
         log.info("Update added to case {} by {}", caseId, updatedByName);
 
         // ── Auto-add to Assigned Team if not already present ──────────
-        if (procedureDoneByEmpId != null && !procedureDoneByEmpId.isBlank()) {
+        if (procedureDoneByEmpId != null
+                && !assignmentRepository.existsByCaseEntity_IdAndEmpId(caseId, procedureDoneByEmpId)) {
+            assignmentRepository.save(CaseAssignment.builder()
+                    .caseEntity(caseEntity)
+                    .empId(procedureDoneByEmpId)
+                    .build());
+
+            // Legacy column kept in step for readers that still use it
             String current = caseEntity.getAssignedEmployees();
-            List<String> empIds = (current != null && !current.isBlank())
-                    ? new ArrayList<>(Arrays.asList(current.split(",")))
-                    : new ArrayList<>();
-
-            if (!empIds.contains(procedureDoneByEmpId.trim())) {
-                empIds.add(procedureDoneByEmpId.trim());
-                caseEntity.setAssignedEmployees(String.join(",", empIds));
-                caseRepository.save(caseEntity);
-                log.info("Employee {} auto-added to assigned team of case {}", procedureDoneByEmpId, caseId);
-            }
+            caseEntity.setAssignedEmployees(current != null && !current.isBlank()
+                    ? current + "," + procedureDoneByEmpId
+                    : procedureDoneByEmpId);
+            caseRepository.save(caseEntity);
+            log.info("Employee {} auto-added to assigned team of case {}", procedureDoneByEmpId, caseId);
         }
     }
 
@@ -240,18 +261,16 @@ public class CaseServiceImpl implements CaseService {
     @Override
     @Transactional(readOnly = true)
     public CaseResponse getCaseById(Long caseId) {
-        Case caseEntity = caseRepository.findById(caseId)
-                .filter(c -> !c.getIsDeleted())
+        return loadCaseResponse(caseId)
                 .orElseThrow(() -> new EntityNotFoundException("Case not found with ID: " + caseId));
-        return mapToCaseResponse(caseEntity);
     }
 
     @Override
     @Transactional(readOnly = true)
     public CaseResponse getCaseByCaseNumber(String caseNumber) {
-        Case caseEntity = caseRepository.findByCaseNumberAndIsDeletedFalse(caseNumber)
+        return caseRepository.findActiveIdByCaseNumber(caseNumber)
+                .flatMap(this::loadCaseResponse)
                 .orElseThrow(() -> new EntityNotFoundException("Case not found with number: " + caseNumber));
-        return mapToCaseResponse(caseEntity);
     }
 
     @Override
@@ -275,6 +294,25 @@ public class CaseServiceImpl implements CaseService {
                 .map(this::mapToCaseListItemResponse);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Page<CaseListItemResponse> getCasesAssignedTo(String empId, Pageable pageable) {
+        return caseRepository.findAssignedTo(empId, pageable)
+                .map(this::mapToCaseListItemResponse);
+    }
+
+    /**
+     * Case detail in a fixed fetch plan: case + updates (ordered), online presences,
+     * and assigned employees joined through op_case_assignment — three queries, no lazy loads
+     */
+    private Optional<CaseResponse> loadCaseResponse(Long caseId) {
+        return caseRepository.findActiveWithUpdates(caseId)
+                .map(c -> {
+                    caseRepository.fetchOnlinePresences(caseId);
+                    return mapToCaseResponse(c, assignmentRepository.findAssignedEmployees(caseId));
+                });
+    }
+
     // ─────────────────────────────────────────────────────────────────────
 // DOCUMENT METHODS
 // ─────────────────────────────────────────────────────────────────────
@@ -338,19 +376,18 @@ public class CaseServiceImpl implements CaseService {
     }
 
     @Override
-    @Transactional(readOnly = true)
     public List<OperationsEmployeeResponse> getOperationsEmployees() {
-        return employeeRepository.findActiveEmployeesByDepartmentName("Operation")
+        return employeeDirectory.byDepartmentName("Operation")
                 .stream()
                 .map(emp -> OperationsEmployeeResponse.builder()
-                        .id(emp.getId())
-                        .empId(emp.getEmpId())
-                        .fullName(emp.getFullName())
-                        .email(emp.getEmail())
-                        .roleName(emp.getRole().getRoleName() != null
-                                ? emp.getRole().getRoleName()
+                        .id(emp.id())
+                        .empId(emp.empId())
+                        .fullName(emp.fullName())
+                        .email(emp.email())
+                        .roleName(emp.roleName() != null
+                                ? emp.roleName()
                                 : "N/A")
-                        .departmentName(emp.getDepartment().getDepartmentName())
+                        .departmentName(emp.departmentName())
                         .build())
                 .toList();
     }
@@ -597,8 +634,8 @@ public class CaseServiceImpl implements CaseService {
 
     private String generateCaseNumber() {
         int year = LocalDate.now().getYear();
-        Long count = caseRepository.countByYear(year);
-        return String.format("CASE-%d-%04d", year, count + 1);
+        long next = documentNumberAllocator.next("CASE", year, () -> caseRepository.countByYear(year));
+        return String.format("CASE-%d-%04d", year, next);
     }
 
     private String buildCaseTitle(PreReport preReport, String caseNumber) {
@@ -626,15 +663,13 @@ public class CaseServiceImpl implements CaseService {
                 .collect(Collectors.joining(", "));
     }
 
-    private CaseResponse mapToCaseResponse(Case c) {
-        List<String> employees = new ArrayList<>();
-        if (c.getAssignedEmployees() != null && !c.getAssignedEmployees().isBlank()) {
-            List<String> empIds = Arrays.asList(c.getAssignedEmployees().split(","));
-            employees = employeeRepository.findAllByEmpIdIn(empIds)
-                    .stream()
-                    .map(Employee::getFullName)
-                    .toList();
-        }
+    /**
+     * Updates are expected newest first (as loaded by findActiveWithUpdates)
+     */
+    private CaseResponse mapToCaseResponse(Case c, List<Employee> assignedEmployees) {
+        List<String> employees = assignedEmployees.stream()
+                .map(Employee::getFullName)
+                .toList();
 
         List<CaseOnlinePresenceResponse> presences = c.getOnlinePresences().stream()
                 .map(p -> CaseOnlinePresenceResponse.builder()
@@ -645,7 +680,6 @@ public class CaseServiceImpl implements CaseService {
                 .collect(Collectors.toList());
 
         List<CaseUpdateResponse> updates = c.getUpdates().stream()
-                .sorted(Comparator.comparing(CaseUpdate::getUpdateDate).reversed())
                 .map(u -> CaseUpdateResponse.builder()
                         .id(u.getId())
                         .updateDate(u.getUpdateDate())
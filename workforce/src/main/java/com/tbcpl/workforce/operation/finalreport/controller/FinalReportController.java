@@ -48,22 +48,24 @@ public class FinalReportController {
     @PostMapping(value = "/{caseId}/images", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<ApiResponse<ImageUploadResponse>> uploadImages(
             @PathVariable Long caseId,
-            @RequestParam("files") MultipartFile[] files) {
+            @RequestParam("files") MultipartFile[] files,
+            @RequestParam(value = "thumbnails", defaultValue = "false") boolean thumbnails) {
         log.info("POST /{}/images - {} files", caseId, files.length);
         return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success(
                 "Images processed",
-                finalReportService.uploadSectionImages(caseId, files)
+                finalReportService.uploadSectionImages(caseId, files, thumbnails)
         ));
     }
 
     @PostMapping(value = "/by-report/{reportId}/images", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<ApiResponse<ImageUploadResponse>> uploadImagesByReportId(
             @PathVariable Long reportId,
-            @RequestParam("files") MultipartFile[] files) {
+            @RequestParam("files") MultipartFile[] files,
+            @RequestParam(value = "thumbnails", defaultValue = "false") boolean thumbnails) {
         log.info("POST /by-report/{}/images - {} files", reportId, files.length);
         return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success(
                 "Images processed",
-                finalReportService.uploadSectionImagesByReportId(reportId, files)
+                finalReportService.uploadSectionImagesByReportId(reportId, files, thumbnails)
         ));
     }
 
@@ -83,7 +85,8 @@ public class FinalReportController {
     @PostMapping(value = "/images/direct", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<ApiResponse<ImageUploadResponse>> uploadImagesDirectly(
             @RequestParam("files") MultipartFile[] files,
-            @RequestParam(value = "folderKey", required = false) String folderKey) {
+            @RequestParam(value = "folderKey", required = false) String folderKey,
+            @RequestParam(value = "thumbnails", defaultValue = "false") boolean thumbnails) {
         log.info("POST /images/direct - {} files, folderKey: {}", files.length, folderKey);
 
         // Use timestamp-based folder if no key provided
@@ -93,7 +96,7 @@ public class FinalReportController {
 
         return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success(
                 "Images processed",
-                finalReportService.uploadImagesDirectly(files, folder)
+                finalReportService.uploadImagesDirectly(files, folder, thumbnails)
         ));
     }
 
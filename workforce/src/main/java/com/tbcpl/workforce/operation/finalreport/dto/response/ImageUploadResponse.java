@@ -28,5 +28,8 @@ public class ImageUploadResponse {
         private String publicId;
         private boolean success;
         private String error;
+        // Downscaled JPEG preview, only when thumbnails were requested
+        private String thumbnailUrl;
+        private String thumbnailPublicId;
     }
 }
@@ -1,5 +1,6 @@
 package com.tbcpl.workforce.operation.finalreport.repository;
 
+import com.tbcpl.workforce.operation.finalreport.dto.response.FinalReportListItemResponse;
 import com.tbcpl.workforce.operation.finalreport.entity.FinalReport;
 import com.tbcpl.workforce.operation.finalreport.entity.enums.FinalReportStatus;
 import org.springframework.data.domain.Page;
@@ -20,11 +21,19 @@ public interface FinalReportRepository extends JpaRepository<FinalReport, Long>
 
     boolean existsByCaseIdAndIsDeletedFalse(Long caseId);
 
-    @Query("SELECT r FROM FinalReport r WHERE r.isDeleted = false ORDER BY r.createdAt DESC")
-    Page<FinalReport> findAllActive(Pageable pageable);
+    // ── List projections: never select the JSON/TEXT columns ──
 
-    @Query("SELECT r FROM FinalReport r WHERE r.reportStatus = :status AND r.isDeleted = false ORDER BY r.createdAt DESC")
-    Page<FinalReport> findByStatus(@Param("status") FinalReportStatus status, Pageable pageable);
+    String LIST_ITEM_SELECT = "SELECT new com.tbcpl.workforce.operation.finalreport.dto.response.FinalReportListItemResponse(" +
+            "r.id, r.reportNumber, r.caseId, r.caseNumber, r.clientName, r.clientLogoUrl, r.reportTitle, " +
+            "r.reportDate, r.reportStatus, r.createdBy, r.updatedBy, r.createdAt, r.updatedAt) FROM FinalReport r ";
+
+    @Query(value = LIST_ITEM_SELECT + "WHERE r.isDeleted = false ORDER BY r.createdAt DESC",
+            countQuery = "SELECT COUNT(r) FROM FinalReport r WHERE r.isDeleted = false")
+    Page<FinalReportListItemResponse> findAllActiveListItems(Pageable pageable);
+
+    @Query(value = LIST_ITEM_SELECT + "WHERE r.reportStatus = :status AND r.isDeleted = false ORDER BY r.createdAt DESC",
+            countQuery = "SELECT COUNT(r) FROM FinalReport r WHERE r.reportStatus = :status AND r.isDeleted = false")
+    Page<FinalReportListItemResponse> findListItemsByStatus(@Param("status") FinalReportStatus status, Pageable pageable);
 
     @Query("SELECT COUNT(r) FROM FinalReport r WHERE YEAR(r.createdAt) = :year")
     Long countByYear(@Param("year") int year);
@@ -16,7 +16,7 @@ public interface FinalReportService {
 
     CaseReportPrefillResponse getCaseReportPrefill(Long caseId);
 
-    ImageUploadResponse uploadSectionImages(Long caseId, MultipartFile[] files);
+    ImageUploadResponse uploadSectionImages(Long caseId, MultipartFile[] files, boolean thumbnails);
 
     FinalReportResponse createReport(CreateFinalReportRequest request, String createdBy);
 
@@ -34,8 +34,8 @@ public interface FinalReportService {
 
     FinalReportResponse updateStatus(Long reportId, FinalReportStatusUpdateRequest request, String updatedBy);
 
-    ImageUploadResponse uploadSectionImagesByReportId(Long reportId, MultipartFile[] files);
-    ImageUploadResponse uploadImagesDirectly(MultipartFile[] files, String folderKey);
+    ImageUploadResponse uploadSectionImagesByReportId(Long reportId, MultipartFile[] files, boolean thumbnails);
+    ImageUploadResponse uploadImagesDirectly(MultipartFile[] files, String folderKey, boolean thumbnails);
 
     void deleteReport(Long reportId);
 }
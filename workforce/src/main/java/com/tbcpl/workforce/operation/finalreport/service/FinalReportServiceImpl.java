@@ -7,7 +7,7 @@ import com.tbcpl.workforce.admin.repository.ClientRepository;
 import com.tbcpl.workforce.common.exception.BusinessException;
 
 import com.tbcpl.workforce.common.exception.ResourceNotFoundException;
-import com.tbcpl.workforce.common.util.S3Service;
+import com.tbcpl.workforce.common.util.DocumentNumberAllocator;
 import com.tbcpl.workforce.operation.cases.entity.Case;
 import com.tbcpl.workforce.operation.cases.repository.CaseRepository;
 import com.tbcpl.workforce.operation.finalreport.dto.request.CreateFinalReportRequest;
@@ -31,7 +31,6 @@ import org.springframework.web.multipart.MultipartFile;
 
 import javax.imageio.ImageIO;
 import java.awt.image.BufferedImage;
-import java.io.IOException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -46,21 +45,24 @@ public class FinalReportServiceImpl implements FinalReportService {
     private final FinalReportRepository finalReportRepository;
     private final CaseRepository        caseRepository;
     private final ClientRepository      clientRepository;
-    private final S3Service s3Service;
     private final ObjectMapper          objectMapper;
+    private final DocumentNumberAllocator documentNumberAllocator;
+    private final ReportImageUploader   imageUploader;
 
     public FinalReportServiceImpl(
             FinalReportRepository finalReportRepository,
             CaseRepository caseRepository,
             ClientRepository clientRepository,
-            S3Service s3Service,
-            ObjectMapper objectMapper
+            ObjectMapper objectMapper,
+            DocumentNumberAllocator documentNumberAllocator,
+            ReportImageUploader imageUploader
     ) {
         this.finalReportRepository = finalReportRepository;
         this.caseRepository        = caseRepository;
         this.clientRepository      = clientRepository;
-        this.s3Service     = s3Service;
         this.objectMapper          = objectMapper;
+        this.documentNumberAllocator = documentNumberAllocator;
+        this.imageUploader         = imageUploader;
     }
 
     // ─────────────────────────────────────────────────────────────────
@@ -104,57 +106,13 @@ public class FinalReportServiceImpl implements FinalReportService {
     // ─────────────────────────────────────────────────────────────────
 
     @Override
-    public ImageUploadResponse uploadSectionImages(Long caseId, MultipartFile[] files) {
+    public ImageUploadResponse uploadSectionImages(Long caseId, MultipartFile[] files, boolean thumbnails) {
         log.info("Uploading {} section images for caseId: {}", files.length, caseId);
 
         Case caseEntity = findActiveCase(caseId);
 
-        List<ImageUploadResponse.UploadedImage> results = new ArrayList<>();
-        int successCount = 0;
-        int failedCount  = 0;
-
-        for (int i = 0; i < files.length; i++) {
-            MultipartFile file         = files[i];
-            String        originalName = file.getOriginalFilename();
-
-            try {
-                // ── Validate content type only ────────────────────────────
-                String contentType = file.getContentType();
-                if (contentType == null || !contentType.startsWith("image/")) {
-                    results.add(buildFailedImage(i, originalName, "Only image files are allowed"));
-                    failedCount++;
-                    continue;
-                }
-
-                // ── Upload to Cloudinary ──────────────────────────────────
-                Map<String, String> uploaded = s3Service.uploadFile(
-                        file,
-                        "finalreports/" + caseEntity.getCaseNumber() + "/sections"
-                );
-
-                results.add(ImageUploadResponse.UploadedImage.builder()
-                        .index(i)
-                        .originalName(originalName)
-                        .url(uploaded.get("url"))
-                        .publicId(uploaded.get("key"))
-                        .success(true)
-                        .build());
-
-                successCount++;
-                log.info("Image '{}' uploaded for case {}", originalName, caseId);
-
-            } catch (IOException e) {
-                log.error("Failed to upload image '{}': {}", originalName, e.getMessage());
-                results.add(buildFailedImage(i, originalName, "Upload failed: " + e.getMessage()));
-                failedCount++;
-            }
-        }
-
-        return ImageUploadResponse.builder()
-                .images(results)
-                .successCount(successCount)
-                .failedCount(failedCount)
-                .build();
+        return imageUploader.uploadAll(files,
+                "finalreports/" + caseEntity.getCaseNumber() + "/sections", thumbnails);
     }
 
 
@@ -261,16 +219,14 @@ public class FinalReportServiceImpl implements FinalReportService {
     @Override
     @Transactional(readOnly = true)
     public Page<FinalReportListItemResponse> getAllReports(Pageable pageable) {
-        return finalReportRepository.findAllActive(pageable)
-                .map(this::mapToListItemResponse);
+        return finalReportRepository.findAllActiveListItems(pageable);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<FinalReportListItemResponse> getReportsByStatus(
             FinalReportStatus status, Pageable pageable) {
-        return finalReportRepository.findByStatus(status, pageable)
-                .map(this::mapToListItemResponse);
+        return finalReportRepository.findListItemsByStatus(status, pageable);
     }
 
     // ─────────────────────────────────────────────────────────────────
@@ -393,7 +349,7 @@ public class FinalReportServiceImpl implements FinalReportService {
     }
 
     @Override
-    public ImageUploadResponse uploadSectionImagesByReportId(Long reportId, MultipartFile[] files) {
+    public ImageUploadResponse uploadSectionImagesByReportId(Long reportId, MultipartFile[] files, boolean thumbnails) {
         log.info("Uploading {} images for reportId: {}", files.length, reportId);
 
         FinalReport report = finalReportRepository.findById(reportId)
@@ -405,102 +361,14 @@ public class FinalReportServiceImpl implements FinalReportService {
                 ? report.getCaseNumber()
                 : report.getReportNumber();
 
-        List<ImageUploadResponse.UploadedImage> results = new ArrayList<>();
-        int successCount = 0;
-        int failedCount  = 0;
-
-        for (int i = 0; i < files.length; i++) {
-            MultipartFile file         = files[i];
-            String        originalName = file.getOriginalFilename();
-
-            try {
-                String contentType = file.getContentType();
-                if (contentType == null || !contentType.startsWith("image/")) {
-                    results.add(buildFailedImage(i, originalName, "Only image files are allowed"));
-                    failedCount++;
-                    continue;
-                }
-
-                Map<String, String> uploaded = s3Service.uploadFile(
-                        file,
-                        "finalreports/" + folderKey + "/sections"
-                );
-
-                results.add(ImageUploadResponse.UploadedImage.builder()
-                        .index(i)
-                        .originalName(originalName)
-                        .url(uploaded.get("url"))
-                        .publicId(uploaded.get("key"))
-                        .success(true)
-                        .build());
-
-                successCount++;
-                log.info("Image '{}' uploaded for report {}", originalName, reportId);
-
-            } catch (IOException e) {
-                log.error("Failed to upload image '{}': {}", originalName, e.getMessage());
-                results.add(buildFailedImage(i, originalName, "Upload failed: " + e.getMessage()));
-                failedCount++;
-            }
-        }
-
-        return ImageUploadResponse.builder()
-                .images(results)
-                .successCount(successCount)
-                .failedCount(failedCount)
-                .build();
+        return imageUploader.uploadAll(files, "finalreports/" + folderKey + "/sections", thumbnails);
     }
 
     @Override
-    public ImageUploadResponse uploadImagesDirectly(MultipartFile[] files, String folderKey) {
+    public ImageUploadResponse uploadImagesDirectly(MultipartFile[] files, String folderKey, boolean thumbnails) {
         log.info("Uploading {} images directly to folder: {}", files.length, folderKey);
 
-        List<ImageUploadResponse.UploadedImage> results = new ArrayList<>();
-        int successCount = 0;
-        int failedCount  = 0;
-
-        for (int i = 0; i < files.length; i++) {
-            MultipartFile file         = files[i];
-            String        originalName = file.getOriginalFilename();
-
-            try {
-                // Validate content type
-                String contentType = file.getContentType();
-                if (contentType == null || !contentType.startsWith("image/")) {
-                    results.add(buildFailedImage(i, originalName, "Only image files are allowed"));
-                    failedCount++;
-                    continue;
-                }
-
-                // Upload to S3/Cloudinary
-                Map<String, String> uploaded = s3Service.uploadFile(
-                        file,
-                        "finalreports/" + folderKey + "/sections"
-                );
-
-                results.add(ImageUploadResponse.UploadedImage.builder()
-                        .index(i)
-                        .originalName(originalName)
-                        .url(uploaded.get("url"))
-                        .publicId(uploaded.get("key"))
-                        .success(true)
-                        .build());
-
-                successCount++;
-                log.info("Image '{}' uploaded directly to folder '{}'", originalName, folderKey);
-
-            } catch (IOException e) {
-                log.error("Failed to upload image '{}': {}", originalName, e.getMessage());
-                results.add(buildFailedImage(i, originalName, "Upload failed: " + e.getMessage()));
-                failedCount++;
-            }
-        }
-
-        return ImageUploadResponse.builder()
-                .images(results)
-                .successCount(successCount)
-                .failedCount(failedCount)
-                .build();
+        return imageUploader.uploadAll(files, "finalreports/" + folderKey + "/sections", thumbnails);
     }
 
     // ─────────────────────────────────────────────────────────────────
@@ -522,9 +390,12 @@ public class FinalReportServiceImpl implements FinalReportService {
     }
 
     private String generateReportNumber() {
-        int  year  = LocalDate.now().getYear();
-        Long count = finalReportRepository.countByYear(year);
-        return String.format("RPT-%d-%04d", year, (count == null ? 0L : count) + 1);
+        int  year = LocalDate.now().getYear();
+        long next = documentNumberAllocator.next("RPT", year, () -> {
+            Long count = finalReportRepository.countByYear(year);
+            return count == null ? 0L : count;
+        });
+        return String.format("RPT-%d-%04d", year, next);
     }
 
     private String serializeToJson(Object obj) {
@@ -576,16 +447,6 @@ public class FinalReportServiceImpl implements FinalReportService {
         }
     }
 
-    private ImageUploadResponse.UploadedImage buildFailedImage(
-            int index, String name, String error) {
-        return ImageUploadResponse.UploadedImage.builder()
-                .index(index)
-                .originalName(name)
-                .success(false)
-                .error(error)
-                .build();
-    }
-
     private FinalReportResponse mapToResponse(FinalReport r) {
         return FinalReportResponse.builder()
                 .id(r.getId())
@@ -615,22 +476,4 @@ public class FinalReportServiceImpl implements FinalReportService {
                 .updatedAt(r.getUpdatedAt())
                 .build();
     }
-
-    private FinalReportListItemResponse mapToListItemResponse(FinalReport r) {
-        return FinalReportListItemResponse.builder()
-                .id(r.getId())
-                .reportNumber(r.getReportNumber())
-                .caseId(r.getCaseId())
-                .caseNumber(r.getCaseNumber())
-                .clientName(r.getClientName())
-                .clientLogoUrl(r.getClientLogoUrl())
-                .reportTitle(r.getReportTitle())
-                .reportDate(r.getReportDate())
-                .reportStatus(r.getReportStatus())
-                .createdBy(r.getCreatedBy())
-                .updatedBy(r.getUpdatedBy())
-                .createdAt(r.getCreatedAt())
-                .updatedAt(r.getUpdatedAt())
-                .build();
-    }
 }
@@ -0,0 +1,233 @@
+package com.tbcpl.workforce.operation.finalreport.service;
+
+import com.tbcpl.workforce.common.exception.BusinessException;
+import com.tbcpl.workforce.common.util.S3Service;
+import com.tbcpl.workforce.operation.finalreport.dto.response.ImageUploadResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Uploads a batch of report images to S3 concurrently on virtual threads.
+ * Each request keeps at most MAX_UPLOADS_PER_REQUEST files in flight and all requests together
+ * at most MAX_CONCURRENT_UPLOADS; results keep the per-index success/failure of the input order.
+ * Optionally stores a downscaled JPEG preview next to each original.
+ */
+@Component
+@Slf4j
+public class ReportImageUploader {
+
+    private static final int MAX_CONCURRENT_UPLOADS  = 32;
+    private static final int MAX_UPLOADS_PER_REQUEST = 6;
+    private static final int THUMBNAIL_MAX_EDGE      = 480;
+
+    private final S3Service s3Service;
+
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("report-image-", 0).factory());
+    private final Semaphore uploadSlots = new Semaphore(MAX_CONCURRENT_UPLOADS);
+
+    public ReportImageUploader(S3Service s3Service) {
+        this.s3Service = s3Service;
+    }
+
+    /**
+     * Upload every file under the folder and wait for all of them.
+     * A failed file is reported at its index; it never fails the rest of the batch.
+     */
+    public ImageUploadResponse uploadAll(MultipartFile[] files, String folder, boolean withThumbnails) {
+        Semaphore requestSlots = new Semaphore(MAX_UPLOADS_PER_REQUEST);
+        List<Future<ImageUploadResponse.UploadedImage>> futures = new ArrayList<>(files.length);
+
+        try {
+            for (int i = 0; i < files.length; i++) {
+                int           index = i;
+                MultipartFile file  = files[i];
+                requestSlots.acquire();
+                try {
+                    futures.add(executor.submit(() -> {
+                        try {
+                            return uploadOne(index, file, folder, withThumbnails);
+                        } finally {
+                            requestSlots.release();
+                        }
+                    }));
+                } catch (RejectedExecutionException e) {
+                    requestSlots.release();
+                    throw e;
+                }
+            }
+
+            List<ImageUploadResponse.UploadedImage> results = new ArrayList<>(files.length);
+            for (int i = 0; i < futures.size(); i++) {
+                results.add(await(futures.get(i), i, files[i].getOriginalFilename()));
+            }
+
+            int successCount = (int) results.stream().filter(ImageUploadResponse.UploadedImage::isSuccess).count();
+            return ImageUploadResponse.builder()
+                    .images(results)
+                    .successCount(successCount)
+                    .failedCount(results.size() - successCount)
+                    .build();
+
+        } catch (InterruptedException e) {
+            futures.forEach(f -> f.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new BusinessException("Image upload interrupted");
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // ── Per-file pipeline ──
+
+    private ImageUploadResponse.UploadedImage uploadOne(int index, MultipartFile file,
+                                                        String folder, boolean withThumbnails) {
+        String originalName = file.getOriginalFilename();
+        String contentType  = file.getContentType();
+        if (contentType == null || !contentType.startsWith("image/")) {
+            return failed(index, originalName, "Only image files are allowed");
+        }
+
+        try {
+            uploadSlots.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return failed(index, originalName, "Upload interrupted");
+        }
+
+        try {
+            Map<String, String> uploaded = s3Service.uploadFile(file, folder);
+
+            ImageUploadResponse.UploadedImage.UploadedImageBuilder result = ImageUploadResponse.UploadedImage.builder()
+                    .index(index)
+                    .originalName(originalName)
+                    .url(uploaded.get("url"))
+                    .publicId(uploaded.get("key"))
+                    .success(true);
+
+            if (withThumbnails) {
+                Map<String, String> thumbnail = uploadThumbnail(file, folder, originalName);
+                if (thumbnail != null) {
+                    result.thumbnailUrl(thumbnail.get("url"))
+                            .thumbnailPublicId(thumbnail.get("key"));
+                }
+            }
+
+            log.info("Image '{}' uploaded to folder '{}'", originalName, folder);
+            return result.build();
+
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to upload image '{}': {}", originalName, e.getMessage());
+            return failed(index, originalName, "Upload failed: " + e.getMessage());
+        } finally {
+            uploadSlots.release();
+        }
+    }
+
+    /**
+     * Store a JPEG preview under folder/thumbs; a preview that cannot be produced is skipped
+     * (the original is already stored) rather than failing the image
+     */
+    private Map<String, String> uploadThumbnail(MultipartFile file, String folder, String originalName) {
+        try {
+            byte[] jpeg = renderThumbnail(file);
+            if (jpeg == null) {
+                log.debug("No image reader for '{}', thumbnail skipped", originalName);
+                return null;
+            }
+            return s3Service.uploadBytes(jpeg, folder + "/thumbs", "thumb.jpg", "image/jpeg");
+        } catch (IOException | RuntimeException e) {
+            log.warn("Thumbnail for '{}' not generated: {}", originalName, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Decode with source subsampling so only about THUMBNAIL_MAX_EDGE pixels per edge are
+     * ever materialised, then scale the remainder down exactly and encode as JPEG
+     */
+    private byte[] renderThumbnail(MultipartFile file) throws IOException {
+        try (InputStream raw = file.getInputStream();
+             ImageInputStream in = ImageIO.createImageInputStream(raw)) {
+            Iterator<ImageReader> readers = in != null ? ImageIO.getImageReaders(in) : null;
+            if (readers == null || !readers.hasNext()) {
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                int step = Math.max(1, Math.max(reader.getWidth(0), reader.getHeight(0)) / THUMBNAIL_MAX_EDGE);
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                BufferedImage decoded = reader.read(0, param);
+
+                double scale  = Math.min(1.0, (double) THUMBNAIL_MAX_EDGE
+                        / Math.max(decoded.getWidth(), decoded.getHeight()));
+                int    width  = Math.max(1, (int) Math.round(decoded.getWidth() * scale));
+                int    height = Math.max(1, (int) Math.round(decoded.getHeight() * scale));
+
+                BufferedImage thumbnail = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+                Graphics2D g = thumbnail.createGraphics();
+                try {
+                    g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                    g.drawImage(decoded, 0, 0, width, height, Color.WHITE, null);
+                } finally {
+                    g.dispose();
+                }
+
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                ImageIO.write(thumbnail, "jpg", out);
+                return out.toByteArray();
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private ImageUploadResponse.UploadedImage await(Future<ImageUploadResponse.UploadedImage> future,
+                                                    int index, String originalName) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            log.error("Image '{}' upload task failed: {}", originalName, e.getCause().getMessage());
+            return failed(index, originalName, "Upload failed: " + e.getCause().getMessage());
+        }
+    }
+
+    private ImageUploadResponse.UploadedImage failed(int index, String name, String error) {
+        return ImageUploadResponse.UploadedImage.builder()
+                .index(index)
+                .originalName(name)
+                .success(false)
+                .error(error)
+                .build();
+    }
+}
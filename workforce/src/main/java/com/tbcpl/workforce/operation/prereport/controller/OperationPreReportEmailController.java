@@ -27,9 +27,9 @@ public class OperationPreReportEmailController {
         log.info("[EmailController] POST /pre-reports/{}/send-mail to={}",
                 reportId, request.getToEmail());
 
-        preReportEmailService.sendPreReportMail(reportId, request);
+        String messageId = preReportEmailService.sendPreReportMail(reportId, request);
 
         return ResponseEntity.ok(ApiResponse.success(
-                "Report sent successfully to " + request.getToEmail(), null));
+                "Report queued for delivery to " + request.getToEmail(), messageId));
     }
 }
\ No newline at end of file
@@ -3,5 +3,5 @@ package com.tbcpl.workforce.operation.prereport.service;
 import com.tbcpl.workforce.operation.prereport.dto.request.PreReportSendMailRequestDto;
 
 public interface PreReportEmailService {
-    void sendPreReportMail(String reportId, PreReportSendMailRequestDto request);
+    String sendPreReportMail(String reportId, PreReportSendMailRequestDto request);   // returns outbox message id
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.tbcpl.workforce.operation.prereport.service;
 
+import com.tbcpl.workforce.common.email.BrevoEmailService;
 import com.tbcpl.workforce.common.exception.ResourceNotFoundException;
 import com.tbcpl.workforce.operation.prereport.dto.request.PreReportSendMailRequestDto;
 import com.tbcpl.workforce.operation.prereport.entity.PreReport;
@@ -11,12 +12,7 @@ import com.tbcpl.workforce.operation.prereport.repository.PreReportRepository;
 import com.tbcpl.workforce.operation.prereport.repository.PreReportTrueBuddyLeadRepository;
 import com.tbcpl.workforce.operation.prereport.service.PreReportEmailService;
 import com.tbcpl.workforce.operation.prereport.service.PreReportPdfService;
-import jakarta.mail.internet.MimeMessage;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.ByteArrayResource;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -26,25 +22,19 @@ import java.time.format.DateTimeFormatter;
 @Service
 public class PreReportEmailServiceImpl implements PreReportEmailService {
 
-    private final JavaMailSender mailSender;
+    private final BrevoEmailService brevoEmailService;
     private final PreReportPdfService pdfService;
     private final PreReportRepository preReportRepository;
     private final PreReportClientLeadRepository clientLeadRepository;
     private final PreReportTrueBuddyLeadRepository trueBuddyLeadRepository;
 
-    @Value("${app.mail.from}")
-    private String fromEmail;
-
-    @Value("${app.mail.from-name:True Buddy Consulting Pvt. Ltd.}")
-    private String fromName;
-
     public PreReportEmailServiceImpl(
-            JavaMailSender mailSender,
+            BrevoEmailService brevoEmailService,
             PreReportPdfService pdfService,
             PreReportRepository preReportRepository,
             PreReportClientLeadRepository clientLeadRepository,
             PreReportTrueBuddyLeadRepository trueBuddyLeadRepository) {
-        this.mailSender = mailSender;
+        this.brevoEmailService = brevoEmailService;
         this.pdfService = pdfService;
         this.preReportRepository = preReportRepository;
         this.clientLeadRepository = clientLeadRepository;
@@ -52,7 +42,7 @@ public class PreReportEmailServiceImpl implements PreReportEmailService {
     }
 
     @Override
-    public void sendPreReportMail(String reportId, PreReportSendMailRequestDto request) {
+    public String sendPreReportMail(String reportId, PreReportSendMailRequestDto request) {
         log.info("[EmailService] Preparing mail for reportId={} to={}", reportId, request.getToEmail());
 
         // 1. Fetch PreReport
@@ -73,26 +63,17 @@ public class PreReportEmailServiceImpl implements PreReportEmailService {
         byte[] pdfBytes = pdfService.generatePdf(preReport, clientLead, trueBuddyLead);
         log.info("[EmailService] PDF generated ({} bytes) for reportId={}", pdfBytes.length, reportId);
 
-        // 4. Build and send email
-        try {
-            MimeMessage message = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
-
-            helper.setFrom(fromEmail, fromName);
-            helper.setTo(request.getToEmail());
-            helper.setSubject("Preliminary Lead Assessment Report – " + reportId + " | True Buddy Consulting");
-            helper.setText(buildEmailHtml(preReport, request), true);
-
-            String fileName = "PreReport_" + reportId + ".pdf";
-            helper.addAttachment(fileName, new ByteArrayResource(pdfBytes));
-
-            mailSender.send(message);
-            log.info("[EmailService] Mail sent successfully for reportId={} to={}", reportId, request.getToEmail());
-
-        } catch (Exception e) {
-            log.error("[EmailService] Failed to send mail for reportId={}", reportId, e);
-            throw new RuntimeException("Failed to send report email: " + e.getMessage(), e);
-        }
+        // 4. Queue email — SMTP delivery and retries happen in MailOutboxWorker
+        String messageId = brevoEmailService.sendReportEmail(
+                request.getToEmail(),
+                request.getToName(),
+                "Preliminary Lead Assessment Report – " + reportId + " | True Buddy Consulting",
+                buildEmailHtml(preReport, request),
+                pdfBytes,
+                "PreReport_" + reportId + ".pdf");
+        log.info("[EmailService] Mail queued for reportId={} to={} messageId={}",
+                reportId, request.getToEmail(), messageId);
+        return messageId;
     }
 
     // ─────────────────────────────────────────────────────────────────────────
@@ -2,11 +2,11 @@ package com.tbcpl.workforce.operation.prereport.service;
 
 import com.lowagie.text.*;
 import com.lowagie.text.pdf.*;
+import com.tbcpl.workforce.common.cache.PdfRenderCache;
 import com.tbcpl.workforce.operation.prereport.entity.PreReport;
 import com.tbcpl.workforce.operation.prereport.entity.PreReportClientLead;
 import com.tbcpl.workforce.operation.prereport.entity.PreReportTrueBuddyLead;
 import com.tbcpl.workforce.operation.prereport.entity.enums.*;
-import com.tbcpl.workforce.operation.prereport.repository.PrereportCustomOptClientLeadRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
@@ -15,7 +15,6 @@ import java.io.ByteArrayOutputStream;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -36,11 +35,17 @@ public class PreReportPdfService {
     private static final DateTimeFormatter DATE_FMT =
             DateTimeFormatter.ofPattern("dd MMMM yyyy");
 
-    // ── ✅ FIX 1: Inject custom option repository ─────────────────────────────
-    private final PrereportCustomOptClientLeadRepository customOptionRepository;
+    // Bump when the PDF layout changes so cached renders are not reused
+    private static final String TEMPLATE_VERSION = "1";
+    private static final String CACHE_KIND = "PRE_REPORT";
 
-    public PreReportPdfService(PrereportCustomOptClientLeadRepository customOptionRepository) {
-        this.customOptionRepository = customOptionRepository;
+    private final PrereportCustomOptionLookup customOptionLookup;
+    private final PdfRenderCache pdfRenderCache;
+
+    public PreReportPdfService(PrereportCustomOptionLookup customOptionLookup,
+                               PdfRenderCache pdfRenderCache) {
+        this.customOptionLookup = customOptionLookup;
+        this.pdfRenderCache = pdfRenderCache;
     }
 
     // ── Fonts ─────────────────────────────────────────────────────────────────
@@ -52,22 +57,33 @@ public class PreReportPdfService {
     private Font fontI(int size, Color color) { return font(size, Font.ITALIC, color); }
 
     // ── Public API ────────────────────────────────────────────────────────────
+
+    /**
+     * Returns the cached render while the report, its lead, client name and custom
+     * options are unchanged; otherwise renders and caches a new one.
+     */
     public byte[] generatePdf(PreReport preReport,
                               PreReportClientLead clientLead,
                               PreReportTrueBuddyLead trueBuddyLead) {
+        String fingerprint = String.join("|",
+                TEMPLATE_VERSION,
+                String.valueOf(preReport.getUpdatedAt()),
+                String.valueOf(preReport.getLeadType()),
+                clientName(preReport),
+                clientLead != null ? clientLead.getId() + "@" + clientLead.getUpdatedAt() : "-",
+                trueBuddyLead != null ? trueBuddyLead.getId() + "@" + trueBuddyLead.getUpdatedAt() : "-",
+                customOptionLookup.fingerprint(String.valueOf(preReport.getLeadType())));
+
+        return pdfRenderCache.get(CACHE_KIND, preReport.getReportId(), fingerprint,
+                () -> renderPdf(preReport, clientLead, trueBuddyLead));
+    }
+
+    private byte[] renderPdf(PreReport preReport,
+                             PreReportClientLead clientLead,
+                             PreReportTrueBuddyLead trueBuddyLead) {
 
-        // ✅ FIX 2: Build option name lookup map for ALL steps of this leadType
-        Map<Long, String> optionMap = customOptionRepository
-                .findByLeadTypeAndDeletedFalse(preReport.getLeadType().name())
-                .stream()
-                .collect(Collectors.toMap(
-                        o -> o.getId(),
-                        o -> o.getOptionName(),   // ← confirm this getter exists on PrereportCustomOptClientLead
-                        (a, b) -> a
-                ));
-
-        log.debug("[PdfService] Loaded {} custom options for leadType={}",
-                optionMap.size(), preReport.getLeadType());
+        // ✅ FIX 2: Option name lookup map for ALL steps of this leadType (cached per leadType)
+        Map<Long, String> optionMap = customOptionLookup.optionNames(preReport.getLeadType().name());
 
         try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
             Document doc = new Document(PageSize.A4, 50, 50, 48, 48);
@@ -22,6 +22,7 @@ import com.tbcpl.workforce.operation.prereport.entity.enums.StepStatus;
 import com.tbcpl.workforce.operation.prereport.repository.PreReportStepTrackingRepository;
 import com.tbcpl.workforce.auth.entity.Employee;  // ✅ ADDED
 import com.tbcpl.workforce.auth.repository.EmployeeRepository;
+import com.tbcpl.workforce.common.util.DocumentNumberAllocator;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.data.domain.Page;
@@ -47,6 +48,7 @@ public class PreReportService {
     private final PreReportTrueBuddyLeadService trueBuddyLeadService;
     private final PreReportStepTrackingRepository stepTrackingRepository;
     private final EmployeeRepository employeeRepository;
+    private final DocumentNumberAllocator documentNumberAllocator;
 
     public PreReportService(PreReportRepository preReportRepository,
                             ClientRepository clientRepository,
@@ -54,7 +56,8 @@ public class PreReportService {
                             @Lazy PreReportClientLeadService clientLeadService,
                             @Lazy PreReportTrueBuddyLeadService trueBuddyLeadService,
                             PreReportStepTrackingRepository stepTrackingRepository,
-                            EmployeeRepository employeeRepository) {
+                            EmployeeRepository employeeRepository,
+                            DocumentNumberAllocator documentNumberAllocator) {
         this.preReportRepository = preReportRepository;
         this.clientRepository = clientRepository;
         this.clientProductRepository = clientProductRepository;
@@ -62,6 +65,7 @@ public class PreReportService {
         this.trueBuddyLeadService = trueBuddyLeadService;
         this.stepTrackingRepository = stepTrackingRepository;
         this.employeeRepository = employeeRepository;
+        this.documentNumberAllocator = documentNumberAllocator;
     }
 
     @Transactional
@@ -431,8 +435,10 @@ public class PreReportService {
 
     private String generateReportId() {
         int currentYear = Year.now().getValue();
-        Long count = preReportRepository.countByYear(currentYear);
-        long nextNumber = (count != null ? count : 0L) + 1;
+        long nextNumber = documentNumberAllocator.next("PRE", currentYear, () -> {
+            Long count = preReportRepository.countByYear(currentYear);
+            return count != null ? count : 0L;
+        });
 
         return String.format("PRE-%d-%04d", currentYear, nextNumber);
     }
@@ -25,12 +25,15 @@ public class PrereportCustomOptClientLeadService {
 
     private final PrereportCustomOptClientLeadRepository repository;
     private final EmployeeService employeeService;
+    private final PrereportCustomOptionLookup customOptionLookup;
 
     public PrereportCustomOptClientLeadService(
             PrereportCustomOptClientLeadRepository repository,
-            EmployeeService employeeService) {
-        this.repository      = repository;
-        this.employeeService = employeeService;
+            EmployeeService employeeService,
+            PrereportCustomOptionLookup customOptionLookup) {
+        this.repository         = repository;
+        this.employeeService    = employeeService;
+        this.customOptionLookup = customOptionLookup;
     }
 
     // ── GET by step (Client Lead) ─────────────────────────────────────────────
@@ -74,7 +77,9 @@ public class PrereportCustomOptClientLeadService {
                 .fieldKey(request.getFieldKey())   // ← ADD
                 .build();
 
-        return toResponse(repository.save(option));
+        PrereportCustomOptClientLead saved = repository.save(option);
+        customOptionLookup.invalidate();
+        return toResponse(saved);
     }
 
     // ── DELETE — Admin dept + Admin/SuperAdmin role only ──────────────────────
@@ -92,6 +97,7 @@ public class PrereportCustomOptClientLeadService {
 
         option.setDeleted(true);
         repository.save(option);
+        customOptionLookup.invalidate();
         log.info("Custom option id: {} soft-deleted by empId: {}", id, empId);
     }
 
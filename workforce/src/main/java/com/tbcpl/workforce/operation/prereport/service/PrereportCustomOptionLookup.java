@@ -0,0 +1,91 @@
+package com.tbcpl.workforce.operation.prereport.service;
+
+import com.tbcpl.workforce.common.cache.CacheStats;
+import com.tbcpl.workforce.common.cache.CacheStatsProvider;
+import com.tbcpl.workforce.common.cache.LruCache;
+import com.tbcpl.workforce.common.util.HashUtils;
+import com.tbcpl.workforce.operation.prereport.repository.PrereportCustomOptClientLeadRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Cached optionId → optionName map per lead type, used when rendering pre-report PDFs.
+ * Each map carries a hash of its contents for PDF cache keys, so every instance keys renders
+ * by the option data itself. Changes made here drop the maps at once; entries also expire after
+ * a short TTL so changes made on another instance are picked up.
+ */
+@Slf4j
+@Component
+public class PrereportCustomOptionLookup implements CacheStatsProvider {
+
+    private static final int MAX_LEAD_TYPES = 16;
+    private static final Duration TTL = Duration.ofSeconds(30);
+
+    private final PrereportCustomOptClientLeadRepository customOptionRepository;
+    private final LruCache<String, OptionNames> namesByLeadType =
+            new LruCache<>("prereport-custom-options", MAX_LEAD_TYPES, TTL);
+
+    public PrereportCustomOptionLookup(PrereportCustomOptClientLeadRepository customOptionRepository) {
+        this.customOptionRepository = customOptionRepository;
+    }
+
+    public Map<Long, String> optionNames(String leadType) {
+        return load(leadType).names();
+    }
+
+    /**
+     * Content hash of the lead type's option names, for cache keys of anything rendered from them
+     */
+    public String fingerprint(String leadType) {
+        return load(leadType).fingerprint();
+    }
+
+    /**
+     * Called on option create/delete; repeated after commit so a concurrent
+     * reload of the pre-commit state is not kept
+     */
+    public void invalidate() {
+        namesByLeadType.clear();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    namesByLeadType.clear();
+                }
+            });
+        }
+    }
+
+    @Override
+    public CacheStats stats() {
+        return namesByLeadType.stats();
+    }
+
+    // The cache skips storing a load that raced with invalidate()
+    private OptionNames load(String leadType) {
+        return namesByLeadType.get(leadType, this::fetch);
+    }
+
+    private OptionNames fetch(String leadType) {
+        Map<Long, String> names = customOptionRepository
+                .findByLeadTypeAndDeletedFalse(leadType)
+                .stream()
+                .collect(Collectors.toMap(
+                        o -> o.getId(),
+                        o -> o.getOptionName(),
+                        (a, b) -> a,
+                        TreeMap::new));
+        log.debug("[CustomOptionLookup] Loaded {} custom options for leadType={}", names.size(), leadType);
+        // TreeMap iterates by id, so equal option data always hashes the same
+        return new OptionNames(Map.copyOf(names), HashUtils.sha256Hex(names.toString()));
+    }
+
+    private record OptionNames(Map<Long, String> names, String fingerprint) {}
+}
@@ -1,14 +1,18 @@
 package com.tbcpl.workforce.operation.profile.controller;
 
+import com.tbcpl.workforce.common.util.HttpCacheUtils;
 import com.tbcpl.workforce.operation.profile.dto.request.*;
 import com.tbcpl.workforce.operation.profile.dto.response.*;
+import com.tbcpl.workforce.operation.profile.enums.ProfileResponseView;
 import com.tbcpl.workforce.operation.profile.enums.ProfileStatus;
 import com.tbcpl.workforce.operation.profile.service.OpProfileService;
+import com.tbcpl.workforce.operation.profile.service.ProfileDetailCache;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -57,11 +61,12 @@ public class OpProfileController {
     public ResponseEntity<ProfileDetailResponse> savePersonalInfo(
             @PathVariable Long profileId,
             @Valid @RequestBody ProfileInitRequest request,
+            @RequestParam(value = "view", defaultValue = "FULL") ProfileResponseView view,
             Authentication authentication) {
 
         String empId = authentication.getName();
         log.info("PUT /profiles/{}/personal-info - empId: {}", profileId, empId);
-        ProfileDetailResponse response = profileService.savePersonalInfo(profileId, request, empId);
+        ProfileDetailResponse response = profileService.savePersonalInfo(profileId, request, empId, view);
         return ResponseEntity.ok(response);
     }
 
@@ -69,11 +74,12 @@ public class OpProfileController {
     public ResponseEntity<ProfileDetailResponse> saveAddress(
             @PathVariable Long profileId,
             @Valid @RequestBody AddressRequest request,
+            @RequestParam(value = "view", defaultValue = "FULL") ProfileResponseView view,
             Authentication authentication) {
 
         String empId = authentication.getName();
         log.info("PUT /{}/address - empId: {}", profileId, empId);
-        ProfileDetailResponse response = profileService.saveAddress(profileId, request, empId);
+        ProfileDetailResponse response = profileService.saveAddress(profileId, request, empId, view);
         return ResponseEntity.ok(response);
     }
 
@@ -81,11 +87,12 @@ public class OpProfileController {
     public ResponseEntity<ProfileDetailResponse> saveContactInfo(
             @PathVariable Long profileId,
             @Valid @RequestBody ContactInfoRequest request,
+            @RequestParam(value = "view", defaultValue = "FULL") ProfileResponseView view,
             Authentication authentication) {
 
         String empId = authentication.getName();
         log.info("PUT /{}/contact-info - empId: {}", profileId, empId);
-        ProfileDetailResponse response = profileService.saveContactInfo(profileId, request, empId);
+        ProfileDetailResponse response = profileService.saveContactInfo(profileId, request, empId, view);
         return ResponseEntity.ok(response);
     }
 
@@ -93,11 +100,12 @@ public class OpProfileController {
     public ResponseEntity<ProfileDetailResponse> saveIdentificationDocs(
             @PathVariable Long profileId,
             @Valid @RequestBody IdentificationDocsRequest request,
+            @RequestParam(value = "view", defaultValue = "FULL") ProfileResponseView view,
             Authentication authentication) {
 
         String empId = authentication.getName();
         log.info("PUT /{}/identification-docs - empId: {}", profileId, empId);
-        ProfileDetailResponse response = profileService.saveIdentificationDocs(profileId, request, empId);
+        ProfileDetailResponse response = profileService.saveIdentificationDocs(profileId, request, empId, view);
         return ResponseEntity.ok(response);
     }
 
@@ -105,11 +113,12 @@ public class OpProfileController {
     public ResponseEntity<ProfileDetailResponse> saveBusinessActivities(
             @PathVariable Long profileId,
             @Valid @RequestBody BusinessActivitiesRequest request,
+            @RequestParam(value = "view", defaultValue = "FULL") ProfileResponseView view,
             Authentication authentication) {
 
         String empId = authentication.getName();
         log.info("PUT /{}/business-activities - empId: {}", profileId, empId);
-        ProfileDetailResponse response = profileService.saveBusinessActivities(profileId, request, empId);
+        ProfileDetailResponse response = profileService.saveBusinessActivities(profileId, request, empId, view);
         return ResponseEntity.ok(response);
     }
 
@@ -117,11 +126,12 @@ public class OpProfileController {
     public ResponseEntity<ProfileDetailResponse> saveEntityOrganization(
             @PathVariable Long profileId,
             @Valid @RequestBody EntityOrganizationRequest request,
+            @RequestParam(value = "view", defaultValue = "FULL") ProfileResponseView view,
             Authentication authentication) {
 
         String empId = authentication.getName();
         log.info("PUT /{}/entity-organization - empId: {}", profileId, empId);
-        ProfileDetailResponse response = profileService.saveEntityOrganization(profileId, request, empId);
+        ProfileDetailResponse response = profileService.saveEntityOrganization(profileId, request, empId, view);
         return ResponseEntity.ok(response);
     }
 
@@ -129,11 +139,12 @@ public class OpProfileController {
     public ResponseEntity<ProfileDetailResponse> saveGeographicExposure(
             @PathVariable Long profileId,
             @Valid @RequestBody GeographicExposureRequest request,
+            @RequestParam(value = "view", defaultValue = "FULL") ProfileResponseView view,
             Authentication authentication) {
 
         String empId = authentication.getName();
         log.info("PUT /{}/geographic-exposure - empId: {}", profileId, empId);
-        ProfileDetailResponse response = profileService.saveGeographicExposure(profileId, request, empId);
+        ProfileDetailResponse response = profileService.saveGeographicExposure(profileId, request, empId, view);
         return ResponseEntity.ok(response);
     }
 
@@ -141,11 +152,12 @@ public class OpProfileController {
     public ResponseEntity<ProfileDetailResponse> saveRelatedFIRs(
             @PathVariable Long profileId,
             @Valid @RequestBody RelatedFIRsRequest request,
+            @RequestParam(value = "view", defaultValue = "FULL") ProfileResponseView view,
             Authentication authentication) {
 
         String empId = authentication.getName();
         log.info("PUT /{}/related-firs - empId: {}", profileId, empId);
-        ProfileDetailResponse response = profileService.saveRelatedFIRs(profileId, request, empId);
+        ProfileDetailResponse response = profileService.saveRelatedFIRs(profileId, request, empId, view);
         return ResponseEntity.ok(response);
     }
 
@@ -153,11 +165,12 @@ public class OpProfileController {
     public ResponseEntity<ProfileDetailResponse> saveMaterialSeized(
             @PathVariable Long profileId,
             @Valid @RequestBody MaterialSeizedRequest request,
+            @RequestParam(value = "view", defaultValue = "FULL") ProfileResponseView view,
             Authentication authentication) {
 
         String empId = authentication.getName();
         log.info("PUT /{}/material-seized - empId: {}", profileId, empId);
-        ProfileDetailResponse response = profileService.saveMaterialSeized(profileId, request, empId);
+        ProfileDetailResponse response = profileService.saveMaterialSeized(profileId, request, empId, view);
         return ResponseEntity.ok(response);
     }
 
@@ -165,11 +178,12 @@ public class OpProfileController {
     public ResponseEntity<ProfileDetailResponse> saveAssets(
             @PathVariable Long profileId,
             @Valid @RequestBody AssetsRequest request,
+            @RequestParam(value = "view", defaultValue = "FULL") ProfileResponseView view,
             Authentication authentication) {
 
         String empId = authentication.getName();
         log.info("PUT /{}/assets - empId: {}", profileId, empId);
-        ProfileDetailResponse response = profileService.saveAssets(profileId, request, empId);
+        ProfileDetailResponse response = profileService.saveAssets(profileId, request, empId, view);
         return ResponseEntity.ok(response);
     }
 
@@ -177,11 +191,12 @@ public class OpProfileController {
     public ResponseEntity<ProfileDetailResponse> saveKnownAssociates(
             @PathVariable Long profileId,
             @Valid @RequestBody KnownAssociatesRequest request,
+            @RequestParam(value = "view", defaultValue = "FULL") ProfileResponseView view,
             Authentication authentication) {
 
         String empId = authentication.getName();
         log.info("PUT /{}/known-associates - empId: {}", profileId, empId);
-        ProfileDetailResponse response = profileService.saveKnownAssociates(profileId, request, empId);
+        ProfileDetailResponse response = profileService.saveKnownAssociates(profileId, request, empId, view);
         return ResponseEntity.ok(response);
     }
 
@@ -189,11 +204,12 @@ public class OpProfileController {
     public ResponseEntity<ProfileDetailResponse> saveKnownEmployees(
             @PathVariable Long profileId,
             @Valid @RequestBody KnownEmployeesRequest request,
+            @RequestParam(value = "view", defaultValue = "FULL") ProfileResponseView view,
             Authentication authentication) {
 
         String empId = authentication.getName();
         log.info("PUT /{}/known-employees - empId: {}", profileId, empId);
-        ProfileDetailResponse response = profileService.saveKnownEmployees(profileId, request, empId);
+        ProfileDetailResponse response = profileService.saveKnownEmployees(profileId, request, empId, view);
         return ResponseEntity.ok(response);
     }
 
@@ -201,11 +217,12 @@ public class OpProfileController {
     public ResponseEntity<ProfileDetailResponse> saveProductsOperations(
             @PathVariable Long profileId,
             @Valid @RequestBody ProductsOperationsRequest request,
+            @RequestParam(value = "view", defaultValue = "FULL") ProfileResponseView view,
             Authentication authentication) {
 
         String empId = authentication.getName();
         log.info("PUT /{}/products-operations - empId: {}", profileId, empId);
-        ProfileDetailResponse response = profileService.saveProductsOperations(profileId, request, empId);
+        ProfileDetailResponse response = profileService.saveProductsOperations(profileId, request, empId, view);
         return ResponseEntity.ok(response);
     }
 
@@ -213,11 +230,12 @@ public class OpProfileController {
     public ResponseEntity<ProfileDetailResponse> saveFamilyBackground(
             @PathVariable Long profileId,
             @Valid @RequestBody FamilyBackgroundRequest request,
+            @RequestParam(value = "view", defaultValue = "FULL") ProfileResponseView view,
             Authentication authentication) {
 
         String empId = authentication.getName();
         log.info("PUT /{}/family-background - empId: {}", profileId, empId);
-        ProfileDetailResponse response = profileService.saveFamilyBackground(profileId, request, empId);
+        ProfileDetailResponse response = profileService.saveFamilyBackground(profileId, request, empId, view);
         return ResponseEntity.ok(response);
     }
 
@@ -225,11 +243,12 @@ public class OpProfileController {
     public ResponseEntity<ProfileDetailResponse> saveInfluentialLinks(
             @PathVariable Long profileId,
             @Valid @RequestBody InfluentialLinksRequest request,
+            @RequestParam(value = "view", defaultValue = "FULL") ProfileResponseView view,
             Authentication authentication) {
 
         String empId = authentication.getName();
         log.info("PUT /{}/influential-links - empId: {}", profileId, empId);
-        ProfileDetailResponse response = profileService.saveInfluentialLinks(profileId, request, empId);
+        ProfileDetailResponse response = profileService.saveInfluentialLinks(profileId, request, empId, view);
         return ResponseEntity.ok(response);
     }
 
@@ -237,11 +256,12 @@ public class OpProfileController {
     public ResponseEntity<ProfileDetailResponse> saveCurrentStatus(
             @PathVariable Long profileId,
             @Valid @RequestBody CurrentStatusRequest request,
+            @RequestParam(value = "view", defaultValue = "FULL") ProfileResponseView view,
             Authentication authentication) {
 
         String empId = authentication.getName();
         log.info("PUT /{}/current-status - empId: {}", profileId, empId);
-        ProfileDetailResponse response = profileService.saveCurrentStatus(profileId, request, empId);
+        ProfileDetailResponse response = profileService.saveCurrentStatus(profileId, request, empId, view);
         return ResponseEntity.ok(response);
     }
 
@@ -249,11 +269,12 @@ public class OpProfileController {
     public ResponseEntity<ProfileDetailResponse> saveAdditionalInfo(
             @PathVariable Long profileId,
             @Valid @RequestBody AdditionalInfoRequest request,
+            @RequestParam(value = "view", defaultValue = "FULL") ProfileResponseView view,
             Authentication authentication) {
 
         String empId = authentication.getName();
         log.info("PUT /{}/additional-info - empId: {}", profileId, empId);
-        ProfileDetailResponse response = profileService.saveAdditionalInfo(profileId, request, empId);
+        ProfileDetailResponse response = profileService.saveAdditionalInfo(profileId, request, empId, view);
         return ResponseEntity.ok(response);
     }
 
@@ -298,10 +319,22 @@ public class OpProfileController {
 
     @GetMapping("/{profileId}")
     public ResponseEntity<ProfileDetailResponse> getProfileById(
-            @PathVariable Long profileId) {
+            @PathVariable Long profileId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
 
         log.info("GET /profiles/{}", profileId);
-        return ResponseEntity.ok(profileService.getProfileById(profileId));
+
+        // Client already holds the current version — answer from the cache without loading
+        String currentETag = profileService.getProfileETag(profileId);
+        if (currentETag != null && HttpCacheUtils.etagMatches(ifNoneMatch, currentETag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(currentETag).build();
+        }
+
+        ProfileDetailCache.VersionedProfileDetail document = profileService.getProfileDocument(profileId);
+        if (HttpCacheUtils.etagMatches(ifNoneMatch, document.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(document.etag()).build();
+        }
+        return ResponseEntity.ok().eTag(document.etag()).body(document.profile());
     }
 
     @GetMapping("/{profileId}/steps")
@@ -333,4 +366,4 @@ public class OpProfileController {
         profileService.deleteProfile(profileId, empId);
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+}
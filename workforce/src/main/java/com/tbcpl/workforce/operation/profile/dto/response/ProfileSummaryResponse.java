@@ -26,4 +26,20 @@ public class ProfileSummaryResponse {
     private LocalDateTime updatedAt;
     private long completedSteps;
     private long totalSteps;
+
+    /**
+     * List query projection; photo, risk level and step counts are filled in per page
+     */
+    public ProfileSummaryResponse(Long id, String profileNumber, String name, ProfileStatus status,
+                                  String createdBy, String updatedBy,
+                                  LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.profileNumber = profileNumber;
+        this.name = name;
+        this.status = status;
+        this.createdBy = createdBy;
+        this.updatedBy = updatedBy;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
 }
\ No newline at end of file
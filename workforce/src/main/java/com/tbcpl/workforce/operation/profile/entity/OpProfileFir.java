@@ -1,5 +1,6 @@
 package com.tbcpl.workforce.operation.profile.entity;
 
+import com.tbcpl.workforce.config.jpa.PooledIds;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.JdbcTypeCode;
@@ -22,7 +23,10 @@ import java.util.List;
 public class OpProfileFir {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "op_profile_firs")
+    @TableGenerator(name = "op_profile_firs", table = PooledIds.TABLE,
+            pkColumnName = PooledIds.SEGMENT_COLUMN, valueColumnName = PooledIds.VALUE_COLUMN,
+            pkColumnValue = "op_profile_firs", allocationSize = PooledIds.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
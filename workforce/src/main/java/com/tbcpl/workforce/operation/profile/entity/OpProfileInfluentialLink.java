@@ -1,5 +1,6 @@
 package com.tbcpl.workforce.operation.profile.entity;
 
+import com.tbcpl.workforce.config.jpa.PooledIds;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.UpdateTimestamp;
@@ -17,7 +18,10 @@ import java.time.LocalDateTime;
 public class OpProfileInfluentialLink {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "op_profile_influential_links")
+    @TableGenerator(name = "op_profile_influential_links", table = PooledIds.TABLE,
+            pkColumnName = PooledIds.SEGMENT_COLUMN, valueColumnName = PooledIds.VALUE_COLUMN,
+            pkColumnValue = "op_profile_influential_links", allocationSize = PooledIds.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -1,5 +1,6 @@
 package com.tbcpl.workforce.operation.profile.entity;
 
+import com.tbcpl.workforce.config.jpa.PooledIds;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.UpdateTimestamp;
@@ -18,7 +19,10 @@ import java.time.LocalDateTime;
 public class OpProfileMaterialSeized {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "op_profile_material_seized")
+    @TableGenerator(name = "op_profile_material_seized", table = PooledIds.TABLE,
+            pkColumnName = PooledIds.SEGMENT_COLUMN, valueColumnName = PooledIds.VALUE_COLUMN,
+            pkColumnValue = "op_profile_material_seized", allocationSize = PooledIds.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
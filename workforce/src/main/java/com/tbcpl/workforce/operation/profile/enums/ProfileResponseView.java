@@ -0,0 +1,4 @@
+package com.tbcpl.workforce.operation.profile.enums;
+
+// FULL = whole profile graph, STEP = saved step section + step statuses only
+public enum ProfileResponseView { FULL, STEP }
@@ -2,10 +2,17 @@ package com.tbcpl.workforce.operation.profile.repository;
 
 import com.tbcpl.workforce.operation.profile.entity.OpProfileAdditionalInfo;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface OpProfileAdditionalInfoRepository extends JpaRepository<OpProfileAdditionalInfo, Long> {
     Optional<OpProfileAdditionalInfo> findByProfileId(Long profileId);
     boolean existsByProfileId(Long profileId);
+
+    // Bulk lookup for profile list pages — [profileId, riskLevel]
+    @Query("SELECT e.profile.id, e.riskLevel FROM OpProfileAdditionalInfo e WHERE e.profile.id IN :profileIds")
+    List<Object[]> findRiskLevelsByProfileIds(@Param("profileIds") List<Long> profileIds);
 }
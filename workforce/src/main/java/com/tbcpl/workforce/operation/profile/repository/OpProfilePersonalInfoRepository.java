@@ -2,10 +2,17 @@ package com.tbcpl.workforce.operation.profile.repository;
 
 import com.tbcpl.workforce.operation.profile.entity.OpProfilePersonalInfo;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface OpProfilePersonalInfoRepository extends JpaRepository<OpProfilePersonalInfo, Long> {
     Optional<OpProfilePersonalInfo> findByProfileId(Long profileId);
     boolean existsByProfileId(Long profileId);
+
+    // Bulk lookup for profile list pages — [profileId, profilePhoto]
+    @Query("SELECT e.profile.id, e.profilePhoto FROM OpProfilePersonalInfo e WHERE e.profile.id IN :profileIds")
+    List<Object[]> findProfilePhotosByProfileIds(@Param("profileIds") List<Long> profileIds);
 }
@@ -1,5 +1,6 @@
 package com.tbcpl.workforce.operation.profile.repository;
 
+import com.tbcpl.workforce.operation.profile.dto.response.ProfileSummaryResponse;
 import com.tbcpl.workforce.operation.profile.entity.OpProfile;
 import com.tbcpl.workforce.operation.profile.enums.ProfileStatus;
 import org.springframework.data.domain.Page;
@@ -12,16 +13,38 @@ import java.util.Optional;
 
 public interface OpProfileRepository extends JpaRepository<OpProfile, Long> {
 
-    @Query("SELECT p FROM OpProfile p WHERE p.isDeleted = false ORDER BY p.createdAt DESC")
-    Page<OpProfile> findAllActive(Pageable pageable);
+    // ── List projections: loading OpProfile entities would also load each inverse one-to-one ──
 
-    @Query("SELECT p FROM OpProfile p WHERE p.isDeleted = false AND " +
-            "(LOWER(p.name) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
-            "LOWER(p.profileNumber) LIKE LOWER(CONCAT('%', :search, '%')))")
-    Page<OpProfile> searchByNameOrProfileNumber(@Param("search") String search, Pageable pageable);
+    String SUMMARY_SELECT = "SELECT new com.tbcpl.workforce.operation.profile.dto.response.ProfileSummaryResponse(" +
+            "p.id, p.profileNumber, p.name, p.status, p.createdBy, p.updatedBy, p.createdAt, p.updatedAt) " +
+            "FROM OpProfile p ";
+
+    @Query(value = SUMMARY_SELECT + "WHERE p.isDeleted = false ORDER BY p.createdAt DESC",
+            countQuery = "SELECT COUNT(p) FROM OpProfile p WHERE p.isDeleted = false")
+    Page<ProfileSummaryResponse> findAllActive(Pageable pageable);
 
-    @Query("SELECT p FROM OpProfile p WHERE p.isDeleted = false AND p.status = :status")
-    Page<OpProfile> findByStatus(@Param("status") ProfileStatus status, Pageable pageable);
+    @Query(value = SUMMARY_SELECT + "WHERE p.isDeleted = false AND " +
+            "(LOWER(p.name) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+            "LOWER(p.profileNumber) LIKE LOWER(CONCAT('%', :search, '%')))",
+            countQuery = "SELECT COUNT(p) FROM OpProfile p WHERE p.isDeleted = false AND " +
+                    "(LOWER(p.name) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+                    "LOWER(p.profileNumber) LIKE LOWER(CONCAT('%', :search, '%')))")
+    Page<ProfileSummaryResponse> searchByNameOrProfileNumber(@Param("search") String search, Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT + "WHERE p.isDeleted = false AND p.status = :status",
+            countQuery = "SELECT COUNT(p) FROM OpProfile p WHERE p.isDeleted = false AND p.status = :status")
+    Page<ProfileSummaryResponse> findByStatus(@Param("status") ProfileStatus status, Pageable pageable);
+
+    // Profile plus all one-to-one step rows in one round trip; the inverse
+    // one-to-ones would otherwise be loaded with a select each
+    @Query("SELECT p FROM OpProfile p " +
+            "LEFT JOIN FETCH p.personalInfo LEFT JOIN FETCH p.address " +
+            "LEFT JOIN FETCH p.contactInfo LEFT JOIN FETCH p.identificationDocs " +
+            "LEFT JOIN FETCH p.businessActivities LEFT JOIN FETCH p.geographicExposure " +
+            "LEFT JOIN FETCH p.productsOperations LEFT JOIN FETCH p.familyBackground " +
+            "LEFT JOIN FETCH p.currentStatus LEFT JOIN FETCH p.additionalInfo " +
+            "WHERE p.id = :id AND p.isDeleted = false")
+    Optional<OpProfile> findActiveWithDetails(@Param("id") Long id);
 
     Optional<OpProfile> findByProfileNumberAndIsDeletedFalse(String profileNumber);
 
@@ -19,4 +19,11 @@ public interface OpProfileStepStatusRepository extends JpaRepository<OpProfileSt
             "AND s.status = :status")
     long countByProfileIdAndStatus(@Param("profileId") Long profileId,
                                    @Param("status") StepStatus status);
+
+    // Per-profile step counts for a page of profiles in one round trip — [profileId, count]
+    @Query("SELECT s.profile.id, COUNT(s) FROM OpProfileStepStatus s " +
+            "WHERE s.profile.id IN :profileIds AND s.status = :status " +
+            "GROUP BY s.profile.id")
+    List<Object[]> countByProfileIdsAndStatus(@Param("profileIds") List<Long> profileIds,
+                                              @Param("status") StepStatus status);
 }
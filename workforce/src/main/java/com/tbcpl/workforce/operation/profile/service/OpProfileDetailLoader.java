@@ -0,0 +1,358 @@
+package com.tbcpl.workforce.operation.profile.service;
+
+import com.tbcpl.workforce.operation.profile.dto.response.*;
+import com.tbcpl.workforce.operation.profile.entity.*;
+import com.tbcpl.workforce.operation.profile.repository.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Assembles {@link ProfileDetailResponse} from an already-loaded profile.
+ * The ten one-to-one steps are read straight off the profile (fetched in one
+ * query by {@link OpProfileRepository#findActiveWithDetails}); each child
+ * collection costs one query, and associates/employees share a single one.
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class OpProfileDetailLoader {
+
+    private final OpProfileAssociatedCompanyRepository associatedCompanyRepository;
+    private final OpProfileFirRepository               firRepository;
+    private final OpProfileMaterialSeizedRepository    materialSeizedRepository;
+    private final OpProfileVehicleRepository           vehicleRepository;
+    private final OpProfileAssociateRepository         associateRepository;
+    private final OpProfileInfluentialLinkRepository   influentialLinkRepository;
+    private final OpProfileProductInfringedRepository  productInfringedRepository;
+    private final OpProfileSiblingRepository           siblingRepository;
+    private final OpProfileStepStatusRepository        stepStatusRepository;
+
+    private static final String ROLE_ASSOCIATE = "ASSOCIATE";
+    private static final String ROLE_EMPLOYEE  = "EMPLOYEE";
+
+    // ─────────────────────────────────────────────────────────────────────────
+    // FULL DOCUMENT
+    // ─────────────────────────────────────────────────────────────────────────
+
+    public ProfileDetailResponse load(OpProfile profile) {
+        Long profileId = profile.getId();
+
+        List<AssociateResponse> knownAssociates = new ArrayList<>();
+        List<AssociateResponse> knownEmployees  = new ArrayList<>();
+        for (OpProfileAssociate a : associateRepository.findByProfileId(profileId)) {
+            if (ROLE_ASSOCIATE.equals(a.getRole()))     knownAssociates.add(mapAssociate(a));
+            else if (ROLE_EMPLOYEE.equals(a.getRole())) knownEmployees.add(mapAssociate(a));
+        }
+
+        List<ProductInfringedResponse> productsInfringed = loadProductsInfringed(profileId);
+
+        return header(profile)
+                .personalInfo(mapPersonalInfo(profile.getPersonalInfo()))
+                .address(mapAddress(profile.getAddress()))
+                .contactInfo(mapContactInfo(profile.getContactInfo()))
+                .identificationDocs(mapIdentificationDocs(profile.getIdentificationDocs()))
+                .businessActivities(mapBusinessActivities(profile.getBusinessActivities()))
+                .geographicExposure(mapGeographicExposure(profile.getGeographicExposure()))
+                .associatedCompanies(loadAssociatedCompanies(profileId))
+                .firs(loadFirs(profileId))
+                .materialSeized(loadMaterialSeized(profileId))
+                .vehicles(loadVehicles(profileId))
+                .knownAssociates(knownAssociates)
+                .knownEmployees(knownEmployees)
+                .productsOperations(mapProductsOperations(profile.getProductsOperations(), productsInfringed))
+                .productsInfringed(productsInfringed)
+                .familyBackground(mapFamilyBackground(profile.getFamilyBackground(), profileId))
+                .influentialLinks(loadInfluentialLinks(profileId))
+                .currentStatus(mapCurrentStatus(profile.getCurrentStatus()))
+                .additionalInfo(mapAdditionalInfo(profile.getAdditionalInfo()))
+                .stepStatuses(loadStepStatuses(profileId))
+                .build();
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────
+    // SINGLE STEP — header + the saved step section + refreshed step statuses
+    // ─────────────────────────────────────────────────────────────────────────
+
+    public ProfileDetailResponse loadStep(OpProfile profile, int stepNumber) {
+        Long profileId = profile.getId();
+        ProfileDetailResponse.ProfileDetailResponseBuilder builder = header(profile);
+
+        switch (stepNumber) {
+            case 1  -> builder.personalInfo(mapPersonalInfo(profile.getPersonalInfo()));
+            case 2  -> builder.address(mapAddress(profile.getAddress()));
+            case 3  -> builder.contactInfo(mapContactInfo(profile.getContactInfo()));
+            case 4  -> builder.identificationDocs(mapIdentificationDocs(profile.getIdentificationDocs()));
+            case 5  -> builder.businessActivities(mapBusinessActivities(profile.getBusinessActivities()));
+            case 6  -> builder.associatedCompanies(loadAssociatedCompanies(profileId));
+            case 7  -> builder.geographicExposure(mapGeographicExposure(profile.getGeographicExposure()));
+            case 8  -> builder.firs(loadFirs(profileId));
+            case 9  -> builder.materialSeized(loadMaterialSeized(profileId));
+            case 10 -> builder.vehicles(loadVehicles(profileId));
+            case 11 -> builder.knownAssociates(loadAssociatesByRole(profileId, ROLE_ASSOCIATE));
+            case 12 -> builder.knownEmployees(loadAssociatesByRole(profileId, ROLE_EMPLOYEE));
+            case 13 -> {
+                List<ProductInfringedResponse> productsInfringed = loadProductsInfringed(profileId);
+                builder.productsInfringed(productsInfringed)
+                        .productsOperations(mapProductsOperations(profile.getProductsOperations(), productsInfringed));
+            }
+            case 14 -> builder.familyBackground(mapFamilyBackground(profile.getFamilyBackground(), profileId));
+            case 15 -> builder.influentialLinks(loadInfluentialLinks(profileId));
+            case 16 -> builder.currentStatus(mapCurrentStatus(profile.getCurrentStatus()));
+            case 17 -> builder.additionalInfo(mapAdditionalInfo(profile.getAdditionalInfo()));
+            default -> throw new IllegalArgumentException("Unknown profile step: " + stepNumber);
+        }
+
+        return builder.stepStatuses(loadStepStatuses(profileId)).build();
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────
+    // HEADER
+    // ─────────────────────────────────────────────────────────────────────────
+
+    private ProfileDetailResponse.ProfileDetailResponseBuilder header(OpProfile profile) {
+        return ProfileDetailResponse.builder()
+                .id(profile.getId())
+                .profileNumber(profile.getProfileNumber())
+                .name(profile.getName())
+                .status(profile.getStatus())
+                .createdBy(profile.getCreatedBy())
+                .updatedBy(profile.getUpdatedBy())
+                .createdAt(profile.getCreatedAt())
+                .updatedAt(profile.getUpdatedAt());
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────
+    // ONE-TO-ONE SECTIONS
+    // ─────────────────────────────────────────────────────────────────────────
+
+    private PersonalInfoResponse mapPersonalInfo(OpProfilePersonalInfo p) {
+        if (p == null) return null;
+        return PersonalInfoResponse.builder()
+                .firstName(p.getFirstName())
+                .middleName(p.getMiddleName())
+                .lastName(p.getLastName())
+                .gender(p.getGender())
+                .genderOther(p.getGenderOther())
+                .dateOfBirth(p.getDateOfBirth())
+                .bloodGroup(p.getBloodGroup())
+                .nationality(p.getNationality())
+                .profilePhoto(p.getProfilePhoto())
+                .build();
+    }
+
+    private AddressResponse mapAddress(OpProfileAddress a) {
+        if (a == null) return null;
+        return AddressResponse.builder()
+                .addressLine1(a.getAddressLine1()).addressLine2(a.getAddressLine2())
+                .city(a.getCity()).state(a.getState())
+                .pincode(a.getPincode()).country(a.getCountry())
+                .permanentSameAsCurrent(a.getPermanentSameAsCurrent())
+                .permAddressLine1(a.getPermAddressLine1()).permAddressLine2(a.getPermAddressLine2())
+                .permCity(a.getPermCity()).permState(a.getPermState())
+                .permPincode(a.getPermPincode()).permCountry(a.getPermCountry())
+                .build();
+    }
+
+    private ContactInfoResponse mapContactInfo(OpProfileContactInfo c) {
+        if (c == null) return null;
+        return ContactInfoResponse.builder()
+                .primaryPhone(c.getPrimaryPhone()).secondaryPhone(c.getSecondaryPhone())
+                .primaryEmail(c.getPrimaryEmail()).secondaryEmail(c.getSecondaryEmail())
+                .emergencyContactName(c.getEmergencyContactName())
+                .emergencyContactPhone(c.getEmergencyContactPhone())
+                .emergencyContactRelation(c.getEmergencyContactRelation())
+                .build();
+    }
+
+    private IdentificationDocsResponse mapIdentificationDocs(OpProfileIdentificationDocs i) {
+        if (i == null) return null;
+        return IdentificationDocsResponse.builder()
+                .employeeId(i.getEmployeeId())
+                .aadhaarNumber(i.getAadhaarNumber()).aadhaarPhoto(i.getAadhaarPhoto())
+                .panNumber(i.getPanNumber()).panPhoto(i.getPanPhoto())
+                .drivingLicense(i.getDrivingLicense()).dlPhoto(i.getDlPhoto())
+                .passportNumber(i.getPassportNumber()).passportPhoto(i.getPassportPhoto())
+                .otherIdType(i.getOtherIdType()).otherIdNumber(i.getOtherIdNumber())
+                .otherIdPhoto(i.getOtherIdPhoto())
+                .build();
+    }
+
+    private BusinessActivitiesResponse mapBusinessActivities(OpProfileBusinessActivities b) {
+        if (b == null) return null;
+        return BusinessActivitiesResponse.builder()
+                .retailerStatus(b.getRetailerStatus())
+                .retailerStatusOther(b.getRetailerStatusOther())
+                .retailerType(b.getRetailerType())
+                .retailerTypeOther(b.getRetailerTypeOther())
+                .retailerDetails(b.getRetailerDetails())
+                .supplierStatus(b.getSupplierStatus())
+                .supplierStatusOther(b.getSupplierStatusOther())
+                .supplierType(b.getSupplierType())
+                .supplierTypeOther(b.getSupplierTypeOther())
+                .supplierDetails(b.getSupplierDetails())
+                .manufacturerStatus(b.getManufacturerStatus())
+                .manufacturerStatusOther(b.getManufacturerStatusOther())
+                .manufacturerType(b.getManufacturerType())
+                .manufacturerTypeOther(b.getManufacturerTypeOther())
+                .manufacturerDetails(b.getManufacturerDetails())
+                .build();
+    }
+
+    private GeographicExposureResponse mapGeographicExposure(OpProfileGeographicExposure g) {
+        if (g == null) return null;
+        return GeographicExposureResponse.builder()
+                .operatingRegions(g.getOperatingRegions())
+                .markets(g.getMarkets())
+                .jurisdictions(g.getJurisdictions())
+                .build();
+    }
+
+    private ProductsOperationsResponse mapProductsOperations(OpProfileProductsOperations o,
+                                                             List<ProductInfringedResponse> productsInfringed) {
+        if (o == null) return null;
+        return ProductsOperationsResponse.builder()
+                .productsInfringed(productsInfringed)
+                .knownModusOperandi(o.getKnownModusOperandi())
+                .knownLocations(o.getKnownLocations())
+                .build();
+    }
+
+    private FamilyBackgroundResponse mapFamilyBackground(OpProfileFamilyBackground f, Long profileId) {
+        if (f == null) return null;
+        return FamilyBackgroundResponse.builder()
+                .fatherName(f.getFatherName()).fatherOccupation(f.getFatherOccupation())
+                .fatherContact(f.getFatherContact()).motherName(f.getMotherName())
+                .motherOccupation(f.getMotherOccupation()).motherContact(f.getMotherContact())
+                .siblings(loadSiblings(profileId))
+                .build();
+    }
+
+    private CurrentStatusResponse mapCurrentStatus(OpProfileCurrentStatus s) {
+        if (s == null) return null;
+        return CurrentStatusResponse.builder()
+                .status(s.getStatus()).lastKnownLocation(s.getLastKnownLocation())
+                .statusDate(s.getStatusDate()).remarks(s.getRemarks())
+                .build();
+    }
+
+    private AdditionalInfoResponse mapAdditionalInfo(OpProfileAdditionalInfo a) {
+        if (a == null) return null;
+        return AdditionalInfoResponse.builder()
+                .notes(a.getNotes()).behavioralNotes(a.getBehavioralNotes())
+                .riskLevel(a.getRiskLevel())
+                .riskLevelOther(a.getRiskLevelOther())
+                .tags(a.getTags())
+                .additionalPhotos(a.getAdditionalPhotos())
+                .attachments(a.getAttachments()).linkedCases(a.getLinkedCases())
+                .build();
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────
+    // COLLECTION SECTIONS — one query each
+    // ─────────────────────────────────────────────────────────────────────────
+
+    private List<AssociatedCompanyResponse> loadAssociatedCompanies(Long profileId) {
+        return associatedCompanyRepository.findByProfileId(profileId).stream()
+                .map(c -> AssociatedCompanyResponse.builder()
+                        .id(c.getId()).companyName(c.getCompanyName())
+                        .relationshipNature(c.getRelationshipNature())
+                        .relationshipNatureOther(c.getRelationshipNatureOther())
+                        .details(c.getDetails())
+                        .build())
+                .toList();
+    }
+
+    private List<FirResponse> loadFirs(Long profileId) {
+        return firRepository.findByProfileId(profileId).stream()
+                .map(f -> FirResponse.builder()
+                        .id(f.getId()).firNumber(f.getFirNumber())
+                        .caseNumber(f.getCaseNumber()).sections(f.getSections())
+                        .dateRegistered(f.getDateRegistered())
+                        .status(f.getStatus())
+                        .statusOther(f.getStatusOther())
+                        .build())
+                .toList();
+    }
+
+    private List<MaterialSeizedItemResponse> loadMaterialSeized(Long profileId) {
+        return materialSeizedRepository.findByProfileId(profileId).stream()
+                .map(m -> MaterialSeizedItemResponse.builder()
+                        .id(m.getId()).brandName(m.getBrandName()).company(m.getCompany())
+                        .quantity(m.getQuantity()).location(m.getLocation())
+                        .raidingAuthority(m.getRaidingAuthority())
+                        .raidingAuthorityOther(m.getRaidingAuthorityOther())
+                        .dateSeized(m.getDateSeized())
+                        .build())
+                .toList();
+    }
+
+    private List<VehicleResponse> loadVehicles(Long profileId) {
+        return vehicleRepository.findByProfileId(profileId).stream()
+                .map(v -> VehicleResponse.builder()
+                        .id(v.getId()).make(v.getMake()).model(v.getModel())
+                        .registrationNumber(v.getRegistrationNumber())
+                        .ownershipType(v.getOwnershipType())
+                        .ownershipTypeOther(v.getOwnershipTypeOther())
+                        .build())
+                .toList();
+    }
+
+    private List<AssociateResponse> loadAssociatesByRole(Long profileId, String role) {
+        return associateRepository.findByProfileIdAndRole(profileId, role).stream()
+                .map(this::mapAssociate)
+                .toList();
+    }
+
+    private List<ProductInfringedResponse> loadProductsInfringed(Long profileId) {
+        return productInfringedRepository.findByProfileId(profileId).stream()
+                .map(p -> ProductInfringedResponse.builder()
+                        .id(p.getId()).brandName(p.getBrandName())
+                        .companyName(p.getCompanyName()).productType(p.getProductType())
+                        .build())
+                .toList();
+    }
+
+    private List<SiblingResponse> loadSiblings(Long profileId) {
+        return siblingRepository.findByProfileId(profileId).stream()
+                .map(s -> SiblingResponse.builder()
+                        .id(s.getId()).name(s.getName())
+                        .relationship(s.getRelationship())
+                        .relationshipOther(s.getRelationshipOther())
+                        .occupation(s.getOccupation())
+                        .build())
+                .toList();
+    }
+
+    private List<InfluentialLinkResponse> loadInfluentialLinks(Long profileId) {
+        return influentialLinkRepository.findByProfileId(profileId).stream()
+                .map(l -> InfluentialLinkResponse.builder()
+                        .id(l.getId()).personName(l.getPersonName())
+                        .profileDetails(l.getProfileDetails()).relationship(l.getRelationship())
+                        .build())
+                .toList();
+    }
+
+    private List<StepStatusResponse> loadStepStatuses(Long profileId) {
+        return stepStatusRepository.findByProfileIdOrderByStepNumber(profileId).stream()
+                .map(s -> StepStatusResponse.builder()
+                        .stepNumber(s.getStepNumber()).stepName(s.getStepName())
+                        .status(s.getStatus()).updatedAt(s.getUpdatedAt())
+                        .build())
+                .toList();
+    }
+
+    private AssociateResponse mapAssociate(OpProfileAssociate a) {
+        return AssociateResponse.builder()
+                .id(a.getId()).name(a.getName())
+                .relationship(a.getRelationship())
+                .role(a.getRole())
+                .roleOther(a.getRoleOther())
+                .contactInfo(a.getContactInfo())
+                .notes(a.getNotes())
+                .build();
+    }
+}
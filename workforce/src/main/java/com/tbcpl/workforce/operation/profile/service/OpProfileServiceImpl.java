@@ -4,6 +4,7 @@ import com.tbcpl.workforce.auth.entity.Employee;
 import com.tbcpl.workforce.auth.service.EmployeeService;
 import com.tbcpl.workforce.common.constants.DropdownFieldNames;
 import com.tbcpl.workforce.common.exception.ResourceNotFoundException;
+import com.tbcpl.workforce.common.util.DocumentNumberAllocator;
 import com.tbcpl.workforce.common.util.S3Service;
 import com.tbcpl.workforce.operation.profile.dto.request.*;
 import com.tbcpl.workforce.operation.profile.dto.response.*;
@@ -19,13 +20,14 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 import com.tbcpl.workforce.operation.customoption.service.OpDropdownService;
+import com.tbcpl.workforce.operation.profile.service.ProfileDetailCache.VersionedProfileDetail;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -56,6 +58,9 @@ public class OpProfileServiceImpl implements OpProfileService {
     private final EmployeeService                       employeeService;
     private final S3Service                             s3Service;
     private final OpDropdownService                     dropdownService;
+    private final OpProfileDetailLoader                 detailLoader;
+    private final ProfileDetailCache                    profileDetailCache;
+    private final DocumentNumberAllocator               documentNumberAllocator;
 
     private static final int TOTAL_STEPS = 17;
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
@@ -115,13 +120,10 @@ public class OpProfileServiceImpl implements OpProfileService {
     // PROFILE NUMBER GENERATION
     // ─────────────────────────────────────────────────────────────────────────
 
-    private synchronized String generateProfileNumber() {
-        Optional<String> latest = profileRepository.findLatestProfileNumber();
-        int nextNumber = 1;
-        if (latest.isPresent()) {
-            String lastNumber = latest.get().replace("OFPRF-", "");
-            nextNumber = Integer.parseInt(lastNumber) + 1;
-        }
+    private String generateProfileNumber() {
+        long nextNumber = documentNumberAllocator.next("OFPRF", () -> profileRepository.findLatestProfileNumber()
+                .map(latest -> Long.parseLong(latest.replace("OFPRF-", "")))
+                .orElse(0L));
         return String.format("OFPRF-%03d", nextNumber);
     }
 
@@ -164,6 +166,7 @@ public class OpProfileServiceImpl implements OpProfileService {
                 .profilePhoto(request.getProfilePhoto())
                 .build();
         personalInfoRepository.save(personalInfo);
+        profile.setPersonalInfo(personalInfo);
 
         initializeStepStatuses(profile);
         updateStepStatus(profile.getId(), 1, "PERSONAL_INFO", evaluateStep1Status(request));
@@ -171,12 +174,12 @@ public class OpProfileServiceImpl implements OpProfileService {
                 ChangeAction.CREATED, "profile", null, profileNumber);
         log.info("Profile {} created by {}", profileNumber, empId);
 
-        return buildProfileDetailResponse(profile.getId());
+        return detailLoader.load(profile);
     }
 
     @Override
     @Transactional
-    public ProfileDetailResponse savePersonalInfo(Long profileId, ProfileInitRequest request, String empId) {
+    public ProfileDetailResponse savePersonalInfo(Long profileId, ProfileInitRequest request, String empId, ProfileResponseView view) {
         Employee employee = validateAndGetEmployee(empId);
         OpProfile profile = getActiveProfile(profileId);
 
@@ -195,6 +198,7 @@ public class OpProfileServiceImpl implements OpProfileService {
         entity.setNationality(request.getNationality());
         entity.setProfilePhoto(request.getProfilePhoto());
         personalInfoRepository.save(entity);
+        profile.setPersonalInfo(entity);
 
         String fullName = buildFullName(request.getFirstName(), request.getMiddleName(), request.getLastName());
         profile.setName(fullName);
@@ -204,7 +208,8 @@ public class OpProfileServiceImpl implements OpProfileService {
                 ChangeAction.UPDATED, "personal_info", null, "updated");
         log.info("Personal info updated for profileId={} by empId={}", profileId, empId);
 
-        return buildProfileDetailResponse(profileId);
+        profileDetailCache.invalidate(profileId);
+        return buildSaveResponse(profile, 1, view);
     }
 
     // ─────────────────────────────────────────────────────────────────────────
@@ -213,7 +218,7 @@ public class OpProfileServiceImpl implements OpProfileService {
 
     @Override
     @Transactional
-    public ProfileDetailResponse saveAddress(Long profileId, AddressRequest request, String empId) {
+    public ProfileDetailResponse saveAddress(Long profileId, AddressRequest request, String empId, ProfileResponseView view) {
         Employee employee = validateAndGetEmployee(empId);
         OpProfile profile = getActiveProfile(profileId);
 
@@ -245,12 +250,14 @@ public class OpProfileServiceImpl implements OpProfileService {
             entity.setPermCountry(request.getPermCountry());
         }
         addressRepository.save(entity);
+        profile.setAddress(entity);
         updateProfileUpdatedBy(profile, empId);
         updateStepStatus(profileId, 2, "ADDRESS", evaluateAddressStep(request));
         saveChangeLog(profile, empId, employee.getFullName(), "ADDRESS",
                 ChangeAction.UPDATED, "address", null, "updated");
 
-        return buildProfileDetailResponse(profileId);
+        profileDetailCache.invalidate(profileId);
+        return buildSaveResponse(profile, 2, view);
     }
 
     // ─────────────────────────────────────────────────────────────────────────
@@ -259,7 +266,7 @@ public class OpProfileServiceImpl implements OpProfileService {
 
     @Override
     @Transactional
-    public ProfileDetailResponse saveContactInfo(Long profileId, ContactInfoRequest request, String empId) {
+    public ProfileDetailResponse saveContactInfo(Long profileId, ContactInfoRequest request, String empId, ProfileResponseView view) {
         Employee employee = validateAndGetEmployee(empId);
         OpProfile profile = getActiveProfile(profileId);
 
@@ -275,12 +282,14 @@ public class OpProfileServiceImpl implements OpProfileService {
         entity.setEmergencyContactPhone(request.getEmergencyContactPhone());
         entity.setEmergencyContactRelation(request.getEmergencyContactRelation());
         contactInfoRepository.save(entity);
+        profile.setContactInfo(entity);
         updateProfileUpdatedBy(profile, empId);
         updateStepStatus(profileId, 3, "CONTACT_INFO", evaluateContactStep(request));
         saveChangeLog(profile, empId, employee.getFullName(), "CONTACT_INFO",
                 ChangeAction.UPDATED, "contact_info", null, "updated");
 
-        return buildProfileDetailResponse(profileId);
+        profileDetailCache.invalidate(profileId);
+        return buildSaveResponse(profile, 3, view);
     }
 
     // ─────────────────────────────────────────────────────────────────────────
@@ -289,7 +298,7 @@ public class OpProfileServiceImpl implements OpProfileService {
 
     @Override
     @Transactional
-    public ProfileDetailResponse saveIdentificationDocs(Long profileId, IdentificationDocsRequest request, String empId) {
+    public ProfileDetailResponse saveIdentificationDocs(Long profileId, IdentificationDocsRequest request, String empId, ProfileResponseView view) {
         Employee employee = validateAndGetEmployee(empId);
         OpProfile profile = getActiveProfile(profileId);
 
@@ -310,12 +319,14 @@ public class OpProfileServiceImpl implements OpProfileService {
         entity.setOtherIdNumber(request.getOtherIdNumber());
         entity.setOtherIdPhoto(request.getOtherIdPhoto());
         identificationDocsRepository.save(entity);
+        profile.setIdentificationDocs(entity);
         updateProfileUpdatedBy(profile, empId);
         updateStepStatus(profileId, 4, "IDENTIFICATION_DOCS", evaluateIdentificationStep(request));
         saveChangeLog(profile, empId, employee.getFullName(), "IDENTIFICATION_DOCS",
                 ChangeAction.UPDATED, "identification_docs", null, "updated");
 
-        return buildProfileDetailResponse(profileId);
+        profileDetailCache.invalidate(profileId);
+        return buildSaveResponse(profile, 4, view);
     }
 
     // ─────────────────────────────────────────────────────────────────────────
@@ -324,7 +335,7 @@ public class OpProfileServiceImpl implements OpProfileService {
 
     @Override
     @Transactional
-    public ProfileDetailResponse saveBusinessActivities(Long profileId, BusinessActivitiesRequest request, String empId) {
+    public ProfileDetailResponse saveBusinessActivities(Long profileId, BusinessActivitiesRequest request, String empId, ProfileResponseView view) {
         Employee employee = validateAndGetEmployee(empId);
         OpProfile profile = getActiveProfile(profileId);
 
@@ -353,12 +364,14 @@ public class OpProfileServiceImpl implements OpProfileService {
         // ────────────────────────────────────────────────────────────────────
 
         businessActivitiesRepository.save(entity);
+        profile.setBusinessActivities(entity);
         updateProfileUpdatedBy(profile, empId);
         updateStepStatus(profileId, 5, "BUSINESS_ACTIVITIES", evaluateBusinessStep(request));
         saveChangeLog(profile, empId, employee.getFullName(), "BUSINESS_ACTIVITIES",
                 ChangeAction.UPDATED, "business_activities", null, "updated");
 
-        return buildProfileDetailResponse(profileId);
+        profileDetailCache.invalidate(profileId);
+        return buildSaveResponse(profile, 5, view);
     }
 
     // ─────────────────────────────────────────────────────────────────────────
@@ -367,7 +380,7 @@ public class OpProfileServiceImpl implements OpProfileService {
 
     @Override
     @Transactional
-    public ProfileDetailResponse saveEntityOrganization(Long profileId, EntityOrganizationRequest request, String empId) {
+    public ProfileDetailResponse saveEntityOrganization(Long profileId, EntityOrganizationRequest request, String empId, ProfileResponseView view) {
         Employee employee = validateAndGetEmployee(empId);
         OpProfile profile = getActiveProfile(profileId);
 
@@ -396,7 +409,8 @@ public class OpProfileServiceImpl implements OpProfileService {
         saveChangeLog(profile, empId, employee.getFullName(), "ENTITY_ORGANIZATION",
                 ChangeAction.UPDATED, "associated_companies", null, companies.size() + " companies saved");
 
-        return buildProfileDetailResponse(profileId);
+        profileDetailCache.invalidate(profileId);
+        return buildSaveResponse(profile, 6, view);
     }
 
     // ─────────────────────────────────────────────────────────────────────────
@@ -405,7 +419,7 @@ public class OpProfileServiceImpl implements OpProfileService {
 
     @Override
     @Transactional
-    public ProfileDetailResponse saveGeographicExposure(Long profileId, GeographicExposureRequest request, String empId) {
+    public ProfileDetailResponse saveGeographicExposure(Long profileId, GeographicExposureRequest request, String empId, ProfileResponseView view) {
         Employee employee = validateAndGetEmployee(empId);
         OpProfile profile = getActiveProfile(profileId);
 
@@ -417,12 +431,14 @@ public class OpProfileServiceImpl implements OpProfileService {
         entity.setMarkets(request.getMarkets());
         entity.setJurisdictions(request.getJurisdictions());
         geographicExposureRepository.save(entity);
+        profile.setGeographicExposure(entity);
         updateProfileUpdatedBy(profile, empId);
         updateStepStatus(profileId, 7, "GEOGRAPHIC_EXPOSURE", evaluateGeoStep(request));
         saveChangeLog(profile, empId, employee.getFullName(), "GEOGRAPHIC_EXPOSURE",
                 ChangeAction.UPDATED, "geographic_exposure", null, "updated");
 
-        return buildProfileDetailResponse(profileId);
+        profileDetailCache.invalidate(profileId);
+        return buildSaveResponse(profile, 7, view);
     }
 
     // ─────────────────────────────────────────────────────────────────────────
@@ -431,7 +447,7 @@ public class OpProfileServiceImpl implements OpProfileService {
 
     @Override
     @Transactional
-    public ProfileDetailResponse saveRelatedFIRs(Long profileId, RelatedFIRsRequest request, String empId) {
+    public ProfileDetailResponse saveRelatedFIRs(Long profileId, RelatedFIRsRequest request, String empId, ProfileResponseView view) {
         Employee employee = validateAndGetEmployee(empId);
         OpProfile profile = getActiveProfile(profileId);
 
@@ -461,7 +477,8 @@ public class OpProfileServiceImpl implements OpProfileService {
         saveChangeLog(profile, empId, employee.getFullName(), "RELATED_FIRS",
                 ChangeAction.UPDATED, "firs", null, firs.size() + " FIRs saved");
 
-        return buildProfileDetailResponse(profileId);
+        profileDetailCache.invalidate(profileId);
+        return buildSaveResponse(profile, 8, view);
     }
 
     // ─────────────────────────────────────────────────────────────────────────
@@ -470,7 +487,7 @@ public class OpProfileServiceImpl implements OpProfileService {
 
     @Override
     @Transactional
-    public ProfileDetailResponse saveMaterialSeized(Long profileId, MaterialSeizedRequest request, String empId) {
+    public ProfileDetailResponse saveMaterialSeized(Long profileId, MaterialSeizedRequest request, String empId, ProfileResponseView view) {
         Employee employee = validateAndGetEmployee(empId);
         OpProfile profile = getActiveProfile(profileId);
 
@@ -502,7 +519,8 @@ public class OpProfileServiceImpl implements OpProfileService {
         saveChangeLog(profile, empId, employee.getFullName(), "MATERIAL_SEIZED",
                 ChangeAction.UPDATED, "material_seized", null, items.size() + " items saved");
 
-        return buildProfileDetailResponse(profileId);
+        profileDetailCache.invalidate(profileId);
+        return buildSaveResponse(profile, 9, view);
     }
 
     // ─────────────────────────────────────────────────────────────────────────
@@ -511,7 +529,7 @@ public class OpProfileServiceImpl implements OpProfileService {
 
     @Override
     @Transactional
-    public ProfileDetailResponse saveAssets(Long profileId, AssetsRequest request, String empId) {
+    public ProfileDetailResponse saveAssets(Long profileId, AssetsRequest request, String empId, ProfileResponseView view) {
         Employee employee = validateAndGetEmployee(empId);
         OpProfile profile = getActiveProfile(profileId);
 
@@ -541,7 +559,8 @@ public class OpProfileServiceImpl implements OpProfileService {
         saveChangeLog(profile, empId, employee.getFullName(), "ASSETS",
                 ChangeAction.UPDATED, "vehicles", null, vehicles.size() + " vehicles saved");
 
-        return buildProfileDetailResponse(profileId);
+        profileDetailCache.invalidate(profileId);
+        return buildSaveResponse(profile, 10, view);
     }
 
     // ─────────────────────────────────────────────────────────────────────────
@@ -550,7 +569,7 @@ public class OpProfileServiceImpl implements OpProfileService {
 
     @Override
     @Transactional
-    public ProfileDetailResponse saveKnownAssociates(Long profileId, KnownAssociatesRequest request, String empId) {
+    public ProfileDetailResponse saveKnownAssociates(Long profileId, KnownAssociatesRequest request, String empId, ProfileResponseView view) {
         Employee employee = validateAndGetEmployee(empId);
         OpProfile profile = getActiveProfile(profileId);
 
@@ -588,7 +607,8 @@ public class OpProfileServiceImpl implements OpProfileService {
         saveChangeLog(profile, empId, employee.getFullName(), "KNOWN_ASSOCIATES",
                 ChangeAction.UPDATED, "associates", null, associates.size() + " associates saved");
 
-        return buildProfileDetailResponse(profileId);
+        profileDetailCache.invalidate(profileId);
+        return buildSaveResponse(profile, 11, view);
     }
 
     // ─────────────────────────────────────────────────────────────────────────
@@ -597,7 +617,7 @@ public class OpProfileServiceImpl implements OpProfileService {
 
     @Override
     @Transactional
-    public ProfileDetailResponse saveKnownEmployees(Long profileId, KnownEmployeesRequest request, String empId) {
+    public ProfileDetailResponse saveKnownEmployees(Long profileId, KnownEmployeesRequest request, String empId, ProfileResponseView view) {
         Employee employee = validateAndGetEmployee(empId);
         OpProfile profile = getActiveProfile(profileId);
 
@@ -636,7 +656,8 @@ public class OpProfileServiceImpl implements OpProfileService {
         saveChangeLog(profile, empId, employee.getFullName(), "KNOWN_EMPLOYEES",
                 ChangeAction.UPDATED, "employees", null, employees.size() + " employees saved");
 
-        return buildProfileDetailResponse(profileId);
+        profileDetailCache.invalidate(profileId);
+        return buildSaveResponse(profile, 12, view);
     }
 
     // ─────────────────────────────────────────────────────────────────────────
@@ -645,7 +666,7 @@ public class OpProfileServiceImpl implements OpProfileService {
 
     @Override
     @Transactional
-    public ProfileDetailResponse saveProductsOperations(Long profileId, ProductsOperationsRequest request, String empId) {
+    public ProfileDetailResponse saveProductsOperations(Long profileId, ProductsOperationsRequest request, String empId, ProfileResponseView view) {
         Employee employee = validateAndGetEmployee(empId);
         OpProfile profile = getActiveProfile(profileId);
 
@@ -670,6 +691,7 @@ public class OpProfileServiceImpl implements OpProfileService {
         ops.setKnownModusOperandi(request.getKnownModusOperandi());
         ops.setKnownLocations(request.getKnownLocations() != null ? request.getKnownLocations() : new ArrayList<>());
         productsOperationsRepository.save(ops);
+        profile.setProductsOperations(ops);
 
         updateProfileUpdatedBy(profile, empId);
         updateStepStatus(profileId, 13, "PRODUCTS_OPERATIONS",
@@ -677,7 +699,8 @@ public class OpProfileServiceImpl implements OpProfileService {
         saveChangeLog(profile, empId, employee.getFullName(), "PRODUCTS_OPERATIONS",
                 ChangeAction.UPDATED, "products_operations", null, "updated");
 
-        return buildProfileDetailResponse(profileId);
+        profileDetailCache.invalidate(profileId);
+        return buildSaveResponse(profile, 13, view);
     }
 
     // ─────────────────────────────────────────────────────────────────────────
@@ -686,7 +709,7 @@ public class OpProfileServiceImpl implements OpProfileService {
 
     @Override
     @Transactional
-    public ProfileDetailResponse saveFamilyBackground(Long profileId, FamilyBackgroundRequest request, String empId) {
+    public ProfileDetailResponse saveFamilyBackground(Long profileId, FamilyBackgroundRequest request, String empId, ProfileResponseView view) {
         Employee employee = validateAndGetEmployee(empId);
         OpProfile profile = getActiveProfile(profileId);
 
@@ -701,6 +724,7 @@ public class OpProfileServiceImpl implements OpProfileService {
         entity.setMotherOccupation(request.getMotherOccupation());
         entity.setMotherContact(request.getMotherContact());
         familyBackgroundRepository.save(entity);
+        profile.setFamilyBackground(entity);
 
         siblingRepository.deleteByProfileId(profileId);
 
@@ -723,7 +747,8 @@ public class OpProfileServiceImpl implements OpProfileService {
         saveChangeLog(profile, empId, employee.getFullName(), "FAMILY_BACKGROUND",
                 ChangeAction.UPDATED, "family_background", null, "updated");
 
-        return buildProfileDetailResponse(profileId);
+        profileDetailCache.invalidate(profileId);
+        return buildSaveResponse(profile, 14, view);
     }
 
     // ─────────────────────────────────────────────────────────────────────────
@@ -732,7 +757,7 @@ public class OpProfileServiceImpl implements OpProfileService {
 
     @Override
     @Transactional
-    public ProfileDetailResponse saveInfluentialLinks(Long profileId, InfluentialLinksRequest request, String empId) {
+    public ProfileDetailResponse saveInfluentialLinks(Long profileId, InfluentialLinksRequest request, String empId, ProfileResponseView view) {
         Employee employee = validateAndGetEmployee(empId);
         OpProfile profile = getActiveProfile(profileId);
 
@@ -758,7 +783,8 @@ public class OpProfileServiceImpl implements OpProfileService {
         saveChangeLog(profile, empId, employee.getFullName(), "INFLUENTIAL_LINKS",
                 ChangeAction.UPDATED, "influential_links", null, links.size() + " links saved");
 
-        return buildProfileDetailResponse(profileId);
+        profileDetailCache.invalidate(profileId);
+        return buildSaveResponse(profile, 15, view);
     }
 
     // ─────────────────────────────────────────────────────────────────────────
@@ -767,7 +793,7 @@ public class OpProfileServiceImpl implements OpProfileService {
 
     @Override
     @Transactional
-    public ProfileDetailResponse saveCurrentStatus(Long profileId, CurrentStatusRequest request, String empId) {
+    public ProfileDetailResponse saveCurrentStatus(Long profileId, CurrentStatusRequest request, String empId, ProfileResponseView view) {
         Employee employee = validateAndGetEmployee(empId);
         OpProfile profile = getActiveProfile(profileId);
 
@@ -785,12 +811,14 @@ public class OpProfileServiceImpl implements OpProfileService {
             profileRepository.save(profile);
         }
         currentStatusRepository.save(entity);
+        profile.setCurrentStatus(entity);
         updateProfileUpdatedBy(profile, empId);
         updateStepStatus(profileId, 16, "CURRENT_STATUS", evaluateCurrentStatusStep(request));
         saveChangeLog(profile, empId, employee.getFullName(), "CURRENT_STATUS",
                 ChangeAction.UPDATED, "current_status", null, "updated");
 
-        return buildProfileDetailResponse(profileId);
+        profileDetailCache.invalidate(profileId);
+        return buildSaveResponse(profile, 16, view);
     }
 
     // ─────────────────────────────────────────────────────────────────────────
@@ -799,7 +827,7 @@ public class OpProfileServiceImpl implements OpProfileService {
 
     @Override
     @Transactional
-    public ProfileDetailResponse saveAdditionalInfo(Long profileId, AdditionalInfoRequest request, String empId) {
+    public ProfileDetailResponse saveAdditionalInfo(Long profileId, AdditionalInfoRequest request, String empId, ProfileResponseView view) {
         Employee employee = validateAndGetEmployee(empId);
         OpProfile profile = getActiveProfile(profileId);
 
@@ -819,12 +847,14 @@ public class OpProfileServiceImpl implements OpProfileService {
         // ────────────────────────────────────────────────────────────────────
 
         additionalInfoRepository.save(entity);
+        profile.setAdditionalInfo(entity);
         updateProfileUpdatedBy(profile, empId);
         updateStepStatus(profileId, 17, "ADDITIONAL_INFO", evaluateAdditionalStep(request));
         saveChangeLog(profile, empId, employee.getFullName(), "ADDITIONAL_INFO",
                 ChangeAction.UPDATED, "additional_info", null, "updated");
 
-        return buildProfileDetailResponse(profileId);
+        profileDetailCache.invalidate(profileId);
+        return buildSaveResponse(profile, 17, view);
     }
 
     // ─────────────────────────────────────────────────────────────────────────
@@ -834,28 +864,39 @@ public class OpProfileServiceImpl implements OpProfileService {
     @Override
     @Transactional(readOnly = true)
     public PagedProfileResponse getAllProfiles(Pageable pageable) {
-        Page<OpProfile> page = profileRepository.findAllActive(pageable);
+        Page<ProfileSummaryResponse> page = profileRepository.findAllActive(pageable);
         return mapToPagedResponse(page);
     }
 
     @Override
     @Transactional(readOnly = true)
     public PagedProfileResponse searchProfiles(String search, Pageable pageable) {
-        Page<OpProfile> page = profileRepository.searchByNameOrProfileNumber(search, pageable);
+        Page<ProfileSummaryResponse> page = profileRepository.searchByNameOrProfileNumber(search, pageable);
         return mapToPagedResponse(page);
     }
 
     @Override
     @Transactional(readOnly = true)
     public PagedProfileResponse getProfilesByStatus(ProfileStatus status, Pageable pageable) {
-        Page<OpProfile> page = profileRepository.findByStatus(status, pageable);
+        Page<ProfileSummaryResponse> page = profileRepository.findByStatus(status, pageable);
         return mapToPagedResponse(page);
     }
 
     @Override
     @Transactional(readOnly = true)
     public ProfileDetailResponse getProfileById(Long profileId) {
-        return buildProfileDetailResponse(profileId);
+        return getProfileDocument(profileId).profile();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public VersionedProfileDetail getProfileDocument(Long profileId) {
+        return profileDetailCache.get(profileId, this::buildProfileDetailResponse);
+    }
+
+    @Override
+    public String getProfileETag(Long profileId) {
+        return profileDetailCache.currentETag(profileId);
     }
 
     @Override
@@ -913,6 +954,7 @@ public class OpProfileServiceImpl implements OpProfileService {
         profile.setIsDeleted(true);
         profile.setUpdatedBy(empId);
         profileRepository.save(profile);
+        profileDetailCache.invalidate(profileId);
         saveChangeLog(profile, empId, employee.getFullName(), "PROFILE",
                 ChangeAction.DELETED, "is_deleted", "false", "true");
         log.info("Profile {} soft deleted by {}", profile.getProfileNumber(), empId);
@@ -943,8 +985,7 @@ public class OpProfileServiceImpl implements OpProfileService {
     // ─────────────────────────────────────────────────────────────────────────
 
     private OpProfile getActiveProfile(Long profileId) {
-        return profileRepository.findById(profileId)
-                .filter(p -> !p.getIsDeleted())
+        return profileRepository.findActiveWithDetails(profileId)
                 .orElseThrow(() -> new ResourceNotFoundException("Profile not found with id: " + profileId));
     }
 
@@ -1114,282 +1155,50 @@ public class OpProfileServiceImpl implements OpProfileService {
     // ─────────────────────────────────────────────────────────────────────────
 
     private ProfileDetailResponse buildProfileDetailResponse(Long profileId) {
-        OpProfile profile = getActiveProfile(profileId);
-
-        PersonalInfoResponse personalInfoResponse = personalInfoRepository
-                .findByProfileId(profileId)
-                .map(p -> PersonalInfoResponse.builder()
-                        .firstName(p.getFirstName())
-                        .middleName(p.getMiddleName())
-                        .lastName(p.getLastName())
-                        .gender(p.getGender())
-                        .genderOther(p.getGenderOther())           // ← NEW
-                        .dateOfBirth(p.getDateOfBirth())
-                        .bloodGroup(p.getBloodGroup())
-                        .nationality(p.getNationality())
-                        .profilePhoto(p.getProfilePhoto())
-                        .build())
-                .orElse(null);
-
-        AddressResponse addressResponse = addressRepository
-                .findByProfileId(profileId)
-                .map(a -> AddressResponse.builder()
-                        .addressLine1(a.getAddressLine1()).addressLine2(a.getAddressLine2())
-                        .city(a.getCity()).state(a.getState())
-                        .pincode(a.getPincode()).country(a.getCountry())
-                        .permanentSameAsCurrent(a.getPermanentSameAsCurrent())
-                        .permAddressLine1(a.getPermAddressLine1()).permAddressLine2(a.getPermAddressLine2())
-                        .permCity(a.getPermCity()).permState(a.getPermState())
-                        .permPincode(a.getPermPincode()).permCountry(a.getPermCountry())
-                        .build())
-                .orElse(null);
-
-        ContactInfoResponse contactResponse = contactInfoRepository
-                .findByProfileId(profileId)
-                .map(c -> ContactInfoResponse.builder()
-                        .primaryPhone(c.getPrimaryPhone()).secondaryPhone(c.getSecondaryPhone())
-                        .primaryEmail(c.getPrimaryEmail()).secondaryEmail(c.getSecondaryEmail())
-                        .emergencyContactName(c.getEmergencyContactName())
-                        .emergencyContactPhone(c.getEmergencyContactPhone())
-                        .emergencyContactRelation(c.getEmergencyContactRelation())
-                        .build())
-                .orElse(null);
-
-        IdentificationDocsResponse idDocsResponse = identificationDocsRepository
-                .findByProfileId(profileId)
-                .map(i -> IdentificationDocsResponse.builder()
-                        .employeeId(i.getEmployeeId())
-                        .aadhaarNumber(i.getAadhaarNumber()).aadhaarPhoto(i.getAadhaarPhoto())
-                        .panNumber(i.getPanNumber()).panPhoto(i.getPanPhoto())
-                        .drivingLicense(i.getDrivingLicense()).dlPhoto(i.getDlPhoto())
-                        .passportNumber(i.getPassportNumber()).passportPhoto(i.getPassportPhoto())
-                        .otherIdType(i.getOtherIdType()).otherIdNumber(i.getOtherIdNumber())
-                        .otherIdPhoto(i.getOtherIdPhoto())
-                        .build())
-                .orElse(null);
-
-        BusinessActivitiesResponse businessResponse = businessActivitiesRepository
-                .findByProfileId(profileId)
-                .map(b -> BusinessActivitiesResponse.builder()
-                        .retailerStatus(b.getRetailerStatus())
-                        .retailerStatusOther(b.getRetailerStatusOther())    // ← NEW
-                        .retailerType(b.getRetailerType())
-                        .retailerTypeOther(b.getRetailerTypeOther())        // ← NEW
-                        .retailerDetails(b.getRetailerDetails())
-                        .supplierStatus(b.getSupplierStatus())
-                        .supplierStatusOther(b.getSupplierStatusOther())    // ← NEW
-                        .supplierType(b.getSupplierType())
-                        .supplierTypeOther(b.getSupplierTypeOther())        // ← NEW
-                        .supplierDetails(b.getSupplierDetails())
-                        .manufacturerStatus(b.getManufacturerStatus())
-                        .manufacturerStatusOther(b.getManufacturerStatusOther())  // ← NEW
-                        .manufacturerType(b.getManufacturerType())
-                        .manufacturerTypeOther(b.getManufacturerTypeOther())      // ← NEW
-                        .manufacturerDetails(b.getManufacturerDetails())
-                        .build())
-                .orElse(null);
-
-        GeographicExposureResponse geoResponse = geographicExposureRepository
-                .findByProfileId(profileId)
-                .map(g -> GeographicExposureResponse.builder()
-                        .operatingRegions(g.getOperatingRegions())
-                        .markets(g.getMarkets())
-                        .jurisdictions(g.getJurisdictions())
-                        .build())
-                .orElse(null);
-
-        List<AssociatedCompanyResponse> companies = associatedCompanyRepository
-                .findByProfileId(profileId).stream()
-                .map(c -> AssociatedCompanyResponse.builder()
-                        .id(c.getId()).companyName(c.getCompanyName())
-                        .relationshipNature(c.getRelationshipNature())
-                        .relationshipNatureOther(c.getRelationshipNatureOther())  // ← NEW
-                        .details(c.getDetails())
-                        .build())
-                .toList();
-
-        List<FirResponse> firs = firRepository.findByProfileId(profileId).stream()
-                .map(f -> FirResponse.builder()
-                        .id(f.getId()).firNumber(f.getFirNumber())
-                        .caseNumber(f.getCaseNumber()).sections(f.getSections())
-                        .dateRegistered(f.getDateRegistered())
-                        .status(f.getStatus())
-                        .statusOther(f.getStatusOther())                          // ← NEW
-                        .build())
-                .toList();
-
-        List<MaterialSeizedItemResponse> materialSeized = materialSeizedRepository
-                .findByProfileId(profileId).stream()
-                .map(m -> MaterialSeizedItemResponse.builder()
-                        .id(m.getId()).brandName(m.getBrandName()).company(m.getCompany())
-                        .quantity(m.getQuantity()).location(m.getLocation())
-                        .raidingAuthority(m.getRaidingAuthority())
-                        .raidingAuthorityOther(m.getRaidingAuthorityOther())
-                        .dateSeized(m.getDateSeized())
-                        .build())
-                .toList();
-
-        List<VehicleResponse> vehicles = vehicleRepository.findByProfileId(profileId).stream()
-                .map(v -> VehicleResponse.builder()
-                        .id(v.getId()).make(v.getMake()).model(v.getModel())
-                        .registrationNumber(v.getRegistrationNumber())
-                        .ownershipType(v.getOwnershipType())
-                        .ownershipTypeOther(v.getOwnershipTypeOther())            // ← NEW
-                        .build())
-                .toList();
-
-        // ── FIX: was findByProfileIdAndRole(profileId, AssociateRole.ASSOCIATE) ──
-        List<AssociateResponse> knownAssociates = associateRepository
-                .findByProfileIdAndRole(profileId, "ASSOCIATE").stream()
-                .map(this::mapAssociate).toList();
-        List<AssociateResponse> knownEmployees = associateRepository
-                .findByProfileIdAndRole(profileId, "EMPLOYEE").stream()
-                .map(this::mapAssociate).toList();
-        // ────────────────────────────────────────────────────────────────────
-
-        List<ProductInfringedResponse> productsInfringed = productInfringedRepository
-                .findByProfileId(profileId).stream()
-                .map(p -> ProductInfringedResponse.builder()
-                        .id(p.getId()).brandName(p.getBrandName())
-                        .companyName(p.getCompanyName()).productType(p.getProductType())
-                        .build())
-                .toList();
-
-        ProductsOperationsResponse opsResponse = productsOperationsRepository
-                .findByProfileId(profileId)
-                .map(o -> ProductsOperationsResponse.builder()
-                        .productsInfringed(productsInfringed)
-                        .knownModusOperandi(o.getKnownModusOperandi())
-                        .knownLocations(o.getKnownLocations())
-                        .build())
-                .orElse(null);
-
-        List<SiblingResponse> siblings = siblingRepository.findByProfileId(profileId).stream()
-                .map(s -> SiblingResponse.builder()
-                        .id(s.getId()).name(s.getName())
-                        .relationship(s.getRelationship())
-                        .relationshipOther(s.getRelationshipOther())              // ← NEW
-                        .occupation(s.getOccupation())
-                        .build())
-                .toList();
-
-        FamilyBackgroundResponse familyResponse = familyBackgroundRepository
-                .findByProfileId(profileId)
-                .map(f -> FamilyBackgroundResponse.builder()
-                        .fatherName(f.getFatherName()).fatherOccupation(f.getFatherOccupation())
-                        .fatherContact(f.getFatherContact()).motherName(f.getMotherName())
-                        .motherOccupation(f.getMotherOccupation()).motherContact(f.getMotherContact())
-                        .siblings(siblings)
-                        .build())
-                .orElse(null);
-
-        List<InfluentialLinkResponse> links = influentialLinkRepository
-                .findByProfileId(profileId).stream()
-                .map(l -> InfluentialLinkResponse.builder()
-                        .id(l.getId()).personName(l.getPersonName())
-                        .profileDetails(l.getProfileDetails()).relationship(l.getRelationship())
-                        .build())
-                .toList();
-
-        CurrentStatusResponse statusResponse = currentStatusRepository
-                .findByProfileId(profileId)
-                .map(s -> CurrentStatusResponse.builder()
-                        .status(s.getStatus()).lastKnownLocation(s.getLastKnownLocation())
-                        .statusDate(s.getStatusDate()).remarks(s.getRemarks())
-                        .build())
-                .orElse(null);
-
-        AdditionalInfoResponse additionalResponse = additionalInfoRepository
-                .findByProfileId(profileId)
-                .map(a -> AdditionalInfoResponse.builder()
-                        .notes(a.getNotes()).behavioralNotes(a.getBehavioralNotes())
-                        .riskLevel(a.getRiskLevel())
-                        .riskLevelOther(a.getRiskLevelOther())                    // ← NEW
-                        .tags(a.getTags())
-                        .additionalPhotos(a.getAdditionalPhotos())
-                        .attachments(a.getAttachments()).linkedCases(a.getLinkedCases())
-                        .build())
-                .orElse(null);
-
-        List<StepStatusResponse> stepStatuses = stepStatusRepository
-                .findByProfileIdOrderByStepNumber(profileId).stream()
-                .map(s -> StepStatusResponse.builder()
-                        .stepNumber(s.getStepNumber()).stepName(s.getStepName())
-                        .status(s.getStatus()).updatedAt(s.getUpdatedAt())
-                        .build())
-                .toList();
-
-        return ProfileDetailResponse.builder()
-                .id(profile.getId())
-                .profileNumber(profile.getProfileNumber())
-                .name(profile.getName())
-                .status(profile.getStatus())
-                .createdBy(profile.getCreatedBy())
-                .updatedBy(profile.getUpdatedBy())
-                .createdAt(profile.getCreatedAt())
-                .updatedAt(profile.getUpdatedAt())
-                .personalInfo(personalInfoResponse)
-                .address(addressResponse)
-                .contactInfo(contactResponse)
-                .identificationDocs(idDocsResponse)
-                .businessActivities(businessResponse)
-                .geographicExposure(geoResponse)
-                .associatedCompanies(companies)
-                .firs(firs)
-                .materialSeized(materialSeized)
-                .vehicles(vehicles)
-                .knownAssociates(knownAssociates)
-                .knownEmployees(knownEmployees)
-                .productsOperations(opsResponse)
-                .productsInfringed(productsInfringed)
-                .familyBackground(familyResponse)
-                .influentialLinks(links)
-                .currentStatus(statusResponse)
-                .additionalInfo(additionalResponse)
-                .stepStatuses(stepStatuses)
-                .build();
+        return detailLoader.load(getActiveProfile(profileId));
     }
 
-    // ── FIX: mapAssociate now includes roleOther ─────────────────────────────
-    private AssociateResponse mapAssociate(OpProfileAssociate a) {
-        return AssociateResponse.builder()
-                .id(a.getId()).name(a.getName())
-                .relationship(a.getRelationship())
-                .role(a.getRole())
-                .roleOther(a.getRoleOther())                                      // ← NEW
-                .contactInfo(a.getContactInfo())
-                .notes(a.getNotes())
-                .build();
+    /**
+     * Response for a step save: the full document by default, or only the
+     * saved step section plus step statuses when the client asks for STEP.
+     */
+    private ProfileDetailResponse buildSaveResponse(OpProfile profile, int stepNumber, ProfileResponseView view) {
+        return view == ProfileResponseView.STEP
+                ? detailLoader.loadStep(profile, stepNumber)
+                : detailLoader.load(profile);
     }
 
-    private PagedProfileResponse mapToPagedResponse(Page<OpProfile> page) {
-        List<ProfileSummaryResponse> summaries = page.getContent().stream()
-                .map(p -> {
-                    long completed = stepStatusRepository.countByProfileIdAndStatus(p.getId(), StepStatus.COMPLETED);
-                    String photo = personalInfoRepository.findByProfileId(p.getId())
-                            .map(OpProfilePersonalInfo::getProfilePhoto).orElse(null);
-
-                    // ── FIX: was RiskLevel risk — now String ─────────────────
-                    String risk = additionalInfoRepository.findByProfileId(p.getId())
-                            .map(OpProfileAdditionalInfo::getRiskLevel).orElse(null);
-                    // ────────────────────────────────────────────────────────
-
-                    return ProfileSummaryResponse.builder()
-                            .id(p.getId())
-                            .profileNumber(p.getProfileNumber())
-                            .name(p.getName())
-                            .profilePhoto(photo)
-                            .status(p.getStatus())
-                            .riskLevel(risk)                                      // ← now String
-                            .createdBy(p.getCreatedBy())
-                            .updatedBy(p.getUpdatedBy())
-                            .createdAt(p.getCreatedAt())
-                            .updatedAt(p.getUpdatedAt())
-                            .completedSteps(completed)
-                            .totalSteps(TOTAL_STEPS)
-                            .build();
-                })
-                .toList();
+    /**
+     * Builds list summaries with a constant number of queries per page:
+     * one grouped step count plus one bulk lookup each for photo and risk level.
+     */
+    private PagedProfileResponse mapToPagedResponse(Page<ProfileSummaryResponse> page) {
+        List<ProfileSummaryResponse> summaries = page.getContent();
+        List<Long> profileIds = summaries.stream().map(ProfileSummaryResponse::getId).toList();
+
+        Map<Long, Long> completedByProfile = new HashMap<>();
+        Map<Long, String> photoByProfile = new HashMap<>();
+        Map<Long, String> riskByProfile = new HashMap<>();
+
+        if (!profileIds.isEmpty()) {
+            for (Object[] row : stepStatusRepository.countByProfileIdsAndStatus(profileIds, StepStatus.COMPLETED)) {
+                completedByProfile.put((Long) row[0], (Long) row[1]);
+            }
+            for (Object[] row : personalInfoRepository.findProfilePhotosByProfileIds(profileIds)) {
+                photoByProfile.put((Long) row[0], (String) row[1]);
+            }
+            // ── FIX: was RiskLevel risk — now String ─────────────────────────
+            for (Object[] row : additionalInfoRepository.findRiskLevelsByProfileIds(profileIds)) {
+                riskByProfile.put((Long) row[0], (String) row[1]);
+            }
+        }
+
+        for (ProfileSummaryResponse summary : summaries) {
+            summary.setProfilePhoto(photoByProfile.get(summary.getId()));
+            summary.setRiskLevel(riskByProfile.get(summary.getId()));          // ← now String
+            summary.setCompletedSteps(completedByProfile.getOrDefault(summary.getId(), 0L));
+            summary.setTotalSteps(TOTAL_STEPS);
+        }
 
         return PagedProfileResponse.builder()
                 .profiles(summaries)
@@ -0,0 +1,120 @@
+package com.tbcpl.workforce.operation.profile.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.tbcpl.workforce.common.cache.CacheStats;
+import com.tbcpl.workforce.common.cache.CacheStatsProvider;
+import com.tbcpl.workforce.common.cache.LruCache;
+import com.tbcpl.workforce.common.util.HashUtils;
+import com.tbcpl.workforce.operation.profile.dto.response.ProfileDetailResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Read-through cache of full profile documents keyed by profile id + version.
+ * Every profile mutation on this instance bumps the version and drops the entry; versions are
+ * per instance, so entries also expire after a short TTL to bound how long a save made on
+ * another instance can go unseen here.
+ * The ETag is a hash of the serialized document, so every instance issues the same ETag for the
+ * same content and a reload after another instance's save yields a new one. A client holding
+ * the ETag of the cached current document is answered without touching the DB.
+ */
+@Component
+@Slf4j
+public class ProfileDetailCache implements CacheStatsProvider {
+
+    private static final int MAX_ENTRIES = 500;
+    private static final Duration TTL = Duration.ofSeconds(30);
+
+    // Hex chars of the SHA-256 kept in the ETag
+    private static final int ETAG_HASH_LENGTH = 32;
+
+    private final LruCache<Long, VersionedProfileDetail> cache = new LruCache<>("profile-detail", MAX_ENTRIES, TTL);
+    private final ConcurrentHashMap<Long, Long> versions = new ConcurrentHashMap<>();
+    // Sorted map keys keep the bytes, and so the ETag, identical across instances
+    private final ObjectWriter etagWriter;
+
+    public ProfileDetailCache(ObjectMapper objectMapper) {
+        this.etagWriter = objectMapper.writer().with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+    }
+
+    /**
+     * Current document for the profile, loading and caching it on miss or stale version
+     */
+    public VersionedProfileDetail get(Long profileId, Function<Long, ProfileDetailResponse> loader) {
+        long version = currentVersion(profileId);
+        VersionedProfileDetail cached = cache.get(profileId);
+        if (cached != null && cached.version() == version) {
+            return cached;
+        }
+
+        ProfileDetailResponse profile = loader.apply(profileId);
+        VersionedProfileDetail loaded = new VersionedProfileDetail(version, buildETag(profileId, profile), profile);
+        // A save that raced with the load has bumped the version — don't cache the older document
+        if (currentVersion(profileId) == version) {
+            cache.put(profileId, loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * ETag of the cached current version, or null when nothing current is cached
+     */
+    public String currentETag(Long profileId) {
+        VersionedProfileDetail cached = cache.get(profileId);
+        return cached != null && cached.version() == currentVersion(profileId) ? cached.etag() : null;
+    }
+
+    /**
+     * Bump the version now and again after the surrounding transaction commits,
+     * so a read that ran against uncommitted state is never served as current
+     */
+    public void invalidate(Long profileId) {
+        bump(profileId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bump(profileId);
+                }
+            });
+        }
+    }
+
+    @Override
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    private void bump(Long profileId) {
+        versions.merge(profileId, 1L, Long::sum);
+        cache.remove(profileId);
+        log.debug("Profile detail cache invalidated for profileId={}", profileId);
+    }
+
+    private long currentVersion(Long profileId) {
+        return versions.getOrDefault(profileId, 0L);
+    }
+
+    private String buildETag(Long profileId, ProfileDetailResponse profile) {
+        try {
+            String hash = HashUtils.sha256Hex(etagWriter.writeValueAsBytes(profile));
+            return "\"" + profileId + "-" + hash.substring(0, ETAG_HASH_LENGTH) + "\"";
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize profile " + profileId + " for its ETag", e);
+        }
+    }
+
+    /**
+     * Cached document with the version and ETag it was built for
+     */
+    public record VersionedProfileDetail(long version, String etag, ProfileDetailResponse profile) {}
+}
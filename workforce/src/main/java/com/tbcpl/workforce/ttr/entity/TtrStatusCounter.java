@@ -0,0 +1,38 @@
+package com.tbcpl.workforce.ttr.entity;
+
+import com.tbcpl.workforce.ttr.entity.enums.TtrStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Running count of active TTRs per department and status, backing the dashboard tiles.
+ * Maintained on create / status change and periodically reconciled against the ttr table.
+ */
+@Entity
+@Table(name = "ttr_status_counter", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_ttr_counter_dept_status", columnNames = {"department_id", "status"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TtrStatusCounter {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "department_id", nullable = false)
+    private Long departmentId;
+
+    @Column(name = "department_name", length = 100)
+    private String departmentName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 30)
+    private TtrStatus status;
+
+    @Column(name = "ttr_count", nullable = false)
+    @Builder.Default
+    private Long ttrCount = 0L;
+}
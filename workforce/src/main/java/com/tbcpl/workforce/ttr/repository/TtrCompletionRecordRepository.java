@@ -8,6 +8,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -17,6 +19,12 @@ public interface TtrCompletionRecordRepository extends JpaRepository<TtrCompleti
 
     long countByTtrId(Long ttrId);
 
+    /**
+     * Completion counts for several TTRs. Each row: [ttrId, count]
+     */
+    @Query("SELECT r.ttr.id, COUNT(r) FROM TtrCompletionRecord r WHERE r.ttr.id IN :ttrIds GROUP BY r.ttr.id")
+    List<Object[]> countGroupedByTtrIds(@Param("ttrIds") Collection<Long> ttrIds);
+
     @Query("SELECT COALESCE(MAX(r.cycleNumber), 0) FROM TtrCompletionRecord r WHERE r.ttr.id = :ttrId")
     int findMaxCycleNumberByTtrId(@Param("ttrId") Long ttrId);
 }
\ No newline at end of file
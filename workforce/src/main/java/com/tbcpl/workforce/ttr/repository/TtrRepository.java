@@ -39,6 +39,20 @@ public interface TtrRepository extends JpaRepository<Ttr, Long> {
     @Query("SELECT t FROM Ttr t WHERE t.parentTtr.id = :parentId AND t.isActive = true ORDER BY t.createdAt ASC")
     List<Ttr> findChildrenByParentId(@Param("parentId") Long parentId);
 
+    /**
+     * Every active descendant of a TTR (children, grandchildren, ...) in one recursive query,
+     * oldest first within the subtree. The root itself is not included.
+     */
+    @Query(value = """
+    WITH RECURSIVE subtree (id) AS (
+        SELECT c.id FROM ttr c WHERE c.parent_ttr_id = :rootId AND c.is_active = true
+        UNION ALL
+        SELECT c.id FROM ttr c JOIN subtree s ON c.parent_ttr_id = s.id WHERE c.is_active = true
+    )
+    SELECT t.* FROM ttr t JOIN subtree s ON t.id = s.id ORDER BY t.created_at ASC
+    """, nativeQuery = true)
+    List<Ttr> findActiveDescendants(@Param("rootId") Long rootId);
+
     @Query("SELECT COUNT(t) FROM Ttr t WHERE t.parentTtr.id = :parentId AND t.isActive = true AND t.status <> 'S5_CLOSED'")
     long countOpenChildrenByParentId(@Param("parentId") Long parentId);
 
@@ -54,9 +68,20 @@ public interface TtrRepository extends JpaRepository<Ttr, Long> {
 
     // ── Dashboard metrics ─────────────────────────────────────────────────────
 
-    long countByDepartmentIdAndIsActiveTrue(Long departmentId);
-
-    long countByDepartmentIdAndStatusAndIsActiveTrue(Long departmentId, TtrStatus status);
+    /**
+     * Active TTR counts for every department and status in one pass.
+     * Each row: [departmentId, departmentName, status, count]
+     */
+    @Query("SELECT t.departmentId, MAX(t.departmentName), t.status, COUNT(t) FROM Ttr t " +
+           "WHERE t.isActive = true GROUP BY t.departmentId, t.status")
+    List<Object[]> countActiveGroupedByDepartmentAndStatus();
+
+    /**
+     * Same as above for one department. Each row: [departmentId, departmentName, status, count]
+     */
+    @Query("SELECT t.departmentId, MAX(t.departmentName), t.status, COUNT(t) FROM Ttr t " +
+           "WHERE t.isActive = true AND t.departmentId = :departmentId GROUP BY t.departmentId, t.status")
+    List<Object[]> countActiveByStatusForDepartment(@Param("departmentId") Long departmentId);
 
     long countByIsActiveTrue();
 
@@ -0,0 +1,64 @@
+package com.tbcpl.workforce.ttr.repository;
+
+import com.tbcpl.workforce.ttr.entity.TtrStatusCounter;
+import com.tbcpl.workforce.ttr.entity.enums.TtrStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface TtrStatusCounterRepository extends JpaRepository<TtrStatusCounter, Long> {
+
+    List<TtrStatusCounter> findByDepartmentId(Long departmentId);
+
+    /**
+     * Atomically add delta to one counter; returns 0 when the row does not exist yet
+     */
+    @Modifying
+    @Query("UPDATE TtrStatusCounter c SET c.ttrCount = c.ttrCount + :delta " +
+           "WHERE c.departmentId = :departmentId AND c.status = :status")
+    int adjust(@Param("departmentId") Long departmentId,
+               @Param("status") TtrStatus status,
+               @Param("delta") long delta);
+
+    /**
+     * Add delta to one counter, creating it when missing; safe against a concurrent first insert
+     */
+    @Modifying
+    @Query(value = "INSERT INTO ttr_status_counter (department_id, department_name, status, ttr_count) " +
+                   "VALUES (:departmentId, :departmentName, :status, :delta) " +
+                   "ON DUPLICATE KEY UPDATE ttr_count = ttr_count + VALUES(ttr_count)",
+           nativeQuery = true)
+    int increment(@Param("departmentId") Long departmentId,
+                  @Param("departmentName") String departmentName,
+                  @Param("status") String status,
+                  @Param("delta") long delta);
+
+    /**
+     * Set one counter to an absolute value, creating it when missing
+     */
+    @Modifying
+    @Query(value = "INSERT INTO ttr_status_counter (department_id, department_name, status, ttr_count) " +
+                   "VALUES (:departmentId, :departmentName, :status, :count) " +
+                   "ON DUPLICATE KEY UPDATE ttr_count = VALUES(ttr_count), " +
+                   "department_name = COALESCE(VALUES(department_name), department_name)",
+           nativeQuery = true)
+    int overwrite(@Param("departmentId") Long departmentId,
+                  @Param("departmentName") String departmentName,
+                  @Param("status") String status,
+                  @Param("count") long count);
+
+    /**
+     * Lock every counter row and the gaps between them (InnoDB next-key locks), so counter
+     * adjustments and inserts wait until the locking transaction commits
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM TtrStatusCounter c")
+    List<TtrStatusCounter> findAllForUpdate();
+}
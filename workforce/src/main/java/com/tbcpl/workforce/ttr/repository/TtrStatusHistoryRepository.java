@@ -4,10 +4,13 @@ import com.tbcpl.workforce.ttr.entity.TtrStatusHistory;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface TtrStatusHistoryRepository extends JpaRepository<TtrStatusHistory, Long> {
 
     List<TtrStatusHistory> findByTtrIdOrderByChangedAtAsc(Long ttrId);
+
+    List<TtrStatusHistory> findByTtrIdInOrderByChangedAtAsc(Collection<Long> ttrIds);
 }
\ No newline at end of file
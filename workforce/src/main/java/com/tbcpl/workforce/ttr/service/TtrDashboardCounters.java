@@ -0,0 +1,172 @@
+package com.tbcpl.workforce.ttr.service;
+
+import com.tbcpl.workforce.auth.entity.Department;
+import com.tbcpl.workforce.auth.repository.DepartmentRepository;
+import com.tbcpl.workforce.ttr.entity.Ttr;
+import com.tbcpl.workforce.ttr.entity.TtrStatusCounter;
+import com.tbcpl.workforce.ttr.entity.enums.TtrStatus;
+import com.tbcpl.workforce.ttr.repository.TtrRepository;
+import com.tbcpl.workforce.ttr.repository.TtrStatusCounterRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Optional per-department / per-status TTR counters so the dashboard does not scan the ttr table.
+ * Enabled with app.ttr.dashboard-counters.enabled; updated in the same transaction as the TTR
+ * change, rebuilt at startup and reconciled nightly. When disabled every method is a no-op and
+ * the dashboard falls back to the grouped aggregate query.
+ * <p>
+ * Counter rows are created with INSERT ... ON DUPLICATE KEY UPDATE, so concurrent first writes and
+ * instances reconciling together never collide on uk_ttr_counter_dept_status. A reconcile locks the
+ * counter table before counting, so no adjustment can commit between the count and the overwrite.
+ */
+@Component
+@Slf4j
+public class TtrDashboardCounters {
+
+    private final TtrStatusCounterRepository counterRepository;
+    private final TtrRepository              ttrRepository;
+    private final DepartmentRepository       departmentRepository;
+    private final TransactionTemplate        transactionTemplate;
+    private final boolean                    enabled;
+
+    public TtrDashboardCounters(TtrStatusCounterRepository counterRepository,
+                                TtrRepository ttrRepository,
+                                DepartmentRepository departmentRepository,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${app.ttr.dashboard-counters.enabled:false}") boolean enabled) {
+        this.counterRepository    = counterRepository;
+        this.ttrRepository        = ttrRepository;
+        this.departmentRepository = departmentRepository;
+        this.transactionTemplate  = new TransactionTemplate(transactionManager);
+        this.enabled              = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // ── Maintenance (call inside the TTR write transaction) ──
+
+    public void recordCreated(Ttr ttr) {
+        recordTransition(ttr, null, ttr.getStatus());
+    }
+
+    public void recordTransition(Ttr ttr, TtrStatus from, TtrStatus to) {
+        if (!enabled || from == to) {
+            return;
+        }
+        if (from != null) {
+            counterRepository.adjust(ttr.getDepartmentId(), from, -1);
+        }
+        counterRepository.increment(ttr.getDepartmentId(), ttr.getDepartmentName(), to.name(), 1);
+    }
+
+    // ── Reads — rows shaped like TtrRepository grouped counts: [departmentId, departmentName, status, count] ──
+
+    @Transactional(readOnly = true)
+    public List<Object[]> groupedCounts() {
+        return toRows(counterRepository.findAll());
+    }
+
+    @Transactional(readOnly = true)
+    public List<Object[]> groupedCounts(Long departmentId) {
+        return toRows(counterRepository.findByDepartmentId(departmentId));
+    }
+
+    // ── Rebuild ──
+
+    /**
+     * Every instance runs this; a failure (e.g. a lock wait or deadlock with another instance
+     * starting at the same time) must not abort startup — the counters stay usable and the
+     * nightly reconcile corrects them
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        try {
+            reconcile();
+        } catch (RuntimeException e) {
+            log.warn("TTR dashboard counter rebuild at startup failed, left to the nightly reconcile: {}",
+                    e.getMessage());
+        }
+    }
+
+    /**
+     * Overwrite counters with the actual grouped counts and pre-create a zero row for every
+     * department × status. Runs in its own transaction so a failure rolls back cleanly.
+     */
+    @Scheduled(cron = "0 30 2 * * *") // Daily at 2:30 AM
+    public void reconcile() {
+        if (!enabled) {
+            return;
+        }
+        int rows = transactionTemplate.execute(status -> overwriteAll());
+        log.info("TTR dashboard counters reconciled: {} rows", rows);
+    }
+
+    private int overwriteAll() {
+        // Lock before reading anything: a TTR write that already adjusted a counter holds that row
+        // until it commits, so once the lock is granted its TTR change is visible to the count below,
+        // and writes that have not adjusted yet wait and apply their delta on top of the overwrite
+        Map<String, TtrStatusCounter> counters = new HashMap<>();
+        for (TtrStatusCounter counter : counterRepository.findAllForUpdate()) {
+            counters.put(key(counter.getDepartmentId(), counter.getStatus()), TtrStatusCounter.builder()
+                    .departmentId(counter.getDepartmentId())
+                    .departmentName(counter.getDepartmentName())
+                    .status(counter.getStatus())
+                    .build());
+        }
+
+        for (Department department : departmentRepository.findAll()) {
+            for (TtrStatus status : TtrStatus.values()) {
+                counters.computeIfAbsent(key(department.getId(), status), k -> TtrStatusCounter.builder()
+                        .departmentId(department.getId())
+                        .departmentName(department.getDepartmentName())
+                        .status(status)
+                        .build());
+            }
+        }
+
+        for (Object[] row : ttrRepository.countActiveGroupedByDepartmentAndStatus()) {
+            Long departmentId = (Long) row[0];
+            TtrStatus status  = (TtrStatus) row[2];
+            TtrStatusCounter counter = counters.computeIfAbsent(key(departmentId, status),
+                    k -> TtrStatusCounter.builder()
+                            .departmentId(departmentId)
+                            .status(status)
+                            .build());
+            counter.setDepartmentName((String) row[1]);
+            counter.setTtrCount((Long) row[3]);
+        }
+
+        for (TtrStatusCounter counter : counters.values()) {
+            counterRepository.overwrite(counter.getDepartmentId(), counter.getDepartmentName(),
+                    counter.getStatus().name(), counter.getTtrCount());
+        }
+        return counters.size();
+    }
+
+    private static List<Object[]> toRows(List<TtrStatusCounter> counters) {
+        List<Object[]> rows = new ArrayList<>(counters.size());
+        for (TtrStatusCounter c : counters) {
+            rows.add(new Object[]{c.getDepartmentId(), c.getDepartmentName(), c.getStatus(), c.getTtrCount()});
+        }
+        return rows;
+    }
+
+    private static String key(Long departmentId, TtrStatus status) {
+        return departmentId + ":" + status;
+    }
+}
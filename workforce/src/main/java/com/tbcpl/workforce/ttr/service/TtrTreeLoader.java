@@ -0,0 +1,177 @@
+package com.tbcpl.workforce.ttr.service;
+
+import com.tbcpl.workforce.ttr.dto.response.TtrCompletionRecordResponse;
+import com.tbcpl.workforce.ttr.dto.response.TtrResponse;
+import com.tbcpl.workforce.ttr.dto.response.TtrStatusHistoryResponse;
+import com.tbcpl.workforce.ttr.entity.Ttr;
+import com.tbcpl.workforce.ttr.entity.TtrCompletionRecord;
+import com.tbcpl.workforce.ttr.entity.TtrStatusHistory;
+import com.tbcpl.workforce.ttr.entity.enums.TtrType;
+import com.tbcpl.workforce.ttr.repository.TtrCompletionRecordRepository;
+import com.tbcpl.workforce.ttr.repository.TtrRepository;
+import com.tbcpl.workforce.ttr.repository.TtrStatusHistoryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Builds TTR responses. The detail view loads the whole subtree with one recursive query,
+ * then histories and completion counts for every node in bulk, and nests them in memory —
+ * a fixed number of queries regardless of tree size.
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TtrTreeLoader {
+
+    private static final int COMPLETION_RECORDS_LIMIT = 20;
+
+    private final TtrRepository                 ttrRepository;
+    private final TtrStatusHistoryRepository    historyRepository;
+    private final TtrCompletionRecordRepository completionRecordRepository;
+
+    /**
+     * Detail view: the TTR with nested children, status history and (RECURRING) completion records
+     */
+    public TtrResponse load(Ttr root) {
+        List<Ttr> descendants = ttrRepository.findActiveDescendants(root.getId());
+
+        List<Long> nodeIds = new ArrayList<>(descendants.size() + 1);
+        nodeIds.add(root.getId());
+        List<Long> recurringIds = new ArrayList<>();
+        if (root.getTtrType() == TtrType.RECURRING) {
+            recurringIds.add(root.getId());
+        }
+
+        Map<Long, List<Ttr>> childrenByParent = new LinkedHashMap<>();
+        for (Ttr node : descendants) {
+            nodeIds.add(node.getId());
+            if (node.getTtrType() == TtrType.RECURRING) {
+                recurringIds.add(node.getId());
+            }
+            childrenByParent.computeIfAbsent(node.getParentTtr().getId(), id -> new ArrayList<>()).add(node);
+        }
+
+        Map<Long, List<TtrStatusHistoryResponse>> historyByTtr = historyRepository
+                .findByTtrIdInOrderByChangedAtAsc(nodeIds)
+                .stream()
+                .collect(Collectors.groupingBy(h -> h.getTtr().getId(),
+                        Collectors.mapping(this::mapHistory, Collectors.toList())));
+
+        Map<Long, Integer> completionCounts = new HashMap<>();
+        if (!recurringIds.isEmpty()) {
+            for (Object[] row : completionRecordRepository.countGroupedByTtrIds(recurringIds)) {
+                completionCounts.put((Long) row[0], ((Number) row[1]).intValue());
+            }
+        }
+
+        return assemble(root, childrenByParent, historyByTtr, completionCounts);
+    }
+
+    /**
+     * List view: the TTR alone, without children or history
+     */
+    public TtrResponse loadSummary(Ttr ttr) {
+        Integer completionCount = ttr.getTtrType() == TtrType.RECURRING
+                ? (int) completionRecordRepository.countByTtrId(ttr.getId())
+                : null;
+        return mapNode(ttr, completionCount).build();
+    }
+
+    public TtrCompletionRecordResponse mapCompletionRecord(TtrCompletionRecord r) {
+        return TtrCompletionRecordResponse.builder()
+                .id(r.getId())
+                .ttrId(r.getTtr().getId())
+                .ttrNumber(r.getTtr().getTtrNumber())
+                .cycleNumber(r.getCycleNumber())
+                .completedByEmpId(r.getCompletedByEmpId())
+                .completedByName(r.getCompletedByName())
+                .completedAt(r.getCompletedAt())
+                .proofFileUrl(r.getProofFileUrl())
+                .proofFileName(r.getProofFileName())
+                .notes(r.getNotes())
+                .build();
+    }
+
+    // ── Assembly ──
+
+    private TtrResponse assemble(Ttr ttr,
+                                 Map<Long, List<Ttr>> childrenByParent,
+                                 Map<Long, List<TtrStatusHistoryResponse>> historyByTtr,
+                                 Map<Long, Integer> completionCounts) {
+        boolean recurring = ttr.getTtrType() == TtrType.RECURRING;
+        TtrResponse.TtrResponseBuilder builder = mapNode(ttr,
+                recurring ? completionCounts.getOrDefault(ttr.getId(), 0) : null);
+
+        builder.children(childrenByParent.getOrDefault(ttr.getId(), List.of()).stream()
+                .map(child -> assemble(child, childrenByParent, historyByTtr, completionCounts))
+                .collect(Collectors.toList()));
+
+        builder.statusHistory(historyByTtr.getOrDefault(ttr.getId(), new ArrayList<>()));
+
+        // RECURRING TTRs cannot have children, so at most the root takes this branch
+        if (recurring) {
+            Pageable top = PageRequest.of(0, COMPLETION_RECORDS_LIMIT, Sort.by("completedAt").descending());
+            builder.completionRecords(completionRecordRepository
+                    .findByTtrIdOrderByCompletedAtDesc(ttr.getId(), top)
+                    .stream()
+                    .map(this::mapCompletionRecord)
+                    .collect(Collectors.toList()));
+        }
+
+        return builder.build();
+    }
+
+    private TtrResponse.TtrResponseBuilder mapNode(Ttr ttr, Integer completionCount) {
+        TtrResponse.TtrResponseBuilder builder = TtrResponse.builder()
+                .id(ttr.getId())
+                .ttrNumber(ttr.getTtrNumber())
+                .ttrType(ttr.getTtrType())
+                .ttrTypeDisplayName(ttr.getTtrType().getDisplayName())
+                .departmentId(ttr.getDepartmentId())
+                .departmentName(ttr.getDepartmentName())
+                .assignedEmpId(ttr.getAssignedEmpId())
+                .assignedEmpName(ttr.getAssignedEmpName())
+                .moduleType(ttr.getModuleType())
+                .moduleDisplayName(ttr.getModuleType() != null ? ttr.getModuleType().getDisplayName() : null)
+                .linkedItemId(ttr.getLinkedItemId())
+                .linkedItemDisplay(ttr.getLinkedItemDisplay())
+                .notes(ttr.getNotes())
+                .status(ttr.getStatus())
+                .statusDisplayName(ttr.getStatus().name())
+                .nestingDepth(ttr.getNestingDepth())
+                .totalCompletionCount(completionCount)
+                .createdBy(ttr.getCreatedBy())
+                .createdAt(ttr.getCreatedAt())
+                .updatedAt(ttr.getUpdatedAt());
+
+        if (ttr.getParentTtr() != null) {
+            builder.parentTtrNumber(ttr.getParentTtr().getTtrNumber());
+        }
+        return builder;
+    }
+
+    private TtrStatusHistoryResponse mapHistory(TtrStatusHistory h) {
+        return TtrStatusHistoryResponse.builder()
+                .id(h.getId())
+                .oldStatus(h.getOldStatus())
+                .newStatus(h.getNewStatus())
+                .changedBy(h.getChangedBy())
+                .changedByName(h.getChangedByName())
+                .comments(h.getComments())
+                .proofFileUrl(h.getProofFileUrl())
+                .proofFileName(h.getProofFileName())
+                .changedAt(h.getChangedAt())
+                .build();
+    }
+}
@@ -2,8 +2,10 @@ package com.tbcpl.workforce.ttr.service.impl;
 
 import com.tbcpl.workforce.auth.entity.Employee;
 import com.tbcpl.workforce.auth.repository.EmployeeRepository;
+import com.tbcpl.workforce.common.enums.DepartmentType;
 import com.tbcpl.workforce.common.exception.ResourceNotFoundException;
 import com.tbcpl.workforce.common.exception.UnauthorizedAccessException;
+import com.tbcpl.workforce.common.util.DocumentNumberAllocator;
 import com.tbcpl.workforce.common.util.S3Service;
 import com.tbcpl.workforce.operation.cases.repository.CaseRepository;
 import com.tbcpl.workforce.operation.finalreport.repository.FinalReportRepository;
@@ -14,7 +16,6 @@ import com.tbcpl.workforce.ttr.dto.request.TtrStatusUpdateRequest;
 import com.tbcpl.workforce.ttr.dto.response.TtrCompletionRecordResponse;
 import com.tbcpl.workforce.ttr.dto.response.TtrDashboardResponse;
 import com.tbcpl.workforce.ttr.dto.response.TtrResponse;
-import com.tbcpl.workforce.ttr.dto.response.TtrStatusHistoryResponse;
 import com.tbcpl.workforce.ttr.entity.Ttr;
 import com.tbcpl.workforce.ttr.entity.TtrCompletionRecord;
 import com.tbcpl.workforce.ttr.entity.TtrStatusHistory;
@@ -24,7 +25,9 @@ import com.tbcpl.workforce.ttr.entity.enums.TtrType;
 import com.tbcpl.workforce.ttr.repository.TtrCompletionRecordRepository;
 import com.tbcpl.workforce.ttr.repository.TtrRepository;
 import com.tbcpl.workforce.ttr.repository.TtrStatusHistoryRepository;
+import com.tbcpl.workforce.ttr.service.TtrDashboardCounters;
 import com.tbcpl.workforce.ttr.service.TtrService;
+import com.tbcpl.workforce.ttr.service.TtrTreeLoader;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -37,15 +40,21 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class TtrServiceImpl implements TtrService {
 
+    private static final List<DepartmentType> DASHBOARD_DEPARTMENTS = List.of(
+            DepartmentType.ADMIN, DepartmentType.OPERATION, DepartmentType.ACCOUNTS, DepartmentType.HR);
+
     private final TtrRepository                 ttrRepository;
     private final TtrStatusHistoryRepository    historyRepository;
     private final TtrCompletionRecordRepository completionRecordRepository;
@@ -54,6 +63,9 @@ public class TtrServiceImpl implements TtrService {
     private final CaseRepository                caseRepository;
     private final FinalReportRepository         finalReportRepository;
     private final S3Service                     s3Service;
+    private final TtrDashboardCounters          dashboardCounters;
+    private final TtrTreeLoader                 treeLoader;
+    private final DocumentNumberAllocator       documentNumberAllocator;
 
     // ─────────────────────────────────────────────────────────────────────────
     // CREATE — Parent TTR
@@ -85,6 +97,7 @@ public class TtrServiceImpl implements TtrService {
                 .build();
 
         Ttr saved = ttrRepository.save(ttr);
+        dashboardCounters.recordCreated(saved);
         recordHistory(saved, null, TtrStatus.S1_OPENED, createdByEmpId,
                 assignedEmployee.getFullName(), "TTR Created", null, null);
 
@@ -140,6 +153,7 @@ public class TtrServiceImpl implements TtrService {
                 .build();
 
         Ttr saved = ttrRepository.save(child);
+        dashboardCounters.recordCreated(saved);
         recordHistory(saved, null, TtrStatus.S1_OPENED, createdByEmpId,
                 assignedEmployee.getFullName(), "Child TTR Created", null, null);
 
@@ -236,6 +250,7 @@ public class TtrServiceImpl implements TtrService {
 
             ttr.setStatus(TtrStatus.S1_OPENED);
             Ttr saved = ttrRepository.save(ttr);
+            dashboardCounters.recordTransition(saved, currentStatus, TtrStatus.S1_OPENED);
 
             recordHistory(saved, TtrStatus.S3_COMPLETED, TtrStatus.S1_OPENED,
                     "SYSTEM", "System Auto-Reset",
@@ -250,6 +265,7 @@ public class TtrServiceImpl implements TtrService {
         // ── CUSTOM or non-completion transitions ─────────────────────────────
         ttr.setStatus(newStatus);
         Ttr saved = ttrRepository.save(ttr);
+        dashboardCounters.recordTransition(saved, currentStatus, newStatus);
 
         recordHistory(saved, currentStatus, newStatus,
                 actorEmpId, actor.getFullName(),
@@ -274,7 +290,7 @@ public class TtrServiceImpl implements TtrService {
         }
         return completionRecordRepository
                 .findByTtrIdOrderByCompletedAtDesc(ttrId, pageable)
-                .map(this::mapCompletionRecord);
+                .map(treeLoader::mapCompletionRecord);
     }
 
     // ─────────────────────────────────────────────────────────────────────────
@@ -331,30 +347,45 @@ public class TtrServiceImpl implements TtrService {
     @Override
     @Transactional(readOnly = true)
     public List<TtrDashboardResponse> getDashboardMetrics() {
-        return List.of(
-                buildDepartmentMetrics("Admin"),
-                buildDepartmentMetrics("Operation"),
-                buildDepartmentMetrics("Accounts"),
-                buildDepartmentMetrics("HR")
-        );
+        List<Object[]> rows = dashboardCounters.isEnabled()
+                ? dashboardCounters.groupedCounts()
+                : ttrRepository.countActiveGroupedByDepartmentAndStatus();
+
+        // Department rows are named after DepartmentType ("OPERATION", "PH_OPS") or free text ("Admin"),
+        // so standard departments are matched on the type rather than on the exact name
+        Map<DepartmentType, TtrDashboardResponse> standard = new EnumMap<>(DepartmentType.class);
+        List<TtrDashboardResponse> others = new ArrayList<>();
+        for (TtrDashboardResponse tile : buildDepartmentTiles(rows).values()) {
+            DepartmentType type = dashboardType(tile.getDepartmentName());
+            if (type == null) {
+                others.add(tile);
+            } else {
+                standard.merge(type, tile, this::addCounts);
+            }
+        }
+
+        // Standard departments always show, in fixed order; any others follow by name
+        List<TtrDashboardResponse> tiles = new ArrayList<>();
+        for (DepartmentType type : DASHBOARD_DEPARTMENTS) {
+            TtrDashboardResponse tile = standard.getOrDefault(type, emptyTile(null));
+            tile.setDepartmentName(type.getDisplayName());
+            tiles.add(tile);
+        }
+        others.stream()
+                .sorted(Comparator.comparing(TtrDashboardResponse::getDepartmentName,
+                        Comparator.nullsLast(String::compareToIgnoreCase)))
+                .forEach(tiles::add);
+        return tiles;
     }
 
     @Override
     @Transactional(readOnly = true)
     public TtrDashboardResponse getDepartmentMetrics(Long departmentId) {
-        return TtrDashboardResponse.builder()
-                .total(ttrRepository.countByDepartmentIdAndIsActiveTrue(departmentId))
-                .opened(ttrRepository.countByDepartmentIdAndStatusAndIsActiveTrue(
-                        departmentId, TtrStatus.S1_OPENED))
-                .inProgress(ttrRepository.countByDepartmentIdAndStatusAndIsActiveTrue(
-                        departmentId, TtrStatus.S2_IN_PROGRESS))
-                .completed(ttrRepository.countByDepartmentIdAndStatusAndIsActiveTrue(
-                        departmentId, TtrStatus.S3_COMPLETED))
-                .changesRequested(ttrRepository.countByDepartmentIdAndStatusAndIsActiveTrue(
-                        departmentId, TtrStatus.S4_CHANGES_REQUESTED))
-                .closed(ttrRepository.countByDepartmentIdAndStatusAndIsActiveTrue(
-                        departmentId, TtrStatus.S5_CLOSED))
-                .build();
+        List<Object[]> rows = dashboardCounters.isEnabled()
+                ? dashboardCounters.groupedCounts(departmentId)
+                : ttrRepository.countActiveByStatusForDepartment(departmentId);
+        TtrDashboardResponse tile = buildDepartmentTiles(rows).get(departmentId);
+        return tile != null ? tile : emptyTile(null);
     }
 
     // ─────────────────────────────────────────────────────────────────────────
@@ -372,8 +403,10 @@ public class TtrServiceImpl implements TtrService {
     }
 
     private String generateTtrNumber() {
-        Integer max = ttrRepository.findMaxTtrSequence();
-        int next = (max == null ? 0 : max) + 1;
+        long next = documentNumberAllocator.next("TTR", () -> {
+            Integer max = ttrRepository.findMaxTtrSequence();
+            return max == null ? 0 : max;
+        });
         return String.format("TTR%04d", next);
     }
 
@@ -447,9 +480,64 @@ public class TtrServiceImpl implements TtrService {
         historyRepository.save(history);
     }
 
-    private TtrDashboardResponse buildDepartmentMetrics(String departmentName) {
+    /**
+     * Fold [departmentId, departmentName, status, count] rows into one tile per department
+     */
+    private Map<Long, TtrDashboardResponse> buildDepartmentTiles(List<Object[]> rows) {
+        Map<Long, TtrDashboardResponse> tiles = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            TtrDashboardResponse tile = tiles.computeIfAbsent((Long) row[0], id -> emptyTile(null));
+            if (tile.getDepartmentName() == null) {
+                tile.setDepartmentName((String) row[1]);
+            }
+            long count = ((Number) row[3]).longValue();
+            tile.setTotal(tile.getTotal() + count);
+            switch ((TtrStatus) row[2]) {
+                case S1_OPENED            -> tile.setOpened(tile.getOpened() + count);
+                case S2_IN_PROGRESS       -> tile.setInProgress(tile.getInProgress() + count);
+                case S3_COMPLETED         -> tile.setCompleted(tile.getCompleted() + count);
+                case S4_CHANGES_REQUESTED -> tile.setChangesRequested(tile.getChangesRequested() + count);
+                case S5_CLOSED            -> tile.setClosed(tile.getClosed() + count);
+            }
+        }
+        return tiles;
+    }
+
+    /**
+     * Dashboard department for a department name (type name or display name, any case), or null
+     */
+    private DepartmentType dashboardType(String departmentName) {
+        if (departmentName == null) {
+            return null;
+        }
+        String name = departmentName.trim();
+        for (DepartmentType type : DASHBOARD_DEPARTMENTS) {
+            if (type.name().equalsIgnoreCase(name) || type.getDisplayName().equalsIgnoreCase(name)) {
+                return type;
+            }
+        }
+        return null;
+    }
+
+    private TtrDashboardResponse addCounts(TtrDashboardResponse into, TtrDashboardResponse from) {
+        into.setTotal(into.getTotal() + from.getTotal());
+        into.setOpened(into.getOpened() + from.getOpened());
+        into.setInProgress(into.getInProgress() + from.getInProgress());
+        into.setCompleted(into.getCompleted() + from.getCompleted());
+        into.setChangesRequested(into.getChangesRequested() + from.getChangesRequested());
+        into.setClosed(into.getClosed() + from.getClosed());
+        return into;
+    }
+
+    private TtrDashboardResponse emptyTile(String departmentName) {
         return TtrDashboardResponse.builder()
                 .departmentName(departmentName)
+                .total(0L)
+                .opened(0L)
+                .inProgress(0L)
+                .completed(0L)
+                .changesRequested(0L)
+                .closed(0L)
                 .build();
     }
 
@@ -458,84 +546,6 @@ public class TtrServiceImpl implements TtrService {
     // ─────────────────────────────────────────────────────────────────────────
 
     public TtrResponse mapToResponse(Ttr ttr, boolean includeChildren) {
-        TtrResponse.TtrResponseBuilder builder = TtrResponse.builder()
-                .id(ttr.getId())
-                .ttrNumber(ttr.getTtrNumber())
-                .ttrType(ttr.getTtrType())
-                .ttrTypeDisplayName(ttr.getTtrType().getDisplayName())
-                .departmentId(ttr.getDepartmentId())
-                .departmentName(ttr.getDepartmentName())
-                .assignedEmpId(ttr.getAssignedEmpId())
-                .assignedEmpName(ttr.getAssignedEmpName())
-                .moduleType(ttr.getModuleType())
-                .moduleDisplayName(ttr.getModuleType() != null ? ttr.getModuleType().getDisplayName() : null)
-                .linkedItemId(ttr.getLinkedItemId())
-                .linkedItemDisplay(ttr.getLinkedItemDisplay())
-                .notes(ttr.getNotes())
-                .status(ttr.getStatus())
-                .statusDisplayName(ttr.getStatus().name())
-                .nestingDepth(ttr.getNestingDepth())
-                .createdBy(ttr.getCreatedBy())
-                .createdAt(ttr.getCreatedAt())
-                .updatedAt(ttr.getUpdatedAt());
-
-        if (ttr.getParentTtr() != null) {
-            builder.parentTtrNumber(ttr.getParentTtr().getTtrNumber());
-        }
-
-        if (ttr.getTtrType() == TtrType.RECURRING) {
-            builder.totalCompletionCount(
-                    (int) completionRecordRepository.countByTtrId(ttr.getId()));
-        }
-
-        if (includeChildren) {
-            List<Ttr> children = ttrRepository.findChildrenByParentId(ttr.getId());
-            builder.children(children.stream()
-                    .map(c -> mapToResponse(c, true))
-                    .collect(Collectors.toList()));
-
-            builder.statusHistory(historyRepository
-                    .findByTtrIdOrderByChangedAtAsc(ttr.getId())
-                    .stream()
-                    .map(h -> TtrStatusHistoryResponse.builder()
-                            .id(h.getId())
-                            .oldStatus(h.getOldStatus())
-                            .newStatus(h.getNewStatus())
-                            .changedBy(h.getChangedBy())
-                            .changedByName(h.getChangedByName())
-                            .comments(h.getComments())
-                            .proofFileUrl(h.getProofFileUrl())
-                            .proofFileName(h.getProofFileName())
-                            .changedAt(h.getChangedAt())
-                            .build())
-                    .collect(Collectors.toList()));
-
-            if (ttr.getTtrType() == TtrType.RECURRING) {
-                Pageable top20 = PageRequest.of(0, 20, Sort.by("completedAt").descending());
-                builder.completionRecords(
-                        completionRecordRepository
-                                .findByTtrIdOrderByCompletedAtDesc(ttr.getId(), top20)
-                                .stream()
-                                .map(this::mapCompletionRecord)
-                                .collect(Collectors.toList()));
-            }
-        }
-
-        return builder.build();
-    }
-
-    private TtrCompletionRecordResponse mapCompletionRecord(TtrCompletionRecord r) {
-        return TtrCompletionRecordResponse.builder()
-                .id(r.getId())
-                .ttrId(r.getTtr().getId())
-                .ttrNumber(r.getTtr().getTtrNumber())
-                .cycleNumber(r.getCycleNumber())
-                .completedByEmpId(r.getCompletedByEmpId())
-                .completedByName(r.getCompletedByName())
-                .completedAt(r.getCompletedAt())
-                .proofFileUrl(r.getProofFileUrl())
-                .proofFileName(r.getProofFileName())
-                .notes(r.getNotes())
-                .build();
+        return includeChildren ? treeLoader.load(ttr) : treeLoader.loadSummary(ttr);
     }
 }
\ No newline at end of file
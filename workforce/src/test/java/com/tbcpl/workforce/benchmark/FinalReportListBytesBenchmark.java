@@ -0,0 +1,139 @@
+package com.tbcpl.workforce.benchmark;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Bytes sent by MySQL for one final report list page: the old full-entity select against the
+ * list projection. Rows are seeded into a session TEMPORARY table, so nothing is left behind.
+ * <p>
+ * Opt-in, needs a MySQL server:
+ * {@code mvn test -Dtest=FinalReportListBytesBenchmark -Dbench.jdbc.url=jdbc:mysql://localhost:3306/workforce
+ * -Dbench.jdbc.user=... -Dbench.jdbc.password=...}
+ */
+@EnabledIfSystemProperty(named = "bench.jdbc.url", matches = ".+")
+class FinalReportListBytesBenchmark {
+
+    private static final int ROWS = 200;
+    private static final int PAGE_SIZE = 20;
+    private static final int SECTIONS_JSON_CHARS = 64 * 1024;
+    private static final int TEXT_COLUMN_CHARS = 4 * 1024;
+
+    private static final String TABLE = "bench_operation_final_report";
+
+    // Column list of the FinalReport entity, as Hibernate selected it for the old list queries
+    private static final String FULL_ENTITY_PAGE =
+            "SELECT id, report_number, case_id, case_number, client_id, client_name, client_logo_url, " +
+            "report_title, report_subtitle, prepared_for, prepared_by, report_date, sections_json, " +
+            "table_of_contents_json, photographic_evidence_json, report_status, change_comments, " +
+            "is_deleted, created_by, updated_by, created_at, updated_at FROM " + TABLE +
+            " WHERE is_deleted = false ORDER BY created_at DESC LIMIT " + PAGE_SIZE;
+
+    // Columns of FinalReportRepository.LIST_ITEM_SELECT
+    private static final String PROJECTION_PAGE =
+            "SELECT id, report_number, case_id, case_number, client_name, client_logo_url, report_title, " +
+            "report_date, report_status, created_by, updated_by, created_at, updated_at FROM " + TABLE +
+            " WHERE is_deleted = false ORDER BY created_at DESC LIMIT " + PAGE_SIZE;
+
+    private static Connection connection;
+
+    @BeforeAll
+    static void seed() throws SQLException {
+        connection = DriverManager.getConnection(
+                System.getProperty("bench.jdbc.url"),
+                System.getProperty("bench.jdbc.user", "root"),
+                System.getProperty("bench.jdbc.password", ""));
+
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("CREATE TEMPORARY TABLE " + TABLE + " (" +
+                    "id BIGINT AUTO_INCREMENT PRIMARY KEY, report_number VARCHAR(50) NOT NULL, " +
+                    "case_id BIGINT, case_number VARCHAR(50), client_id BIGINT, client_name VARCHAR(255), " +
+                    "client_logo_url VARCHAR(1000), report_title VARCHAR(500) NOT NULL, " +
+                    "report_subtitle VARCHAR(500), prepared_for VARCHAR(255) NOT NULL, " +
+                    "prepared_by VARCHAR(255) NOT NULL, report_date DATE NOT NULL, sections_json LONGTEXT, " +
+                    "table_of_contents_json TEXT, photographic_evidence_json TEXT, " +
+                    "report_status VARCHAR(30) NOT NULL, change_comments TEXT, is_deleted BOOLEAN NOT NULL, " +
+                    "created_by VARCHAR(100) NOT NULL, updated_by VARCHAR(100), created_at DATETIME(6), " +
+                    "updated_at DATETIME(6), KEY idx_created_at (created_at))");
+        }
+
+        String sections = "{\"sections\":\"" + "x".repeat(SECTIONS_JSON_CHARS) + "\"}";
+        String text = "y".repeat(TEXT_COLUMN_CHARS);
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO " + TABLE +
+                " (report_number, case_id, case_number, client_name, client_logo_url, report_title, " +
+                "prepared_for, prepared_by, report_date, sections_json, table_of_contents_json, " +
+                "photographic_evidence_json, report_status, change_comments, is_deleted, created_by, " +
+                "created_at, updated_at) VALUES (?, ?, ?, 'Client', 'https://cdn.example.com/logo.png', " +
+                "'Final Report', 'Client', 'TBCPL', CURRENT_DATE, ?, ?, ?, 'DRAFT', ?, false, 'EMP001', ?, ?)")) {
+            LocalDateTime now = LocalDateTime.now();
+            for (int i = 0; i < ROWS; i++) {
+                Timestamp at = Timestamp.valueOf(now.minusMinutes(i));
+                insert.setString(1, String.format("FR-BENCH-%04d", i));
+                insert.setLong(2, i);
+                insert.setString(3, String.format("CASE-%04d", i));
+                insert.setString(4, sections);
+                insert.setString(5, text);
+                insert.setString(6, text);
+                insert.setString(7, text);
+                insert.setTimestamp(8, at);
+                insert.setTimestamp(9, at);
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+    }
+
+    @AfterAll
+    static void close() throws SQLException {
+        if (connection != null) {
+            connection.close();
+        }
+    }
+
+    @Test
+    void projectionSendsFewerBytesPerPage() throws SQLException {
+        long statusOverhead = bytesSentBy(null);
+        long fullPage = bytesSentBy(FULL_ENTITY_PAGE) - statusOverhead;
+        long projectionPage = bytesSentBy(PROJECTION_PAGE) - statusOverhead;
+
+        System.out.printf("Final report list page of %d: full entity %,d bytes, projection %,d bytes (%.1fx)%n",
+                PAGE_SIZE, fullPage, projectionPage, (double) fullPage / projectionPage);
+        assertThat(projectionPage).isLessThan(fullPage);
+    }
+
+    /**
+     * Bytes_sent delta around the query, including one SHOW STATUS result; null measures that overhead alone
+     */
+    private long bytesSentBy(String sql) throws SQLException {
+        long before = bytesSent();
+        if (sql != null) {
+            try (Statement statement = connection.createStatement(); ResultSet rs = statement.executeQuery(sql)) {
+                while (rs.next()) {
+                    // drain the page
+                }
+            }
+        }
+        return bytesSent() - before;
+    }
+
+    private long bytesSent() throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SHOW SESSION STATUS LIKE 'Bytes_sent'")) {
+            rs.next();
+            return rs.getLong(2);
+        }
+    }
+}
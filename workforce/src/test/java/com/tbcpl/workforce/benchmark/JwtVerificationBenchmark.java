@@ -0,0 +1,102 @@
+package com.tbcpl.workforce.benchmark;
+
+import com.tbcpl.workforce.auth.security.JwtClaims;
+import com.tbcpl.workforce.auth.security.JwtUtil;
+import com.tbcpl.workforce.auth.security.VerifiedTokenCache;
+import com.tbcpl.workforce.common.constants.SecurityConstants;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of JWT handling in JwtAuthenticationFilter.
+ * <p>
+ * legacyFourParses reproduces the old filter: validateToken, extractUsername, extractEmpId and
+ * extractRole, each building a parser and verifying the HMAC again. cachedVerify is the current
+ * steady state (cache hit); coldVerify is the first request for a token.
+ * <p>
+ * Not part of the test run. Run with:
+ * {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.tbcpl.workforce.benchmark.JwtVerificationBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtVerificationBenchmark {
+
+    private SecretKey secretKey;
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        secretKey = Keys.hmacShaKeyFor(SecurityConstants.JWT_SECRET.getBytes(StandardCharsets.UTF_8));
+        jwtUtil = new JwtUtil(new VerifiedTokenCache());
+
+        Date now = new Date();
+        token = Jwts.builder()
+                .claims(Map.of(
+                        SecurityConstants.CLAIM_EMP_ID, "EMP001",
+                        SecurityConstants.CLAIM_EMAIL, "bench@tbcpl.local",
+                        SecurityConstants.CLAIM_DEPARTMENT, "OPERATION",
+                        SecurityConstants.CLAIM_ROLE, "EXECUTIVE",
+                        SecurityConstants.CLAIM_FULL_NAME, "Bench User"))
+                .subject("bench@tbcpl.local")
+                .issuedAt(now)
+                .expiration(new Date(now.getTime() + SecurityConstants.JWT_EXPIRATION_MS))
+                .signWith(secretKey)
+                .compact();
+        jwtUtil.verify(token);
+    }
+
+    // ── Old filter: four independent parses ──────────────────────────────────
+
+    @Benchmark
+    public void legacyFourParses(Blackhole bh) {
+        bh.consume(parse(token).getExpiration().after(new Date()));
+        bh.consume(parse(token).getSubject());
+        bh.consume(parse(token).get(SecurityConstants.CLAIM_EMP_ID, String.class));
+        bh.consume(parse(token).get(SecurityConstants.CLAIM_ROLE, String.class));
+    }
+
+    // ── Current filter ───────────────────────────────────────────────────────
+
+    @Benchmark
+    public JwtClaims cachedVerify() {
+        return jwtUtil.verify(token);
+    }
+
+    @Benchmark
+    public JwtClaims coldVerify() {
+        jwtUtil.evictToken(token);
+        return jwtUtil.verify(token);
+    }
+
+    private Claims parse(String jwt) {
+        return Jwts.parser()
+                .verifyWith(secretKey)
+                .build()
+                .parseSignedClaims(jwt)
+                .getPayload();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtVerificationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,127 @@
+package com.tbcpl.workforce.benchmark;
+
+import com.tbcpl.workforce.operation.profile.entity.OpProfile;
+import com.tbcpl.workforce.operation.profile.entity.OpProfileStepStatus;
+import com.tbcpl.workforce.operation.profile.enums.StepStatus;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Rows/sec for pooled-id child rows written one statement at a time (what IDENTITY ids forced)
+ * against JDBC batches of PooledIds.ALLOCATION_SIZE, for inserts and for bulk dirty-checked updates
+ * (the payroll submission pattern). Runs in the test transaction, which is rolled back.
+ * <p>
+ * Opt-in, needs a scratch MySQL schema (tables are created or updated by Hibernate):
+ * {@code mvn test -Dtest=PooledIdBatchingBenchmark -Dbench.jdbc.url=jdbc:mysql://localhost:3306/workforce_bench
+ * -Dbench.jdbc.user=... -Dbench.jdbc.password=...}
+ */
+@EnabledIfSystemProperty(named = "bench.jdbc.url", matches = ".+")
+@DataJpaTest(properties = {
+        "spring.datasource.url=${bench.jdbc.url}",
+        "spring.datasource.username=${bench.jdbc.user:root}",
+        "spring.datasource.password=${bench.jdbc.password:}",
+        "spring.datasource.hikari.data-source-properties.rewriteBatchedStatements=true",
+        "spring.jpa.hibernate.ddl-auto=update",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+        "spring.jpa.properties.hibernate.order_inserts=true",
+        "spring.jpa.properties.hibernate.order_updates=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class PooledIdBatchingBenchmark {
+
+    private static final int ROWS = 5_000;
+    private static final int FLUSH_EVERY = 500;
+    private static final int BATCH_SIZE = 50;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void batchedWritesBeatSingleRowWrites() {
+        OpProfile profile = entityManager.persistAndFlush(OpProfile.builder()
+                .profileNumber("BENCH-" + System.nanoTime() % 1_000_000_000L)
+                .name("Batching benchmark")
+                .createdBy("BENCH")
+                .build());
+
+        // Warm up the id pool, statement cache and JIT on a throwaway run
+        insertSteps(profile, BATCH_SIZE);
+
+        double singleInsert = insertRowsPerSecond(profile, 1);
+        double batchedInsert = insertRowsPerSecond(profile, BATCH_SIZE);
+        double singleUpdate = updateRowsPerSecond(insertSteps(profile, BATCH_SIZE), 1);
+        double batchedUpdate = updateRowsPerSecond(insertSteps(profile, BATCH_SIZE), BATCH_SIZE);
+
+        System.out.printf("op_profile_step_status inserts: %,.0f rows/s single, %,.0f rows/s batched (%.1fx)%n",
+                singleInsert, batchedInsert, batchedInsert / singleInsert);
+        System.out.printf("op_profile_step_status updates: %,.0f rows/s single, %,.0f rows/s batched (%.1fx)%n",
+                singleUpdate, batchedUpdate, batchedUpdate / singleUpdate);
+        assertThat(batchedInsert).isGreaterThan(singleInsert);
+        assertThat(batchedUpdate).isGreaterThan(singleUpdate);
+    }
+
+    private double insertRowsPerSecond(OpProfile profile, int jdbcBatchSize) {
+        session().setJdbcBatchSize(jdbcBatchSize);
+        long start = System.nanoTime();
+        insertSteps(profile, jdbcBatchSize);
+        return ROWS / seconds(start);
+    }
+
+    private double updateRowsPerSecond(List<Long> ids, int jdbcBatchSize) {
+        session().setJdbcBatchSize(jdbcBatchSize);
+        EntityManager em = entityManager.getEntityManager();
+        long start = System.nanoTime();
+        for (int i = 0; i < ids.size(); i += FLUSH_EVERY) {
+            for (Long id : ids.subList(i, Math.min(i + FLUSH_EVERY, ids.size()))) {
+                em.find(OpProfileStepStatus.class, id).setStatus(StepStatus.COMPLETED);
+            }
+            em.flush();
+            em.clear();
+        }
+        return ids.size() / seconds(start);
+    }
+
+    private List<Long> insertSteps(OpProfile profile, int jdbcBatchSize) {
+        session().setJdbcBatchSize(jdbcBatchSize);
+        EntityManager em = entityManager.getEntityManager();
+        OpProfile ref = em.getReference(OpProfile.class, profile.getId());
+        List<OpProfileStepStatus> pending = new ArrayList<>(FLUSH_EVERY);
+        List<Long> ids = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            OpProfileStepStatus step = OpProfileStepStatus.builder()
+                    .profile(ref)
+                    .stepNumber(i % 17 + 1)
+                    .stepName("Step " + (i % 17 + 1))
+                    .build();
+            em.persist(step);
+            pending.add(step);
+            if (pending.size() == FLUSH_EVERY || i == ROWS - 1) {
+                em.flush();
+                pending.forEach(s -> ids.add(s.getId()));
+                pending.clear();
+                em.clear();
+                ref = em.getReference(OpProfile.class, profile.getId());
+            }
+        }
+        return ids;
+    }
+
+    private Session session() {
+        return entityManager.getEntityManager().unwrap(Session.class);
+    }
+
+    private static double seconds(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000_000.0;
+    }
+}
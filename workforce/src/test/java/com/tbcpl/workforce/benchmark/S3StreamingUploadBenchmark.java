@@ -0,0 +1,418 @@
+package com.tbcpl.workforce.benchmark;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.tbcpl.workforce.common.util.S3Service;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Heap held by S3Service.uploadFile under load: 50 concurrent 20MB uploads against an in-process
+ * fake S3. The first attempt of every upload's second part is answered with 503 SlowDown, so the
+ * SDK retry has to replay that part from the file. Buffered uploads would hold about 1GB live.
+ * <p>
+ * Opt-in, needs no external services:
+ * {@code mvn test -Dtest=S3StreamingUploadBenchmark -Dbench.s3=true}
+ */
+@EnabledIfSystemProperty(named = "bench.s3", matches = "true")
+class S3StreamingUploadBenchmark {
+
+    private static final int MB = 1024 * 1024;
+    private static final int FILE_SIZE = 20 * MB;
+    private static final int PART_SIZE = 8 * MB;
+    private static final int UPLOADS = 50;
+    private static final int RETRIED_PART = 2;
+    private static final long MAX_HEAP_GROWTH = 128L * MB;
+    private static final long SAMPLE_INTERVAL_MS = 200;
+
+    private static final String BUCKET = "bench-bucket";
+
+    private static Path source;
+    private static List<String> expectedPartMd5s;
+    private static FakeS3 fakeS3;
+    private static S3Client s3Client;
+    private static S3Service s3Service;
+
+    @BeforeAll
+    static void setUp() throws IOException {
+        source = Files.createTempFile("s3-bench-", ".pdf");
+        byte[] block = new byte[MB];
+        Random random = new Random(42);
+        try (OutputStream out = Files.newOutputStream(source)) {
+            for (int i = 0; i < FILE_SIZE / MB; i++) {
+                random.nextBytes(block);
+                if (i == 0) {
+                    System.arraycopy("%PDF-1.7".getBytes(StandardCharsets.US_ASCII), 0, block, 0, 8);
+                }
+                out.write(block);
+            }
+        }
+        expectedPartMd5s = partMd5s(source);
+
+        fakeS3 = new FakeS3();
+        s3Client = S3Client.builder()
+                .endpointOverride(URI.create("http://localhost:" + fakeS3.port()))
+                .region(Region.AP_SOUTH_1)
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("bench", "bench")))
+                .serviceConfiguration(S3Configuration.builder()
+                        .pathStyleAccessEnabled(true)
+                        .chunkedEncodingEnabled(false)
+                        .build())
+                .build();
+        s3Service = new S3Service(s3Client, mock(S3Presigner.class));
+        ReflectionTestUtils.setField(s3Service, "bucketName", BUCKET);
+        ReflectionTestUtils.setField(s3Service, "region", "ap-south-1");
+        ReflectionTestUtils.setField(s3Service, "cloudFrontDomain", "cdn.example.com");
+    }
+
+    @AfterAll
+    static void tearDown() throws IOException {
+        if (s3Client != null) {
+            s3Client.close();
+        }
+        if (fakeS3 != null) {
+            fakeS3.stop();
+        }
+        if (source != null) {
+            Files.deleteIfExists(source);
+        }
+    }
+
+    @Test
+    void concurrentUploadsStayStreamedAndReplayRetriedParts() throws Exception {
+        long baseline = usedHeapAfterGc();
+        AtomicLong peak = new AtomicLong(baseline);
+        AtomicBoolean sampling = new AtomicBoolean(true);
+        Thread sampler = new Thread(() -> {
+            while (sampling.get()) {
+                peak.accumulateAndGet(usedHeapAfterGc(), Math::max);
+                sleepQuietly(SAMPLE_INTERVAL_MS);
+            }
+        }, "heap-sampler");
+
+        ExecutorService uploaders = Executors.newFixedThreadPool(UPLOADS);
+        CountDownLatch startGate = new CountDownLatch(1);
+        List<Future<Map<String, String>>> results = new ArrayList<>();
+        long startedAt = System.nanoTime();
+        try {
+            for (int i = 0; i < UPLOADS; i++) {
+                results.add(uploaders.submit(() -> {
+                    startGate.await();
+                    return s3Service.uploadFile(new PathMultipartFile(source), "reports");
+                }));
+            }
+            sampler.start();
+            startGate.countDown();
+
+            Set<String> keys = ConcurrentHashMap.newKeySet();
+            for (Future<Map<String, String>> result : results) {
+                keys.add(result.get(5, TimeUnit.MINUTES).get("key"));
+            }
+            assertThat(keys).hasSize(UPLOADS);
+        } finally {
+            sampling.set(false);
+            sampler.join();
+            uploaders.shutdownNow();
+        }
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        long growth = peak.get() - baseline;
+
+        System.out.printf("%d concurrent %dMB uploads in %,d ms: heap baseline %,d KB, peak live growth %,d KB%n",
+                UPLOADS, FILE_SIZE / MB, elapsedMs, baseline / 1024, growth / 1024);
+
+        assertThat(fakeS3.completed).hasSize(UPLOADS);
+        for (FakeS3.Upload upload : fakeS3.uploads.values()) {
+            assertThat(upload.parts).hasSize(expectedPartMd5s.size());
+            upload.parts.forEach((partNumber, part) -> {
+                assertThat(part.attempts.get()).as("attempts of part %d", partNumber)
+                        .isEqualTo(partNumber == RETRIED_PART ? 2 : 1);
+                assertThat(part.md5).as("md5 of part %d", partNumber)
+                        .isEqualTo(expectedPartMd5s.get(partNumber - 1));
+            });
+        }
+        assertThat(growth).isLessThan(MAX_HEAP_GROWTH);
+    }
+
+    private static List<String> partMd5s(Path file) throws IOException {
+        List<String> md5s = new ArrayList<>();
+        try (InputStream in = Files.newInputStream(file)) {
+            for (long offset = 0; offset < FILE_SIZE; offset += PART_SIZE) {
+                byte[] part = in.readNBytes((int) Math.min(PART_SIZE, FILE_SIZE - offset));
+                md5s.add(HexFormat.of().formatHex(md5().digest(part)));
+            }
+        }
+        return md5s;
+    }
+
+    private static long usedHeapAfterGc() {
+        System.gc();
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static MessageDigest md5() {
+        try {
+            return MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * A file part backed by a file on disk, as Tomcat hands over large uploads; getBytes() is refused
+     */
+    private record PathMultipartFile(Path path) implements MultipartFile {
+
+        @Override
+        public String getName() {
+            return "file";
+        }
+
+        @Override
+        public String getOriginalFilename() {
+            return "evidence.pdf";
+        }
+
+        @Override
+        public String getContentType() {
+            return "application/pdf";
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return getSize() == 0;
+        }
+
+        @Override
+        public long getSize() {
+            try {
+                return Files.size(path);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public byte[] getBytes() {
+            throw new UnsupportedOperationException("getBytes() would buffer the whole upload");
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return Files.newInputStream(path);
+        }
+
+        @Override
+        public void transferTo(File dest) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * Path-style S3 endpoint covering PutObject and the multipart calls. Request bodies are hashed
+     * and discarded, never held, so the heap measured is the client's.
+     */
+    private static final class FakeS3 {
+
+        private static final String XMLNS = "http://s3.amazonaws.com/doc/2006-03-01/";
+
+        private final HttpServer server;
+        private final ExecutorService executor = Executors.newFixedThreadPool(UPLOADS + 8);
+        private final Map<String, Upload> uploads = new ConcurrentHashMap<>();
+        private final Set<String> completed = ConcurrentHashMap.newKeySet();
+
+        private FakeS3() throws IOException {
+            server = HttpServer.create(new InetSocketAddress("localhost", 0), UPLOADS * 2);
+            server.createContext("/", this::handle);
+            server.setExecutor(executor);
+            server.start();
+        }
+
+        private int port() {
+            return server.getAddress().getPort();
+        }
+
+        private void stop() {
+            server.stop(0);
+            executor.shutdownNow();
+        }
+
+        private void handle(HttpExchange exchange) throws IOException {
+            try (exchange) {
+                Map<String, String> query = query(exchange.getRequestURI().getRawQuery());
+                String key = exchange.getRequestURI().getPath().substring(BUCKET.length() + 2);
+                String method = exchange.getRequestMethod();
+
+                if ("POST".equals(method) && query.containsKey("uploads")) {
+                    drain(exchange);
+                    String uploadId = UUID.randomUUID().toString();
+                    uploads.put(uploadId, new Upload(key));
+                    sendXml(exchange, 200, "<InitiateMultipartUploadResult xmlns=\"" + XMLNS + "\"><Bucket>" + BUCKET
+                            + "</Bucket><Key>" + key + "</Key><UploadId>" + uploadId
+                            + "</UploadId></InitiateMultipartUploadResult>");
+                } else if ("PUT".equals(method) && query.containsKey("partNumber")) {
+                    uploadPart(exchange, query.get("uploadId"), Integer.parseInt(query.get("partNumber")));
+                } else if ("PUT".equals(method)) {
+                    String md5 = drain(exchange);
+                    completed.add(key);
+                    exchange.getResponseHeaders().add("ETag", "\"" + md5 + "\"");
+                    exchange.sendResponseHeaders(200, -1);
+                } else if ("POST".equals(method) && query.containsKey("uploadId")) {
+                    drain(exchange);
+                    completed.add(uploads.get(query.get("uploadId")).key);
+                    sendXml(exchange, 200, "<CompleteMultipartUploadResult xmlns=\"" + XMLNS + "\"><Bucket>" + BUCKET
+                            + "</Bucket><Key>" + key + "</Key><ETag>\"complete\"</ETag></CompleteMultipartUploadResult>");
+                } else if ("DELETE".equals(method)) {
+                    drain(exchange);
+                    uploads.remove(query.get("uploadId"));
+                    exchange.sendResponseHeaders(204, -1);
+                } else {
+                    drain(exchange);
+                    sendXml(exchange, 400, "<Error><Code>InvalidRequest</Code><Message>Unsupported " + method
+                            + "</Message></Error>");
+                }
+            }
+        }
+
+        // The first attempt of RETRIED_PART is read in full and then throttled, as S3 does under load
+        private void uploadPart(HttpExchange exchange, String uploadId, int partNumber) throws IOException {
+            String md5 = drain(exchange);
+            Part part = uploads.get(uploadId).parts.computeIfAbsent(partNumber, n -> new Part());
+            if (part.attempts.incrementAndGet() == 1 && partNumber == RETRIED_PART) {
+                sendXml(exchange, 503, "<Error><Code>SlowDown</Code><Message>Please reduce your request rate."
+                        + "</Message><RequestId>bench</RequestId></Error>");
+                return;
+            }
+            part.md5 = md5;
+            exchange.getResponseHeaders().add("ETag", "\"" + md5 + "\"");
+            exchange.sendResponseHeaders(200, -1);
+        }
+
+        /**
+         * Read the request body to the end and return its md5, decoding aws-chunked framing if the SDK used it
+         */
+        private static String drain(HttpExchange exchange) throws IOException {
+            MessageDigest md5 = md5();
+            String contentSha256 = exchange.getRequestHeaders().getFirst("x-amz-content-sha256");
+            try (InputStream in = exchange.getRequestBody()) {
+                if (contentSha256 != null && contentSha256.startsWith("STREAMING-")) {
+                    for (long chunk = chunkSize(in); chunk > 0; chunk = chunkSize(in)) {
+                        copy(in, md5, chunk);
+                        in.skipNBytes(2); // CRLF after the chunk data
+                    }
+                    in.transferTo(OutputStream.nullOutputStream()); // trailers
+                } else {
+                    copy(in, md5, Long.MAX_VALUE);
+                }
+            }
+            return HexFormat.of().formatHex(md5.digest());
+        }
+
+        private static long chunkSize(InputStream in) throws IOException {
+            ByteArrayOutputStream line = new ByteArrayOutputStream();
+            for (int b = in.read(); b != '\n'; b = in.read()) {
+                if (b < 0) {
+                    return 0;
+                }
+                line.write(b);
+            }
+            String header = line.toString(StandardCharsets.US_ASCII).trim();
+            int extension = header.indexOf(';');
+            return Long.parseLong(extension < 0 ? header : header.substring(0, extension), 16);
+        }
+
+        private static void copy(InputStream in, MessageDigest md5, long limit) throws IOException {
+            byte[] buffer = new byte[64 * 1024];
+            long remaining = limit;
+            int read;
+            while (remaining > 0 && (read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining))) > 0) {
+                md5.update(buffer, 0, read);
+                remaining -= read;
+            }
+        }
+
+        private static void sendXml(HttpExchange exchange, int status, String body) throws IOException {
+            byte[] bytes = ("<?xml version=\"1.0\" encoding=\"UTF-8\"?>" + body).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/xml");
+            exchange.sendResponseHeaders(status, bytes.length);
+            exchange.getResponseBody().write(bytes);
+        }
+
+        private static Map<String, String> query(String rawQuery) {
+            Map<String, String> params = new HashMap<>();
+            if (rawQuery == null) {
+                return params;
+            }
+            for (String pair : rawQuery.split("&")) {
+                int eq = pair.indexOf('=');
+                params.put(eq < 0 ? pair : pair.substring(0, eq), eq < 0 ? "" : pair.substring(eq + 1));
+            }
+            return params;
+        }
+
+        private static final class Upload {
+            private final String key;
+            private final Map<Integer, Part> parts = new ConcurrentHashMap<>();
+
+            private Upload(String key) {
+                this.key = key;
+            }
+        }
+
+        private static final class Part {
+            private final AtomicInteger attempts = new AtomicInteger();
+            private volatile String md5;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.tbcpl.workforce.common.email;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.GreenMailUtil;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.tbcpl.workforce.common.constants.MailConstants;
+import com.tbcpl.workforce.common.entity.MailOutboxMessage;
+import com.tbcpl.workforce.common.enums.MailStatus;
+import com.tbcpl.workforce.common.repository.MailOutboxRepository;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Outbox delivery against an in-process SMTP server
+ */
+class MailOutboxWorkerTest {
+
+    private static final long MESSAGE_ID = 42L;
+
+    @RegisterExtension
+    static final GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private final MailOutboxRepository outboxRepository = mock(MailOutboxRepository.class);
+    private MailOutboxWorker worker;
+
+    @AfterEach
+    void tearDown() {
+        if (worker != null) {
+            worker.shutdown();
+        }
+    }
+
+    @Test
+    void deliversClaimedMessageWithAttachmentAndMarksItSent() throws Exception {
+        worker = workerSendingTo(ServerSetupTest.SMTP.getPort());
+        stubDueMessage();
+
+        worker.dispatchDue();
+
+        assertThat(greenMail.waitForIncomingEmail(5_000, 1)).isTrue();
+        MimeMessage received = greenMail.getReceivedMessages()[0];
+        assertThat(received.getSubject()).isEqualTo("Final report");
+        assertThat(received.getAllRecipients()[0].toString()).isEqualTo("client@example.com");
+        assertThat(GreenMailUtil.getWholeMessage(received)).contains("report.pdf");
+
+        verify(outboxRepository, timeout(5_000)).markSent(eq(MESSAGE_ID), any(LocalDateTime.class));
+        verify(outboxRepository, never()).markAttemptFailed(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void failedSendIsRescheduledAsPending() {
+        // Nothing listens on this port, so the SMTP connect fails
+        worker = workerSendingTo(ServerSetupTest.SMTP.getPort() + 1);
+        stubDueMessage();
+
+        worker.dispatchDue();
+
+        ArgumentCaptor<LocalDateTime> nextAttemptAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(outboxRepository, timeout(10_000)).markAttemptFailed(
+                eq(MESSAGE_ID), eq(MailStatus.PENDING), nextAttemptAt.capture(), any(), any());
+        assertThat(nextAttemptAt.getValue()).isAfter(LocalDateTime.now());
+        verify(outboxRepository, never()).markSent(any(), any());
+        assertThat(greenMail.getReceivedMessages()).isEmpty();
+    }
+
+    @Test
+    void startupReleasesOnlyClaimsOlderThanTheLease() {
+        worker = workerSendingTo(ServerSetupTest.SMTP.getPort());
+        LocalDateTime before = LocalDateTime.now();
+
+        worker.releaseAfterRestart();
+
+        ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(outboxRepository).releaseStale(cutoff.capture(), any(LocalDateTime.class));
+        assertThat(cutoff.getValue())
+                .isBeforeOrEqualTo(LocalDateTime.now().minusMinutes(MailConstants.OUTBOX_STALE_SENDING_MINUTES))
+                .isAfterOrEqualTo(before.minusMinutes(MailConstants.OUTBOX_STALE_SENDING_MINUTES));
+    }
+
+    private MailOutboxWorker workerSendingTo(int smtpPort) {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(smtpPort);
+
+        BrevoEmailService emailService = new BrevoEmailService(mailSender, mock(MailOutboxService.class),
+                "noreply@tbcpl.local", "TBCPL Workforce", "support@tbcpl.local");
+        return new MailOutboxWorker(outboxRepository, emailService);
+    }
+
+    private void stubDueMessage() {
+        MailOutboxMessage message = MailOutboxMessage.builder()
+                .id(MESSAGE_ID)
+                .messageId("6f1c2f4e-0d7a-4a53-9f0e-6a9b2c1d0e11")
+                .toEmail("client@example.com")
+                .toName("Client")
+                .subject("Final report")
+                .htmlBody("<p>Please find the report attached.</p>")
+                .attachmentName("report.pdf")
+                .attachment("%PDF-1.4 test".getBytes(StandardCharsets.US_ASCII))
+                .status(MailStatus.SENDING)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+
+        when(outboxRepository.findDue(eq(MailStatus.PENDING), any(LocalDateTime.class), any()))
+                .thenReturn(List.<Object[]>of(new Object[]{MESSAGE_ID, message.getToEmail()}));
+        when(outboxRepository.claim(eq(MESSAGE_ID), any(LocalDateTime.class))).thenReturn(1);
+        when(outboxRepository.findById(MESSAGE_ID)).thenReturn(Optional.of(message));
+    }
+}
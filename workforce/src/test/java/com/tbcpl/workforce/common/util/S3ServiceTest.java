@@ -0,0 +1,189 @@
+package com.tbcpl.workforce.common.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * uploadFile must stream the multipart part to S3 and never buffer it with getBytes()
+ */
+class S3ServiceTest {
+
+    private static final int MB = 1024 * 1024;
+    private static final String UPLOAD_ID = "upload-1";
+
+    private final S3Client s3Client = mock(S3Client.class);
+    private S3Service s3Service;
+
+    @BeforeEach
+    void setUp() {
+        s3Service = new S3Service(s3Client, mock(S3Presigner.class));
+        ReflectionTestUtils.setField(s3Service, "bucketName", "bucket");
+        ReflectionTestUtils.setField(s3Service, "region", "ap-south-1");
+        ReflectionTestUtils.setField(s3Service, "cloudFrontDomain", "cdn.example.com");
+    }
+
+    @Test
+    void smallFileIsStreamedAsSinglePut() throws IOException {
+        byte[] content = pdfBytes(2 * MB);
+        MockMultipartFile file = spy(new MockMultipartFile("file", "small.pdf", "application/pdf", content));
+        List<byte[]> sent = new ArrayList<>();
+        when(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class))).thenAnswer(invocation -> {
+            sent.add(drain(invocation.getArgument(1)));
+            return PutObjectResponse.builder().build();
+        });
+
+        Map<String, String> result = s3Service.uploadFile(file, "reports");
+
+        ArgumentCaptor<PutObjectRequest> request = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(s3Client).putObject(request.capture(), any(RequestBody.class));
+        assertThat(request.getValue().contentLength()).isEqualTo(content.length);
+        assertThat(request.getValue().contentType()).isEqualTo("application/pdf");
+        assertThat(sent).singleElement().isEqualTo(content);
+        assertThat(result.get("key")).startsWith("reports/").endsWith(".pdf");
+        verify(file, never()).getBytes();
+        verify(s3Client, never()).createMultipartUpload(any(CreateMultipartUploadRequest.class));
+    }
+
+    @Test
+    void largeFileIsStreamedInParts() throws IOException {
+        byte[] content = pdfBytes(17 * MB);
+        MockMultipartFile file = spy(new MockMultipartFile("file", "large.pdf", "application/pdf", content));
+        stubMultipartStart();
+        List<byte[]> parts = new ArrayList<>();
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class))).thenAnswer(invocation -> {
+            UploadPartRequest request = invocation.getArgument(0);
+            byte[] part = drain(invocation.getArgument(1));
+            assertThat(part).hasSize(Math.toIntExact(request.contentLength()));
+            parts.add(part);
+            return UploadPartResponse.builder().eTag("etag-" + request.partNumber()).build();
+        });
+
+        s3Service.uploadFile(file, "reports");
+
+        // 8MB + 8MB + 1MB, in order, reassembling the original bytes
+        assertThat(parts).extracting(p -> p.length).containsExactly(8 * MB, 8 * MB, MB);
+        ByteArrayOutputStream reassembled = new ByteArrayOutputStream();
+        for (byte[] part : parts) {
+            reassembled.write(part);
+        }
+        assertThat(reassembled.toByteArray()).isEqualTo(content);
+
+        ArgumentCaptor<CompleteMultipartUploadRequest> complete =
+                ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(s3Client).completeMultipartUpload(complete.capture());
+        assertThat(complete.getValue().multipartUpload().parts())
+                .extracting(CompletedPart::partNumber, CompletedPart::eTag)
+                .containsExactly(
+                        tuple(1, "etag-1"),
+                        tuple(2, "etag-2"),
+                        tuple(3, "etag-3"));
+        verify(file, never()).getBytes();
+        verify(s3Client, never()).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+    }
+
+    @Test
+    void retriedPartReplaysItsOwnRange() throws IOException {
+        byte[] content = pdfBytes(17 * MB);
+        MockMultipartFile file = spy(new MockMultipartFile("file", "large.pdf", "application/pdf", content));
+        stubMultipartStart();
+        List<byte[]> parts = new ArrayList<>();
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class))).thenAnswer(invocation -> {
+            UploadPartRequest request = invocation.getArgument(0);
+            RequestBody body = invocation.getArgument(1);
+            if (request.partNumber() == 2) {
+                // First attempt dies half way through the part, as a reset connection would
+                try (InputStream in = body.contentStreamProvider().newStream()) {
+                    in.readNBytes(3 * MB);
+                }
+            }
+            parts.add(drain(body));
+            return UploadPartResponse.builder().eTag("etag-" + request.partNumber()).build();
+        });
+
+        s3Service.uploadFile(file, "reports");
+
+        assertThat(parts.get(1)).isEqualTo(Arrays.copyOfRange(content, 8 * MB, 16 * MB));
+        ByteArrayOutputStream reassembled = new ByteArrayOutputStream();
+        for (byte[] part : parts) {
+            reassembled.write(part);
+        }
+        assertThat(reassembled.toByteArray()).isEqualTo(content);
+        verify(file, never()).getBytes();
+    }
+
+    @Test
+    void failedPartAbortsTheMultipartUpload() throws IOException {
+        MockMultipartFile file = spy(new MockMultipartFile("file", "large.pdf", "application/pdf", pdfBytes(17 * MB)));
+        stubMultipartStart();
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+                .thenThrow(S3Exception.builder().message("boom").build());
+
+        assertThatThrownBy(() -> s3Service.uploadFile(file, "reports")).isInstanceOf(S3Exception.class);
+
+        ArgumentCaptor<AbortMultipartUploadRequest> abort = ArgumentCaptor.forClass(AbortMultipartUploadRequest.class);
+        verify(s3Client).abortMultipartUpload(abort.capture());
+        assertThat(abort.getValue().uploadId()).isEqualTo(UPLOAD_ID);
+        verify(s3Client, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+        verify(file, never()).getBytes();
+    }
+
+    private void stubMultipartStart() {
+        when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                .thenReturn(CreateMultipartUploadResponse.builder().uploadId(UPLOAD_ID).build());
+    }
+
+    /**
+     * Read exactly the body's declared length, as the HTTP client would
+     */
+    private static byte[] drain(RequestBody body) {
+        long length = body.optionalContentLength().orElseThrow();
+        try (InputStream in = body.contentStreamProvider().newStream()) {
+            return in.readNBytes(Math.toIntExact(length));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] pdfBytes(int size) {
+        byte[] bytes = new byte[size];
+        for (int i = 0; i < size; i++) {
+            bytes[i] = (byte) (i * 31 + 7);
+        }
+        bytes[0] = '%';
+        bytes[1] = 'P';
+        bytes[2] = 'D';
+        bytes[3] = 'F';
+        return bytes;
+    }
+}
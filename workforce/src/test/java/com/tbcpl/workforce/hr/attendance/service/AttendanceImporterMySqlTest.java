@@ -0,0 +1,171 @@
+package com.tbcpl.workforce.hr.attendance.service;
+
+import com.tbcpl.workforce.auth.service.EmployeeDirectory;
+import com.tbcpl.workforce.hr.attendance.dto.response.AttendanceImportResponse;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * The ON DUPLICATE KEY UPDATE merge as MySQL evaluates it. hr_attendance is created as a session
+ * TEMPORARY table on a single connection, so it shadows any real table and nothing is left behind.
+ * <p>
+ * Opt-in, needs a MySQL server:
+ * {@code mvn test -Dtest=AttendanceImporterMySqlTest -Dbench.jdbc.url=jdbc:mysql://localhost:3306/workforce
+ * -Dbench.jdbc.user=... -Dbench.jdbc.password=...}
+ */
+@EnabledIfSystemProperty(named = "bench.jdbc.url", matches = ".+")
+class AttendanceImporterMySqlTest {
+
+    private static final String SNAPSHOT =
+            "SELECT emp_id, attendance_date, status, punch_in_time, punch_out_time, working_hours, remarks, " +
+            "is_regularized, is_active FROM hr_attendance ORDER BY emp_id, attendance_date";
+
+    private static SingleConnectionDataSource dataSource;
+    private static JdbcTemplate jdbcTemplate;
+    private AttendanceImporter importer;
+
+    @BeforeAll
+    static void createTable() {
+        dataSource = new SingleConnectionDataSource(
+                System.getProperty("bench.jdbc.url"),
+                System.getProperty("bench.jdbc.user", "root"),
+                System.getProperty("bench.jdbc.password", ""),
+                true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        // Columns and unique key of the Attendance entity
+        jdbcTemplate.execute("CREATE TEMPORARY TABLE hr_attendance (" +
+                "id BIGINT AUTO_INCREMENT PRIMARY KEY, emp_id VARCHAR(20) NOT NULL, attendance_date DATE NOT NULL, " +
+                "status VARCHAR(30) NOT NULL, punch_in_time TIME, punch_out_time TIME, working_hours DOUBLE, " +
+                "is_regularized BOOLEAN NOT NULL, regularization_reason VARCHAR(255), remarks VARCHAR(255), " +
+                "is_active BOOLEAN NOT NULL, created_at DATETIME(6) NOT NULL, updated_at DATETIME(6), " +
+                "created_by VARCHAR(100), UNIQUE KEY uq_attendance_emp_date (emp_id, attendance_date))");
+    }
+
+    @AfterAll
+    static void close() {
+        if (dataSource != null) {
+            dataSource.destroy();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM hr_attendance");
+        EmployeeDirectory employeeDirectory = mock(EmployeeDirectory.class);
+        when(employeeDirectory.all()).thenReturn(List.of(entry("E001"), entry("E002")));
+        importer = new AttendanceImporter(jdbcTemplate, new DataSourceTransactionManager(dataSource), employeeDirectory);
+    }
+
+    @Test
+    void reimportingTheSameFileChangesNothing() {
+        String csv = """
+                empId,date,punchIn,punchOut,status,remarks
+                E001,2025-03-05,09:10,18:20,,
+                E001,2025-03-06,09:00,13:00,HALF_DAY,doctor
+                E002,2025-03-05,,,ABSENT,
+                """;
+
+        AttendanceImportResponse first = importCsv(csv);
+        List<Map<String, Object>> afterFirst = jdbcTemplate.queryForList(SNAPSHOT);
+        AttendanceImportResponse second = importCsv(csv);
+
+        assertThat(first.getRecordsUpserted()).isEqualTo(3);
+        assertThat(second.getRecordsUpserted()).isEqualTo(3);
+        assertThat(second.getRowsRejected()).isZero();
+        assertThat(jdbcTemplate.queryForList(SNAPSHOT)).isEqualTo(afterFirst);
+        assertThat(afterFirst).extracting(row -> row.get("working_hours")).containsExactly(9.17, 4.0, null);
+    }
+
+    @Test
+    void regularizedRecordsKeepTheirPunchesAndStatus() {
+        insert("E001", "2025-03-05", "PRESENT", "'10:00'", "'18:00'", "8.0", true, true);
+
+        importCsv("""
+                empId,date,punchIn,punchOut,status
+                E001,2025-03-05,08:00,20:00,ABSENT
+                """);
+
+        Map<String, Object> row = jdbcTemplate.queryForMap(SNAPSHOT);
+        assertThat(row.get("status")).isEqualTo("PRESENT");
+        assertThat(row.get("punch_in_time")).hasToString("10:00:00");
+        assertThat(row.get("punch_out_time")).hasToString("18:00:00");
+        assertThat(row.get("working_hours")).isEqualTo(8.0);
+    }
+
+    @Test
+    void softDeletedDaysAreReportedAndLeftAlone() {
+        insert("E001", "2025-03-05", "PRESENT", "'10:00'", "'18:00'", "8.0", false, false);
+
+        AttendanceImportResponse response = importCsv("""
+                empId,date,punchIn,punchOut
+                E001,2025-03-05,08:00,20:00
+                E001,2025-03-06,09:00,18:00
+                """);
+
+        assertThat(response.getRecordsUpserted()).isEqualTo(1);
+        assertThat(response.getErrors()).singleElement().satisfies(error -> {
+            assertThat(error.getRow()).isEqualTo(2L);
+            assertThat(error.getMessage()).contains("deleted");
+        });
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(SNAPSHOT);
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).get("is_active")).isEqualTo(false);
+        assertThat(rows.get(0).get("punch_in_time")).hasToString("10:00:00");
+        assertThat(rows.get(0).get("working_hours")).isEqualTo(8.0);
+    }
+
+    @Test
+    void workingHoursAreComputedFromTheStoredPunches() {
+        // A punch-in already stored, completed by this file; and a day the file only narrows
+        insert("E001", "2025-03-05", "PRESENT", "'08:30'", "NULL", "NULL", false, true);
+        insert("E002", "2025-03-05", "PRESENT", "'09:00'", "'18:00'", "9.0", false, true);
+
+        importCsv("""
+                empId,date,punchIn,punchOut
+                E001,2025-03-05,,17:00
+                E002,2025-03-05,09:30,17:00
+                """);
+
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(SNAPSHOT);
+        assertThat(rows).extracting(row -> String.valueOf(row.get("punch_in_time")),
+                        row -> String.valueOf(row.get("punch_out_time")), row -> row.get("working_hours"))
+                .containsExactly(
+                        tuple("08:30:00", "17:00:00", 8.5),
+                        tuple("09:00:00", "18:00:00", 9.0));
+    }
+
+    private AttendanceImportResponse importCsv(String content) {
+        return importer.importFile(
+                new MockMultipartFile("file", "punches.csv", "text/csv", content.getBytes(StandardCharsets.UTF_8)),
+                "HR001");
+    }
+
+    private static void insert(String empId, String date, String status, String punchIn, String punchOut,
+                               String workingHours, boolean regularized, boolean active) {
+        jdbcTemplate.update("INSERT INTO hr_attendance (emp_id, attendance_date, status, punch_in_time, " +
+                "punch_out_time, working_hours, is_regularized, remarks, is_active, created_at, created_by) " +
+                "VALUES (?, ?, ?, " + punchIn + ", " + punchOut + ", " + workingHours + ", ?, 'seeded', ?, NOW(6), 'HR001')",
+                empId, date, status, regularized, active);
+    }
+
+    private static EmployeeDirectory.Entry entry(String empId) {
+        return new EmployeeDirectory.Entry(1L, empId, empId.toLowerCase() + "@tbcpl.local", "Test", null, "User",
+                "Test User", 1L, "HR", 1L, "EXECUTIVE", null, null, null, true, null, null, null);
+    }
+}
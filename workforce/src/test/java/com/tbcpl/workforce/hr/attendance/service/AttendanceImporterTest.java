@@ -0,0 +1,191 @@
+package com.tbcpl.workforce.hr.attendance.service;
+
+import com.tbcpl.workforce.auth.service.EmployeeDirectory;
+import com.tbcpl.workforce.hr.attendance.dto.response.AttendanceImportResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.invocation.Invocation;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Time;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.*;
+
+/**
+ * CSV splitting, row parsing and per-day merging, with the database calls mocked out
+ */
+class AttendanceImporterTest {
+
+    private static final String IMPORTED_BY = "HR001";
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final EmployeeDirectory employeeDirectory = mock(EmployeeDirectory.class);
+    private AttendanceImporter importer;
+
+    @BeforeEach
+    void setUp() {
+        when(employeeDirectory.all()).thenReturn(List.of(entry("E001"), entry("E002")));
+        importer = new AttendanceImporter(jdbcTemplate, mock(PlatformTransactionManager.class), employeeDirectory);
+    }
+
+    // ── splitCsv ──
+
+    @Test
+    void splitCsvHandlesQuotedDelimitersEscapesAndEmptyCells() {
+        assertThat(AttendanceImporter.splitCsv("E001,\"Late, traffic\",\"said \"\"ok\"\"\",", ','))
+                .containsExactly("E001", "Late, traffic", "said \"ok\"", "");
+        assertThat(AttendanceImporter.splitCsv("E001\t2025-03-05\t\t18:00", '\t'))
+                .containsExactly("E001", "2025-03-05", "", "18:00");
+        assertThat(AttendanceImporter.splitCsv("", ',')).containsExactly("");
+    }
+
+    // ── parse ──
+
+    @Test
+    void headersAreMatchedLooselyAndEmployeeIdsCanonicalised() {
+        AttendanceImportResponse response = importCsv("""
+                Emp Code;Attendance_Date;In Time;Out Time;Status
+                e001;05/03/2025;09:05;18:35;work from home
+                """);
+
+        assertThat(response.getRowsRejected()).isZero();
+        assertThat(upserted()).singleElement().satisfies(args -> {
+            assertThat(args[0]).isEqualTo("E001");
+            assertThat(args[1]).isEqualTo(date(2025, 3, 5));
+            assertThat(args[2]).isEqualTo("WORK_FROM_HOME");
+            assertThat(args[3]).isEqualTo(time(9, 5));
+            assertThat(args[4]).isEqualTo(time(18, 35));
+            assertThat(args[5]).isEqualTo(9.5);
+            assertThat(args[9]).isEqualTo(IMPORTED_BY);
+        });
+    }
+
+    @Test
+    void badRowsAreRejectedWithTheirLineNumbers() {
+        AttendanceImportResponse response = importCsv("""
+                empId,date,punchIn,punchOut,status
+                E999,2025-03-05,09:00,18:00,
+                E001,2099-01-01,09:00,18:00,
+                E001,2025-03-05,18:00,09:00,
+                E001,2025-03-06,,,
+                E001,2025-03-07,9am,,
+                E001,2025-03-08,,,ABSENT
+                """);
+
+        assertThat(response.getRowsRead()).isEqualTo(6);
+        assertThat(response.getRowsRejected()).isEqualTo(5);
+        assertThat(response.getErrors())
+                .extracting(AttendanceImportResponse.RowError::getRow, AttendanceImportResponse.RowError::getMessage)
+                .containsExactly(
+                        tuple(2L, "Unknown or inactive employee"),
+                        tuple(3L, "Attendance date 2099-01-01 is in the future"),
+                        tuple(4L, "Punch-out 09:00 is before punch-in 18:00"),
+                        tuple(5L, "Row has no punch time and no status"),
+                        tuple(6L, "Invalid time: 9am"));
+        assertThat(upserted()).singleElement().satisfies(args -> {
+            assertThat(args[1]).isEqualTo(date(2025, 3, 8));
+            assertThat(args[2]).isEqualTo("ABSENT");
+            assertThat(args[5]).isNull();
+        });
+    }
+
+    @Test
+    void jsonEntriesSkipNestedValuesAndUnknownFields() {
+        AttendanceImportResponse response = importFile("punches.json", "application/json", """
+                [{"employeeId": "E002", "date": "2025-03-06", "checkIn": "08:30", "checkOut": "17:00",
+                  "device": {"id": 7}, "note": null}]
+                """);
+
+        assertThat(response.getFormat()).isEqualTo("JSON");
+        assertThat(upserted()).singleElement().satisfies(args -> {
+            assertThat(args[0]).isEqualTo("E002");
+            assertThat(args[2]).isEqualTo("PRESENT");
+            assertThat(args[5]).isEqualTo(8.5);
+        });
+    }
+
+    // ── merge ──
+
+    @Test
+    void punchesOfOneDayMergeToTheWidestSpan() {
+        AttendanceImportResponse response = importCsv("""
+                empId,timestamp
+                E001,2025-03-05 18:10
+                E001,2025-03-05T09:15
+                E001,2025-03-05 13:00:00
+                E002,2025-03-05 09:00
+                """);
+
+        assertThat(response.getDuplicatesMerged()).isEqualTo(2);
+        assertThat(response.getRecordsUpserted()).isEqualTo(2);
+        assertThat(upserted())
+                .extracting(args -> args[0], args -> args[3], args -> args[4], args -> args[5])
+                .containsExactly(
+                        tuple("E001", time(9, 15), time(18, 10), 8.92),
+                        tuple("E002", time(9, 0), time(9, 0), null));
+    }
+
+    @Test
+    void mergeKeepsTheLastStatusAndRemark() {
+        importCsv("""
+                empId,date,punchIn,punchOut,status,remarks
+                E001,2025-03-05,09:40,,LATE,traffic
+                E001,2025-03-05,,17:30,,
+                E001,2025-03-05,10:00,,,"left early, approved"
+                """);
+
+        assertThat(upserted()).singleElement().satisfies(args -> {
+            assertThat(args[2]).isEqualTo("LATE");
+            assertThat(args[3]).isEqualTo(time(9, 40));
+            assertThat(args[4]).isEqualTo(time(17, 30));
+            assertThat(args[6]).isEqualTo("left early, approved");
+        });
+    }
+
+    private AttendanceImportResponse importCsv(String content) {
+        return importFile("punches.csv", "text/csv", content);
+    }
+
+    private AttendanceImportResponse importFile(String name, String contentType, String content) {
+        return importer.importFile(
+                new MockMultipartFile("file", name, contentType, content.getBytes(StandardCharsets.UTF_8)),
+                IMPORTED_BY);
+    }
+
+    /**
+     * Argument rows of every batched upsert, in the order they were sent
+     */
+    private List<Object[]> upserted() {
+        List<Object[]> rows = new ArrayList<>();
+        for (Invocation invocation : mockingDetails(jdbcTemplate).getInvocations()) {
+            if (invocation.getMethod().getName().equals("batchUpdate")) {
+                List<Object[]> batch = invocation.getArgument(1);
+                rows.addAll(batch);
+            }
+        }
+        return rows;
+    }
+
+    private static Date date(int year, int month, int day) {
+        return Date.valueOf(LocalDate.of(year, month, day));
+    }
+
+    private static Time time(int hour, int minute) {
+        return Time.valueOf(LocalTime.of(hour, minute));
+    }
+
+    private static EmployeeDirectory.Entry entry(String empId) {
+        return new EmployeeDirectory.Entry(1L, empId, empId.toLowerCase() + "@tbcpl.local", "Test", null, "User",
+                "Test User", 1L, "HR", 1L, "EXECUTIVE", null, null, null, true, null, null, null);
+    }
+}
@@ -0,0 +1,294 @@
+package com.tbcpl.workforce.hr.leave.service;
+
+import com.tbcpl.workforce.common.exception.DuplicateResourceException;
+import com.tbcpl.workforce.common.util.BatchWriter;
+import com.tbcpl.workforce.hr.attendance.entity.LeaveType;
+import com.tbcpl.workforce.hr.attendance.entity.enums.LeaveCategory;
+import com.tbcpl.workforce.hr.attendance.repository.LeaveTypeRepository;
+import com.tbcpl.workforce.hr.leave.entity.LeaveBalance;
+import com.tbcpl.workforce.hr.leave.entity.LeaveCarryForwardRun;
+import com.tbcpl.workforce.hr.leave.entity.enums.CarryForwardRunStatus;
+import com.tbcpl.workforce.hr.leave.repository.LeaveBalanceRepository;
+import com.tbcpl.workforce.hr.leave.repository.LeaveCarryForwardRunRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Checkpointing, resume and ownership of the carry-forward run. Each chunk commits in its own
+ * transaction on the job's worker thread, so the test itself runs without one and cleans up after.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class LeaveCarryForwardJobTest {
+
+    private static final int    YEAR           = 2025;
+    private static final int    BALANCES       = 1_200; // three chunks of 500
+    private static final int    CHUNK_SIZE     = 500;
+    private static final int    ALLOCATED      = 12;
+    private static final double USED           = 4.0;
+    private static final int    MAX_CARRY_DAYS = 5;      // of the 8 days left
+    private static final long   TIMEOUT_MS     = 30_000;
+
+    @Autowired
+    private LeaveBalanceRepository leaveBalanceRepository;
+
+    @Autowired
+    private LeaveCarryForwardRunRepository runRepository;
+
+    @Autowired
+    private LeaveTypeRepository leaveTypeRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private BatchWriter batchWriter;
+    private final List<LeaveCarryForwardJob> jobs = new ArrayList<>();
+    private List<Long> eligibleIds;
+
+    @BeforeEach
+    void seedBalances() {
+        LeaveType earned = leaveTypeRepository.save(LeaveType.builder()
+                .leaveTypeName("Earned Leave")
+                .category(LeaveCategory.EARNED)
+                .maxDaysPerYear(ALLOCATED)
+                .isCarryForwardAllowed(true)
+                .maxCarryForwardDays(MAX_CARRY_DAYS)
+                .build());
+
+        List<LeaveBalance> balances = new ArrayList<>();
+        for (int i = 0; i < BALANCES; i++) {
+            String empId = String.format("EMP%05d", i);
+            balances.add(balance(empId, earned, YEAR, USED, 0.0));
+            // Every fourth employee already has next year's balance, which gets topped up
+            if (i % 4 == 0) {
+                balances.add(balance(empId, earned, YEAR + 1, 0.0, 0.0));
+            }
+        }
+        eligibleIds = leaveBalanceRepository.saveAll(balances).stream()
+                .filter(b -> b.getBalanceYear() == YEAR)
+                .map(LeaveBalance::getId)
+                .sorted()
+                .toList();
+
+        batchWriter = spy(new BatchWriter(entityManager));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jobs.forEach(LeaveCarryForwardJob::shutdown);
+        runRepository.deleteAllInBatch();
+        leaveBalanceRepository.deleteAllInBatch();
+        leaveTypeRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void failedChunkRollsBackAndResumeCarriesEveryBalanceOnce() {
+        doCallRealMethod()
+                .doThrow(new IllegalStateException("Simulated write failure"))
+                .doCallRealMethod()
+                .when(batchWriter).insertAll(anyList());
+        LeaveCarryForwardJob job = newJob();
+
+        job.start(YEAR, "HR001");
+        LeaveCarryForwardRun failed = awaitFinished();
+
+        // Only the first chunk committed; the failed second chunk left nothing behind
+        assertThat(failed.getStatus()).isEqualTo(CarryForwardRunStatus.FAILED);
+        assertThat(failed.getLastError()).isEqualTo("Simulated write failure");
+        assertThat(failed.getLastBalanceId()).isEqualTo(eligibleIds.get(CHUNK_SIZE - 1));
+        assertThat(failed.getScannedBalances()).isEqualTo(CHUNK_SIZE);
+        assertThat(carriedNextYear()).isEqualTo(CHUNK_SIZE);
+
+        job.start(YEAR, "HR001");
+        LeaveCarryForwardRun completed = awaitFinished();
+
+        assertThat(completed.getStatus()).isEqualTo(CarryForwardRunStatus.COMPLETED);
+        assertThat(completed.getScannedBalances()).isEqualTo(BALANCES);
+        assertThat(completed.getChunks()).isEqualTo(3);
+        assertThat(completed.getCreatedBalances() + completed.getUpdatedBalances()).isEqualTo(BALANCES);
+        assertEveryBalanceCarriedOnce();
+    }
+
+    @Test
+    void completedYearIsRejected() {
+        LeaveCarryForwardJob job = newJob();
+        job.start(YEAR, "HR001");
+        assertThat(awaitFinished().getStatus()).isEqualTo(CarryForwardRunStatus.COMPLETED);
+
+        assertThatThrownBy(() -> job.start(YEAR, "HR001"))
+                .isInstanceOf(DuplicateResourceException.class);
+        assertEveryBalanceCarriedOnce();
+    }
+
+    @Test
+    void liveRunIsLeftAloneAndStaleRunIsTakenOver() {
+        LocalDateTime now = LocalDateTime.now();
+        runRepository.saveAndFlush(LeaveCarryForwardRun.builder()
+                .fromYear(YEAR)
+                .status(CarryForwardRunStatus.RUNNING)
+                .lastBalanceId(eligibleIds.get(CHUNK_SIZE - 1))
+                .startedBy("HR001")
+                .startedAt(now)
+                .heartbeatAt(now)
+                .build());
+        LeaveCarryForwardJob job = newJob();
+
+        // Heartbeat is fresh: the other worker still owns the run
+        assertThat(job.start(YEAR, "HR002").getStartedBy()).isEqualTo("HR001");
+        verify(batchWriter, after(500).never()).insertAll(anyList());
+
+        // Heartbeat went stale: the run is claimed and resumed after its checkpoint
+        transaction().executeWithoutResult(status -> entityManager
+                .createQuery("UPDATE LeaveCarryForwardRun r SET r.heartbeatAt = :stale WHERE r.fromYear = :year")
+                .setParameter("stale", now.minusMinutes(30))
+                .setParameter("year", YEAR)
+                .executeUpdate());
+        job.start(YEAR, "HR002");
+        LeaveCarryForwardRun completed = awaitFinished();
+
+        assertThat(completed.getStatus()).isEqualTo(CarryForwardRunStatus.COMPLETED);
+        assertThat(completed.getStartedBy()).isEqualTo("HR002");
+        assertThat(completed.getScannedBalances()).isEqualTo(BALANCES - CHUNK_SIZE);
+        assertThat(carriedNextYear()).isEqualTo(BALANCES - CHUNK_SIZE);
+    }
+
+    @Test
+    void workerThatLosesTheCheckpointRollsBackItsChunk() {
+        long takenOverAt = eligibleIds.get(BALANCES - 1);
+        // While this worker writes its first chunk, another worker advances the same checkpoint
+        doAnswer(invocation -> {
+            CompletableFuture.runAsync(() -> transaction().executeWithoutResult(status ->
+                    runRepository.checkpoint(YEAR, 0L, takenOverAt, 0, 0, 0, 0, LocalDateTime.now()))).join();
+            return invocation.callRealMethod();
+        }).when(batchWriter).insertAll(anyList());
+        LeaveCarryForwardJob job = newJob();
+
+        job.start(YEAR, "HR001");
+        verify(batchWriter, timeout(TIMEOUT_MS)).insertAll(anyList());
+        job.shutdown(); // the worker is inside its first chunk; this waits for it to give up
+
+        LeaveCarryForwardRun run = runRepository.findById(YEAR).orElseThrow();
+        assertThat(run.getStatus()).isEqualTo(CarryForwardRunStatus.RUNNING);
+        assertThat(run.getLastBalanceId()).isEqualTo(takenOverAt);
+        assertThat(run.getLastError()).isNull();
+        assertThat(carriedNextYear()).isZero();
+        verify(batchWriter, times(1)).insertAll(anyList());
+    }
+
+    @Test
+    void concurrentStartsRunTheYearExactlyOnce() throws Exception {
+        LeaveCarryForwardJob first = newJob();
+        LeaveCarryForwardJob second = newJob();
+        CountDownLatch go = new CountDownLatch(1);
+
+        CompletableFuture<?> a = CompletableFuture.runAsync(() -> startWhenReleased(first, go, "HR001"));
+        CompletableFuture<?> b = CompletableFuture.runAsync(() -> startWhenReleased(second, go, "HR002"));
+        go.countDown();
+        CompletableFuture.allOf(a, b).get();
+        LeaveCarryForwardRun completed = awaitFinished();
+
+        assertThat(completed.getStatus()).isEqualTo(CarryForwardRunStatus.COMPLETED);
+        assertThat(completed.getScannedBalances()).isEqualTo(BALANCES);
+        assertThat(completed.getChunks()).isEqualTo(3);
+        assertEveryBalanceCarriedOnce();
+    }
+
+    // ── Helpers ──
+
+    private LeaveCarryForwardJob newJob() {
+        LeaveCarryForwardJob job = new LeaveCarryForwardJob(
+                leaveBalanceRepository, runRepository, batchWriter, transactionManager);
+        jobs.add(job);
+        return job;
+    }
+
+    private static void startWhenReleased(LeaveCarryForwardJob job, CountDownLatch go, String startedBy) {
+        try {
+            go.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+        job.start(YEAR, startedBy);
+    }
+
+    private LeaveCarryForwardRun awaitFinished() {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        while (System.currentTimeMillis() < deadline) {
+            LeaveCarryForwardRun run = runRepository.findById(YEAR).orElseThrow();
+            if (run.getStatus() != CarryForwardRunStatus.RUNNING) {
+                return run;
+            }
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+        throw new AssertionError("Carry-forward run did not finish within " + TIMEOUT_MS + " ms");
+    }
+
+    // Next-year balances holding the carried amount
+    private long carriedNextYear() {
+        return nextYearBalances().stream().filter(b -> b.getCarriedForward() > 0).count();
+    }
+
+    private void assertEveryBalanceCarriedOnce() {
+        List<LeaveBalance> nextYear = nextYearBalances();
+        assertThat(nextYear).hasSize(BALANCES);
+        assertThat(nextYear).allSatisfy(b -> {
+            assertThat(b.getCarriedForward()).isEqualTo((double) MAX_CARRY_DAYS);
+            assertThat(b.getAvailableBalance()).isEqualTo((double) ALLOCATED + MAX_CARRY_DAYS);
+        });
+    }
+
+    private List<LeaveBalance> nextYearBalances() {
+        return leaveBalanceRepository.findAll().stream()
+                .filter(b -> b.getBalanceYear() == YEAR + 1)
+                .toList();
+    }
+
+    private TransactionTemplate transaction() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return template;
+    }
+
+    private static LeaveBalance balance(String empId, LeaveType type, int year, double used, double carried) {
+        return LeaveBalance.builder()
+                .empId(empId)
+                .leaveType(type)
+                .balanceYear(year)
+                .totalAllocated((double) ALLOCATED)
+                .totalUsed(used)
+                .totalPending(0.0)
+                .carriedForward(carried)
+                .availableBalance(ALLOCATED + carried - used)
+                .createdBy("TEST")
+                .build();
+    }
+}
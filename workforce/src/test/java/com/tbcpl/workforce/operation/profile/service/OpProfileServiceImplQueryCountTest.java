@@ -0,0 +1,112 @@
+package com.tbcpl.workforce.operation.profile.service;
+
+import com.tbcpl.workforce.auth.service.EmployeeService;
+import com.tbcpl.workforce.common.util.DocumentNumberAllocator;
+import com.tbcpl.workforce.common.util.S3Service;
+import com.tbcpl.workforce.operation.customoption.service.OpDropdownService;
+import com.tbcpl.workforce.operation.profile.dto.response.PagedProfileResponse;
+import com.tbcpl.workforce.operation.profile.entity.OpProfile;
+import com.tbcpl.workforce.operation.profile.entity.OpProfileStepStatus;
+import com.tbcpl.workforce.operation.profile.enums.StepStatus;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Profile list pages must cost the same number of statements regardless of page size
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(OpProfileServiceImpl.class)
+class OpProfileServiceImplQueryCountTest {
+
+    private static final int PROFILE_COUNT = 60;
+    private static final int COMPLETED_STEPS = 2;
+
+    @Autowired
+    private OpProfileService profileService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @MockitoBean
+    private EmployeeService employeeService;
+
+    @MockitoBean
+    private S3Service s3Service;
+
+    @MockitoBean
+    private OpDropdownService dropdownService;
+
+    @MockitoBean
+    private OpProfileDetailLoader detailLoader;
+
+    @MockitoBean
+    private ProfileDetailCache profileDetailCache;
+
+    @MockitoBean
+    private DocumentNumberAllocator documentNumberAllocator;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void seedProfiles() {
+        for (int i = 0; i < PROFILE_COUNT; i++) {
+            OpProfile profile = entityManager.persist(OpProfile.builder()
+                    .profileNumber(String.format("PRF-%04d", i))
+                    .name("Profile " + i)
+                    .createdBy("EMP001")
+                    .build());
+            for (int step = 1; step <= COMPLETED_STEPS; step++) {
+                entityManager.persist(OpProfileStepStatus.builder()
+                        .profile(profile)
+                        .stepNumber(step)
+                        .stepName("Step " + step)
+                        .status(StepStatus.COMPLETED)
+                        .build());
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+    }
+
+    @Test
+    void listPageStatementCountDoesNotGrowWithPageSize() {
+        long smallPage = statementsFor(5);
+        long largePage = statementsFor(50);
+
+        // page select + count + step counts + photos + risk levels
+        assertThat(smallPage).isLessThanOrEqualTo(5);
+        assertThat(largePage).isEqualTo(smallPage);
+    }
+
+    @Test
+    void listPageCarriesCompletedStepCounts() {
+        PagedProfileResponse page = profileService.getAllProfiles(PageRequest.of(0, 10));
+
+        assertThat(page.getProfiles()).hasSize(10);
+        assertThat(page.getTotalElements()).isEqualTo(PROFILE_COUNT);
+        assertThat(page.getProfiles())
+                .allSatisfy(p -> assertThat(p.getCompletedSteps()).isEqualTo(COMPLETED_STEPS));
+    }
+
+    private long statementsFor(int pageSize) {
+        entityManager.clear();
+        statistics.clear();
+        PagedProfileResponse page = profileService.getAllProfiles(PageRequest.of(0, pageSize));
+        assertThat(page.getProfiles()).hasSize(pageSize);
+        return statistics.getPrepareStatementCount();
+    }
+}